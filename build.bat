@@ -8,11 +8,11 @@ if not exist out mkdir out
 
 REM Find all Java files and compile
 dir /s /b src\main\java\*.java > sources.txt
-javac -d out -sourcepath src\main\java @sources.txt
+javac --add-modules jdk.incubator.vector -d out -sourcepath src\main\java @sources.txt
 
 if %errorlevel% equ 0 (
     echo Build successful!
-    echo Run with: java -cp out com.project.bitpacking.Main
+    echo Run with: java --add-modules jdk.incubator.vector -cp out com.project.bitpacking.Main
     del sources.txt
 ) else (
     echo Build failed!
@@ -9,11 +9,11 @@ mkdir -p out
 
 # Find all Java files and compile
 find src/main/java -name "*.java" > sources.txt
-javac -d out -sourcepath src/main/java @sources.txt
+javac --add-modules jdk.incubator.vector -d out -sourcepath src/main/java @sources.txt
 
 if [ $? -eq 0 ]; then
     echo "Build successful!"
-    echo "Run with: java -cp out com.project.bitpacking.Main"
+    echo "Run with: java --add-modules jdk.incubator.vector -cp out com.project.bitpacking.Main"
     rm sources.txt
 else
     echo "Build failed!"
@@ -0,0 +1,29 @@
+package com.project.bitpacking.benchmark;
+
+import com.project.bitpacking.util.Logger;
+
+/**
+ * Generates an ascending sequence of longs, such as timestamps.
+ * Parameters: [size, step, start]
+ */
+public class AscendingLongBenchmarkGenerator implements LongBenchmarkGenerator {
+    @Override
+    public long[] generate(String[] parameters) {
+        if (parameters.length < 2) {
+            throw new IllegalArgumentException("Ascending generator requires: size, step, [start]");
+        }
+        int size = Integer.parseInt(parameters[0].replace("_", ""));
+        long step = Long.parseLong(parameters[1].replace("_", ""));
+        long start = parameters.length > 2 ? Long.parseLong(parameters[2].replace("_", "")) : 0L;
+
+        Logger.debug("Generating ascending long data: size=%d, step=%d, start=%d", size, step, start);
+        long[] data = new long[size];
+        long value = start;
+        for (int i = 0; i < size; i++) {
+            data[i] = value;
+            value += step;
+        }
+        return data;
+    }
+}
+
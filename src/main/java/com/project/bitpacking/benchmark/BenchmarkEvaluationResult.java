@@ -14,14 +14,21 @@ public class BenchmarkEvaluationResult {
     private int bitsPerValue;
     private double compressTimeMs;
     private double decompressTimeMs;
+    private double referenceDecompressTimeMs;
+    private double parallelDecompressTimeMs;
     private double getTimeNs;
     private double compressionRatio;
     private double latencyThresholdUsPerInt;
+    private long compressAllocatedBytes;
+    private String selection;
 
     public BenchmarkEvaluationResult(String benchmarkName, String benchmarkDescription, CompressionType strategy,
                                     int originalInts, int transmittedInts, int bitsPerValue,
-                                    double compressTimeMs, double decompressTimeMs, double getTimeNs,
-                                    double compressionRatio, double latencyThresholdUsPerInt) {
+                                    double compressTimeMs, double decompressTimeMs,
+                                    double referenceDecompressTimeMs, double parallelDecompressTimeMs,
+                                    double getTimeNs,
+                                    double compressionRatio, double latencyThresholdUsPerInt,
+                                    long compressAllocatedBytes, String selection) {
         this.benchmarkName = benchmarkName;
         this.benchmarkDescription = benchmarkDescription;
         this.strategy = strategy;
@@ -30,9 +37,13 @@ public class BenchmarkEvaluationResult {
         this.bitsPerValue = bitsPerValue;
         this.compressTimeMs = compressTimeMs;
         this.decompressTimeMs = decompressTimeMs;
+        this.referenceDecompressTimeMs = referenceDecompressTimeMs;
+        this.parallelDecompressTimeMs = parallelDecompressTimeMs;
         this.getTimeNs = getTimeNs;
         this.compressionRatio = compressionRatio;
         this.latencyThresholdUsPerInt = latencyThresholdUsPerInt;
+        this.compressAllocatedBytes = compressAllocatedBytes;
+        this.selection = selection;
     }
 
     // Getters
@@ -44,28 +55,43 @@ public class BenchmarkEvaluationResult {
     public int getBitsPerValue() { return bitsPerValue; }
     public double getCompressTimeMs() { return compressTimeMs; }
     public double getDecompressTimeMs() { return decompressTimeMs; }
+    public double getReferenceDecompressTimeMs() { return referenceDecompressTimeMs; }
+    public double getParallelDecompressTimeMs() { return parallelDecompressTimeMs; }
     public double getGetTimeNs() { return getTimeNs; }
     public double getCompressionRatio() { return compressionRatio; }
     public double getLatencyThresholdUsPerInt() { return latencyThresholdUsPerInt; }
+    public long getCompressAllocatedBytes() { return compressAllocatedBytes; }
+    public String getSelection() { return selection; }
 
     public String format() {
         String latencyText = Double.isInfinite(latencyThresholdUsPerInt) || Double.isNaN(latencyThresholdUsPerInt)
                 ? "never"
                 : String.format("%.3f µs/int", latencyThresholdUsPerInt);
+        String allocationText = compressAllocatedBytes < 0 ? "n/a" : compressAllocatedBytes + " B";
+        double decodeSpeedup = decompressTimeMs == 0.0 ? 1.0 : referenceDecompressTimeMs / decompressTimeMs;
+        String parallelText = parallelDecompressTimeMs < 0
+                ? "n/a"
+                : String.format("%.3f ms (x%.2f)", parallelDecompressTimeMs,
+                        parallelDecompressTimeMs == 0.0 ? 1.0 : decompressTimeMs / parallelDecompressTimeMs);
         return String.format(
-                "Results: (%s) | strategy=%s | compress=%.3f ms | decompress=%.3f ms | get=%.3f ns | " +
+                "Results: (%s) | strategy=%s | compress=%.3f ms | decompress=%.3f ms (reference=%.3f ms, x%.2f) | " +
+                "parallel-decompress=%s | get=%.3f ns | alloc/compress=%s | " +
                 "ints:%d->%d | bits/value=%d | ratio=%.2f | latency-threshold=%s",
                 benchmarkDescription,
                 strategy,
                 compressTimeMs,
                 decompressTimeMs,
+                referenceDecompressTimeMs,
+                decodeSpeedup,
+                parallelText,
                 getTimeNs,
+                allocationText,
                 originalInts,
                 transmittedInts,
                 bitsPerValue,
                 compressionRatio,
                 latencyText
-        );
+        ) + (selection == null ? "" : " | selection=" + selection);
     }
 }
 
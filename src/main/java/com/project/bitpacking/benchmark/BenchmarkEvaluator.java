@@ -1,10 +1,14 @@
 package com.project.bitpacking.benchmark;
 
+import com.project.bitpacking.model.AdaptiveBitPacking;
 import com.project.bitpacking.model.BitPacking;
 import com.project.bitpacking.model.CompressionType;
+import com.project.bitpacking.model.LongBitPacking;
 import com.project.bitpacking.util.Logger;
 
+import java.lang.management.ManagementFactory;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Evaluates compression methods on benchmark data with timing measurements.
@@ -13,6 +17,7 @@ public class BenchmarkEvaluator {
     private static final int WARMUP_ROUNDS = 5;
     private static final int MEASURE_ROUNDS = 20;
     private static final int GET_PROBES = 1000;
+    private static final int ALLOCATION_WINDOWS = 25;
 
     /**
      * Evaluates a compression method on benchmark data.
@@ -28,10 +33,14 @@ public class BenchmarkEvaluator {
 
         double compressNs = timeCompress(codec, data);
         codec.compress(data); // ensure content for following operations
-        double decompressNs = timeDecompress(codec, data);
+        String selection = codec instanceof AdaptiveBitPacking adaptive ? adaptive.decision() : null;
+        double decompressNs = timeDecompress(codec::decompress, data);
+        double referenceDecompressNs = timeDecompress(codec::decompressReference, data);
+        double parallelDecompressNs = timeDecompress(codec::decompressParallel, data);
         double getNs = timeRandomAccess(codec);
+        long compressAllocatedBytes = measureCompressAllocation(codec, data);
 
-        int transmittedInts = codec.backingArray().length + codec.overflowSize();
+        int transmittedInts = codec.packedWords().remaining() + codec.overflowSize();
         int originalInts = data.length;
         double savedRatio = transmittedInts == 0 ? 0.0 : (double) originalInts / transmittedInts;
         double latencyThresholdNs = computeLatencyThreshold(compressNs, decompressNs, originalInts, transmittedInts);
@@ -45,9 +54,58 @@ public class BenchmarkEvaluator {
                 codec.bitsPerValue(),
                 compressNs / 1_000_000.0,
                 decompressNs / 1_000_000.0,
+                referenceDecompressNs / 1_000_000.0,
+                parallelDecompressNs / 1_000_000.0,
                 getNs,
                 savedRatio,
-                latencyThresholdNs / 1_000.0
+                latencyThresholdNs / 1_000.0,
+                compressAllocatedBytes,
+                selection
+        );
+    }
+
+    /**
+     * Evaluates a {@code long} compression method on 64-bit benchmark data. Sizes are reported in 32-bit words, two
+     * per long, so ratios and latency thresholds compare directly with {@code int} results. The {@code long} codecs
+     * have neither a parallel decoder nor a reusable word buffer, so those measurements are reported as absent.
+     *
+     * @param benchmark the benchmark configuration
+     * @param data the benchmark data
+     * @param codec the compression codec to evaluate
+     * @param strategy the compression strategy type
+     * @return evaluation results
+     */
+    public BenchmarkEvaluationResult evaluate(Benchmark benchmark, long[] data, LongBitPacking codec,
+                                              CompressionType strategy) {
+        Logger.debug("Evaluating %s with long strategy %s", benchmark.getName(), strategy);
+
+        double compressNs = timeCompress(codec, data);
+        codec.compress(data); // ensure content for following operations
+        double decompressNs = timeDecompress(codec::decompress, data);
+        double referenceDecompressNs = timeDecompress(codec::decompressReference, data);
+        double getNs = timeRandomAccess(codec);
+
+        int transmittedInts = 2 * (codec.packedWords().remaining() + codec.overflowSize());
+        int originalInts = 2 * data.length;
+        double savedRatio = transmittedInts == 0 ? 0.0 : (double) originalInts / transmittedInts;
+        double latencyThresholdNs = computeLatencyThreshold(compressNs, decompressNs, originalInts, transmittedInts);
+
+        return new BenchmarkEvaluationResult(
+                benchmark.getName(),
+                benchmark.getDescription(),
+                strategy,
+                originalInts,
+                transmittedInts,
+                codec.bitsPerValue(),
+                compressNs / 1_000_000.0,
+                decompressNs / 1_000_000.0,
+                referenceDecompressNs / 1_000_000.0,
+                -1.0,
+                getNs,
+                savedRatio,
+                latencyThresholdNs / 1_000.0,
+                -1L,
+                null
         );
     }
 
@@ -64,15 +122,72 @@ public class BenchmarkEvaluator {
         return total / (double) MEASURE_ROUNDS;
     }
 
-    private double timeDecompress(BitPacking codec, int[] original) {
+    /**
+     * Measures the bytes allocated by the current thread per steady-state {@link BitPacking#compress(int[], int[])}
+     * into a reused word buffer. The first calls size the codec's working arrays and vector kernels box their
+     * operands until JIT-compiled, so windows of calls are measured until one allocates nothing or the window budget
+     * runs out.
+     *
+     * @return average bytes allocated per call in the last window, or -1 if the JVM cannot report per-thread
+     * allocation
+     */
+    private long measureCompressAllocation(BitPacking codec, int[] data) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return -1L;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1L;
+        }
+        int[] wordBuffer = new int[codec.packedWords().remaining()];
+        long threadId = Thread.currentThread().getId();
+        long perCall = -1L;
+        for (int window = 0; window < ALLOCATION_WINDOWS && perCall != 0L; window++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURE_ROUNDS; i++) {
+                codec.compress(data, wordBuffer);
+            }
+            perCall = (threads.getThreadAllocatedBytes(threadId) - before) / MEASURE_ROUNDS;
+        }
+        return perCall;
+    }
+
+    private double timeCompress(LongBitPacking codec, long[] data) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            codec.compress(data);
+        }
+        long total = 0L;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            codec.compress(data);
+            total += System.nanoTime() - start;
+        }
+        return total / (double) MEASURE_ROUNDS;
+    }
+
+    private double timeDecompress(Consumer<long[]> decoder, long[] original) {
+        long[] buffer = new long[original.length];
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            decoder.accept(buffer);
+        }
+        long total = 0L;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            decoder.accept(buffer);
+            total += System.nanoTime() - start;
+        }
+        return total / (double) MEASURE_ROUNDS;
+    }
+
+    private double timeDecompress(Consumer<int[]> decoder, int[] original) {
         int[] buffer = new int[original.length];
         for (int i = 0; i < WARMUP_ROUNDS; i++) {
-            codec.decompress(buffer);
+            decoder.accept(buffer);
         }
         long total = 0L;
         for (int i = 0; i < MEASURE_ROUNDS; i++) {
             long start = System.nanoTime();
-            codec.decompress(buffer);
+            decoder.accept(buffer);
             total += System.nanoTime() - start;
         }
         return total / (double) MEASURE_ROUNDS;
@@ -93,6 +208,21 @@ public class BenchmarkEvaluator {
         return total / (double) GET_PROBES;
     }
 
+    private double timeRandomAccess(LongBitPacking codec) {
+        if (codec.size() == 0) {
+            return 0.0;
+        }
+        Random rnd = new Random(42L);
+        long total = 0L;
+        for (int i = 0; i < GET_PROBES; i++) {
+            int index = rnd.nextInt(codec.size());
+            long start = System.nanoTime();
+            codec.get(index);
+            total += System.nanoTime() - start;
+        }
+        return total / (double) GET_PROBES;
+    }
+
     private double computeLatencyThreshold(double compressNs, double decompressNs,
                                           int originalLength, int transmittedInts) {
         int savedInts = originalLength - transmittedInts;
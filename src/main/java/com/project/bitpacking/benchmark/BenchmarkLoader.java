@@ -31,23 +31,60 @@ public class BenchmarkLoader {
      * @return generated data
      */
     public static int[] generateBenchmarkData(Benchmark benchmark, String[] parameters) {
-        String generatorClass = benchmark.getGeneratorClass();
-        Logger.debug("Creating generator: %s", generatorClass);
-
         try {
-            Class<?> clazz = Class.forName(generatorClass);
-            Constructor<?> constructor = clazz.getDeclaredConstructor();
-            BenchmarkGenerator generator = (BenchmarkGenerator) constructor.newInstance();
+            BenchmarkGenerator generator = (BenchmarkGenerator) createGenerator(benchmark);
+            return generator.generate(resolveParameters(benchmark, parameters));
+        } catch (Exception e) {
+            Logger.error("Failed to generate benchmark data: %s", e.getMessage());
+            throw new RuntimeException("Failed to generate benchmark data: " + e.getMessage(), e);
+        }
+    }
 
-            String[] params = parameters != null ? parameters : 
-                    benchmark.getParameters().toArray(new String[0]);
-            return generator.generate(params);
+    /**
+     * Generates 64-bit benchmark data using the configured {@link LongBenchmarkGenerator} class.
+     *
+     * @param benchmark the benchmark configuration
+     * @param parameters override parameters (if null, uses benchmark's default parameters)
+     * @return generated data
+     */
+    public static long[] generateLongBenchmarkData(Benchmark benchmark, String[] parameters) {
+        try {
+            LongBenchmarkGenerator generator = (LongBenchmarkGenerator) createGenerator(benchmark);
+            return generator.generate(resolveParameters(benchmark, parameters));
         } catch (Exception e) {
             Logger.error("Failed to generate benchmark data: %s", e.getMessage());
             throw new RuntimeException("Failed to generate benchmark data: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Tells whether the benchmark's generator produces {@code long} data, to be loaded with
+     * {@link #generateLongBenchmarkData(Benchmark, String[])}.
+     *
+     * @param benchmark the benchmark configuration
+     * @return true if the generator class implements {@link LongBenchmarkGenerator}
+     */
+    public static boolean isLongBenchmark(Benchmark benchmark) {
+        try {
+            return LongBenchmarkGenerator.class.isAssignableFrom(Class.forName(benchmark.getGeneratorClass()));
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static Object createGenerator(Benchmark benchmark) throws ReflectiveOperationException {
+        String generatorClass = benchmark.getGeneratorClass();
+        Logger.debug("Creating generator: %s", generatorClass);
+        Class<?> clazz = Class.forName(generatorClass);
+        Constructor<?> constructor = clazz.getDeclaredConstructor();
+        return constructor.newInstance();
+    }
+
+    private static String[] resolveParameters(Benchmark benchmark, String[] parameters) {
+        return parameters != null ? parameters :
+                benchmark.getParameters().toArray(new String[0]);
+    }
+
     /**
      * Generates benchmark data using benchmark's default parameters.
      *
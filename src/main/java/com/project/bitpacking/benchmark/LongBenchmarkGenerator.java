@@ -0,0 +1,15 @@
+package com.project.bitpacking.benchmark;
+
+/**
+ * Interface for benchmark data generators producing 64-bit values, such as timestamps or byte offsets.
+ */
+public interface LongBenchmarkGenerator {
+    /**
+     * Generates benchmark data based on the provided parameters.
+     *
+     * @param parameters array of string parameters specific to the generator
+     * @return generated long array
+     */
+    long[] generate(String[] parameters);
+}
+
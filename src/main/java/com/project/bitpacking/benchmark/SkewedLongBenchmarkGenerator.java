@@ -0,0 +1,40 @@
+package com.project.bitpacking.benchmark;
+
+import com.project.bitpacking.util.Logger;
+
+import java.util.Random;
+
+/**
+ * Generates skewed long data: mostly small values with some large spikes.
+ * Parameters: [size, smallProbability, smallMin, smallMax, largeMin, largeMax, seed]
+ */
+public class SkewedLongBenchmarkGenerator implements LongBenchmarkGenerator {
+    @Override
+    public long[] generate(String[] parameters) {
+        if (parameters.length < 6) {
+            throw new IllegalArgumentException("Skewed generator requires: size, smallProbability, smallMin, smallMax, largeMin, largeMax, [seed]");
+        }
+        int size = Integer.parseInt(parameters[0].replace("_", ""));
+        double smallProbability = Double.parseDouble(parameters[1]);
+        long smallMin = Long.parseLong(parameters[2].replace("_", ""));
+        long smallMax = Long.parseLong(parameters[3].replace("_", ""));
+        long largeMin = Long.parseLong(parameters[4].replace("_", ""));
+        long largeMax = Long.parseLong(parameters[5].replace("_", ""));
+        long seed = parameters.length > 6 ? Long.parseLong(parameters[6].replace("_", "")) : System.currentTimeMillis();
+
+        Logger.debug("Generating skewed long data: size=%d, smallProb=%.2f, small=[%d,%d], large=[%d,%d], seed=%d",
+                size, smallProbability, smallMin, smallMax, largeMin, largeMax, seed);
+
+        Random rnd = new Random(seed);
+        long[] data = new long[size];
+        for (int i = 0; i < size; i++) {
+            if (rnd.nextDouble() < smallProbability) {
+                data[i] = UniformLongBenchmarkGenerator.nextLong(rnd, smallMin, smallMax);
+            } else {
+                data[i] = UniformLongBenchmarkGenerator.nextLong(rnd, largeMin, largeMax);
+            }
+        }
+        return data;
+    }
+}
+
@@ -0,0 +1,42 @@
+package com.project.bitpacking.benchmark;
+
+import com.project.bitpacking.util.Logger;
+
+import java.util.Random;
+
+/**
+ * Generates uniformly distributed random longs.
+ * Parameters: [size, maxValue, seed]
+ */
+public class UniformLongBenchmarkGenerator implements LongBenchmarkGenerator {
+    @Override
+    public long[] generate(String[] parameters) {
+        if (parameters.length < 2) {
+            throw new IllegalArgumentException("Uniform generator requires at least size and maxValue");
+        }
+        int size = Integer.parseInt(parameters[0].replace("_", ""));
+        long maxValue = Long.parseLong(parameters[1].replace("_", ""));
+        long seed = parameters.length > 2 ? Long.parseLong(parameters[2].replace("_", "")) : System.currentTimeMillis();
+
+        Logger.debug("Generating uniform long data: size=%d, maxValue=%d, seed=%d", size, maxValue, seed);
+        Random rnd = new Random(seed);
+        long[] data = new long[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = nextLong(rnd, 0, maxValue);
+        }
+        return data;
+    }
+
+    /**
+     * @return a uniform value in {@code [min, max]}, inclusive at both ends even when {@code max} is
+     * {@link Long#MAX_VALUE}
+     */
+    static long nextLong(Random rnd, long min, long max) {
+        if (max < Long.MAX_VALUE) {
+            return rnd.nextLong(min, max + 1);
+        }
+        // The exclusive bound cannot exceed Long.MAX_VALUE, so the range is shifted down by one instead
+        return min == Long.MIN_VALUE ? rnd.nextLong() : rnd.nextLong(min - 1, max) + 1;
+    }
+}
+
@@ -75,7 +75,22 @@ public class ConfigLoader {
                         "Packs bits without crossing word boundaries"),
                 new CompressionMethodConfig("OVERFLOW", "Overflow",
                         "com.project.bitpacking.model.OverflowBitPacking",
-                        "Uses overflow area for large values")
+                        "Uses overflow area for large values"),
+                new CompressionMethodConfig("BLOCK_FOR", "BlockFor",
+                        "com.project.bitpacking.model.BlockForBitPacking",
+                        "Frame-of-reference with a bit width per block of 128 values"),
+                new CompressionMethodConfig("DELTA", "Delta",
+                        "com.project.bitpacking.model.DeltaBitPacking",
+                        "Zigzag delta encoding per block of 128 values"),
+                new CompressionMethodConfig("PFOR", "Pfor",
+                        "com.project.bitpacking.model.PforBitPacking",
+                        "Patched frame-of-reference with per-block exception lists"),
+                new CompressionMethodConfig("HYBRID", "Hybrid",
+                        "com.project.bitpacking.model.HybridBitPacking",
+                        "Cross-boundary or overflow layout chosen per segment"),
+                new CompressionMethodConfig("ADAPTIVE", "Adaptive",
+                        "com.project.bitpacking.model.AdaptiveBitPacking",
+                        "Picks the best strategy from a sample of the input")
         );
     }
 
@@ -3,9 +3,12 @@ package com.project.bitpacking.controller;
 import com.project.bitpacking.benchmark.*;
 import com.project.bitpacking.config.CompressionMethodConfig;
 import com.project.bitpacking.config.ConfigLoader;
+import com.project.bitpacking.model.AdaptiveBitPacking;
 import com.project.bitpacking.model.BitPacking;
 import com.project.bitpacking.model.CompressionType;
 import com.project.bitpacking.model.BitPackingFactory;
+import com.project.bitpacking.model.LongBitPacking;
+import com.project.bitpacking.model.LongBitPackingFactory;
 import com.project.bitpacking.util.Logger;
 import com.project.bitpacking.view.ResultView;
 
@@ -36,6 +39,7 @@ public class ReplController {
     private CompressionType currentStrategy;
     private Benchmark currentBenchmark;
     private int[] currentBenchmarkData;
+    private long[] currentLongBenchmarkData;
 
     public ReplController() {
         this.view = new ResultView();
@@ -123,14 +127,15 @@ public class ReplController {
             return true;
         }
         if (remainder.isEmpty()) {
-            view.displayError("Usage: COMPRESS <strategy>");
+            view.displayError("Usage: COMPRESS <strategy> | COMPRESS ADAPTIVE [size|get|time] [transfer-ns-per-int]");
             view.displayAvailableCompressionMethods(compressionMethods);
             return true;
         }
 
         try {
-            CompressionType type = parseCompressionType(remainder);
-            BitPacking delegate = BitPackingFactory.create(type);
+            String[] arguments = remainder.split("\\s+");
+            CompressionType type = parseCompressionType(arguments[0]);
+            BitPacking delegate = createCodec(type, arguments);
             currentStrategy = type;
             currentCodec = delegate;
 
@@ -138,6 +143,9 @@ public class ReplController {
             currentCodec.compress(currentArray);
             double timeMs = (System.nanoTime() - start) / 1_000_000.0;
 
+            if (currentCodec instanceof AdaptiveBitPacking adaptive) {
+                view.displayInfo("Adaptive selection: " + adaptive.decision());
+            }
             view.displayCompression(currentCodec, timeMs);
         } catch (IllegalArgumentException e) {
             view.displayError("Unknown compression strategy: " + remainder);
@@ -204,12 +212,23 @@ public class ReplController {
             String[] parameters = parts.length > 1 ? Arrays.copyOfRange(parts, 1, parts.length) : null;
             view.displayInfo("Loading benchmark: " + benchmarkName);
             view.displayBenchmarkLoading(benchmarkName, 50);
-            currentBenchmarkData = BenchmarkLoader.generateBenchmarkData(benchmark, parameters);
+            int length;
+            if (BenchmarkLoader.isLongBenchmark(benchmark)) {
+                // 64-bit data is only evaluated; ARR, COMPRESS and GET keep working on int arrays
+                currentLongBenchmarkData = BenchmarkLoader.generateLongBenchmarkData(benchmark, parameters);
+                currentBenchmarkData = null;
+                currentArray = null;
+                length = currentLongBenchmarkData.length;
+            } else {
+                currentBenchmarkData = BenchmarkLoader.generateBenchmarkData(benchmark, parameters);
+                currentLongBenchmarkData = null;
+                currentArray = currentBenchmarkData;
+                length = currentBenchmarkData.length;
+            }
             currentBenchmark = benchmark;
-            currentArray = currentBenchmarkData;
             currentCodec = null;
             view.displayBenchmarkLoading(benchmarkName, 100);
-            view.displayInfo(String.format("Loaded benchmark: %s (%d elements)", benchmarkName, currentBenchmarkData.length));
+            view.displayInfo(String.format("Loaded benchmark: %s (%d elements)", benchmarkName, length));
         } catch (Exception e) {
             view.displayError("Failed to load benchmark: " + e.getMessage());
         }
@@ -217,21 +236,36 @@ public class ReplController {
     }
 
     private boolean handleEval(String remainder) {
-        if (currentBenchmarkData == null || currentBenchmark == null) {
+        if ((currentBenchmarkData == null && currentLongBenchmarkData == null) || currentBenchmark == null) {
             view.displayError("Load a benchmark first using LOAD.");
             return true;
         }
         if (remainder.isEmpty()) {
-            view.displayError("Usage: EVAL <strategy>");
+            view.displayError("Usage: EVAL <strategy> | EVAL ADAPTIVE [size|get|time] [transfer-ns-per-int]");
             view.displayAvailableCompressionMethods(compressionMethods);
             return true;
         }
 
         try {
-            CompressionType type = parseCompressionType(remainder);
-            BitPacking codec = BitPackingFactory.create(type);
-            BenchmarkEvaluationResult result = evaluator.evaluate(
-                    currentBenchmark, currentBenchmarkData, codec, type);
+            String[] arguments = remainder.split("\\s+");
+            CompressionType type = parseCompressionType(arguments[0]);
+            BenchmarkEvaluationResult result;
+            if (currentLongBenchmarkData != null) {
+                if (arguments.length > 1) {
+                    throw new IllegalArgumentException("Long strategies take no arguments");
+                }
+                LongBitPacking codec;
+                try {
+                    codec = LongBitPackingFactory.create(type);
+                } catch (IllegalArgumentException e) {
+                    view.displayError(e.getMessage());
+                    return true;
+                }
+                result = evaluator.evaluate(currentBenchmark, currentLongBenchmarkData, codec, type);
+            } else {
+                BitPacking codec = createCodec(type, arguments);
+                result = evaluator.evaluate(currentBenchmark, currentBenchmarkData, codec, type);
+            }
             view.displayEvaluation(result);
         } catch (IllegalArgumentException e) {
             view.displayError("Unknown compression strategy: " + remainder);
@@ -244,6 +278,8 @@ public class ReplController {
         System.out.println("Available commands:");
         System.out.println("  ARR <n1,n2,...>           - declare the array to work with");
         System.out.println("  COMPRESS <strategy>       - compress the current array");
+        System.out.println("  COMPRESS ADAPTIVE [size|get|time] [transfer-ns-per-int]");
+        System.out.println("                            - compress with the strategy estimated best for the objective");
         System.out.println("  DECOMPRESS                - decompress using the last compression result");
         System.out.println("  GET <index>               - read value at the given index from compressed data");
         System.out.println("  LOAD [benchmark] [params] - load a benchmark (list available if no name given)");
@@ -252,7 +288,8 @@ public class ReplController {
         System.out.println("  CLS                       - clear the screen");
         System.out.println("  EXIT | QUIT               - leave the REPL");
         System.out.println();
-        System.out.println("Compression strategies: CrossBoundary, Aligned, Overflow");
+        System.out.println("Compression strategies: CrossBoundary, Aligned, Overflow, BlockFor, Delta, Pfor, Hybrid, Adaptive");
+        System.out.println("Long benchmarks (e.g. timestamps) evaluate the 64-bit CrossBoundary, Aligned and Overflow codecs.");
         return true;
     }
 
@@ -285,6 +322,37 @@ public class ReplController {
                 .toArray();
     }
 
+    /**
+     * Creates the codec for {@code type}; the adaptive strategy takes an optional objective and transfer cost.
+     */
+    private BitPacking createCodec(CompressionType type, String[] arguments) {
+        if (type != CompressionType.ADAPTIVE) {
+            if (arguments.length > 1) {
+                throw new IllegalArgumentException("Only ADAPTIVE takes arguments");
+            }
+            return BitPackingFactory.create(type);
+        }
+        if (arguments.length > 3) {
+            throw new IllegalArgumentException("Too many arguments for ADAPTIVE");
+        }
+        AdaptiveBitPacking.Objective objective = arguments.length > 1
+                ? parseObjective(arguments[1])
+                : AdaptiveBitPacking.Objective.SMALLEST_SIZE;
+        double transferNsPerInt = arguments.length > 2
+                ? Double.parseDouble(arguments[2])
+                : AdaptiveBitPacking.DEFAULT_TRANSFER_NS_PER_INT;
+        return new AdaptiveBitPacking(objective, transferNsPerInt);
+    }
+
+    private AdaptiveBitPacking.Objective parseObjective(String input) {
+        return switch (input.toUpperCase(Locale.ROOT).replace("-", "_")) {
+            case "SIZE" -> AdaptiveBitPacking.Objective.SMALLEST_SIZE;
+            case "GET" -> AdaptiveBitPacking.Objective.FASTEST_GET;
+            case "TIME" -> AdaptiveBitPacking.Objective.LOWEST_TOTAL_TIME;
+            default -> AdaptiveBitPacking.Objective.valueOf(input.toUpperCase(Locale.ROOT).replace("-", "_"));
+        };
+    }
+
     private CompressionType parseCompressionType(String input) {
         String normalized = input.toUpperCase(Locale.ROOT).replace("-", "_");
         return CompressionType.valueOf(normalized);
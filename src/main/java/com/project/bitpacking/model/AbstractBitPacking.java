@@ -1,12 +1,51 @@
 package com.project.bitpacking.model;
 
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
 /**
  * Base class wiring shared state handling for bit packing implementations.
  */
 abstract class AbstractBitPacking implements BitPacking {
-    protected int[] packed;
+    /**
+     * Words copied at a time when shared storage is copied before a write.
+     */
+    private static final int STAGED_WORDS = 4096;
+
+    protected PackedStorage packed;
     protected int elementCount;
     protected int bitsPerValue;
+    private OffHeapArena arena;
+    /**
+     * Caller-provided word buffer for the compression in progress, if any.
+     */
+    private int[] wordBuffer;
+    /**
+     * Storage last wrapped around a caller-provided buffer, re-targeted rather than reallocated on reuse.
+     */
+    private HeapPackedStorage bufferStorage;
+    /**
+     * Whether the current result lives in buffers that later compressions overwrite.
+     */
+    private boolean reusedBuffers;
+    /**
+     * Whether the compression in progress may overwrite the previous result's arrays, which no snapshot shares.
+     */
+    private boolean overwritable;
+    /**
+     * Whether the packed words, and any overflow values, are also referenced by a snapshot or by the buffer the codec
+     * was read from, so that they must be copied before an in-place write.
+     */
+    private boolean sharedStorage;
+    /**
+     * Sample index over the current result, built by the first search and dropped by the next compression or write.
+     */
+    private volatile SortedSampleIndex searchIndex;
 
     @Override
     public int size() {
@@ -20,7 +59,424 @@ abstract class AbstractBitPacking implements BitPacking {
 
     @Override
     public int[] backingArray() {
-        return packed == null ? new int[0] : packed.clone();
+        return packed == null ? new int[0] : packed.toArray();
+    }
+
+    @Override
+    public IntBuffer packedWords() {
+        return packed == null ? IntBuffer.allocate(0) : packed.view();
+    }
+
+    /**
+     * Runs the codec's own {@link #compress(int[])} with {@link #allocateWords(int)} and the codec's working arrays
+     * drawing on buffers kept from earlier calls, so a warmed-up steady-state loop allocates nothing.
+     */
+    @Override
+    public void compress(int[] values, int[] wordBuffer) {
+        if (wordBuffer == null) {
+            throw new IllegalArgumentException("Word buffer must not be null");
+        }
+        this.wordBuffer = wordBuffer;
+        this.overwritable = reusedBuffers;
+        try {
+            compress(values);
+        } finally {
+            this.wordBuffer = null;
+            this.overwritable = false;
+        }
+        this.reusedBuffers = true;
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new DecodingSpliterator(this, 0, elementCount, splitGrain());
+    }
+
+    /**
+     * @return number of values after which the packed layout restarts on a fresh word or block; parallel traversal
+     * splits only at multiples of it. Defaults to 32, as 32 values always fill whole words when packed back to back.
+     */
+    int splitGrain() {
+        return BitUnpackKernels.BLOCK_VALUES;
+    }
+
+    /**
+     * Hands the current packed words and overflow values to a fresh instance through the same path as the wire
+     * format. They are shared rather than copied, which is safe because {@link #compress(int[])} always allocates
+     * new ones and {@link #set(int, int)} copies shared ones before writing; results kept in buffers reused by
+     * {@link #compress(int[], int[])} are copied.
+     */
+    @Override
+    public CompressedIntArray snapshot() {
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+        CompressionType type = compressionType();
+        AbstractBitPacking copy = (AbstractBitPacking) BitPackingFactory.create(type);
+        // Results kept in reused buffers are copied, as the next compression overwrites them
+        PackedStorage words = reusedBuffers ? new HeapPackedStorage(packed.toArray()) : packed;
+        int[] overflow = reusedBuffers ? overflowRegion().clone() : overflowRegion();
+        sharedStorage |= !reusedBuffers;
+        copy.restore(elementCount, bitsPerValue, wireParameters(), words, overflow);
+        return new CompressedIntArray(type, copy);
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel must not be null");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+        WireFormat.write(this, channel);
+    }
+
+    /**
+     * @return the compression type identifying this codec in the wire format
+     */
+    abstract CompressionType compressionType();
+
+    /**
+     * @return codec-specific header parameters needed, besides the element count and width, to interpret the packed
+     * words (none by default)
+     */
+    int[] wireParameters() {
+        return new int[0];
+    }
+
+    /**
+     * @return values stored outside the packed words (none by default)
+     */
+    int[] overflowRegion() {
+        return new int[0];
+    }
+
+    /**
+     * Adopts a compressed representation read from the wire format, rebuilding any derived state.
+     *
+     * @throws IllegalArgumentException if the fields are inconsistent with each other
+     */
+    abstract void restore(int elementCount, int bitsPerValue, int[] parameters, PackedStorage words,
+                          int[] overflow);
+
+    /**
+     * Rejects restored words that cannot hold the representation described by the header.
+     */
+    protected static void requireWords(PackedStorage words, long requiredWords) {
+        if (words.wordCount() < requiredWords) {
+            throw new IllegalArgumentException("Corrupted stream: " + words.wordCount()
+                    + " packed words where " + requiredWords + " are required");
+        }
+    }
+
+    /**
+     * Searches through a sample of every {@link #searchStride()}-th value, built on first use and kept until the
+     * next compression, then through the few values between two samples without per-probe index validation.
+     */
+    @Override
+    public int lowerBound(int key) {
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+        if (elementCount == 0) {
+            return 0;
+        }
+        SortedSampleIndex index = searchIndex;
+        if (index == null) {
+            // Racing threads build identical indexes; publication through the volatile field is safe
+            index = SortedSampleIndex.build(this, elementCount, searchStride());
+            searchIndex = index;
+        }
+        return index.lowerBound(this, elementCount, key);
+    }
+
+    @Override
+    public boolean contains(int key) {
+        int index = lowerBound(key);
+        return index < elementCount && valueAt(index) == key;
+    }
+
+    @Override
+    public long sum(int fromIndex, int toIndex) {
+        checkAggregate(fromIndex, toIndex);
+        return BitPacking.super.sum(fromIndex, toIndex);
+    }
+
+    @Override
+    public int min() {
+        requireValues();
+        return BitPacking.super.min();
+    }
+
+    @Override
+    public int max() {
+        requireValues();
+        return BitPacking.super.max();
+    }
+
+    @Override
+    public int countInRange(int low, int high) {
+        checkAggregate(0, elementCount);
+        return BitPacking.super.countInRange(low, high);
+    }
+
+    @Override
+    public int scan(Predicate op, int constant, long[] resultBitmap) {
+        checkScan(op, resultBitmap);
+        return BitPacking.super.scan(op, constant, resultBitmap);
+    }
+
+    @Override
+    public void set(int index, int value) {
+        checkSet(index);
+        BitPacking.super.set(index, value);
+    }
+
+    /**
+     * Reads the value at {@code index} without validating it: callers guarantee a compressed result and
+     * {@code 0 <= index < size()}.
+     */
+    abstract int valueAt(int index);
+
+    /**
+     * @return distance between the samples of the search index, a power of two; by default the number of values
+     * filling about one 64-byte cache line of packed words, between 32 and 1024
+     */
+    int searchStride() {
+        int perLine = 512 / Math.max(1, bitsPerValue);
+        return Math.max(32, Math.min(1024, Integer.highestOneBit(perLine)));
+    }
+
+    /**
+     * Binary-searches the sorted values in {@code [fromIndex, toIndex)} for the first one not less than
+     * {@code key}, returning {@code toIndex} if there is none.
+     */
+    int lowerBoundWithin(int key, int fromIndex, int toIndex) {
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (valueAt(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Directs subsequent compressions to allocate their packed words from {@code arena} instead of the heap.
+     */
+    void allocateFrom(OffHeapArena arena) {
+        this.arena = arena;
+    }
+
+    /**
+     * Allocates zero-filled storage for the packed words of a compression.
+     */
+    protected PackedStorage allocateWords(int wordCount) {
+        // The result being replaced goes back to the arena unless a snapshot or a read buffer still shares it
+        returnToArena();
+        this.reusedBuffers = false;
+        this.sharedStorage = false;
+        this.searchIndex = null;
+        if (arena != null) {
+            return arena.allocate(wordCount);
+        }
+        if (wordBuffer != null && wordBuffer.length >= wordCount) {
+            if (bufferStorage == null || bufferStorage.array() != wordBuffer) {
+                bufferStorage = new HeapPackedStorage(wordBuffer, 0);
+            }
+            bufferStorage.reset(wordCount);
+            return bufferStorage;
+        }
+        return PackedStorage.heap(wordCount);
+    }
+
+    /**
+     * Drops the current result, freeing its packed words if they came from an arena and nothing else shares them.
+     * The codec must be compressed again before its next use.
+     */
+    void releaseWords() {
+        returnToArena();
+        this.packed = null;
+        this.elementCount = 0;
+        this.bitsPerValue = 0;
+        this.searchIndex = null;
+    }
+
+    private void returnToArena() {
+        if (arena != null && packed != null && !sharedStorage) {
+            arena.release(packed);
+        }
+    }
+
+    /**
+     * @return whether the compression in progress may overwrite result arrays, such as overflow values, kept from
+     * the previous one
+     */
+    protected boolean reusingBuffers() {
+        return overwritable;
+    }
+
+    /**
+     * @return {@code array} if it holds at least {@code length} entries, otherwise a new array of that length
+     */
+    protected static int[] reuse(int[] array, int length) {
+        return array != null && array.length >= length ? array : new int[length];
+    }
+
+    /**
+     * Validates the arguments of a range decompression request.
+     */
+    protected void checkRange(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        Objects.checkFromToIndex(fromIndex, toIndex, elementCount);
+        if (destinationOffset < 0 || destination.length - destinationOffset < toIndex - fromIndex) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    /**
+     * Validates the index range of an aggregate.
+     */
+    protected void checkAggregate(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, elementCount);
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    /**
+     * Validates the index of an in-place write.
+     */
+    protected void checkSet(int index) {
+        if (index < 0 || index >= elementCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + elementCount);
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    /**
+     * Readies the current result for an in-place write: drops the search index and copies the packed words if they
+     * are shared.
+     *
+     * @return whether the words were shared, in which case the codec must copy its overflow values too
+     */
+    protected boolean prepareWrite() {
+        this.searchIndex = null;
+        if (!sharedStorage) {
+            return false;
+        }
+        PackedStorage source = packed;
+        PackedStorage copy = allocateWords(source.wordCount());
+        int[] staged = new int[Math.min(source.wordCount(), STAGED_WORDS)];
+        for (int from = 0; from < source.wordCount(); from += staged.length) {
+            int length = Math.min(staged.length, source.wordCount() - from);
+            source.copyTo(from, staged, 0, length);
+            copy.copyFrom(staged, 0, from, length);
+        }
+        this.packed = copy;
+        return true;
+    }
+
+    /**
+     * Overwrites {@code bitCount} bits starting at {@code bitIndex} with the low bits of {@code value}.
+     */
+    protected void replaceBits(long bitIndex, int bitCount, int value) {
+        int wordIndex = (int) (bitIndex >>> 5);
+        int bitOffset = (int) bitIndex & 31;
+        long mask = ((1L << bitCount) - 1) << bitOffset;
+        long bits = ((long) value << bitOffset) & mask;
+        packed.set(wordIndex, (packed.get(wordIndex) & ~(int) mask) | (int) bits);
+        if (bitOffset + bitCount > 32) {
+            packed.set(wordIndex + 1, (packed.get(wordIndex + 1) & ~(int) (mask >>> 32)) | (int) (bits >>> 32));
+        }
+    }
+
+    /**
+     * Marks the packed words and overflow values as referenced from outside the codec.
+     */
+    void markShared() {
+        this.sharedStorage = true;
+    }
+
+    /**
+     * Validates the arguments of a scan.
+     */
+    protected void checkScan(Predicate op, long[] resultBitmap) {
+        if (op == null || resultBitmap == null) {
+            throw new IllegalArgumentException("Predicate and result bitmap must not be null");
+        }
+        if (resultBitmap.length < ((long) elementCount + 63) >>> 6) {
+            throw new IllegalArgumentException("Result bitmap is too small");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    /**
+     * Checks that there is at least one value to take the minimum or maximum of.
+     */
+    protected void requireValues() {
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+        if (elementCount == 0) {
+            throw new NoSuchElementException("Sequence is empty");
+        }
+    }
+
+    /**
+     * Validates a gather request in a single branch-free pass over the indices.
+     */
+    protected void checkGather(int[] indices, int[] destination) {
+        if (indices == null || destination == null) {
+            throw new IllegalArgumentException("Index and destination arrays must not be null");
+        }
+        if (destination.length < indices.length) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+        int last = elementCount - 1;
+        int outOfBounds = 0;
+        for (int index : indices) {
+            // Negative exactly when index < 0 or index > last
+            outOfBounds |= index | (last - index);
+        }
+        if (outOfBounds < 0) {
+            for (int index : indices) {
+                if (index < 0 || index > last) {
+                    throw new IndexOutOfBoundsException(
+                            "Index " + index + " out of bounds for length " + elementCount);
+                }
+            }
+        }
+    }
+
+    /**
+     * Orders gather positions by the index they look up. Each entry holds the index in its upper 32 bits and the
+     * position in the caller's arrays in its lower 32 bits.
+     */
+    protected static long[] sortedByIndex(int[] indices) {
+        long[] order = new long[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            order[i] = ((long) indices[i] << 32) | i;
+        }
+        Arrays.sort(order);
+        return order;
     }
 }
 
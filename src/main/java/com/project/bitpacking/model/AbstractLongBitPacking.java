@@ -0,0 +1,119 @@
+package com.project.bitpacking.model;
+
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * Base class wiring shared state handling for the {@code long} bit packing implementations, with the bit-level
+ * reads and writes of a contiguous stream of 64-bit words.
+ */
+abstract class AbstractLongBitPacking implements LongBitPacking {
+    protected long[] packed;
+    protected int elementCount;
+    protected int bitsPerValue;
+
+    @Override
+    public int size() {
+        return elementCount;
+    }
+
+    @Override
+    public int bitsPerValue() {
+        return bitsPerValue;
+    }
+
+    @Override
+    public long[] backingArray() {
+        return packed == null ? new long[0] : packed.clone();
+    }
+
+    @Override
+    public LongBuffer packedWords() {
+        return packed == null ? LongBuffer.allocate(0) : LongBuffer.wrap(packed).asReadOnlyBuffer();
+    }
+
+    /**
+     * Reference decoding through {@link #get(int)}, one value at a time.
+     */
+    @Override
+    public void decompressReference(long[] destination) {
+        ensureReady(destination);
+        for (int i = 0; i < elementCount; i++) {
+            destination[i] = get(i);
+        }
+    }
+
+    /**
+     * @return number of 64-bit words holding {@code count} values of {@code bits} bits packed back to back
+     */
+    protected static int wordsFor(int count, int bits) {
+        return (int) (((long) count * bits + 63) >>> 6);
+    }
+
+    /**
+     * @return the low {@code bits} bits set, for widths 0 to 64
+     */
+    protected static long mask(int bits) {
+        return bits == 64 ? -1L : (1L << bits) - 1;
+    }
+
+    /**
+     * ORs the low {@code bitCount} bits of {@code value} into the stream at {@code bitIndex}; the bits there must be
+     * clear and {@code value} must have no bits above {@code bitCount}.
+     */
+    protected static void writeBits(long[] words, long bitIndex, int bitCount, long value) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        int bitOffset = (int) bitIndex & 63;
+        words[wordIndex] |= value << bitOffset;
+        if (bitOffset + bitCount > 64) {
+            words[wordIndex + 1] |= value >>> (64 - bitOffset);
+        }
+    }
+
+    /**
+     * @return the {@code bitCount} bits of the stream starting at {@code bitIndex}
+     */
+    protected static long readBits(long[] words, long bitIndex, int bitCount) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        int bitOffset = (int) bitIndex & 63;
+        long value = words[wordIndex] >>> bitOffset;
+        if (bitOffset + bitCount > 64) {
+            value |= words[wordIndex + 1] << (64 - bitOffset);
+        }
+        return value & mask(bitCount);
+    }
+
+    protected void ensureReady(long[] destination) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        if (destination.length < elementCount) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    protected void checkRange(int fromIndex, int toIndex, long[] destination, int destinationOffset) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        Objects.checkFromToIndex(fromIndex, toIndex, elementCount);
+        if (destinationOffset < 0 || destination.length - destinationOffset < toIndex - fromIndex) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    protected void requireIndex(int index) {
+        if (index < 0 || index >= elementCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + elementCount);
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+}
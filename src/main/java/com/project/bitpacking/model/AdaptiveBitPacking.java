@@ -0,0 +1,464 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.Logger;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Codec that picks one of the concrete strategies for every input and delegates to it.
+ * <p>
+ * Each compression first builds a {@link SampleProfile} of the input, which reads a sublinear sample of whole blocks,
+ * and estimates from its bit-width distribution how many ints every strategy would transmit. A cost model turns these
+ * sizes into compress, decode and lookup times, and the strategy scoring best on the configured {@link Objective}
+ * wins. Sizes are estimated with the strategies' own width rules; the per-value costs were measured on JIT-compiled
+ * code and only their relative order matters.
+ * <p>
+ * Strategies without support for negative values are only considered when the sample holds none. If the sample
+ * missed a negative value, the chosen strategy rejects the input and the best signed strategy is used instead.
+ * The compressed result is the delegate's own, so {@link #writeTo(WritableByteChannel)} and {@link #snapshot()}
+ * record the chosen strategy rather than {@link CompressionType#ADAPTIVE}.
+ */
+public final class AdaptiveBitPacking implements BitPacking {
+    /**
+     * Default cost of transmitting one int for {@link Objective#LOWEST_TOTAL_TIME}, in nanoseconds: a 4 Gbit/s link.
+     */
+    public static final double DEFAULT_TRANSFER_NS_PER_INT = 8.0;
+
+    /**
+     * Cost of streaming one packed word through the cache, added per estimated word to compress and decode times.
+     */
+    private static final double WORD_NS = 0.25;
+
+    /**
+     * Extra cost of decoding one value stored outside the regular packed stream.
+     */
+    private static final double EXCEPTION_NS = 2.0;
+
+    private static final CompressionType[] CANDIDATES = {
+            CompressionType.CROSS_BOUNDARY,
+            CompressionType.ALIGNED,
+            CompressionType.OVERFLOW,
+            CompressionType.BLOCK_FOR,
+            CompressionType.DELTA,
+            CompressionType.PFOR
+    };
+
+    /**
+     * What the selection optimises for.
+     */
+    public enum Objective {
+        /**
+         * Fewest transmitted ints: packed words plus overflow area.
+         */
+        SMALLEST_SIZE,
+
+        /**
+         * Cheapest random access through {@link BitPacking#get(int)}.
+         */
+        FASTEST_GET,
+
+        /**
+         * Lowest sum of compress time, decompress time and the time to transmit the result.
+         */
+        LOWEST_TOTAL_TIME
+    }
+
+    private final Objective objective;
+    private final double transferNsPerInt;
+    private final OffHeapArena arena;
+    private final SampleProfile profile = new SampleProfile();
+    /**
+     * One delegate per strategy, kept so that alternating choices still reuse each strategy's buffers. Only the
+     * selected one holds a result.
+     */
+    private final Map<CompressionType, BitPacking> delegates = new EnumMap<>(CompressionType.class);
+    /**
+     * Score of every candidate in the last selection, indexed like {@link #CANDIDATES}; NaN when not eligible.
+     */
+    private final double[] scores = new double[CANDIDATES.length];
+
+    private CompressionType selectedType;
+    private BitPacking delegate;
+    private boolean fellBack;
+
+    /**
+     * Creates an adaptive codec optimising for {@link Objective#SMALLEST_SIZE}.
+     */
+    public AdaptiveBitPacking() {
+        this(Objective.SMALLEST_SIZE);
+    }
+
+    /**
+     * Creates an adaptive codec optimising for {@code objective}, with {@link #DEFAULT_TRANSFER_NS_PER_INT}.
+     *
+     * @param objective what the selection optimises for
+     */
+    public AdaptiveBitPacking(Objective objective) {
+        this(objective, DEFAULT_TRANSFER_NS_PER_INT);
+    }
+
+    /**
+     * Creates an adaptive codec optimising for {@code objective}.
+     *
+     * @param objective        what the selection optimises for
+     * @param transferNsPerInt cost of transmitting one int, used by {@link Objective#LOWEST_TOTAL_TIME}
+     */
+    public AdaptiveBitPacking(Objective objective, double transferNsPerInt) {
+        this(objective, transferNsPerInt, null);
+    }
+
+    AdaptiveBitPacking(Objective objective, double transferNsPerInt, OffHeapArena arena) {
+        if (objective == null) {
+            throw new IllegalArgumentException("Objective must not be null");
+        }
+        if (!(transferNsPerInt >= 0.0) || Double.isInfinite(transferNsPerInt)) {
+            throw new IllegalArgumentException("Transfer cost must be a finite non-negative number");
+        }
+        this.objective = objective;
+        this.transferNsPerInt = transferNsPerInt;
+        this.arena = arena;
+    }
+
+    /**
+     * @return what the selection optimises for
+     */
+    public Objective objective() {
+        return objective;
+    }
+
+    /**
+     * @return strategy chosen by the last compression, or null if nothing has been compressed yet
+     */
+    public CompressionType selectedType() {
+        return selectedType;
+    }
+
+    /**
+     * Describes the last selection: the winner, the objective, the sample size and every candidate's score.
+     *
+     * @return human-readable summary of the last selection
+     * @throws IllegalStateException if nothing has been compressed yet
+     */
+    public String decision() {
+        requireDelegate();
+        StringBuilder text = new StringBuilder();
+        text.append(selectedType).append(" for ").append(objective)
+                .append(" (sampled ").append(profile.sampledValues()).append('/').append(profile.valueCount())
+                .append(" values");
+        if (fellBack) {
+            text.append(", negative values outside the sample");
+        }
+        text.append("; estimates:");
+        for (int i = 0; i < CANDIDATES.length; i++) {
+            text.append(' ').append(CANDIDATES[i]).append('=');
+            if (Double.isNaN(scores[i])) {
+                text.append("n/a");
+            } else {
+                text.append(String.format(Locale.ROOT, scoreFormat(), scores[i]));
+            }
+        }
+        return text.append(')').toString();
+    }
+
+    @Override
+    public void compress(int[] values) {
+        BitPacking codec = select(values);
+        try {
+            codec.compress(values);
+        } catch (IllegalArgumentException e) {
+            selectSigned(e).compress(values);
+        }
+    }
+
+    @Override
+    public void compress(int[] values, int[] wordBuffer) {
+        BitPacking codec = select(values);
+        try {
+            codec.compress(values, wordBuffer);
+        } catch (IllegalArgumentException e) {
+            selectSigned(e).compress(values, wordBuffer);
+        }
+    }
+
+    @Override
+    public void compressParallel(int[] values, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        BitPacking codec = select(values);
+        try {
+            codec.compressParallel(values, pool);
+        } catch (IllegalArgumentException e) {
+            selectSigned(e).compressParallel(values, pool);
+        }
+    }
+
+    @Override
+    public void decompress(int[] destination) {
+        requireDelegate().decompress(destination);
+    }
+
+    @Override
+    public void decompressParallel(int[] destination, ForkJoinPool pool) {
+        requireDelegate().decompressParallel(destination, pool);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        requireDelegate().decompress(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    @Override
+    public void decompressReference(int[] destination) {
+        requireDelegate().decompressReference(destination);
+    }
+
+    @Override
+    public int get(int index) {
+        return requireDelegate().get(index);
+    }
+
+    @Override
+    public void get(int[] indices, int[] destination, boolean sortIndices) {
+        requireDelegate().get(indices, destination, sortIndices);
+    }
+
+    @Override
+    public void set(int index, int value) {
+        requireDelegate().set(index, value);
+    }
+
+    @Override
+    public int lowerBound(int key) {
+        return requireDelegate().lowerBound(key);
+    }
+
+    @Override
+    public boolean contains(int key) {
+        return requireDelegate().contains(key);
+    }
+
+    @Override
+    public long sum(int fromIndex, int toIndex) {
+        return requireDelegate().sum(fromIndex, toIndex);
+    }
+
+    @Override
+    public int min() {
+        return requireDelegate().min();
+    }
+
+    @Override
+    public int max() {
+        return requireDelegate().max();
+    }
+
+    @Override
+    public int countInRange(int low, int high) {
+        return requireDelegate().countInRange(low, high);
+    }
+
+    @Override
+    public int scan(Predicate op, int constant, long[] resultBitmap) {
+        return requireDelegate().scan(op, constant, resultBitmap);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return requireDelegate().iterator();
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return requireDelegate().spliterator();
+    }
+
+    @Override
+    public IntStream stream() {
+        return requireDelegate().stream();
+    }
+
+    @Override
+    public int size() {
+        return delegate == null ? 0 : delegate.size();
+    }
+
+    @Override
+    public int bitsPerValue() {
+        return delegate == null ? 0 : delegate.bitsPerValue();
+    }
+
+    @Override
+    public int[] backingArray() {
+        return delegate == null ? new int[0] : delegate.backingArray();
+    }
+
+    @Override
+    public IntBuffer packedWords() {
+        return delegate == null ? IntBuffer.allocate(0) : delegate.packedWords();
+    }
+
+    @Override
+    public int overflowSize() {
+        return delegate == null ? 0 : delegate.overflowSize();
+    }
+
+    @Override
+    public CompressedIntArray snapshot() {
+        return requireDelegate().snapshot();
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel must not be null");
+        }
+        requireDelegate().writeTo(channel);
+    }
+
+    private BitPacking select(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        profile.sample(values);
+        fellBack = false;
+        return choose(profile.hasNegatives());
+    }
+
+    /**
+     * Switches to the best strategy accepting negative values after the chosen one rejected the input.
+     *
+     * @param failure exception thrown by the chosen strategy, rethrown if that strategy accepts negative values
+     */
+    private BitPacking selectSigned(IllegalArgumentException failure) {
+        if (selectedType.acceptsNegatives()) {
+            throw failure;
+        }
+        fellBack = true;
+        return choose(true);
+    }
+
+    private BitPacking choose(boolean signedOnly) {
+        int best = -1;
+        for (int i = 0; i < CANDIDATES.length; i++) {
+            CompressionType type = CANDIDATES[i];
+            if (signedOnly && !type.acceptsNegatives()) {
+                scores[i] = Double.NaN;
+                continue;
+            }
+            scores[i] = score(type);
+            // Ties go to the smaller result, then to the earlier candidate
+            if (best < 0 || scores[i] < scores[best] || (scores[i] == scores[best]
+                    && profile.estimatedInts(type) < profile.estimatedInts(CANDIDATES[best]))) {
+                best = i;
+            }
+        }
+        selectedType = CANDIDATES[best];
+        BitPacking previous = delegate;
+        delegate = delegates.get(selectedType);
+        if (delegate == null) {
+            delegate = arena == null ? BitPackingFactory.create(selectedType)
+                    : BitPackingFactory.create(selectedType, arena);
+            delegates.put(selectedType, delegate);
+        }
+        if (previous != null && previous != delegate) {
+            // Only the selected strategy's result is reachable, so the previous one's words can go
+            ((AbstractBitPacking) previous).releaseWords();
+        }
+        if (Logger.DEBUG) {
+            Logger.debug("Adaptive selection: %s", decision());
+        }
+        return delegate;
+    }
+
+    /**
+     * @return estimated cost of {@code type} under the objective, in ints for size and nanoseconds otherwise
+     */
+    private double score(CompressionType type) {
+        long ints = profile.estimatedInts(type);
+        return switch (objective) {
+            case SMALLEST_SIZE -> ints;
+            case FASTEST_GET -> lookupNs(type);
+            case LOWEST_TOTAL_TIME -> {
+                int n = profile.valueCount();
+                double compressNs = compressNsPerValue(type) * n + WORD_NS * ints;
+                double decodeNs = decodeNsPerValue(type) * n + WORD_NS * ints
+                        + EXCEPTION_NS * profile.estimatedExceptions(type);
+                yield compressNs + decodeNs + transferNsPerInt * ints;
+            }
+        };
+    }
+
+    /**
+     * Lookup cost, plus for {@link PforBitPacking} the scan of the block's exception positions.
+     */
+    private double lookupNs(CompressionType type) {
+        if (type != CompressionType.PFOR || profile.valueCount() == 0) {
+            return getNs(type);
+        }
+        double exceptionsPerBlock = (double) profile.estimatedExceptions(type) * PackedBlocks.BLOCK_SIZE
+                / profile.valueCount();
+        return getNs(type) + EXCEPTION_NS * exceptionsPerBlock;
+    }
+
+    private String scoreFormat() {
+        return switch (objective) {
+            case SMALLEST_SIZE -> "%.0f ints";
+            case FASTEST_GET -> "%.1f ns";
+            case LOWEST_TOTAL_TIME -> "%.0f ns";
+        };
+    }
+
+    private static double compressNsPerValue(CompressionType type) {
+        return switch (type) {
+            case CROSS_BOUNDARY -> 3.0;
+            case ALIGNED, DELTA -> 6.0;
+            case OVERFLOW -> 7.0;
+            case BLOCK_FOR -> 5.0;
+            case PFOR -> 8.0;
+            case HYBRID, ADAPTIVE -> throw new IllegalArgumentException("Not an adaptive candidate: " + type);
+        };
+    }
+
+    private static double decodeNsPerValue(CompressionType type) {
+        return switch (type) {
+            case CROSS_BOUNDARY -> 1.0;
+            case ALIGNED -> 0.8;
+            case OVERFLOW -> 4.5;
+            case BLOCK_FOR, PFOR -> 1.5;
+            case DELTA -> 2.0;
+            case HYBRID, ADAPTIVE -> throw new IllegalArgumentException("Not an adaptive candidate: " + type);
+        };
+    }
+
+    /**
+     * Lookup cost; {@link DeltaBitPacking} sums on average half a block of differences per lookup.
+     */
+    private static double getNs(CompressionType type) {
+        return switch (type) {
+            case CROSS_BOUNDARY -> 3.5;
+            case ALIGNED -> 6.0;
+            case OVERFLOW -> 9.0;
+            case BLOCK_FOR -> 13.0;
+            case PFOR -> 17.0;
+            case DELTA -> 280.0;
+            case HYBRID, ADAPTIVE -> throw new IllegalArgumentException("Not an adaptive candidate: " + type);
+        };
+    }
+
+    private BitPacking requireDelegate() {
+        if (delegate == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+        return delegate;
+    }
+}
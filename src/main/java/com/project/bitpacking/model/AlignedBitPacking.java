@@ -3,62 +3,107 @@ package com.project.bitpacking.model;
 import com.project.bitpacking.util.BitUtils;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Packs integers while enforcing that every value stays within a single 32-bit word.
  * Excess capacity in a word is left unused.
  */
 public final class AlignedBitPacking extends AbstractBitPacking {
+    /**
+     * Whether the {@code jdk.incubator.vector} module was resolved at startup (e.g. with
+     * {@code --add-modules jdk.incubator.vector}). When absent, {@link AlignedVectorKernels} is never loaded and the
+     * scalar loops are used.
+     */
+    static final boolean VECTOR_PATH = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * Narrowest width whose words hold too few values for the SWAR minimum, maximum and count to beat decoding.
+     */
+    private static final int SWAR_COMPARE_LIMIT_BITS = 9;
+
     private int valuesPerWord;
 
     @Override
     public void compress(int[] values) {
+        compressOn(values, null);
+    }
+
+    /**
+     * Computes the maximum with a parallel reduction, then packs chunks of whole words concurrently; chunk boundaries
+     * are multiples of {@code 32 / bitsPerValue} values so no two tasks write the same word.
+     */
+    @Override
+    public void compressParallel(int[] values, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        compressOn(values, pool);
+    }
+
+    private void compressOn(int[] values, ForkJoinPool pool) {
         if (values == null) {
             throw new IllegalArgumentException("Input array must not be null");
         }
         if (values.length == 0) {
-            this.packed = new int[0];
+            this.packed = allocateWords(0);
             this.elementCount = 0;
             this.bitsPerValue = 0;
             this.valuesPerWord = 0;
             return;
         }
 
-        int max = 0;
-        for (int value : values) {
-            if (value < 0) {
-                throw new IllegalArgumentException("Negative values are not supported by this codec");
-            }
-            if (value > max) {
-                max = value;
-            }
+        // The OR of all values has the same bit length as their maximum and is negative if any value is
+        boolean parallel = ParallelSupport.worthSplitting(values.length, pool);
+        int combined;
+        if (parallel) {
+            combined = ParallelSupport.orAll(values, pool);
+        } else {
+            combined = VECTOR_PATH ? AlignedVectorKernels.orAll(values) : orAll(values);
+        }
+        if (combined < 0) {
+            throw new IllegalArgumentException("Negative values are not supported by this codec");
         }
 
-        this.bitsPerValue = BitUtils.bitsRequired(max);
+        this.bitsPerValue = BitUtils.bitsRequired(combined);
         this.elementCount = values.length;
 
         if (bitsPerValue == 0) {
             this.valuesPerWord = 0;
-            this.packed = new int[0];
+            this.packed = allocateWords(0);
             return;
         }
 
         this.valuesPerWord = Math.max(1, 32 / bitsPerValue);
 
-        int wordCount = (elementCount + valuesPerWord - 1) / valuesPerWord;
-        this.packed = new int[wordCount];
+        int wordCount = (int) (((long) elementCount + valuesPerWord - 1) / valuesPerWord);
+        this.packed = allocateWords(wordCount);
 
-        for (int i = 0; i < values.length; i++) {
-            int value = values[i];
-            int wordIndex = i / valuesPerWord;
-            int slotIndex = i % valuesPerWord;
-            int bitOffset = slotIndex * bitsPerValue;
-            packed[wordIndex] |= value << bitOffset;
+        if (parallel) {
+            ParallelSupport.forEachChunk(pool, elementCount, valuesPerWord,
+                    (from, to) -> encodeRange(values, from, to));
+        } else {
+            encodeRange(values, 0, elementCount);
         }
     }
 
     @Override
     public void decompress(int[] destination) {
+        ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    /**
+     * Scalar reference decoder locating every value with a division and a modulo.
+     */
+    @Override
+    public void decompressReference(int[] destination) {
         ensureReady(destination);
         if (bitsPerValue == 0) {
             Arrays.fill(destination, 0, elementCount, 0);
@@ -69,6 +114,28 @@ public final class AlignedBitPacking extends AbstractBitPacking {
         }
     }
 
+    /**
+     * Writes a value that fits the current width in place. A wider value re-packs the sequence at the width it needs;
+     * as every widening at least doubles the representable range, an array is re-packed at most 31 times however
+     * many updates it receives.
+     */
+    @Override
+    public void set(int index, int value) {
+        checkSet(index);
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative values are not supported by this codec");
+        }
+        if (BitUtils.bitsRequired(value) > bitsPerValue) {
+            super.set(index, value);
+            return;
+        }
+        if (bitsPerValue > 0) {
+            prepareWrite();
+            long bitIndex = (long) (index / valuesPerWord) * 32 + (index % valuesPerWord) * bitsPerValue;
+            replaceBits(bitIndex, bitsPerValue, value);
+        }
+    }
+
     @Override
     public int get(int index) {
         requireIndex(index);
@@ -78,12 +145,266 @@ public final class AlignedBitPacking extends AbstractBitPacking {
         return readAligned(index);
     }
 
+    @Override
+    int valueAt(int index) {
+        return bitsPerValue == 0 ? 0 : readAligned(index);
+    }
+
+    @Override
+    public void get(int[] indices, int[] destination, boolean sortIndices) {
+        checkGather(indices, destination);
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, 0, indices.length, 0);
+            return;
+        }
+        if (!sortIndices) {
+            for (int i = 0; i < indices.length; i++) {
+                destination[i] = readAligned(indices[i]);
+            }
+            return;
+        }
+        for (long entry : sortedByIndex(indices)) {
+            destination[(int) entry] = readAligned((int) (entry >>> 32));
+        }
+    }
+
+    /**
+     * Adds up the whole words in the range with {@link AlignedSwar}, reading only the values at either end one by one.
+     */
+    @Override
+    public long sum(int fromIndex, int toIndex) {
+        checkAggregate(fromIndex, toIndex);
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        int firstWord = (int) (((long) fromIndex + valuesPerWord - 1) / valuesPerWord);
+        int endWord = toIndex / valuesPerWord;
+        if (firstWord >= endWord) {
+            return sumValues(fromIndex, toIndex);
+        }
+        return sumValues(fromIndex, firstWord * valuesPerWord)
+                + AlignedSwar.forWidth(bitsPerValue).sum(packed, firstWord, endWord)
+                + sumValues(endWord * valuesPerWord, toIndex);
+    }
+
+    /**
+     * Keeps a running minimum per slot with {@link AlignedSwar} while words hold at least four values, as does
+     * {@link #max()}; wider values decode faster through the vector path.
+     */
+    @Override
+    public int min() {
+        requireValues();
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        if (bitsPerValue >= SWAR_COMPARE_LIMIT_BITS) {
+            return super.min();
+        }
+        int fullWords = elementCount / valuesPerWord;
+        int min = AlignedSwar.forWidth(bitsPerValue).min(packed, 0, fullWords);
+        for (int i = fullWords * valuesPerWord; i < elementCount; i++) {
+            min = Math.min(min, readAligned(i));
+        }
+        return min;
+    }
+
+    @Override
+    public int max() {
+        requireValues();
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        if (bitsPerValue >= SWAR_COMPARE_LIMIT_BITS) {
+            return super.max();
+        }
+        int fullWords = elementCount / valuesPerWord;
+        int max = AlignedSwar.forWidth(bitsPerValue).max(packed, 0, fullWords);
+        for (int i = fullWords * valuesPerWord; i < elementCount; i++) {
+            max = Math.max(max, readAligned(i));
+        }
+        return max;
+    }
+
+    /**
+     * Narrows the range to the values the width can hold, then compares all slots of a word at once with
+     * {@link AlignedSwar} while words hold at least four values; wider values decode faster through the vector path.
+     */
+    @Override
+    public int countInRange(int low, int high) {
+        checkAggregate(0, elementCount);
+        int largest = bitsPerValue == 0 ? 0 : (1 << bitsPerValue) - 1;
+        int from = Math.max(low, 0);
+        int to = Math.min(high, largest);
+        if (from > to) {
+            return 0;
+        }
+        if (from == 0 && to == largest) {
+            return elementCount;
+        }
+        if (bitsPerValue >= SWAR_COMPARE_LIMIT_BITS) {
+            return super.countInRange(from, to);
+        }
+        int fullWords = elementCount / valuesPerWord;
+        int count = AlignedSwar.forWidth(bitsPerValue).count(packed, 0, fullWords, from, to);
+        for (int i = fullWords * valuesPerWord; i < elementCount; i++) {
+            count += Integer.compareUnsigned(readAligned(i) - from, to - from) <= 0 ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Compares all slots of a word at once with {@link AlignedSwar}, then gathers the per-slot results into bitmap
+     * bits, while words hold at least four values; wider values decode faster through the vector path.
+     */
+    @Override
+    public int scan(Predicate op, int constant, long[] resultBitmap) {
+        checkScan(op, resultBitmap);
+        if (bitsPerValue == 0 || bitsPerValue >= SWAR_COMPARE_LIMIT_BITS) {
+            return super.scan(op, constant, resultBitmap);
+        }
+        int largest = (1 << bitsPerValue) - 1;
+        int from = Math.max(op.rangeLow(constant), 0);
+        int to = Math.min(op.rangeHigh(constant), largest);
+        boolean inside = op.rangeSelects(constant);
+        int bitmapWords = (int) (((long) elementCount + 63) >>> 6);
+        Arrays.fill(resultBitmap, 0, bitmapWords, 0L);
+        if (from > to || (from == 0 && to == largest)) {
+            // Either no value or every value lies in the range
+            return inside == (from <= to) ? selectAll(resultBitmap) : 0;
+        }
+        int fullWords = elementCount / valuesPerWord;
+        int selected = AlignedSwar.forWidth(bitsPerValue).select(packed, fullWords, from, to, inside, resultBitmap);
+        for (int i = fullWords * valuesPerWord; i < elementCount; i++) {
+            if ((Integer.compareUnsigned(readAligned(i) - from, to - from) <= 0) == inside) {
+                resultBitmap[i >>> 6] |= 1L << i;
+                selected++;
+            }
+        }
+        return selected;
+    }
+
+    private int selectAll(long[] resultBitmap) {
+        int fullWords = elementCount >>> 6;
+        Arrays.fill(resultBitmap, 0, fullWords, -1L);
+        if ((elementCount & 63) != 0) {
+            resultBitmap[fullWords] = -1L >>> (64 - (elementCount & 63));
+        }
+        return elementCount;
+    }
+
+    private long sumValues(int fromIndex, int toIndex) {
+        long sum = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += readAligned(i);
+        }
+        return sum;
+    }
+
+    @Override
+    int splitGrain() {
+        return Math.max(1, valuesPerWord);
+    }
+
+    @Override
+    CompressionType compressionType() {
+        return CompressionType.ALIGNED;
+    }
+
+    @Override
+    void restore(int elementCount, int bitsPerValue, int[] parameters, PackedStorage words, int[] overflow) {
+        int perWord = bitsPerValue == 0 ? 0 : 32 / bitsPerValue;
+        requireWords(words, perWord == 0 ? 0 : ((long) elementCount + perWord - 1) / perWord);
+        this.elementCount = elementCount;
+        this.bitsPerValue = bitsPerValue;
+        this.valuesPerWord = perWord;
+        this.packed = words;
+    }
+
+    private void decodeRange(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, destinationOffset, destinationOffset + (toIndex - fromIndex), 0);
+            return;
+        }
+        int bits = bitsPerValue;
+        int perWord = valuesPerWord;
+        int mask = bits == 32 ? -1 : (1 << bits) - 1;
+        int index = fromIndex;
+        int out = destinationOffset;
+        int wordIndex = fromIndex / perWord;
+
+        // Finish the word holding the first requested value
+        int slot = fromIndex - wordIndex * perWord;
+        if (slot != 0) {
+            int word = packed.get(wordIndex++) >>> (slot * bits);
+            for (; slot < perWord && index < toIndex; slot++, index++) {
+                destination[out++] = word & mask;
+                word >>>= bits;
+            }
+        }
+
+        int fullWords = (toIndex - index) / perWord;
+        int[] words = packed.array();
+        if (VECTOR_PATH && words != null) {
+            int vectorWords = AlignedVectorKernels.decode(words, wordIndex, fullWords, bits, destination, out);
+            wordIndex += vectorWords;
+            index += vectorWords * perWord;
+            out += vectorWords * perWord;
+            fullWords -= vectorWords;
+        }
+        for (int end = wordIndex + fullWords; wordIndex < end; wordIndex++) {
+            int word = packed.get(wordIndex);
+            for (int bitOffset = 0; bitOffset < perWord * bits; bitOffset += bits) {
+                destination[out++] = (word >>> bitOffset) & mask;
+            }
+        }
+        index += fullWords * perWord;
+
+        for (int bitOffset = 0; index < toIndex; bitOffset += bits, index++) {
+            destination[out++] = (packed.get(wordIndex) >>> bitOffset) & mask;
+        }
+    }
+
+    /**
+     * Packs {@code values[fromIndex..toIndex)}, where {@code fromIndex} is the first value of a word.
+     */
+    private void encodeRange(int[] values, int fromIndex, int toIndex) {
+        int bits = bitsPerValue;
+        int perWord = valuesPerWord;
+        int wordIndex = fromIndex / perWord;
+        int fullWords = (toIndex - fromIndex) / perWord;
+        int[] words = packed.array();
+        if (VECTOR_PATH && words != null) {
+            int vectorWords = AlignedVectorKernels.encode(values, wordIndex, fullWords, bits, words);
+            wordIndex += vectorWords;
+            fullWords -= vectorWords;
+        }
+        int index = wordIndex * perWord;
+        for (int end = wordIndex + fullWords; wordIndex < end; wordIndex++) {
+            int word = 0;
+            for (int bitOffset = 0; bitOffset < perWord * bits; bitOffset += bits) {
+                word |= values[index++] << bitOffset;
+            }
+            packed.set(wordIndex, word);
+        }
+        for (int bitOffset = 0; index < toIndex; bitOffset += bits) {
+            packed.or(wordIndex, values[index++] << bitOffset);
+        }
+    }
+
+    private static int orAll(int[] values) {
+        int combined = 0;
+        for (int value : values) {
+            combined |= value;
+        }
+        return combined;
+    }
+
     private int readAligned(int logicalIndex) {
         int wordIndex = logicalIndex / valuesPerWord;
         int slotIndex = logicalIndex % valuesPerWord;
         int bitOffset = slotIndex * bitsPerValue;
         int mask = bitsPerValue == 32 ? -1 : (1 << bitsPerValue) - 1;
-        return (packed[wordIndex] >>> bitOffset) & mask;
+        return (packed.get(wordIndex) >>> bitOffset) & mask;
     }
 
     private void ensureReady(int[] destination) {
@@ -0,0 +1,300 @@
+package com.project.bitpacking.model;
+
+/**
+ * SWAR (SIMD within a register) kernels for the aligned layout, which aggregate whole words of
+ * {@code k = 32 / bits} values without unpacking them one by one.
+ * <p>
+ * Every word is spread over two longs of lanes {@code 2 * bits} wide: the values of the even slots where they are,
+ * and the values of the odd slots shifted down by one slot. Each lane then has {@code bits} bits of headroom above its
+ * value, so lanes can be added, subtracted and compared with plain long arithmetic without a carry or borrow reaching
+ * the next lane. The guard bit just above each value records per-lane comparison results: {@code ((a | guard) - b)}
+ * keeps it exactly in the lanes where {@code a >= b}.
+ * <p>
+ * The kernels only accept whole words; the unused slots of a partial last word read as zeros and would be counted.
+ * {@link #select} finally packs the per-slot guard bits of a word into one bit per value for a selection bitmap.
+ */
+final class AlignedSwar {
+    /**
+     * Widths up to this one sum by bit planes, which beats lanes that would need folding every few words.
+     */
+    private static final int MAX_PLANE_BITS = 3;
+
+    private static final AlignedSwar[] BY_WIDTH = new AlignedSwar[32];
+
+    static {
+        for (int bits = 1; bits < 32; bits++) {
+            BY_WIDTH[bits] = new AlignedSwar(bits);
+        }
+    }
+
+    private final int bits;
+    private final int valuesPerWord;
+    private final int valueMask;
+    private final int evenLanes;
+    private final int oddLanes;
+    /**
+     * Value bits of the even lanes and of the odd lanes, the latter already shifted down by one slot.
+     */
+    private final long evenMask;
+    private final long oddMask;
+    /**
+     * Bit just above the value of every even and odd lane.
+     */
+    private final long evenGuards;
+    private final long oddGuards;
+    /**
+     * For widths summed by bit planes: bit {@code p} of every slot, per plane {@code p}.
+     */
+    private final int[] planes;
+    /**
+     * Steps of {@link #gather(long)}: after step {@code t}, groups of {@code 2^(t + 1)} slot bits sit at the start of
+     * every {@code 2^(t + 1) * bits} bits.
+     */
+    private final int[] gatherShifts;
+    private final long[] gatherMasks;
+
+    private AlignedSwar(int bits) {
+        int valuesPerWord = 32 / bits;
+        this.bits = bits;
+        this.valuesPerWord = valuesPerWord;
+        this.valueMask = (1 << bits) - 1;
+        this.evenLanes = (valuesPerWord + 1) / 2;
+        this.oddLanes = valuesPerWord / 2;
+        long even = 0;
+        long odd = 0;
+        for (int slot = 0; slot < valuesPerWord; slot++) {
+            // Slot s lands at bit s * bits if even, (s - 1) * bits if odd
+            long lane = (long) valueMask << ((slot & ~1) * bits);
+            if ((slot & 1) == 0) {
+                even |= lane;
+            } else {
+                odd |= lane;
+            }
+        }
+        this.evenMask = even;
+        this.oddMask = odd;
+        this.evenGuards = (even << 1) & ~even;
+        this.oddGuards = (odd << 1) & ~odd;
+        this.planes = new int[bits <= MAX_PLANE_BITS ? bits : 0];
+        for (int plane = 0; plane < planes.length; plane++) {
+            for (int slot = 0; slot < valuesPerWord; slot++) {
+                planes[plane] |= 1 << (slot * bits + plane);
+            }
+        }
+        // Adjacent slot bits already touch at width 1
+        int steps = bits == 1 ? 0 : 32 - Integer.numberOfLeadingZeros(valuesPerWord - 1);
+        this.gatherShifts = new int[steps];
+        this.gatherMasks = new long[steps];
+        for (int step = 0, group = 1; step < steps; step++, group *= 2) {
+            // Moves the group starting group * bits into place right above the group starting at 0
+            gatherShifts[step] = group * (bits - 1);
+            int period = 2 * group * bits;
+            for (int start = 0; start < 64; start += period) {
+                gatherMasks[step] |= ((1L << (2 * group)) - 1) << start;
+            }
+        }
+    }
+
+    /**
+     * @param bits value width, 1 to 31
+     */
+    static AlignedSwar forWidth(int bits) {
+        return BY_WIDTH[bits];
+    }
+
+    /**
+     * @return sum of every value in words {@code [fromWord, toWord)}
+     */
+    long sum(PackedStorage words, int fromWord, int toWord) {
+        if (planes.length > 0) {
+            return sumByPlanes(words, fromWord, toWord);
+        }
+        // A lane below the top one holds the sum of at most 2^bits values before it would spill into the next
+        int batch = 1 << Math.min(bits, 20);
+        long total = 0;
+        for (int word = fromWord; word < toWord; ) {
+            int end = (int) Math.min(toWord, (long) word + batch);
+            long even = 0;
+            long odd = 0;
+            for (; word < end; word++) {
+                long value = words.get(word) & 0xFFFFFFFFL;
+                even += value & evenMask;
+                odd += (value >>> bits) & oddMask;
+            }
+            total += addLanes(even, evenLanes) + addLanes(odd, oddLanes);
+        }
+        return total;
+    }
+
+    /**
+     * Adds up bit {@code p} of every slot with one population count per plane, weighted by {@code 2^p}.
+     */
+    private long sumByPlanes(PackedStorage words, int fromWord, int toWord) {
+        long total = 0;
+        for (int word = fromWord; word < toWord; word++) {
+            int value = words.get(word);
+            for (int plane = 0; plane < planes.length; plane++) {
+                total += (long) Integer.bitCount(value & planes[plane]) << plane;
+            }
+        }
+        return total;
+    }
+
+    private long addLanes(long lanes, int laneCount) {
+        if (laneCount == 0) {
+            return 0;
+        }
+        long laneMask = (1L << (2 * bits)) - 1;
+        long total = 0;
+        for (int lane = 0; lane < laneCount - 1; lane++) {
+            total += lanes & laneMask;
+            lanes >>>= 2 * bits;
+        }
+        // The top lane may have grown past 2 * bits, which nothing above it minds
+        return total + lanes;
+    }
+
+    /**
+     * @return smallest value in words {@code [fromWord, toWord)}, or the largest value of the width if there are none
+     */
+    int min(PackedStorage words, int fromWord, int toWord) {
+        long even = evenMask;
+        long odd = oddMask;
+        for (int word = fromWord; word < toWord; word++) {
+            long value = words.get(word) & 0xFFFFFFFFL;
+            long evenValues = value & evenMask;
+            long oddValues = (value >>> bits) & oddMask;
+            long evenTaken = spread(((even | evenGuards) - evenValues) & evenGuards);
+            long oddTaken = spread(((odd | oddGuards) - oddValues) & oddGuards);
+            even = (evenValues & evenTaken) | (even & ~evenTaken);
+            odd = (oddValues & oddTaken) | (odd & ~oddTaken);
+        }
+        return minLane(odd, oddLanes, minLane(even, evenLanes, valueMask));
+    }
+
+    /**
+     * @return largest value in words {@code [fromWord, toWord)}, or 0 if there are none
+     */
+    int max(PackedStorage words, int fromWord, int toWord) {
+        long even = 0;
+        long odd = 0;
+        for (int word = fromWord; word < toWord; word++) {
+            long value = words.get(word) & 0xFFFFFFFFL;
+            long evenValues = value & evenMask;
+            long oddValues = (value >>> bits) & oddMask;
+            long evenKept = spread(((even | evenGuards) - evenValues) & evenGuards);
+            long oddKept = spread(((odd | oddGuards) - oddValues) & oddGuards);
+            even = (even & evenKept) | (evenValues & ~evenKept);
+            odd = (odd & oddKept) | (oddValues & ~oddKept);
+        }
+        return maxLane(odd, oddLanes, maxLane(even, evenLanes, 0));
+    }
+
+    private int minLane(long lanes, int laneCount, int min) {
+        for (int lane = 0; lane < laneCount; lane++) {
+            min = Math.min(min, (int) (lanes >>> (2 * bits * lane)) & valueMask);
+        }
+        return min;
+    }
+
+    private int maxLane(long lanes, int laneCount, int max) {
+        for (int lane = 0; lane < laneCount; lane++) {
+            max = Math.max(max, (int) (lanes >>> (2 * bits * lane)) & valueMask);
+        }
+        return max;
+    }
+
+    /**
+     * Widens the guard bits of a comparison into masks covering the values of the same lanes.
+     */
+    private long spread(long guards) {
+        return guards - (guards >>> bits);
+    }
+
+    /**
+     * @param low  smallest value counted, at least 0
+     * @param high largest value counted, at most the largest value of the width
+     * @return number of values {@code v} with {@code low <= v <= high} in words {@code [fromWord, toWord)}
+     */
+    int count(PackedStorage words, int fromWord, int toWord, int low, int high) {
+        long evenLow = broadcast(low, evenGuards);
+        long oddLow = broadcast(low, oddGuards);
+        long evenHigh = broadcast(high, evenGuards) | evenGuards;
+        long oddHigh = broadcast(high, oddGuards) | oddGuards;
+        int count = 0;
+        for (int word = fromWord; word < toWord; word++) {
+            long value = words.get(word) & 0xFFFFFFFFL;
+            count += Long.bitCount(inRange(value, evenLow, oddLow, evenHigh, oddHigh));
+        }
+        return count;
+    }
+
+    /**
+     * Sets bit {@code i} of {@code bitmap} for every value {@code i} of words {@code [0, wordCount)} with
+     * {@code low <= v <= high}, or for every other value if {@code inside} is unset. Bits are ORed into the bitmap,
+     * which must be cleared beforehand.
+     *
+     * @param low  smallest value of the range, at least 0
+     * @param high largest value of the range, at most the largest value of the width
+     * @return number of values selected
+     */
+    int select(PackedStorage words, int wordCount, int low, int high, boolean inside, long[] bitmap) {
+        long evenLow = broadcast(low, evenGuards);
+        long oddLow = broadcast(low, oddGuards);
+        long evenHigh = broadcast(high, evenGuards) | evenGuards;
+        long oddHigh = broadcast(high, oddGuards) | oddGuards;
+        long flip = inside ? 0 : (1L << valuesPerWord) - 1;
+        int selected = 0;
+        long pending = 0;
+        int pendingBits = 0;
+        int out = 0;
+        for (int word = 0; word < wordCount; word++) {
+            long value = words.get(word) & 0xFFFFFFFFL;
+            long slots = gather(inRange(value, evenLow, oddLow, evenHigh, oddHigh) >>> bits) ^ flip;
+            selected += Long.bitCount(slots);
+            pending |= slots << pendingBits;
+            pendingBits += valuesPerWord;
+            if (pendingBits >= 64) {
+                bitmap[out++] |= pending;
+                pendingBits -= 64;
+                // The slots that did not fit start the next bitmap word; a shift by 64 would keep them all
+                pending = pendingBits == 0 ? 0 : slots >>> (valuesPerWord - pendingBits);
+            }
+        }
+        if (pendingBits > 0) {
+            bitmap[out] |= pending;
+        }
+        return selected;
+    }
+
+    /**
+     * @return a long with bit {@code (s + 1) * bits} set for every slot {@code s} of the word whose value lies in the
+     * range, given the broadcast bounds of {@link #count} and {@link #select}
+     */
+    private long inRange(long value, long evenLow, long oddLow, long evenHigh, long oddHigh) {
+        long evenValues = value & evenMask;
+        long oddValues = (value >>> bits) & oddMask;
+        long evenIn = ((evenValues | evenGuards) - evenLow) & (evenHigh - evenValues) & evenGuards;
+        long oddIn = ((oddValues | oddGuards) - oddLow) & (oddHigh - oddValues) & oddGuards;
+        // Odd guards sit one slot below their slot's end after the shift that built the odd lanes
+        return evenIn | (oddIn << bits);
+    }
+
+    /**
+     * Every lowest lane bit is a guard bit shifted down, so multiplying by their sum copies a value to all lanes.
+     */
+    private long broadcast(int value, long guards) {
+        return value * (guards >>> bits);
+    }
+
+    /**
+     * Packs bit {@code s * bits} of {@code flags} into bit {@code s} for every slot, merging groups of adjacent
+     * slots pairwise in {@code log2(32 / bits)} shift-and-mask steps.
+     */
+    private long gather(long flags) {
+        for (int step = 0; step < gatherShifts.length; step++) {
+            flags = (flags | (flags >>> gatherShifts[step])) & gatherMasks[step];
+        }
+        return flags;
+    }
+}
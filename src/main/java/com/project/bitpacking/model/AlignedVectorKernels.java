@@ -0,0 +1,157 @@
+package com.project.bitpacking.model;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernels for the aligned layout, where word {@code w} holds values {@code w * k .. w * k + k - 1} with
+ * {@code k = 32 / bitsPerValue}.
+ * <p>
+ * This class is only loaded when the {@code jdk.incubator.vector} module is present in the boot layer (see
+ * {@link AlignedBitPacking#VECTOR_PATH}). The encode and decode kernels work on whole chunks of one vector of words
+ * and return how many words they handled so the caller can finish the tail with its scalar loop.
+ */
+final class AlignedVectorKernels {
+    /**
+     * Species shared by every kernel, capped at 256 bits. C2 in JDK 17 miscompiles unrolled 512-bit gathers and can
+     * crash the VM, so the encoder cannot go wider; and once vectors of two shapes have flowed through the shared
+     * {@link IntVector} methods, their type profiles turn bimorphic and C2 stops intrinsifying the encoder, boxing
+     * every vector on every call. One shape keeps both directions intrinsified and allocation-free.
+     */
+    private static final VectorSpecies<Integer> SPECIES =
+            IntVector.SPECIES_PREFERRED.vectorBitSize() > 256 ? IntVector.SPECIES_256 : IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    /**
+     * Per bit width: shuffles selecting, for each output vector of a chunk, the word holding each lane's value.
+     */
+    private static final VectorShuffle<Integer>[][] DECODE_SHUFFLES = buildDecodeShuffles();
+
+    /**
+     * Per bit width: right-shift amounts matching {@link #DECODE_SHUFFLES}.
+     */
+    private static final IntVector[][] DECODE_SHIFTS = buildDecodeShifts();
+
+    /**
+     * Per values-per-word count: gather offsets {@code 0, k, 2k, ...} picking the same slot of consecutive words.
+     */
+    private static final int[][] SLOT_GATHER_MAPS = buildSlotGatherMaps();
+
+    private AlignedVectorKernels() {
+    }
+
+    /**
+     * Decodes as many whole chunks of {@code LANES} words as fit in {@code wordCount}, starting at word
+     * {@code firstWord} and writing to {@code destination} from {@code destinationOffset}.
+     *
+     * @return number of words decoded
+     */
+    static int decode(int[] packed, int firstWord, int wordCount, int bitsPerValue,
+                      int[] destination, int destinationOffset) {
+        int valuesPerWord = 32 / bitsPerValue;
+        int chunkValues = LANES * valuesPerWord;
+        int chunkCount = wordCount / LANES;
+        VectorShuffle<Integer>[] shuffles = DECODE_SHUFFLES[bitsPerValue];
+        IntVector[] shifts = DECODE_SHIFTS[bitsPerValue];
+        int mask = bitsPerValue == 32 ? -1 : (1 << bitsPerValue) - 1;
+
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            IntVector words = IntVector.fromArray(SPECIES, packed, firstWord + chunk * LANES);
+            int out = destinationOffset + chunk * chunkValues;
+            for (int part = 0; part < valuesPerWord; part++) {
+                words.rearrange(shuffles[part])
+                        .lanewise(VectorOperators.LSHR, shifts[part])
+                        .lanewise(VectorOperators.AND, mask)
+                        .intoArray(destination, out + part * LANES);
+            }
+        }
+        return chunkCount * LANES;
+    }
+
+    /**
+     * Encodes as many whole chunks of {@code LANES} words as fit in {@code wordCount}, starting at word
+     * {@code firstWord}, gathering one slot offset of every word in the chunk per step.
+     *
+     * @return number of words encoded
+     */
+    static int encode(int[] values, int firstWord, int wordCount, int bitsPerValue, int[] packed) {
+        int valuesPerWord = 32 / bitsPerValue;
+        int chunkValues = LANES * valuesPerWord;
+        int chunkCount = wordCount / LANES;
+        int[] gatherMap = SLOT_GATHER_MAPS[valuesPerWord];
+
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int base = firstWord * valuesPerWord + chunk * chunkValues;
+            IntVector words = IntVector.zero(SPECIES);
+            for (int slot = 0; slot < valuesPerWord; slot++) {
+                IntVector slotValues = IntVector.fromArray(SPECIES, values, base + slot, gatherMap, 0);
+                words = words.or(slotValues.lanewise(VectorOperators.LSHL, slot * bitsPerValue));
+            }
+            words.intoArray(packed, firstWord + chunk * LANES);
+        }
+        return chunkCount * LANES;
+    }
+
+    /**
+     * Bitwise OR of all values, which has the same bit length as their maximum and is negative if any value is.
+     */
+    static int orAll(int[] values) {
+        int upper = SPECIES.loopBound(values.length);
+        IntVector acc = IntVector.zero(SPECIES);
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            acc = acc.or(IntVector.fromArray(SPECIES, values, i));
+        }
+        int result = acc.reduceLanes(VectorOperators.OR);
+        for (; i < values.length; i++) {
+            result |= values[i];
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorShuffle<Integer>[][] buildDecodeShuffles() {
+        VectorShuffle<Integer>[][] table = new VectorShuffle[33][];
+        for (int bits = 1; bits <= 32; bits++) {
+            int valuesPerWord = 32 / bits;
+            table[bits] = new VectorShuffle[valuesPerWord];
+            for (int part = 0; part < valuesPerWord; part++) {
+                int[] sources = new int[LANES];
+                for (int lane = 0; lane < LANES; lane++) {
+                    sources[lane] = (part * LANES + lane) / valuesPerWord;
+                }
+                table[bits][part] = VectorShuffle.fromArray(SPECIES, sources, 0);
+            }
+        }
+        return table;
+    }
+
+    private static IntVector[][] buildDecodeShifts() {
+        IntVector[][] table = new IntVector[33][];
+        for (int bits = 1; bits <= 32; bits++) {
+            int valuesPerWord = 32 / bits;
+            table[bits] = new IntVector[valuesPerWord];
+            for (int part = 0; part < valuesPerWord; part++) {
+                int[] shifts = new int[LANES];
+                for (int lane = 0; lane < LANES; lane++) {
+                    shifts[lane] = ((part * LANES + lane) % valuesPerWord) * bits;
+                }
+                table[bits][part] = IntVector.fromArray(SPECIES, shifts, 0);
+            }
+        }
+        return table;
+    }
+
+    private static int[][] buildSlotGatherMaps() {
+        int[][] maps = new int[33][];
+        for (int valuesPerWord = 1; valuesPerWord <= 32; valuesPerWord++) {
+            maps[valuesPerWord] = new int[LANES];
+            for (int lane = 0; lane < LANES; lane++) {
+                maps[valuesPerWord][lane] = lane * valuesPerWord;
+            }
+        }
+        return maps;
+    }
+}
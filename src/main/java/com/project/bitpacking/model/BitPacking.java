@@ -1,5 +1,16 @@
 package com.project.bitpacking.model;
 
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * Core contract for bit packing codecs.
  * This interface defines the operations for compressing and decompressing integer arrays.
@@ -14,6 +25,41 @@ public interface BitPacking {
      */
     void compress(int[] values);
 
+    /**
+     * Compresses the provided array, storing the packed words at the start of {@code wordBuffer} when it is large
+     * enough and otherwise allocating as {@link #compress(int[])} does. Working arrays are kept between calls, so
+     * repeated calls with a sufficiently large buffer reach a steady state that allocates nothing. The buffer must
+     * not be modified while this result is in use; snapshots copy it.
+     *
+     * @param values     integers to compress, must not be null
+     * @param wordBuffer reusable destination for the packed words
+     */
+    default void compress(int[] values, int[] wordBuffer) {
+        compress(values);
+    }
+
+    /**
+     * Compresses the provided array using the common {@link ForkJoinPool}.
+     *
+     * @param values integers to compress, must not be null
+     * @see #compressParallel(int[], ForkJoinPool)
+     */
+    default void compressParallel(int[] values) {
+        compressParallel(values, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Compresses the provided array, splitting the work into tasks on {@code pool} when the input is large enough to
+     * benefit. The result is identical to {@link #compress(int[])}; strategies without a parallel encoder simply
+     * delegate to it.
+     *
+     * @param values integers to compress, must not be null
+     * @param pool   pool executing the encoding tasks
+     */
+    default void compressParallel(int[] values, ForkJoinPool pool) {
+        compress(values);
+    }
+
     /**
      * Decompresses the stored compressed representation into the provided destination array.
      *
@@ -22,6 +68,76 @@ public interface BitPacking {
      */
     void decompress(int[] destination);
 
+    /**
+     * Decompresses into the provided destination array using the common {@link ForkJoinPool}.
+     *
+     * @param destination buffer that will receive the decompressed integers
+     * @see #decompressParallel(int[], ForkJoinPool)
+     */
+    default void decompressParallel(int[] destination) {
+        decompressParallel(destination, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decompresses into the provided destination array, decoding cache-sized chunks of the index range concurrently
+     * on {@code pool} through {@link #decompress(int, int, int[], int)}. Sequences below the parallel threshold, or
+     * pools without spare parallelism, are decoded sequentially by {@link #decompress(int[])}.
+     *
+     * @param destination buffer that will receive the decompressed integers; must be at least {@link #size()} long
+     * @param pool        pool executing the decoding tasks
+     */
+    default void decompressParallel(int[] destination, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        if (!ParallelSupport.worthSplitting(size(), pool)) {
+            decompress(destination);
+            return;
+        }
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        if (destination.length < size()) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        // Chunks start on 32-value boundaries so block-oriented decoders stream whole blocks
+        ParallelSupport.forEachChunk(pool, size(), 32, (from, to) -> decompress(from, to, destination, from));
+    }
+
+    /**
+     * Decompresses the values at indices {@code [fromIndex, toIndex)} into {@code destination}, starting at
+     * {@code destinationOffset}. Implementations seek directly to the first requested value instead of decoding the
+     * whole sequence; the default falls back to one {@link #get(int)} per value.
+     *
+     * @param fromIndex         first index to decode, inclusive
+     * @param toIndex           last index to decode, exclusive
+     * @param destination       buffer receiving the decoded values
+     * @param destinationOffset position in {@code destination} receiving the value at {@code fromIndex}
+     */
+    default void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        if (destinationOffset < 0 || destination.length - destinationOffset < toIndex - fromIndex) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            destination[destinationOffset + i - fromIndex] = get(i);
+        }
+    }
+
+    /**
+     * Decompresses through the plain per-value reference path, bypassing any specialised kernels. Useful to validate
+     * and benchmark the fast path of {@link #decompress(int[])}; strategies without a dedicated fast path simply
+     * delegate to it.
+     *
+     * @param destination buffer that will receive the decompressed integers
+     */
+    default void decompressReference(int[] destination) {
+        decompress(destination);
+    }
+
     /**
      * Provides random access to the decompressed value at the requested index without fully materialising the array.
      *
@@ -30,6 +146,243 @@ public interface BitPacking {
      */
     int get(int index);
 
+    /**
+     * Gathers the values at the given indices, as if by calling {@link #get(int)} for each of them.
+     *
+     * @param indices     zero-based indices into the original integer sequence
+     * @param destination buffer receiving {@code get(indices[i])} at position {@code i}
+     */
+    default void get(int[] indices, int[] destination) {
+        get(indices, destination, false);
+    }
+
+    /**
+     * Gathers the values at the given indices. Implementations validate all indices once up front instead of per
+     * lookup. When {@code sortIndices} is set, lookups are performed in ascending index order so the packed words are
+     * walked front to back, which pays off for large batches over arrays that do not fit in cache; results are
+     * still written in the caller's order.
+     *
+     * @param indices     zero-based indices into the original integer sequence
+     * @param destination buffer receiving {@code get(indices[i])} at position {@code i}
+     * @param sortIndices whether to visit the indices in ascending order
+     */
+    default void get(int[] indices, int[] destination, boolean sortIndices) {
+        if (indices == null || destination == null) {
+            throw new IllegalArgumentException("Index and destination arrays must not be null");
+        }
+        if (destination.length < indices.length) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        for (int i = 0; i < indices.length; i++) {
+            destination[i] = get(indices[i]);
+        }
+    }
+
+    /**
+     * Replaces the value at {@code index}. Codecs write values that fit their current layout in place and re-pack
+     * only when a value needs more room; the default decompresses, edits and recompresses the whole sequence.
+     * Snapshots taken earlier keep the old value.
+     *
+     * @param index zero-based index into the original integer sequence
+     * @param value new value
+     * @throws IllegalArgumentException if the codec cannot represent {@code value}, in which case nothing changes
+     */
+    default void set(int index, int value) {
+        Objects.checkIndex(index, size());
+        int[] values = new int[size()];
+        decompress(values);
+        values[index] = value;
+        compress(values);
+    }
+
+    /**
+     * Finds where {@code key} belongs in a sequence sorted in ascending order, searching the compressed values in
+     * place. The result is unspecified if the sequence is not sorted.
+     *
+     * @param key value to search for
+     * @return index of the first value not less than {@code key}, or {@link #size()} if every value is less
+     */
+    default int lowerBound(int key) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (get(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Tests whether a sequence sorted in ascending order holds {@code key}, as one {@link #lowerBound(int)}
+     * search. The result is unspecified if the sequence is not sorted.
+     *
+     * @param key value to search for
+     * @return whether some value equals {@code key}
+     */
+    default boolean contains(int key) {
+        int index = lowerBound(key);
+        return index < size() && get(index) == key;
+    }
+
+    /**
+     * Sums the values at indices {@code [fromIndex, toIndex)} without materialising the sequence. Codecs fold the
+     * packed words directly where their layout allows; the default decodes a small chunk of values at a time with
+     * {@link #decompress(int, int, int[], int)}.
+     *
+     * @param fromIndex first index to add, inclusive
+     * @param toIndex   last index to add, exclusive
+     * @return sum of the values, which cannot overflow a {@code long}
+     */
+    default long sum(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        int[] chunk = new int[DecodingSpliterator.CHUNK_VALUES];
+        long sum = 0;
+        for (int from = fromIndex; from < toIndex; from += chunk.length) {
+            int count = Math.min(chunk.length, toIndex - from);
+            decompress(from, from + count, chunk, 0);
+            for (int i = 0; i < count; i++) {
+                sum += chunk[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return smallest value of the sequence, computed without materialising it
+     * @throws NoSuchElementException if the sequence is empty
+     */
+    default int min() {
+        if (size() == 0) {
+            throw new NoSuchElementException("Sequence is empty");
+        }
+        int[] chunk = new int[DecodingSpliterator.CHUNK_VALUES];
+        int min = Integer.MAX_VALUE;
+        for (int from = 0; from < size(); from += chunk.length) {
+            int count = Math.min(chunk.length, size() - from);
+            decompress(from, from + count, chunk, 0);
+            for (int i = 0; i < count; i++) {
+                min = Math.min(min, chunk[i]);
+            }
+        }
+        return min;
+    }
+
+    /**
+     * @return largest value of the sequence, computed without materialising it
+     * @throws NoSuchElementException if the sequence is empty
+     */
+    default int max() {
+        if (size() == 0) {
+            throw new NoSuchElementException("Sequence is empty");
+        }
+        int[] chunk = new int[DecodingSpliterator.CHUNK_VALUES];
+        int max = Integer.MIN_VALUE;
+        for (int from = 0; from < size(); from += chunk.length) {
+            int count = Math.min(chunk.length, size() - from);
+            decompress(from, from + count, chunk, 0);
+            for (int i = 0; i < count; i++) {
+                max = Math.max(max, chunk[i]);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Counts the values {@code v} with {@code low <= v <= high} without materialising the sequence.
+     *
+     * @param low  smallest value counted, inclusive
+     * @param high largest value counted, inclusive
+     * @return number of values in the range, 0 if {@code low > high}
+     */
+    default int countInRange(int low, int high) {
+        int[] chunk = new int[DecodingSpliterator.CHUNK_VALUES];
+        int count = 0;
+        for (int from = 0; from < size() && low <= high; from += chunk.length) {
+            int length = Math.min(chunk.length, size() - from);
+            decompress(from, from + length, chunk, 0);
+            for (int i = 0; i < length; i++) {
+                // Unsigned distance from low is within the range width exactly when low <= value <= high
+                count += Integer.compareUnsigned(chunk[i] - low, high - low) <= 0 ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Evaluates {@code value op constant} for every value, setting bit {@code i % 64} of {@code resultBitmap[i / 64]}
+     * exactly when value {@code i} satisfies it. The first {@code ceil(size() / 64)} words of the bitmap are
+     * overwritten; bits past the last value are cleared. Codecs compare values in place where their layout allows;
+     * the default decodes a small chunk of values at a time with {@link #decompress(int, int, int[], int)}.
+     *
+     * @param op           comparison to evaluate
+     * @param constant     right-hand side of the comparison
+     * @param resultBitmap selection bitmap receiving one bit per value
+     * @return number of values selected
+     */
+    default int scan(Predicate op, int constant, long[] resultBitmap) {
+        if (op == null || resultBitmap == null) {
+            throw new IllegalArgumentException("Predicate and result bitmap must not be null");
+        }
+        if (resultBitmap.length < ((long) size() + 63) >>> 6) {
+            throw new IllegalArgumentException("Result bitmap is too small");
+        }
+        int low = op.rangeLow(constant);
+        int high = op.rangeHigh(constant);
+        long outside = op.rangeSelects(constant) ? 0 : 1;
+        long rangeSize = (high - low & 0xFFFFFFFFL) + 1;
+        // Chunks hold a multiple of 64 values, so each one fills whole bitmap words
+        int[] chunk = new int[DecodingSpliterator.CHUNK_VALUES];
+        int selected = 0;
+        for (int from = 0; from < size(); from += chunk.length) {
+            int count = Math.min(chunk.length, size() - from);
+            decompress(from, from + count, chunk, 0);
+            for (int base = 0; base < count; base += 64) {
+                long bits = 0;
+                for (int i = base, end = Math.min(count, base + 64); i < end; i++) {
+                    // The sign of the distance from low minus the range size, computed in 64 bits, avoids a
+                    // data-dependent branch
+                    long inside = ((chunk[i] - low & 0xFFFFFFFFL) - rangeSize) >>> 63;
+                    bits |= (inside ^ outside) << i;
+                }
+                resultBitmap[(from + base) >>> 6] = bits;
+                selected += Long.bitCount(bits);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Iterates over the sequence without materialising it, decoding a small chunk of values at a time with
+     * {@link #decompress(int, int, int[], int)}. The codec must not be recompressed during iteration.
+     *
+     * @return iterator over the values in order
+     */
+    default PrimitiveIterator.OfInt iterator() {
+        return new DecodingIterator(this);
+    }
+
+    /**
+     * Splittable traversal decoding a small chunk of values at a time. Splits fall on codec-specific boundaries
+     * so that each half decodes whole packed words or blocks independently; the default splits anywhere.
+     *
+     * @return spliterator over the values in order
+     */
+    default Spliterator.OfInt spliterator() {
+        return new DecodingSpliterator(this, 0, size(), 1);
+    }
+
+    /**
+     * @return a sequential stream over the values, decoded lazily; call {@link IntStream#parallel()} to decode
+     * chunks on the common pool
+     */
+    default IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
     /**
      * @return the number of elements in the compressed sequence
      */
@@ -45,6 +398,15 @@ public interface BitPacking {
      */
     int[] backingArray();
 
+    /**
+     * @return read-only view of the packed words, sharing their memory rather than copying them like
+     * {@link #backingArray()}; for a codec allocating from an {@link OffHeapArena}, valid only until its next
+     * compression
+     */
+    default IntBuffer packedWords() {
+        return IntBuffer.wrap(backingArray()).asReadOnlyBuffer();
+    }
+
     /**
      * @return size of the overflow region that must also be transmitted (defaults to 0 for strategies that do not
      * use an overflow area)
@@ -52,6 +414,37 @@ public interface BitPacking {
     default int overflowSize() {
         return 0;
     }
+
+    /**
+     * Captures the current compressed result as an immutable value that any number of threads can read without
+     * synchronisation. The codec stays reusable: later compressions do not affect the snapshot.
+     *
+     * @return snapshot of the current compressed result
+     * @throws IllegalStateException if nothing has been compressed yet
+     */
+    CompressedIntArray snapshot();
+
+    /**
+     * Compresses {@code values} and returns the result as an immutable snapshot.
+     *
+     * @param values integers to compress, must not be null
+     * @return snapshot of the compressed values
+     */
+    default CompressedIntArray compressSnapshot(int[] values) {
+        compress(values);
+        return snapshot();
+    }
+
+    /**
+     * Writes the compressed representation in the self-describing binary format read back by
+     * {@link BitPackingFactory#readFrom(java.nio.ByteBuffer)}: a header with the codec type, counts, widths and codec
+     * parameters, followed by the packed words and the overflow region. All fields are little-endian.
+     *
+     * @param channel destination channel; a {@link java.nio.channels.GatheringByteChannel} receives header, words
+     *                and overflow region in one gathering write
+     * @throws IOException if writing to the channel fails
+     */
+    void writeTo(WritableByteChannel channel) throws IOException;
 }
 
 
@@ -2,6 +2,10 @@ package com.project.bitpacking.model;
 
 import com.project.bitpacking.util.Logger;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
 /**
  * Factory responsible for instantiating the requested compression strategy.
  * Uses dependency injection through configuration.
@@ -22,9 +26,34 @@ public final class BitPackingFactory {
             case CROSS_BOUNDARY -> new CrossBoundaryBitPacking();
             case ALIGNED -> new AlignedBitPacking();
             case OVERFLOW -> new OverflowBitPacking();
+            case BLOCK_FOR -> new BlockForBitPacking();
+            case DELTA -> new DeltaBitPacking();
+            case PFOR -> new PforBitPacking();
+            case HYBRID -> new HybridBitPacking();
+            case ADAPTIVE -> new AdaptiveBitPacking();
         };
     }
 
+    /**
+     * Creates a BitPacking instance whose packed words are allocated off-heap from {@code arena}.
+     *
+     * @param type  the compression type
+     * @param arena arena owning the packed words; the instance must not be used once it is closed
+     * @return a new BitPacking instance
+     */
+    public static BitPacking create(CompressionType type, OffHeapArena arena) {
+        if (arena == null) {
+            throw new IllegalArgumentException("Arena must not be null");
+        }
+        if (type == CompressionType.ADAPTIVE) {
+            return new AdaptiveBitPacking(AdaptiveBitPacking.Objective.SMALLEST_SIZE,
+                    AdaptiveBitPacking.DEFAULT_TRANSFER_NS_PER_INT, arena);
+        }
+        AbstractBitPacking codec = (AbstractBitPacking) create(type);
+        codec.allocateFrom(arena);
+        return codec;
+    }
+
     /**
      * Creates a BitPacking instance from a string name (case-insensitive).
      *
@@ -41,6 +70,38 @@ public final class BitPackingFactory {
             throw new IllegalArgumentException("Unknown compression type: " + name, e);
         }
     }
+
+    /**
+     * Reads a compressed result written by {@link BitPacking#writeTo(java.nio.channels.WritableByteChannel)},
+     * starting at the buffer's position and advancing it past the result. The packed words are viewed in place
+     * rather than copied, so the buffer must stay unmodified while the returned instance is in use.
+     *
+     * @param source buffer holding the serialized result
+     * @return a BitPacking instance of the recorded type, ready for decompression and random access
+     * @throws IllegalArgumentException if the buffer does not hold a valid result
+     */
+    public static BitPacking readFrom(ByteBuffer source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source buffer must not be null");
+        }
+        return WireFormat.read(source);
+    }
+
+    /**
+     * Reads exactly one compressed result written by
+     * {@link BitPacking#writeTo(java.nio.channels.WritableByteChannel)} from the channel.
+     *
+     * @param channel channel positioned at the start of a serialized result
+     * @return a BitPacking instance of the recorded type, ready for decompression and random access
+     * @throws IOException              if reading fails or the channel ends before the result is complete
+     * @throws IllegalArgumentException if the channel does not hold a valid result
+     */
+    public static BitPacking readFrom(ReadableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel must not be null");
+        }
+        return WireFormat.read(channel);
+    }
 }
 
 
@@ -0,0 +1,178 @@
+package com.project.bitpacking.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Incremental encoder for streams of unknown length.
+ * <p>
+ * Values are buffered into a block of fixed size; each time the block fills, a copy of it is compressed with the
+ * configured codec and handed to a {@link BlockSink}, and the buffer is reused. Memory therefore stays at one block
+ * (plus the block in flight) regardless of how many values pass through. {@link #flush()} and {@link #close()} emit
+ * the final, possibly shorter block.
+ * <p>
+ * Values the codec cannot represent (negative values for the strategies that reject them) are refused by the write
+ * that supplies them, before anything is buffered, so a rejected write leaves the writer as it was. A block stays
+ * buffered until the sink has accepted it: if the sink fails, the call that completed the block throws the sink's
+ * {@link IOException} and the next write, flush or close emits the same block again.
+ */
+public final class BitPackingWriter implements Closeable {
+    /**
+     * Default number of values per block (256 KiB of buffered ints).
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+    private final CompressionType type;
+    private final BlockSink sink;
+    private final int[] buffer;
+    private int buffered;
+    private long emitted;
+    private boolean closed;
+
+    /**
+     * Creates a writer with blocks of {@link #DEFAULT_BLOCK_SIZE} values.
+     */
+    public BitPackingWriter(CompressionType type, BlockSink sink) {
+        this(type, DEFAULT_BLOCK_SIZE, sink);
+    }
+
+    /**
+     * @param type      codec used for every block
+     * @param blockSize number of values per emitted block
+     * @param sink      receiver of the encoded blocks
+     */
+    public BitPackingWriter(CompressionType type, int blockSize, BlockSink sink) {
+        if (type == null || sink == null) {
+            throw new IllegalArgumentException("Compression type and sink must not be null");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.type = type;
+        this.sink = sink;
+        this.buffer = new int[blockSize];
+    }
+
+    /**
+     * Appends one value, emitting a block if it completes one.
+     *
+     * @throws IllegalArgumentException if the value is negative and the codec does not accept negative values
+     */
+    public void write(int value) throws IOException {
+        ensureOpen();
+        requireRepresentable(value);
+        emitIfFull();
+        buffer[buffered++] = value;
+        emitIfFull();
+    }
+
+    /**
+     * Appends {@code values[offset..offset + length)}, emitting every block they complete. Nothing is appended if
+     * any of them cannot be represented.
+     *
+     * @throws IllegalArgumentException if a value is negative and the codec does not accept negative values
+     */
+    public void write(int[] values, int offset, int length) throws IOException {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        Objects.checkFromIndexSize(offset, length, values.length);
+        ensureOpen();
+        if (!type.acceptsNegatives()) {
+            int combined = 0;
+            for (int i = offset; i < offset + length; i++) {
+                combined |= values[i];
+            }
+            requireRepresentable(combined);
+        }
+        emitIfFull();
+        while (length > 0) {
+            int count = Math.min(length, buffer.length - buffered);
+            System.arraycopy(values, offset, buffer, buffered, count);
+            buffered += count;
+            offset += count;
+            length -= count;
+            emitIfFull();
+        }
+    }
+
+    /**
+     * Appends all values of {@code values}.
+     */
+    public void write(int[] values) throws IOException {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        write(values, 0, values.length);
+    }
+
+    /**
+     * Emits the buffered values as a block even if it is not full. Does nothing when no values are buffered.
+     */
+    public void flush() throws IOException {
+        ensureOpen();
+        if (buffered > 0) {
+            emit();
+        }
+    }
+
+    /**
+     * @return number of values written so far, buffered or emitted
+     */
+    public long count() {
+        return emitted + buffered;
+    }
+
+    /**
+     * Emits the final block and rejects further writes. The writer is closed even if that block fails, in which case
+     * its values are lost. The sink is not closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+        }
+    }
+
+    /**
+     * Rejects a value the codec cannot hold before it reaches the buffer, so that only sink failures leave a block
+     * to retry. For a range, {@code value} is the OR of its values, which is negative exactly when one of them is.
+     */
+    private void requireRepresentable(int value) {
+        if (value < 0 && !type.acceptsNegatives()) {
+            throw new IllegalArgumentException("Negative values are not supported by " + type);
+        }
+    }
+
+    /**
+     * Emits the buffer if it is full, either because the last value completed it or because the sink failed.
+     */
+    private void emitIfFull() throws IOException {
+        if (buffered == buffer.length) {
+            emit();
+        }
+    }
+
+    private void emit() throws IOException {
+        int count = buffered;
+        // The block gets its own copy, so nothing it or the sink keeps refers to the reused buffer
+        BitPacking block = BitPackingFactory.create(type);
+        block.compress(Arrays.copyOf(buffer, count));
+        sink.accept(emitted, block);
+        buffered = 0;
+        emitted += count;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Writer has been closed");
+        }
+    }
+}
@@ -0,0 +1,1907 @@
+package com.project.bitpacking.model;
+
+/**
+ * Width-specialised unpack kernels for the contiguous (cross-boundary) layout.
+ * <p>
+ * Each {@code unpackN} method decodes one block of 32 values that occupies exactly {@code N} consecutive words,
+ * with value {@code j} stored at bits {@code [j * N, (j + 1) * N)}. Shifts and masks are constants, so every
+ * kernel is straight-line code without branches. Callers select the kernel once through
+ * {@link #unpackBlocks(int, int[], int, int[], int, int)} and then stream whole blocks through it.
+ */
+final class BitUnpackKernels {
+    /**
+     * Number of values decoded by a single kernel invocation.
+     */
+    static final int BLOCK_VALUES = 32;
+
+    private BitUnpackKernels() {
+    }
+
+    /**
+     * Decodes {@code blockCount} consecutive blocks of 32 values packed at {@code bits} bits per value.
+     *
+     * @param bits       bits per value, between 1 and 32
+     * @param in         packed words
+     * @param inPos      index of the first word of the first block
+     * @param out        destination of the decoded values
+     * @param outPos     index in {@code out} receiving the first value
+     * @param blockCount number of 32-value blocks to decode
+     */
+    static void unpackBlocks(int bits, int[] in, int inPos, int[] out, int outPos, int blockCount) {
+        switch (bits) {
+            case 1 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack1(in, inPos, out, outPos);
+                    inPos += 1;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 2 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack2(in, inPos, out, outPos);
+                    inPos += 2;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 3 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack3(in, inPos, out, outPos);
+                    inPos += 3;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 4 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack4(in, inPos, out, outPos);
+                    inPos += 4;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 5 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack5(in, inPos, out, outPos);
+                    inPos += 5;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 6 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack6(in, inPos, out, outPos);
+                    inPos += 6;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 7 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack7(in, inPos, out, outPos);
+                    inPos += 7;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 8 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack8(in, inPos, out, outPos);
+                    inPos += 8;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 9 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack9(in, inPos, out, outPos);
+                    inPos += 9;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 10 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack10(in, inPos, out, outPos);
+                    inPos += 10;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 11 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack11(in, inPos, out, outPos);
+                    inPos += 11;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 12 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack12(in, inPos, out, outPos);
+                    inPos += 12;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 13 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack13(in, inPos, out, outPos);
+                    inPos += 13;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 14 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack14(in, inPos, out, outPos);
+                    inPos += 14;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 15 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack15(in, inPos, out, outPos);
+                    inPos += 15;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 16 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack16(in, inPos, out, outPos);
+                    inPos += 16;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 17 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack17(in, inPos, out, outPos);
+                    inPos += 17;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 18 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack18(in, inPos, out, outPos);
+                    inPos += 18;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 19 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack19(in, inPos, out, outPos);
+                    inPos += 19;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 20 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack20(in, inPos, out, outPos);
+                    inPos += 20;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 21 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack21(in, inPos, out, outPos);
+                    inPos += 21;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 22 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack22(in, inPos, out, outPos);
+                    inPos += 22;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 23 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack23(in, inPos, out, outPos);
+                    inPos += 23;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 24 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack24(in, inPos, out, outPos);
+                    inPos += 24;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 25 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack25(in, inPos, out, outPos);
+                    inPos += 25;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 26 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack26(in, inPos, out, outPos);
+                    inPos += 26;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 27 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack27(in, inPos, out, outPos);
+                    inPos += 27;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 28 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack28(in, inPos, out, outPos);
+                    inPos += 28;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 29 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack29(in, inPos, out, outPos);
+                    inPos += 29;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 30 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack30(in, inPos, out, outPos);
+                    inPos += 30;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 31 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack31(in, inPos, out, outPos);
+                    inPos += 31;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            case 32 -> {
+                for (int block = 0; block < blockCount; block++) {
+                    unpack32(in, inPos, out, outPos);
+                    inPos += 32;
+                    outPos += BLOCK_VALUES;
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported bit width: " + bits);
+        }
+    }
+
+    private static void unpack1(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        out[outPos] = w0 & 0x1;
+        out[outPos + 1] = (w0 >>> 1) & 0x1;
+        out[outPos + 2] = (w0 >>> 2) & 0x1;
+        out[outPos + 3] = (w0 >>> 3) & 0x1;
+        out[outPos + 4] = (w0 >>> 4) & 0x1;
+        out[outPos + 5] = (w0 >>> 5) & 0x1;
+        out[outPos + 6] = (w0 >>> 6) & 0x1;
+        out[outPos + 7] = (w0 >>> 7) & 0x1;
+        out[outPos + 8] = (w0 >>> 8) & 0x1;
+        out[outPos + 9] = (w0 >>> 9) & 0x1;
+        out[outPos + 10] = (w0 >>> 10) & 0x1;
+        out[outPos + 11] = (w0 >>> 11) & 0x1;
+        out[outPos + 12] = (w0 >>> 12) & 0x1;
+        out[outPos + 13] = (w0 >>> 13) & 0x1;
+        out[outPos + 14] = (w0 >>> 14) & 0x1;
+        out[outPos + 15] = (w0 >>> 15) & 0x1;
+        out[outPos + 16] = (w0 >>> 16) & 0x1;
+        out[outPos + 17] = (w0 >>> 17) & 0x1;
+        out[outPos + 18] = (w0 >>> 18) & 0x1;
+        out[outPos + 19] = (w0 >>> 19) & 0x1;
+        out[outPos + 20] = (w0 >>> 20) & 0x1;
+        out[outPos + 21] = (w0 >>> 21) & 0x1;
+        out[outPos + 22] = (w0 >>> 22) & 0x1;
+        out[outPos + 23] = (w0 >>> 23) & 0x1;
+        out[outPos + 24] = (w0 >>> 24) & 0x1;
+        out[outPos + 25] = (w0 >>> 25) & 0x1;
+        out[outPos + 26] = (w0 >>> 26) & 0x1;
+        out[outPos + 27] = (w0 >>> 27) & 0x1;
+        out[outPos + 28] = (w0 >>> 28) & 0x1;
+        out[outPos + 29] = (w0 >>> 29) & 0x1;
+        out[outPos + 30] = (w0 >>> 30) & 0x1;
+        out[outPos + 31] = w0 >>> 31;
+    }
+
+    private static void unpack2(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        out[outPos] = w0 & 0x3;
+        out[outPos + 1] = (w0 >>> 2) & 0x3;
+        out[outPos + 2] = (w0 >>> 4) & 0x3;
+        out[outPos + 3] = (w0 >>> 6) & 0x3;
+        out[outPos + 4] = (w0 >>> 8) & 0x3;
+        out[outPos + 5] = (w0 >>> 10) & 0x3;
+        out[outPos + 6] = (w0 >>> 12) & 0x3;
+        out[outPos + 7] = (w0 >>> 14) & 0x3;
+        out[outPos + 8] = (w0 >>> 16) & 0x3;
+        out[outPos + 9] = (w0 >>> 18) & 0x3;
+        out[outPos + 10] = (w0 >>> 20) & 0x3;
+        out[outPos + 11] = (w0 >>> 22) & 0x3;
+        out[outPos + 12] = (w0 >>> 24) & 0x3;
+        out[outPos + 13] = (w0 >>> 26) & 0x3;
+        out[outPos + 14] = (w0 >>> 28) & 0x3;
+        out[outPos + 15] = w0 >>> 30;
+        out[outPos + 16] = w1 & 0x3;
+        out[outPos + 17] = (w1 >>> 2) & 0x3;
+        out[outPos + 18] = (w1 >>> 4) & 0x3;
+        out[outPos + 19] = (w1 >>> 6) & 0x3;
+        out[outPos + 20] = (w1 >>> 8) & 0x3;
+        out[outPos + 21] = (w1 >>> 10) & 0x3;
+        out[outPos + 22] = (w1 >>> 12) & 0x3;
+        out[outPos + 23] = (w1 >>> 14) & 0x3;
+        out[outPos + 24] = (w1 >>> 16) & 0x3;
+        out[outPos + 25] = (w1 >>> 18) & 0x3;
+        out[outPos + 26] = (w1 >>> 20) & 0x3;
+        out[outPos + 27] = (w1 >>> 22) & 0x3;
+        out[outPos + 28] = (w1 >>> 24) & 0x3;
+        out[outPos + 29] = (w1 >>> 26) & 0x3;
+        out[outPos + 30] = (w1 >>> 28) & 0x3;
+        out[outPos + 31] = w1 >>> 30;
+    }
+
+    private static void unpack3(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        out[outPos] = w0 & 0x7;
+        out[outPos + 1] = (w0 >>> 3) & 0x7;
+        out[outPos + 2] = (w0 >>> 6) & 0x7;
+        out[outPos + 3] = (w0 >>> 9) & 0x7;
+        out[outPos + 4] = (w0 >>> 12) & 0x7;
+        out[outPos + 5] = (w0 >>> 15) & 0x7;
+        out[outPos + 6] = (w0 >>> 18) & 0x7;
+        out[outPos + 7] = (w0 >>> 21) & 0x7;
+        out[outPos + 8] = (w0 >>> 24) & 0x7;
+        out[outPos + 9] = (w0 >>> 27) & 0x7;
+        out[outPos + 10] = ((w0 >>> 30) | (w1 << 2)) & 0x7;
+        out[outPos + 11] = (w1 >>> 1) & 0x7;
+        out[outPos + 12] = (w1 >>> 4) & 0x7;
+        out[outPos + 13] = (w1 >>> 7) & 0x7;
+        out[outPos + 14] = (w1 >>> 10) & 0x7;
+        out[outPos + 15] = (w1 >>> 13) & 0x7;
+        out[outPos + 16] = (w1 >>> 16) & 0x7;
+        out[outPos + 17] = (w1 >>> 19) & 0x7;
+        out[outPos + 18] = (w1 >>> 22) & 0x7;
+        out[outPos + 19] = (w1 >>> 25) & 0x7;
+        out[outPos + 20] = (w1 >>> 28) & 0x7;
+        out[outPos + 21] = ((w1 >>> 31) | (w2 << 1)) & 0x7;
+        out[outPos + 22] = (w2 >>> 2) & 0x7;
+        out[outPos + 23] = (w2 >>> 5) & 0x7;
+        out[outPos + 24] = (w2 >>> 8) & 0x7;
+        out[outPos + 25] = (w2 >>> 11) & 0x7;
+        out[outPos + 26] = (w2 >>> 14) & 0x7;
+        out[outPos + 27] = (w2 >>> 17) & 0x7;
+        out[outPos + 28] = (w2 >>> 20) & 0x7;
+        out[outPos + 29] = (w2 >>> 23) & 0x7;
+        out[outPos + 30] = (w2 >>> 26) & 0x7;
+        out[outPos + 31] = w2 >>> 29;
+    }
+
+    private static void unpack4(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        out[outPos] = w0 & 0xF;
+        out[outPos + 1] = (w0 >>> 4) & 0xF;
+        out[outPos + 2] = (w0 >>> 8) & 0xF;
+        out[outPos + 3] = (w0 >>> 12) & 0xF;
+        out[outPos + 4] = (w0 >>> 16) & 0xF;
+        out[outPos + 5] = (w0 >>> 20) & 0xF;
+        out[outPos + 6] = (w0 >>> 24) & 0xF;
+        out[outPos + 7] = w0 >>> 28;
+        out[outPos + 8] = w1 & 0xF;
+        out[outPos + 9] = (w1 >>> 4) & 0xF;
+        out[outPos + 10] = (w1 >>> 8) & 0xF;
+        out[outPos + 11] = (w1 >>> 12) & 0xF;
+        out[outPos + 12] = (w1 >>> 16) & 0xF;
+        out[outPos + 13] = (w1 >>> 20) & 0xF;
+        out[outPos + 14] = (w1 >>> 24) & 0xF;
+        out[outPos + 15] = w1 >>> 28;
+        out[outPos + 16] = w2 & 0xF;
+        out[outPos + 17] = (w2 >>> 4) & 0xF;
+        out[outPos + 18] = (w2 >>> 8) & 0xF;
+        out[outPos + 19] = (w2 >>> 12) & 0xF;
+        out[outPos + 20] = (w2 >>> 16) & 0xF;
+        out[outPos + 21] = (w2 >>> 20) & 0xF;
+        out[outPos + 22] = (w2 >>> 24) & 0xF;
+        out[outPos + 23] = w2 >>> 28;
+        out[outPos + 24] = w3 & 0xF;
+        out[outPos + 25] = (w3 >>> 4) & 0xF;
+        out[outPos + 26] = (w3 >>> 8) & 0xF;
+        out[outPos + 27] = (w3 >>> 12) & 0xF;
+        out[outPos + 28] = (w3 >>> 16) & 0xF;
+        out[outPos + 29] = (w3 >>> 20) & 0xF;
+        out[outPos + 30] = (w3 >>> 24) & 0xF;
+        out[outPos + 31] = w3 >>> 28;
+    }
+
+    private static void unpack5(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        out[outPos] = w0 & 0x1F;
+        out[outPos + 1] = (w0 >>> 5) & 0x1F;
+        out[outPos + 2] = (w0 >>> 10) & 0x1F;
+        out[outPos + 3] = (w0 >>> 15) & 0x1F;
+        out[outPos + 4] = (w0 >>> 20) & 0x1F;
+        out[outPos + 5] = (w0 >>> 25) & 0x1F;
+        out[outPos + 6] = ((w0 >>> 30) | (w1 << 2)) & 0x1F;
+        out[outPos + 7] = (w1 >>> 3) & 0x1F;
+        out[outPos + 8] = (w1 >>> 8) & 0x1F;
+        out[outPos + 9] = (w1 >>> 13) & 0x1F;
+        out[outPos + 10] = (w1 >>> 18) & 0x1F;
+        out[outPos + 11] = (w1 >>> 23) & 0x1F;
+        out[outPos + 12] = ((w1 >>> 28) | (w2 << 4)) & 0x1F;
+        out[outPos + 13] = (w2 >>> 1) & 0x1F;
+        out[outPos + 14] = (w2 >>> 6) & 0x1F;
+        out[outPos + 15] = (w2 >>> 11) & 0x1F;
+        out[outPos + 16] = (w2 >>> 16) & 0x1F;
+        out[outPos + 17] = (w2 >>> 21) & 0x1F;
+        out[outPos + 18] = (w2 >>> 26) & 0x1F;
+        out[outPos + 19] = ((w2 >>> 31) | (w3 << 1)) & 0x1F;
+        out[outPos + 20] = (w3 >>> 4) & 0x1F;
+        out[outPos + 21] = (w3 >>> 9) & 0x1F;
+        out[outPos + 22] = (w3 >>> 14) & 0x1F;
+        out[outPos + 23] = (w3 >>> 19) & 0x1F;
+        out[outPos + 24] = (w3 >>> 24) & 0x1F;
+        out[outPos + 25] = ((w3 >>> 29) | (w4 << 3)) & 0x1F;
+        out[outPos + 26] = (w4 >>> 2) & 0x1F;
+        out[outPos + 27] = (w4 >>> 7) & 0x1F;
+        out[outPos + 28] = (w4 >>> 12) & 0x1F;
+        out[outPos + 29] = (w4 >>> 17) & 0x1F;
+        out[outPos + 30] = (w4 >>> 22) & 0x1F;
+        out[outPos + 31] = w4 >>> 27;
+    }
+
+    private static void unpack6(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        out[outPos] = w0 & 0x3F;
+        out[outPos + 1] = (w0 >>> 6) & 0x3F;
+        out[outPos + 2] = (w0 >>> 12) & 0x3F;
+        out[outPos + 3] = (w0 >>> 18) & 0x3F;
+        out[outPos + 4] = (w0 >>> 24) & 0x3F;
+        out[outPos + 5] = ((w0 >>> 30) | (w1 << 2)) & 0x3F;
+        out[outPos + 6] = (w1 >>> 4) & 0x3F;
+        out[outPos + 7] = (w1 >>> 10) & 0x3F;
+        out[outPos + 8] = (w1 >>> 16) & 0x3F;
+        out[outPos + 9] = (w1 >>> 22) & 0x3F;
+        out[outPos + 10] = ((w1 >>> 28) | (w2 << 4)) & 0x3F;
+        out[outPos + 11] = (w2 >>> 2) & 0x3F;
+        out[outPos + 12] = (w2 >>> 8) & 0x3F;
+        out[outPos + 13] = (w2 >>> 14) & 0x3F;
+        out[outPos + 14] = (w2 >>> 20) & 0x3F;
+        out[outPos + 15] = w2 >>> 26;
+        out[outPos + 16] = w3 & 0x3F;
+        out[outPos + 17] = (w3 >>> 6) & 0x3F;
+        out[outPos + 18] = (w3 >>> 12) & 0x3F;
+        out[outPos + 19] = (w3 >>> 18) & 0x3F;
+        out[outPos + 20] = (w3 >>> 24) & 0x3F;
+        out[outPos + 21] = ((w3 >>> 30) | (w4 << 2)) & 0x3F;
+        out[outPos + 22] = (w4 >>> 4) & 0x3F;
+        out[outPos + 23] = (w4 >>> 10) & 0x3F;
+        out[outPos + 24] = (w4 >>> 16) & 0x3F;
+        out[outPos + 25] = (w4 >>> 22) & 0x3F;
+        out[outPos + 26] = ((w4 >>> 28) | (w5 << 4)) & 0x3F;
+        out[outPos + 27] = (w5 >>> 2) & 0x3F;
+        out[outPos + 28] = (w5 >>> 8) & 0x3F;
+        out[outPos + 29] = (w5 >>> 14) & 0x3F;
+        out[outPos + 30] = (w5 >>> 20) & 0x3F;
+        out[outPos + 31] = w5 >>> 26;
+    }
+
+    private static void unpack7(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        out[outPos] = w0 & 0x7F;
+        out[outPos + 1] = (w0 >>> 7) & 0x7F;
+        out[outPos + 2] = (w0 >>> 14) & 0x7F;
+        out[outPos + 3] = (w0 >>> 21) & 0x7F;
+        out[outPos + 4] = ((w0 >>> 28) | (w1 << 4)) & 0x7F;
+        out[outPos + 5] = (w1 >>> 3) & 0x7F;
+        out[outPos + 6] = (w1 >>> 10) & 0x7F;
+        out[outPos + 7] = (w1 >>> 17) & 0x7F;
+        out[outPos + 8] = (w1 >>> 24) & 0x7F;
+        out[outPos + 9] = ((w1 >>> 31) | (w2 << 1)) & 0x7F;
+        out[outPos + 10] = (w2 >>> 6) & 0x7F;
+        out[outPos + 11] = (w2 >>> 13) & 0x7F;
+        out[outPos + 12] = (w2 >>> 20) & 0x7F;
+        out[outPos + 13] = ((w2 >>> 27) | (w3 << 5)) & 0x7F;
+        out[outPos + 14] = (w3 >>> 2) & 0x7F;
+        out[outPos + 15] = (w3 >>> 9) & 0x7F;
+        out[outPos + 16] = (w3 >>> 16) & 0x7F;
+        out[outPos + 17] = (w3 >>> 23) & 0x7F;
+        out[outPos + 18] = ((w3 >>> 30) | (w4 << 2)) & 0x7F;
+        out[outPos + 19] = (w4 >>> 5) & 0x7F;
+        out[outPos + 20] = (w4 >>> 12) & 0x7F;
+        out[outPos + 21] = (w4 >>> 19) & 0x7F;
+        out[outPos + 22] = ((w4 >>> 26) | (w5 << 6)) & 0x7F;
+        out[outPos + 23] = (w5 >>> 1) & 0x7F;
+        out[outPos + 24] = (w5 >>> 8) & 0x7F;
+        out[outPos + 25] = (w5 >>> 15) & 0x7F;
+        out[outPos + 26] = (w5 >>> 22) & 0x7F;
+        out[outPos + 27] = ((w5 >>> 29) | (w6 << 3)) & 0x7F;
+        out[outPos + 28] = (w6 >>> 4) & 0x7F;
+        out[outPos + 29] = (w6 >>> 11) & 0x7F;
+        out[outPos + 30] = (w6 >>> 18) & 0x7F;
+        out[outPos + 31] = w6 >>> 25;
+    }
+
+    private static void unpack8(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        out[outPos] = w0 & 0xFF;
+        out[outPos + 1] = (w0 >>> 8) & 0xFF;
+        out[outPos + 2] = (w0 >>> 16) & 0xFF;
+        out[outPos + 3] = w0 >>> 24;
+        out[outPos + 4] = w1 & 0xFF;
+        out[outPos + 5] = (w1 >>> 8) & 0xFF;
+        out[outPos + 6] = (w1 >>> 16) & 0xFF;
+        out[outPos + 7] = w1 >>> 24;
+        out[outPos + 8] = w2 & 0xFF;
+        out[outPos + 9] = (w2 >>> 8) & 0xFF;
+        out[outPos + 10] = (w2 >>> 16) & 0xFF;
+        out[outPos + 11] = w2 >>> 24;
+        out[outPos + 12] = w3 & 0xFF;
+        out[outPos + 13] = (w3 >>> 8) & 0xFF;
+        out[outPos + 14] = (w3 >>> 16) & 0xFF;
+        out[outPos + 15] = w3 >>> 24;
+        out[outPos + 16] = w4 & 0xFF;
+        out[outPos + 17] = (w4 >>> 8) & 0xFF;
+        out[outPos + 18] = (w4 >>> 16) & 0xFF;
+        out[outPos + 19] = w4 >>> 24;
+        out[outPos + 20] = w5 & 0xFF;
+        out[outPos + 21] = (w5 >>> 8) & 0xFF;
+        out[outPos + 22] = (w5 >>> 16) & 0xFF;
+        out[outPos + 23] = w5 >>> 24;
+        out[outPos + 24] = w6 & 0xFF;
+        out[outPos + 25] = (w6 >>> 8) & 0xFF;
+        out[outPos + 26] = (w6 >>> 16) & 0xFF;
+        out[outPos + 27] = w6 >>> 24;
+        out[outPos + 28] = w7 & 0xFF;
+        out[outPos + 29] = (w7 >>> 8) & 0xFF;
+        out[outPos + 30] = (w7 >>> 16) & 0xFF;
+        out[outPos + 31] = w7 >>> 24;
+    }
+
+    private static void unpack9(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        out[outPos] = w0 & 0x1FF;
+        out[outPos + 1] = (w0 >>> 9) & 0x1FF;
+        out[outPos + 2] = (w0 >>> 18) & 0x1FF;
+        out[outPos + 3] = ((w0 >>> 27) | (w1 << 5)) & 0x1FF;
+        out[outPos + 4] = (w1 >>> 4) & 0x1FF;
+        out[outPos + 5] = (w1 >>> 13) & 0x1FF;
+        out[outPos + 6] = (w1 >>> 22) & 0x1FF;
+        out[outPos + 7] = ((w1 >>> 31) | (w2 << 1)) & 0x1FF;
+        out[outPos + 8] = (w2 >>> 8) & 0x1FF;
+        out[outPos + 9] = (w2 >>> 17) & 0x1FF;
+        out[outPos + 10] = ((w2 >>> 26) | (w3 << 6)) & 0x1FF;
+        out[outPos + 11] = (w3 >>> 3) & 0x1FF;
+        out[outPos + 12] = (w3 >>> 12) & 0x1FF;
+        out[outPos + 13] = (w3 >>> 21) & 0x1FF;
+        out[outPos + 14] = ((w3 >>> 30) | (w4 << 2)) & 0x1FF;
+        out[outPos + 15] = (w4 >>> 7) & 0x1FF;
+        out[outPos + 16] = (w4 >>> 16) & 0x1FF;
+        out[outPos + 17] = ((w4 >>> 25) | (w5 << 7)) & 0x1FF;
+        out[outPos + 18] = (w5 >>> 2) & 0x1FF;
+        out[outPos + 19] = (w5 >>> 11) & 0x1FF;
+        out[outPos + 20] = (w5 >>> 20) & 0x1FF;
+        out[outPos + 21] = ((w5 >>> 29) | (w6 << 3)) & 0x1FF;
+        out[outPos + 22] = (w6 >>> 6) & 0x1FF;
+        out[outPos + 23] = (w6 >>> 15) & 0x1FF;
+        out[outPos + 24] = ((w6 >>> 24) | (w7 << 8)) & 0x1FF;
+        out[outPos + 25] = (w7 >>> 1) & 0x1FF;
+        out[outPos + 26] = (w7 >>> 10) & 0x1FF;
+        out[outPos + 27] = (w7 >>> 19) & 0x1FF;
+        out[outPos + 28] = ((w7 >>> 28) | (w8 << 4)) & 0x1FF;
+        out[outPos + 29] = (w8 >>> 5) & 0x1FF;
+        out[outPos + 30] = (w8 >>> 14) & 0x1FF;
+        out[outPos + 31] = w8 >>> 23;
+    }
+
+    private static void unpack10(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        out[outPos] = w0 & 0x3FF;
+        out[outPos + 1] = (w0 >>> 10) & 0x3FF;
+        out[outPos + 2] = (w0 >>> 20) & 0x3FF;
+        out[outPos + 3] = ((w0 >>> 30) | (w1 << 2)) & 0x3FF;
+        out[outPos + 4] = (w1 >>> 8) & 0x3FF;
+        out[outPos + 5] = (w1 >>> 18) & 0x3FF;
+        out[outPos + 6] = ((w1 >>> 28) | (w2 << 4)) & 0x3FF;
+        out[outPos + 7] = (w2 >>> 6) & 0x3FF;
+        out[outPos + 8] = (w2 >>> 16) & 0x3FF;
+        out[outPos + 9] = ((w2 >>> 26) | (w3 << 6)) & 0x3FF;
+        out[outPos + 10] = (w3 >>> 4) & 0x3FF;
+        out[outPos + 11] = (w3 >>> 14) & 0x3FF;
+        out[outPos + 12] = ((w3 >>> 24) | (w4 << 8)) & 0x3FF;
+        out[outPos + 13] = (w4 >>> 2) & 0x3FF;
+        out[outPos + 14] = (w4 >>> 12) & 0x3FF;
+        out[outPos + 15] = w4 >>> 22;
+        out[outPos + 16] = w5 & 0x3FF;
+        out[outPos + 17] = (w5 >>> 10) & 0x3FF;
+        out[outPos + 18] = (w5 >>> 20) & 0x3FF;
+        out[outPos + 19] = ((w5 >>> 30) | (w6 << 2)) & 0x3FF;
+        out[outPos + 20] = (w6 >>> 8) & 0x3FF;
+        out[outPos + 21] = (w6 >>> 18) & 0x3FF;
+        out[outPos + 22] = ((w6 >>> 28) | (w7 << 4)) & 0x3FF;
+        out[outPos + 23] = (w7 >>> 6) & 0x3FF;
+        out[outPos + 24] = (w7 >>> 16) & 0x3FF;
+        out[outPos + 25] = ((w7 >>> 26) | (w8 << 6)) & 0x3FF;
+        out[outPos + 26] = (w8 >>> 4) & 0x3FF;
+        out[outPos + 27] = (w8 >>> 14) & 0x3FF;
+        out[outPos + 28] = ((w8 >>> 24) | (w9 << 8)) & 0x3FF;
+        out[outPos + 29] = (w9 >>> 2) & 0x3FF;
+        out[outPos + 30] = (w9 >>> 12) & 0x3FF;
+        out[outPos + 31] = w9 >>> 22;
+    }
+
+    private static void unpack11(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        out[outPos] = w0 & 0x7FF;
+        out[outPos + 1] = (w0 >>> 11) & 0x7FF;
+        out[outPos + 2] = ((w0 >>> 22) | (w1 << 10)) & 0x7FF;
+        out[outPos + 3] = (w1 >>> 1) & 0x7FF;
+        out[outPos + 4] = (w1 >>> 12) & 0x7FF;
+        out[outPos + 5] = ((w1 >>> 23) | (w2 << 9)) & 0x7FF;
+        out[outPos + 6] = (w2 >>> 2) & 0x7FF;
+        out[outPos + 7] = (w2 >>> 13) & 0x7FF;
+        out[outPos + 8] = ((w2 >>> 24) | (w3 << 8)) & 0x7FF;
+        out[outPos + 9] = (w3 >>> 3) & 0x7FF;
+        out[outPos + 10] = (w3 >>> 14) & 0x7FF;
+        out[outPos + 11] = ((w3 >>> 25) | (w4 << 7)) & 0x7FF;
+        out[outPos + 12] = (w4 >>> 4) & 0x7FF;
+        out[outPos + 13] = (w4 >>> 15) & 0x7FF;
+        out[outPos + 14] = ((w4 >>> 26) | (w5 << 6)) & 0x7FF;
+        out[outPos + 15] = (w5 >>> 5) & 0x7FF;
+        out[outPos + 16] = (w5 >>> 16) & 0x7FF;
+        out[outPos + 17] = ((w5 >>> 27) | (w6 << 5)) & 0x7FF;
+        out[outPos + 18] = (w6 >>> 6) & 0x7FF;
+        out[outPos + 19] = (w6 >>> 17) & 0x7FF;
+        out[outPos + 20] = ((w6 >>> 28) | (w7 << 4)) & 0x7FF;
+        out[outPos + 21] = (w7 >>> 7) & 0x7FF;
+        out[outPos + 22] = (w7 >>> 18) & 0x7FF;
+        out[outPos + 23] = ((w7 >>> 29) | (w8 << 3)) & 0x7FF;
+        out[outPos + 24] = (w8 >>> 8) & 0x7FF;
+        out[outPos + 25] = (w8 >>> 19) & 0x7FF;
+        out[outPos + 26] = ((w8 >>> 30) | (w9 << 2)) & 0x7FF;
+        out[outPos + 27] = (w9 >>> 9) & 0x7FF;
+        out[outPos + 28] = (w9 >>> 20) & 0x7FF;
+        out[outPos + 29] = ((w9 >>> 31) | (w10 << 1)) & 0x7FF;
+        out[outPos + 30] = (w10 >>> 10) & 0x7FF;
+        out[outPos + 31] = w10 >>> 21;
+    }
+
+    private static void unpack12(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        out[outPos] = w0 & 0xFFF;
+        out[outPos + 1] = (w0 >>> 12) & 0xFFF;
+        out[outPos + 2] = ((w0 >>> 24) | (w1 << 8)) & 0xFFF;
+        out[outPos + 3] = (w1 >>> 4) & 0xFFF;
+        out[outPos + 4] = (w1 >>> 16) & 0xFFF;
+        out[outPos + 5] = ((w1 >>> 28) | (w2 << 4)) & 0xFFF;
+        out[outPos + 6] = (w2 >>> 8) & 0xFFF;
+        out[outPos + 7] = w2 >>> 20;
+        out[outPos + 8] = w3 & 0xFFF;
+        out[outPos + 9] = (w3 >>> 12) & 0xFFF;
+        out[outPos + 10] = ((w3 >>> 24) | (w4 << 8)) & 0xFFF;
+        out[outPos + 11] = (w4 >>> 4) & 0xFFF;
+        out[outPos + 12] = (w4 >>> 16) & 0xFFF;
+        out[outPos + 13] = ((w4 >>> 28) | (w5 << 4)) & 0xFFF;
+        out[outPos + 14] = (w5 >>> 8) & 0xFFF;
+        out[outPos + 15] = w5 >>> 20;
+        out[outPos + 16] = w6 & 0xFFF;
+        out[outPos + 17] = (w6 >>> 12) & 0xFFF;
+        out[outPos + 18] = ((w6 >>> 24) | (w7 << 8)) & 0xFFF;
+        out[outPos + 19] = (w7 >>> 4) & 0xFFF;
+        out[outPos + 20] = (w7 >>> 16) & 0xFFF;
+        out[outPos + 21] = ((w7 >>> 28) | (w8 << 4)) & 0xFFF;
+        out[outPos + 22] = (w8 >>> 8) & 0xFFF;
+        out[outPos + 23] = w8 >>> 20;
+        out[outPos + 24] = w9 & 0xFFF;
+        out[outPos + 25] = (w9 >>> 12) & 0xFFF;
+        out[outPos + 26] = ((w9 >>> 24) | (w10 << 8)) & 0xFFF;
+        out[outPos + 27] = (w10 >>> 4) & 0xFFF;
+        out[outPos + 28] = (w10 >>> 16) & 0xFFF;
+        out[outPos + 29] = ((w10 >>> 28) | (w11 << 4)) & 0xFFF;
+        out[outPos + 30] = (w11 >>> 8) & 0xFFF;
+        out[outPos + 31] = w11 >>> 20;
+    }
+
+    private static void unpack13(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        out[outPos] = w0 & 0x1FFF;
+        out[outPos + 1] = (w0 >>> 13) & 0x1FFF;
+        out[outPos + 2] = ((w0 >>> 26) | (w1 << 6)) & 0x1FFF;
+        out[outPos + 3] = (w1 >>> 7) & 0x1FFF;
+        out[outPos + 4] = ((w1 >>> 20) | (w2 << 12)) & 0x1FFF;
+        out[outPos + 5] = (w2 >>> 1) & 0x1FFF;
+        out[outPos + 6] = (w2 >>> 14) & 0x1FFF;
+        out[outPos + 7] = ((w2 >>> 27) | (w3 << 5)) & 0x1FFF;
+        out[outPos + 8] = (w3 >>> 8) & 0x1FFF;
+        out[outPos + 9] = ((w3 >>> 21) | (w4 << 11)) & 0x1FFF;
+        out[outPos + 10] = (w4 >>> 2) & 0x1FFF;
+        out[outPos + 11] = (w4 >>> 15) & 0x1FFF;
+        out[outPos + 12] = ((w4 >>> 28) | (w5 << 4)) & 0x1FFF;
+        out[outPos + 13] = (w5 >>> 9) & 0x1FFF;
+        out[outPos + 14] = ((w5 >>> 22) | (w6 << 10)) & 0x1FFF;
+        out[outPos + 15] = (w6 >>> 3) & 0x1FFF;
+        out[outPos + 16] = (w6 >>> 16) & 0x1FFF;
+        out[outPos + 17] = ((w6 >>> 29) | (w7 << 3)) & 0x1FFF;
+        out[outPos + 18] = (w7 >>> 10) & 0x1FFF;
+        out[outPos + 19] = ((w7 >>> 23) | (w8 << 9)) & 0x1FFF;
+        out[outPos + 20] = (w8 >>> 4) & 0x1FFF;
+        out[outPos + 21] = (w8 >>> 17) & 0x1FFF;
+        out[outPos + 22] = ((w8 >>> 30) | (w9 << 2)) & 0x1FFF;
+        out[outPos + 23] = (w9 >>> 11) & 0x1FFF;
+        out[outPos + 24] = ((w9 >>> 24) | (w10 << 8)) & 0x1FFF;
+        out[outPos + 25] = (w10 >>> 5) & 0x1FFF;
+        out[outPos + 26] = (w10 >>> 18) & 0x1FFF;
+        out[outPos + 27] = ((w10 >>> 31) | (w11 << 1)) & 0x1FFF;
+        out[outPos + 28] = (w11 >>> 12) & 0x1FFF;
+        out[outPos + 29] = ((w11 >>> 25) | (w12 << 7)) & 0x1FFF;
+        out[outPos + 30] = (w12 >>> 6) & 0x1FFF;
+        out[outPos + 31] = w12 >>> 19;
+    }
+
+    private static void unpack14(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        out[outPos] = w0 & 0x3FFF;
+        out[outPos + 1] = (w0 >>> 14) & 0x3FFF;
+        out[outPos + 2] = ((w0 >>> 28) | (w1 << 4)) & 0x3FFF;
+        out[outPos + 3] = (w1 >>> 10) & 0x3FFF;
+        out[outPos + 4] = ((w1 >>> 24) | (w2 << 8)) & 0x3FFF;
+        out[outPos + 5] = (w2 >>> 6) & 0x3FFF;
+        out[outPos + 6] = ((w2 >>> 20) | (w3 << 12)) & 0x3FFF;
+        out[outPos + 7] = (w3 >>> 2) & 0x3FFF;
+        out[outPos + 8] = (w3 >>> 16) & 0x3FFF;
+        out[outPos + 9] = ((w3 >>> 30) | (w4 << 2)) & 0x3FFF;
+        out[outPos + 10] = (w4 >>> 12) & 0x3FFF;
+        out[outPos + 11] = ((w4 >>> 26) | (w5 << 6)) & 0x3FFF;
+        out[outPos + 12] = (w5 >>> 8) & 0x3FFF;
+        out[outPos + 13] = ((w5 >>> 22) | (w6 << 10)) & 0x3FFF;
+        out[outPos + 14] = (w6 >>> 4) & 0x3FFF;
+        out[outPos + 15] = w6 >>> 18;
+        out[outPos + 16] = w7 & 0x3FFF;
+        out[outPos + 17] = (w7 >>> 14) & 0x3FFF;
+        out[outPos + 18] = ((w7 >>> 28) | (w8 << 4)) & 0x3FFF;
+        out[outPos + 19] = (w8 >>> 10) & 0x3FFF;
+        out[outPos + 20] = ((w8 >>> 24) | (w9 << 8)) & 0x3FFF;
+        out[outPos + 21] = (w9 >>> 6) & 0x3FFF;
+        out[outPos + 22] = ((w9 >>> 20) | (w10 << 12)) & 0x3FFF;
+        out[outPos + 23] = (w10 >>> 2) & 0x3FFF;
+        out[outPos + 24] = (w10 >>> 16) & 0x3FFF;
+        out[outPos + 25] = ((w10 >>> 30) | (w11 << 2)) & 0x3FFF;
+        out[outPos + 26] = (w11 >>> 12) & 0x3FFF;
+        out[outPos + 27] = ((w11 >>> 26) | (w12 << 6)) & 0x3FFF;
+        out[outPos + 28] = (w12 >>> 8) & 0x3FFF;
+        out[outPos + 29] = ((w12 >>> 22) | (w13 << 10)) & 0x3FFF;
+        out[outPos + 30] = (w13 >>> 4) & 0x3FFF;
+        out[outPos + 31] = w13 >>> 18;
+    }
+
+    private static void unpack15(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        out[outPos] = w0 & 0x7FFF;
+        out[outPos + 1] = (w0 >>> 15) & 0x7FFF;
+        out[outPos + 2] = ((w0 >>> 30) | (w1 << 2)) & 0x7FFF;
+        out[outPos + 3] = (w1 >>> 13) & 0x7FFF;
+        out[outPos + 4] = ((w1 >>> 28) | (w2 << 4)) & 0x7FFF;
+        out[outPos + 5] = (w2 >>> 11) & 0x7FFF;
+        out[outPos + 6] = ((w2 >>> 26) | (w3 << 6)) & 0x7FFF;
+        out[outPos + 7] = (w3 >>> 9) & 0x7FFF;
+        out[outPos + 8] = ((w3 >>> 24) | (w4 << 8)) & 0x7FFF;
+        out[outPos + 9] = (w4 >>> 7) & 0x7FFF;
+        out[outPos + 10] = ((w4 >>> 22) | (w5 << 10)) & 0x7FFF;
+        out[outPos + 11] = (w5 >>> 5) & 0x7FFF;
+        out[outPos + 12] = ((w5 >>> 20) | (w6 << 12)) & 0x7FFF;
+        out[outPos + 13] = (w6 >>> 3) & 0x7FFF;
+        out[outPos + 14] = ((w6 >>> 18) | (w7 << 14)) & 0x7FFF;
+        out[outPos + 15] = (w7 >>> 1) & 0x7FFF;
+        out[outPos + 16] = (w7 >>> 16) & 0x7FFF;
+        out[outPos + 17] = ((w7 >>> 31) | (w8 << 1)) & 0x7FFF;
+        out[outPos + 18] = (w8 >>> 14) & 0x7FFF;
+        out[outPos + 19] = ((w8 >>> 29) | (w9 << 3)) & 0x7FFF;
+        out[outPos + 20] = (w9 >>> 12) & 0x7FFF;
+        out[outPos + 21] = ((w9 >>> 27) | (w10 << 5)) & 0x7FFF;
+        out[outPos + 22] = (w10 >>> 10) & 0x7FFF;
+        out[outPos + 23] = ((w10 >>> 25) | (w11 << 7)) & 0x7FFF;
+        out[outPos + 24] = (w11 >>> 8) & 0x7FFF;
+        out[outPos + 25] = ((w11 >>> 23) | (w12 << 9)) & 0x7FFF;
+        out[outPos + 26] = (w12 >>> 6) & 0x7FFF;
+        out[outPos + 27] = ((w12 >>> 21) | (w13 << 11)) & 0x7FFF;
+        out[outPos + 28] = (w13 >>> 4) & 0x7FFF;
+        out[outPos + 29] = ((w13 >>> 19) | (w14 << 13)) & 0x7FFF;
+        out[outPos + 30] = (w14 >>> 2) & 0x7FFF;
+        out[outPos + 31] = w14 >>> 17;
+    }
+
+    private static void unpack16(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        out[outPos] = w0 & 0xFFFF;
+        out[outPos + 1] = w0 >>> 16;
+        out[outPos + 2] = w1 & 0xFFFF;
+        out[outPos + 3] = w1 >>> 16;
+        out[outPos + 4] = w2 & 0xFFFF;
+        out[outPos + 5] = w2 >>> 16;
+        out[outPos + 6] = w3 & 0xFFFF;
+        out[outPos + 7] = w3 >>> 16;
+        out[outPos + 8] = w4 & 0xFFFF;
+        out[outPos + 9] = w4 >>> 16;
+        out[outPos + 10] = w5 & 0xFFFF;
+        out[outPos + 11] = w5 >>> 16;
+        out[outPos + 12] = w6 & 0xFFFF;
+        out[outPos + 13] = w6 >>> 16;
+        out[outPos + 14] = w7 & 0xFFFF;
+        out[outPos + 15] = w7 >>> 16;
+        out[outPos + 16] = w8 & 0xFFFF;
+        out[outPos + 17] = w8 >>> 16;
+        out[outPos + 18] = w9 & 0xFFFF;
+        out[outPos + 19] = w9 >>> 16;
+        out[outPos + 20] = w10 & 0xFFFF;
+        out[outPos + 21] = w10 >>> 16;
+        out[outPos + 22] = w11 & 0xFFFF;
+        out[outPos + 23] = w11 >>> 16;
+        out[outPos + 24] = w12 & 0xFFFF;
+        out[outPos + 25] = w12 >>> 16;
+        out[outPos + 26] = w13 & 0xFFFF;
+        out[outPos + 27] = w13 >>> 16;
+        out[outPos + 28] = w14 & 0xFFFF;
+        out[outPos + 29] = w14 >>> 16;
+        out[outPos + 30] = w15 & 0xFFFF;
+        out[outPos + 31] = w15 >>> 16;
+    }
+
+    private static void unpack17(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        out[outPos] = w0 & 0x1FFFF;
+        out[outPos + 1] = ((w0 >>> 17) | (w1 << 15)) & 0x1FFFF;
+        out[outPos + 2] = (w1 >>> 2) & 0x1FFFF;
+        out[outPos + 3] = ((w1 >>> 19) | (w2 << 13)) & 0x1FFFF;
+        out[outPos + 4] = (w2 >>> 4) & 0x1FFFF;
+        out[outPos + 5] = ((w2 >>> 21) | (w3 << 11)) & 0x1FFFF;
+        out[outPos + 6] = (w3 >>> 6) & 0x1FFFF;
+        out[outPos + 7] = ((w3 >>> 23) | (w4 << 9)) & 0x1FFFF;
+        out[outPos + 8] = (w4 >>> 8) & 0x1FFFF;
+        out[outPos + 9] = ((w4 >>> 25) | (w5 << 7)) & 0x1FFFF;
+        out[outPos + 10] = (w5 >>> 10) & 0x1FFFF;
+        out[outPos + 11] = ((w5 >>> 27) | (w6 << 5)) & 0x1FFFF;
+        out[outPos + 12] = (w6 >>> 12) & 0x1FFFF;
+        out[outPos + 13] = ((w6 >>> 29) | (w7 << 3)) & 0x1FFFF;
+        out[outPos + 14] = (w7 >>> 14) & 0x1FFFF;
+        out[outPos + 15] = ((w7 >>> 31) | (w8 << 1)) & 0x1FFFF;
+        out[outPos + 16] = ((w8 >>> 16) | (w9 << 16)) & 0x1FFFF;
+        out[outPos + 17] = (w9 >>> 1) & 0x1FFFF;
+        out[outPos + 18] = ((w9 >>> 18) | (w10 << 14)) & 0x1FFFF;
+        out[outPos + 19] = (w10 >>> 3) & 0x1FFFF;
+        out[outPos + 20] = ((w10 >>> 20) | (w11 << 12)) & 0x1FFFF;
+        out[outPos + 21] = (w11 >>> 5) & 0x1FFFF;
+        out[outPos + 22] = ((w11 >>> 22) | (w12 << 10)) & 0x1FFFF;
+        out[outPos + 23] = (w12 >>> 7) & 0x1FFFF;
+        out[outPos + 24] = ((w12 >>> 24) | (w13 << 8)) & 0x1FFFF;
+        out[outPos + 25] = (w13 >>> 9) & 0x1FFFF;
+        out[outPos + 26] = ((w13 >>> 26) | (w14 << 6)) & 0x1FFFF;
+        out[outPos + 27] = (w14 >>> 11) & 0x1FFFF;
+        out[outPos + 28] = ((w14 >>> 28) | (w15 << 4)) & 0x1FFFF;
+        out[outPos + 29] = (w15 >>> 13) & 0x1FFFF;
+        out[outPos + 30] = ((w15 >>> 30) | (w16 << 2)) & 0x1FFFF;
+        out[outPos + 31] = w16 >>> 15;
+    }
+
+    private static void unpack18(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        out[outPos] = w0 & 0x3FFFF;
+        out[outPos + 1] = ((w0 >>> 18) | (w1 << 14)) & 0x3FFFF;
+        out[outPos + 2] = (w1 >>> 4) & 0x3FFFF;
+        out[outPos + 3] = ((w1 >>> 22) | (w2 << 10)) & 0x3FFFF;
+        out[outPos + 4] = (w2 >>> 8) & 0x3FFFF;
+        out[outPos + 5] = ((w2 >>> 26) | (w3 << 6)) & 0x3FFFF;
+        out[outPos + 6] = (w3 >>> 12) & 0x3FFFF;
+        out[outPos + 7] = ((w3 >>> 30) | (w4 << 2)) & 0x3FFFF;
+        out[outPos + 8] = ((w4 >>> 16) | (w5 << 16)) & 0x3FFFF;
+        out[outPos + 9] = (w5 >>> 2) & 0x3FFFF;
+        out[outPos + 10] = ((w5 >>> 20) | (w6 << 12)) & 0x3FFFF;
+        out[outPos + 11] = (w6 >>> 6) & 0x3FFFF;
+        out[outPos + 12] = ((w6 >>> 24) | (w7 << 8)) & 0x3FFFF;
+        out[outPos + 13] = (w7 >>> 10) & 0x3FFFF;
+        out[outPos + 14] = ((w7 >>> 28) | (w8 << 4)) & 0x3FFFF;
+        out[outPos + 15] = w8 >>> 14;
+        out[outPos + 16] = w9 & 0x3FFFF;
+        out[outPos + 17] = ((w9 >>> 18) | (w10 << 14)) & 0x3FFFF;
+        out[outPos + 18] = (w10 >>> 4) & 0x3FFFF;
+        out[outPos + 19] = ((w10 >>> 22) | (w11 << 10)) & 0x3FFFF;
+        out[outPos + 20] = (w11 >>> 8) & 0x3FFFF;
+        out[outPos + 21] = ((w11 >>> 26) | (w12 << 6)) & 0x3FFFF;
+        out[outPos + 22] = (w12 >>> 12) & 0x3FFFF;
+        out[outPos + 23] = ((w12 >>> 30) | (w13 << 2)) & 0x3FFFF;
+        out[outPos + 24] = ((w13 >>> 16) | (w14 << 16)) & 0x3FFFF;
+        out[outPos + 25] = (w14 >>> 2) & 0x3FFFF;
+        out[outPos + 26] = ((w14 >>> 20) | (w15 << 12)) & 0x3FFFF;
+        out[outPos + 27] = (w15 >>> 6) & 0x3FFFF;
+        out[outPos + 28] = ((w15 >>> 24) | (w16 << 8)) & 0x3FFFF;
+        out[outPos + 29] = (w16 >>> 10) & 0x3FFFF;
+        out[outPos + 30] = ((w16 >>> 28) | (w17 << 4)) & 0x3FFFF;
+        out[outPos + 31] = w17 >>> 14;
+    }
+
+    private static void unpack19(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        out[outPos] = w0 & 0x7FFFF;
+        out[outPos + 1] = ((w0 >>> 19) | (w1 << 13)) & 0x7FFFF;
+        out[outPos + 2] = (w1 >>> 6) & 0x7FFFF;
+        out[outPos + 3] = ((w1 >>> 25) | (w2 << 7)) & 0x7FFFF;
+        out[outPos + 4] = (w2 >>> 12) & 0x7FFFF;
+        out[outPos + 5] = ((w2 >>> 31) | (w3 << 1)) & 0x7FFFF;
+        out[outPos + 6] = ((w3 >>> 18) | (w4 << 14)) & 0x7FFFF;
+        out[outPos + 7] = (w4 >>> 5) & 0x7FFFF;
+        out[outPos + 8] = ((w4 >>> 24) | (w5 << 8)) & 0x7FFFF;
+        out[outPos + 9] = (w5 >>> 11) & 0x7FFFF;
+        out[outPos + 10] = ((w5 >>> 30) | (w6 << 2)) & 0x7FFFF;
+        out[outPos + 11] = ((w6 >>> 17) | (w7 << 15)) & 0x7FFFF;
+        out[outPos + 12] = (w7 >>> 4) & 0x7FFFF;
+        out[outPos + 13] = ((w7 >>> 23) | (w8 << 9)) & 0x7FFFF;
+        out[outPos + 14] = (w8 >>> 10) & 0x7FFFF;
+        out[outPos + 15] = ((w8 >>> 29) | (w9 << 3)) & 0x7FFFF;
+        out[outPos + 16] = ((w9 >>> 16) | (w10 << 16)) & 0x7FFFF;
+        out[outPos + 17] = (w10 >>> 3) & 0x7FFFF;
+        out[outPos + 18] = ((w10 >>> 22) | (w11 << 10)) & 0x7FFFF;
+        out[outPos + 19] = (w11 >>> 9) & 0x7FFFF;
+        out[outPos + 20] = ((w11 >>> 28) | (w12 << 4)) & 0x7FFFF;
+        out[outPos + 21] = ((w12 >>> 15) | (w13 << 17)) & 0x7FFFF;
+        out[outPos + 22] = (w13 >>> 2) & 0x7FFFF;
+        out[outPos + 23] = ((w13 >>> 21) | (w14 << 11)) & 0x7FFFF;
+        out[outPos + 24] = (w14 >>> 8) & 0x7FFFF;
+        out[outPos + 25] = ((w14 >>> 27) | (w15 << 5)) & 0x7FFFF;
+        out[outPos + 26] = ((w15 >>> 14) | (w16 << 18)) & 0x7FFFF;
+        out[outPos + 27] = (w16 >>> 1) & 0x7FFFF;
+        out[outPos + 28] = ((w16 >>> 20) | (w17 << 12)) & 0x7FFFF;
+        out[outPos + 29] = (w17 >>> 7) & 0x7FFFF;
+        out[outPos + 30] = ((w17 >>> 26) | (w18 << 6)) & 0x7FFFF;
+        out[outPos + 31] = w18 >>> 13;
+    }
+
+    private static void unpack20(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        out[outPos] = w0 & 0xFFFFF;
+        out[outPos + 1] = ((w0 >>> 20) | (w1 << 12)) & 0xFFFFF;
+        out[outPos + 2] = (w1 >>> 8) & 0xFFFFF;
+        out[outPos + 3] = ((w1 >>> 28) | (w2 << 4)) & 0xFFFFF;
+        out[outPos + 4] = ((w2 >>> 16) | (w3 << 16)) & 0xFFFFF;
+        out[outPos + 5] = (w3 >>> 4) & 0xFFFFF;
+        out[outPos + 6] = ((w3 >>> 24) | (w4 << 8)) & 0xFFFFF;
+        out[outPos + 7] = w4 >>> 12;
+        out[outPos + 8] = w5 & 0xFFFFF;
+        out[outPos + 9] = ((w5 >>> 20) | (w6 << 12)) & 0xFFFFF;
+        out[outPos + 10] = (w6 >>> 8) & 0xFFFFF;
+        out[outPos + 11] = ((w6 >>> 28) | (w7 << 4)) & 0xFFFFF;
+        out[outPos + 12] = ((w7 >>> 16) | (w8 << 16)) & 0xFFFFF;
+        out[outPos + 13] = (w8 >>> 4) & 0xFFFFF;
+        out[outPos + 14] = ((w8 >>> 24) | (w9 << 8)) & 0xFFFFF;
+        out[outPos + 15] = w9 >>> 12;
+        out[outPos + 16] = w10 & 0xFFFFF;
+        out[outPos + 17] = ((w10 >>> 20) | (w11 << 12)) & 0xFFFFF;
+        out[outPos + 18] = (w11 >>> 8) & 0xFFFFF;
+        out[outPos + 19] = ((w11 >>> 28) | (w12 << 4)) & 0xFFFFF;
+        out[outPos + 20] = ((w12 >>> 16) | (w13 << 16)) & 0xFFFFF;
+        out[outPos + 21] = (w13 >>> 4) & 0xFFFFF;
+        out[outPos + 22] = ((w13 >>> 24) | (w14 << 8)) & 0xFFFFF;
+        out[outPos + 23] = w14 >>> 12;
+        out[outPos + 24] = w15 & 0xFFFFF;
+        out[outPos + 25] = ((w15 >>> 20) | (w16 << 12)) & 0xFFFFF;
+        out[outPos + 26] = (w16 >>> 8) & 0xFFFFF;
+        out[outPos + 27] = ((w16 >>> 28) | (w17 << 4)) & 0xFFFFF;
+        out[outPos + 28] = ((w17 >>> 16) | (w18 << 16)) & 0xFFFFF;
+        out[outPos + 29] = (w18 >>> 4) & 0xFFFFF;
+        out[outPos + 30] = ((w18 >>> 24) | (w19 << 8)) & 0xFFFFF;
+        out[outPos + 31] = w19 >>> 12;
+    }
+
+    private static void unpack21(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        out[outPos] = w0 & 0x1FFFFF;
+        out[outPos + 1] = ((w0 >>> 21) | (w1 << 11)) & 0x1FFFFF;
+        out[outPos + 2] = (w1 >>> 10) & 0x1FFFFF;
+        out[outPos + 3] = ((w1 >>> 31) | (w2 << 1)) & 0x1FFFFF;
+        out[outPos + 4] = ((w2 >>> 20) | (w3 << 12)) & 0x1FFFFF;
+        out[outPos + 5] = (w3 >>> 9) & 0x1FFFFF;
+        out[outPos + 6] = ((w3 >>> 30) | (w4 << 2)) & 0x1FFFFF;
+        out[outPos + 7] = ((w4 >>> 19) | (w5 << 13)) & 0x1FFFFF;
+        out[outPos + 8] = (w5 >>> 8) & 0x1FFFFF;
+        out[outPos + 9] = ((w5 >>> 29) | (w6 << 3)) & 0x1FFFFF;
+        out[outPos + 10] = ((w6 >>> 18) | (w7 << 14)) & 0x1FFFFF;
+        out[outPos + 11] = (w7 >>> 7) & 0x1FFFFF;
+        out[outPos + 12] = ((w7 >>> 28) | (w8 << 4)) & 0x1FFFFF;
+        out[outPos + 13] = ((w8 >>> 17) | (w9 << 15)) & 0x1FFFFF;
+        out[outPos + 14] = (w9 >>> 6) & 0x1FFFFF;
+        out[outPos + 15] = ((w9 >>> 27) | (w10 << 5)) & 0x1FFFFF;
+        out[outPos + 16] = ((w10 >>> 16) | (w11 << 16)) & 0x1FFFFF;
+        out[outPos + 17] = (w11 >>> 5) & 0x1FFFFF;
+        out[outPos + 18] = ((w11 >>> 26) | (w12 << 6)) & 0x1FFFFF;
+        out[outPos + 19] = ((w12 >>> 15) | (w13 << 17)) & 0x1FFFFF;
+        out[outPos + 20] = (w13 >>> 4) & 0x1FFFFF;
+        out[outPos + 21] = ((w13 >>> 25) | (w14 << 7)) & 0x1FFFFF;
+        out[outPos + 22] = ((w14 >>> 14) | (w15 << 18)) & 0x1FFFFF;
+        out[outPos + 23] = (w15 >>> 3) & 0x1FFFFF;
+        out[outPos + 24] = ((w15 >>> 24) | (w16 << 8)) & 0x1FFFFF;
+        out[outPos + 25] = ((w16 >>> 13) | (w17 << 19)) & 0x1FFFFF;
+        out[outPos + 26] = (w17 >>> 2) & 0x1FFFFF;
+        out[outPos + 27] = ((w17 >>> 23) | (w18 << 9)) & 0x1FFFFF;
+        out[outPos + 28] = ((w18 >>> 12) | (w19 << 20)) & 0x1FFFFF;
+        out[outPos + 29] = (w19 >>> 1) & 0x1FFFFF;
+        out[outPos + 30] = ((w19 >>> 22) | (w20 << 10)) & 0x1FFFFF;
+        out[outPos + 31] = w20 >>> 11;
+    }
+
+    private static void unpack22(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        out[outPos] = w0 & 0x3FFFFF;
+        out[outPos + 1] = ((w0 >>> 22) | (w1 << 10)) & 0x3FFFFF;
+        out[outPos + 2] = ((w1 >>> 12) | (w2 << 20)) & 0x3FFFFF;
+        out[outPos + 3] = (w2 >>> 2) & 0x3FFFFF;
+        out[outPos + 4] = ((w2 >>> 24) | (w3 << 8)) & 0x3FFFFF;
+        out[outPos + 5] = ((w3 >>> 14) | (w4 << 18)) & 0x3FFFFF;
+        out[outPos + 6] = (w4 >>> 4) & 0x3FFFFF;
+        out[outPos + 7] = ((w4 >>> 26) | (w5 << 6)) & 0x3FFFFF;
+        out[outPos + 8] = ((w5 >>> 16) | (w6 << 16)) & 0x3FFFFF;
+        out[outPos + 9] = (w6 >>> 6) & 0x3FFFFF;
+        out[outPos + 10] = ((w6 >>> 28) | (w7 << 4)) & 0x3FFFFF;
+        out[outPos + 11] = ((w7 >>> 18) | (w8 << 14)) & 0x3FFFFF;
+        out[outPos + 12] = (w8 >>> 8) & 0x3FFFFF;
+        out[outPos + 13] = ((w8 >>> 30) | (w9 << 2)) & 0x3FFFFF;
+        out[outPos + 14] = ((w9 >>> 20) | (w10 << 12)) & 0x3FFFFF;
+        out[outPos + 15] = w10 >>> 10;
+        out[outPos + 16] = w11 & 0x3FFFFF;
+        out[outPos + 17] = ((w11 >>> 22) | (w12 << 10)) & 0x3FFFFF;
+        out[outPos + 18] = ((w12 >>> 12) | (w13 << 20)) & 0x3FFFFF;
+        out[outPos + 19] = (w13 >>> 2) & 0x3FFFFF;
+        out[outPos + 20] = ((w13 >>> 24) | (w14 << 8)) & 0x3FFFFF;
+        out[outPos + 21] = ((w14 >>> 14) | (w15 << 18)) & 0x3FFFFF;
+        out[outPos + 22] = (w15 >>> 4) & 0x3FFFFF;
+        out[outPos + 23] = ((w15 >>> 26) | (w16 << 6)) & 0x3FFFFF;
+        out[outPos + 24] = ((w16 >>> 16) | (w17 << 16)) & 0x3FFFFF;
+        out[outPos + 25] = (w17 >>> 6) & 0x3FFFFF;
+        out[outPos + 26] = ((w17 >>> 28) | (w18 << 4)) & 0x3FFFFF;
+        out[outPos + 27] = ((w18 >>> 18) | (w19 << 14)) & 0x3FFFFF;
+        out[outPos + 28] = (w19 >>> 8) & 0x3FFFFF;
+        out[outPos + 29] = ((w19 >>> 30) | (w20 << 2)) & 0x3FFFFF;
+        out[outPos + 30] = ((w20 >>> 20) | (w21 << 12)) & 0x3FFFFF;
+        out[outPos + 31] = w21 >>> 10;
+    }
+
+    private static void unpack23(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        out[outPos] = w0 & 0x7FFFFF;
+        out[outPos + 1] = ((w0 >>> 23) | (w1 << 9)) & 0x7FFFFF;
+        out[outPos + 2] = ((w1 >>> 14) | (w2 << 18)) & 0x7FFFFF;
+        out[outPos + 3] = (w2 >>> 5) & 0x7FFFFF;
+        out[outPos + 4] = ((w2 >>> 28) | (w3 << 4)) & 0x7FFFFF;
+        out[outPos + 5] = ((w3 >>> 19) | (w4 << 13)) & 0x7FFFFF;
+        out[outPos + 6] = ((w4 >>> 10) | (w5 << 22)) & 0x7FFFFF;
+        out[outPos + 7] = (w5 >>> 1) & 0x7FFFFF;
+        out[outPos + 8] = ((w5 >>> 24) | (w6 << 8)) & 0x7FFFFF;
+        out[outPos + 9] = ((w6 >>> 15) | (w7 << 17)) & 0x7FFFFF;
+        out[outPos + 10] = (w7 >>> 6) & 0x7FFFFF;
+        out[outPos + 11] = ((w7 >>> 29) | (w8 << 3)) & 0x7FFFFF;
+        out[outPos + 12] = ((w8 >>> 20) | (w9 << 12)) & 0x7FFFFF;
+        out[outPos + 13] = ((w9 >>> 11) | (w10 << 21)) & 0x7FFFFF;
+        out[outPos + 14] = (w10 >>> 2) & 0x7FFFFF;
+        out[outPos + 15] = ((w10 >>> 25) | (w11 << 7)) & 0x7FFFFF;
+        out[outPos + 16] = ((w11 >>> 16) | (w12 << 16)) & 0x7FFFFF;
+        out[outPos + 17] = (w12 >>> 7) & 0x7FFFFF;
+        out[outPos + 18] = ((w12 >>> 30) | (w13 << 2)) & 0x7FFFFF;
+        out[outPos + 19] = ((w13 >>> 21) | (w14 << 11)) & 0x7FFFFF;
+        out[outPos + 20] = ((w14 >>> 12) | (w15 << 20)) & 0x7FFFFF;
+        out[outPos + 21] = (w15 >>> 3) & 0x7FFFFF;
+        out[outPos + 22] = ((w15 >>> 26) | (w16 << 6)) & 0x7FFFFF;
+        out[outPos + 23] = ((w16 >>> 17) | (w17 << 15)) & 0x7FFFFF;
+        out[outPos + 24] = (w17 >>> 8) & 0x7FFFFF;
+        out[outPos + 25] = ((w17 >>> 31) | (w18 << 1)) & 0x7FFFFF;
+        out[outPos + 26] = ((w18 >>> 22) | (w19 << 10)) & 0x7FFFFF;
+        out[outPos + 27] = ((w19 >>> 13) | (w20 << 19)) & 0x7FFFFF;
+        out[outPos + 28] = (w20 >>> 4) & 0x7FFFFF;
+        out[outPos + 29] = ((w20 >>> 27) | (w21 << 5)) & 0x7FFFFF;
+        out[outPos + 30] = ((w21 >>> 18) | (w22 << 14)) & 0x7FFFFF;
+        out[outPos + 31] = w22 >>> 9;
+    }
+
+    private static void unpack24(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        final int w23 = in[inPos + 23];
+        out[outPos] = w0 & 0xFFFFFF;
+        out[outPos + 1] = ((w0 >>> 24) | (w1 << 8)) & 0xFFFFFF;
+        out[outPos + 2] = ((w1 >>> 16) | (w2 << 16)) & 0xFFFFFF;
+        out[outPos + 3] = w2 >>> 8;
+        out[outPos + 4] = w3 & 0xFFFFFF;
+        out[outPos + 5] = ((w3 >>> 24) | (w4 << 8)) & 0xFFFFFF;
+        out[outPos + 6] = ((w4 >>> 16) | (w5 << 16)) & 0xFFFFFF;
+        out[outPos + 7] = w5 >>> 8;
+        out[outPos + 8] = w6 & 0xFFFFFF;
+        out[outPos + 9] = ((w6 >>> 24) | (w7 << 8)) & 0xFFFFFF;
+        out[outPos + 10] = ((w7 >>> 16) | (w8 << 16)) & 0xFFFFFF;
+        out[outPos + 11] = w8 >>> 8;
+        out[outPos + 12] = w9 & 0xFFFFFF;
+        out[outPos + 13] = ((w9 >>> 24) | (w10 << 8)) & 0xFFFFFF;
+        out[outPos + 14] = ((w10 >>> 16) | (w11 << 16)) & 0xFFFFFF;
+        out[outPos + 15] = w11 >>> 8;
+        out[outPos + 16] = w12 & 0xFFFFFF;
+        out[outPos + 17] = ((w12 >>> 24) | (w13 << 8)) & 0xFFFFFF;
+        out[outPos + 18] = ((w13 >>> 16) | (w14 << 16)) & 0xFFFFFF;
+        out[outPos + 19] = w14 >>> 8;
+        out[outPos + 20] = w15 & 0xFFFFFF;
+        out[outPos + 21] = ((w15 >>> 24) | (w16 << 8)) & 0xFFFFFF;
+        out[outPos + 22] = ((w16 >>> 16) | (w17 << 16)) & 0xFFFFFF;
+        out[outPos + 23] = w17 >>> 8;
+        out[outPos + 24] = w18 & 0xFFFFFF;
+        out[outPos + 25] = ((w18 >>> 24) | (w19 << 8)) & 0xFFFFFF;
+        out[outPos + 26] = ((w19 >>> 16) | (w20 << 16)) & 0xFFFFFF;
+        out[outPos + 27] = w20 >>> 8;
+        out[outPos + 28] = w21 & 0xFFFFFF;
+        out[outPos + 29] = ((w21 >>> 24) | (w22 << 8)) & 0xFFFFFF;
+        out[outPos + 30] = ((w22 >>> 16) | (w23 << 16)) & 0xFFFFFF;
+        out[outPos + 31] = w23 >>> 8;
+    }
+
+    private static void unpack25(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        final int w23 = in[inPos + 23];
+        final int w24 = in[inPos + 24];
+        out[outPos] = w0 & 0x1FFFFFF;
+        out[outPos + 1] = ((w0 >>> 25) | (w1 << 7)) & 0x1FFFFFF;
+        out[outPos + 2] = ((w1 >>> 18) | (w2 << 14)) & 0x1FFFFFF;
+        out[outPos + 3] = ((w2 >>> 11) | (w3 << 21)) & 0x1FFFFFF;
+        out[outPos + 4] = (w3 >>> 4) & 0x1FFFFFF;
+        out[outPos + 5] = ((w3 >>> 29) | (w4 << 3)) & 0x1FFFFFF;
+        out[outPos + 6] = ((w4 >>> 22) | (w5 << 10)) & 0x1FFFFFF;
+        out[outPos + 7] = ((w5 >>> 15) | (w6 << 17)) & 0x1FFFFFF;
+        out[outPos + 8] = ((w6 >>> 8) | (w7 << 24)) & 0x1FFFFFF;
+        out[outPos + 9] = (w7 >>> 1) & 0x1FFFFFF;
+        out[outPos + 10] = ((w7 >>> 26) | (w8 << 6)) & 0x1FFFFFF;
+        out[outPos + 11] = ((w8 >>> 19) | (w9 << 13)) & 0x1FFFFFF;
+        out[outPos + 12] = ((w9 >>> 12) | (w10 << 20)) & 0x1FFFFFF;
+        out[outPos + 13] = (w10 >>> 5) & 0x1FFFFFF;
+        out[outPos + 14] = ((w10 >>> 30) | (w11 << 2)) & 0x1FFFFFF;
+        out[outPos + 15] = ((w11 >>> 23) | (w12 << 9)) & 0x1FFFFFF;
+        out[outPos + 16] = ((w12 >>> 16) | (w13 << 16)) & 0x1FFFFFF;
+        out[outPos + 17] = ((w13 >>> 9) | (w14 << 23)) & 0x1FFFFFF;
+        out[outPos + 18] = (w14 >>> 2) & 0x1FFFFFF;
+        out[outPos + 19] = ((w14 >>> 27) | (w15 << 5)) & 0x1FFFFFF;
+        out[outPos + 20] = ((w15 >>> 20) | (w16 << 12)) & 0x1FFFFFF;
+        out[outPos + 21] = ((w16 >>> 13) | (w17 << 19)) & 0x1FFFFFF;
+        out[outPos + 22] = (w17 >>> 6) & 0x1FFFFFF;
+        out[outPos + 23] = ((w17 >>> 31) | (w18 << 1)) & 0x1FFFFFF;
+        out[outPos + 24] = ((w18 >>> 24) | (w19 << 8)) & 0x1FFFFFF;
+        out[outPos + 25] = ((w19 >>> 17) | (w20 << 15)) & 0x1FFFFFF;
+        out[outPos + 26] = ((w20 >>> 10) | (w21 << 22)) & 0x1FFFFFF;
+        out[outPos + 27] = (w21 >>> 3) & 0x1FFFFFF;
+        out[outPos + 28] = ((w21 >>> 28) | (w22 << 4)) & 0x1FFFFFF;
+        out[outPos + 29] = ((w22 >>> 21) | (w23 << 11)) & 0x1FFFFFF;
+        out[outPos + 30] = ((w23 >>> 14) | (w24 << 18)) & 0x1FFFFFF;
+        out[outPos + 31] = w24 >>> 7;
+    }
+
+    private static void unpack26(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        final int w23 = in[inPos + 23];
+        final int w24 = in[inPos + 24];
+        final int w25 = in[inPos + 25];
+        out[outPos] = w0 & 0x3FFFFFF;
+        out[outPos + 1] = ((w0 >>> 26) | (w1 << 6)) & 0x3FFFFFF;
+        out[outPos + 2] = ((w1 >>> 20) | (w2 << 12)) & 0x3FFFFFF;
+        out[outPos + 3] = ((w2 >>> 14) | (w3 << 18)) & 0x3FFFFFF;
+        out[outPos + 4] = ((w3 >>> 8) | (w4 << 24)) & 0x3FFFFFF;
+        out[outPos + 5] = (w4 >>> 2) & 0x3FFFFFF;
+        out[outPos + 6] = ((w4 >>> 28) | (w5 << 4)) & 0x3FFFFFF;
+        out[outPos + 7] = ((w5 >>> 22) | (w6 << 10)) & 0x3FFFFFF;
+        out[outPos + 8] = ((w6 >>> 16) | (w7 << 16)) & 0x3FFFFFF;
+        out[outPos + 9] = ((w7 >>> 10) | (w8 << 22)) & 0x3FFFFFF;
+        out[outPos + 10] = (w8 >>> 4) & 0x3FFFFFF;
+        out[outPos + 11] = ((w8 >>> 30) | (w9 << 2)) & 0x3FFFFFF;
+        out[outPos + 12] = ((w9 >>> 24) | (w10 << 8)) & 0x3FFFFFF;
+        out[outPos + 13] = ((w10 >>> 18) | (w11 << 14)) & 0x3FFFFFF;
+        out[outPos + 14] = ((w11 >>> 12) | (w12 << 20)) & 0x3FFFFFF;
+        out[outPos + 15] = w12 >>> 6;
+        out[outPos + 16] = w13 & 0x3FFFFFF;
+        out[outPos + 17] = ((w13 >>> 26) | (w14 << 6)) & 0x3FFFFFF;
+        out[outPos + 18] = ((w14 >>> 20) | (w15 << 12)) & 0x3FFFFFF;
+        out[outPos + 19] = ((w15 >>> 14) | (w16 << 18)) & 0x3FFFFFF;
+        out[outPos + 20] = ((w16 >>> 8) | (w17 << 24)) & 0x3FFFFFF;
+        out[outPos + 21] = (w17 >>> 2) & 0x3FFFFFF;
+        out[outPos + 22] = ((w17 >>> 28) | (w18 << 4)) & 0x3FFFFFF;
+        out[outPos + 23] = ((w18 >>> 22) | (w19 << 10)) & 0x3FFFFFF;
+        out[outPos + 24] = ((w19 >>> 16) | (w20 << 16)) & 0x3FFFFFF;
+        out[outPos + 25] = ((w20 >>> 10) | (w21 << 22)) & 0x3FFFFFF;
+        out[outPos + 26] = (w21 >>> 4) & 0x3FFFFFF;
+        out[outPos + 27] = ((w21 >>> 30) | (w22 << 2)) & 0x3FFFFFF;
+        out[outPos + 28] = ((w22 >>> 24) | (w23 << 8)) & 0x3FFFFFF;
+        out[outPos + 29] = ((w23 >>> 18) | (w24 << 14)) & 0x3FFFFFF;
+        out[outPos + 30] = ((w24 >>> 12) | (w25 << 20)) & 0x3FFFFFF;
+        out[outPos + 31] = w25 >>> 6;
+    }
+
+    private static void unpack27(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        final int w23 = in[inPos + 23];
+        final int w24 = in[inPos + 24];
+        final int w25 = in[inPos + 25];
+        final int w26 = in[inPos + 26];
+        out[outPos] = w0 & 0x7FFFFFF;
+        out[outPos + 1] = ((w0 >>> 27) | (w1 << 5)) & 0x7FFFFFF;
+        out[outPos + 2] = ((w1 >>> 22) | (w2 << 10)) & 0x7FFFFFF;
+        out[outPos + 3] = ((w2 >>> 17) | (w3 << 15)) & 0x7FFFFFF;
+        out[outPos + 4] = ((w3 >>> 12) | (w4 << 20)) & 0x7FFFFFF;
+        out[outPos + 5] = ((w4 >>> 7) | (w5 << 25)) & 0x7FFFFFF;
+        out[outPos + 6] = (w5 >>> 2) & 0x7FFFFFF;
+        out[outPos + 7] = ((w5 >>> 29) | (w6 << 3)) & 0x7FFFFFF;
+        out[outPos + 8] = ((w6 >>> 24) | (w7 << 8)) & 0x7FFFFFF;
+        out[outPos + 9] = ((w7 >>> 19) | (w8 << 13)) & 0x7FFFFFF;
+        out[outPos + 10] = ((w8 >>> 14) | (w9 << 18)) & 0x7FFFFFF;
+        out[outPos + 11] = ((w9 >>> 9) | (w10 << 23)) & 0x7FFFFFF;
+        out[outPos + 12] = (w10 >>> 4) & 0x7FFFFFF;
+        out[outPos + 13] = ((w10 >>> 31) | (w11 << 1)) & 0x7FFFFFF;
+        out[outPos + 14] = ((w11 >>> 26) | (w12 << 6)) & 0x7FFFFFF;
+        out[outPos + 15] = ((w12 >>> 21) | (w13 << 11)) & 0x7FFFFFF;
+        out[outPos + 16] = ((w13 >>> 16) | (w14 << 16)) & 0x7FFFFFF;
+        out[outPos + 17] = ((w14 >>> 11) | (w15 << 21)) & 0x7FFFFFF;
+        out[outPos + 18] = ((w15 >>> 6) | (w16 << 26)) & 0x7FFFFFF;
+        out[outPos + 19] = (w16 >>> 1) & 0x7FFFFFF;
+        out[outPos + 20] = ((w16 >>> 28) | (w17 << 4)) & 0x7FFFFFF;
+        out[outPos + 21] = ((w17 >>> 23) | (w18 << 9)) & 0x7FFFFFF;
+        out[outPos + 22] = ((w18 >>> 18) | (w19 << 14)) & 0x7FFFFFF;
+        out[outPos + 23] = ((w19 >>> 13) | (w20 << 19)) & 0x7FFFFFF;
+        out[outPos + 24] = ((w20 >>> 8) | (w21 << 24)) & 0x7FFFFFF;
+        out[outPos + 25] = (w21 >>> 3) & 0x7FFFFFF;
+        out[outPos + 26] = ((w21 >>> 30) | (w22 << 2)) & 0x7FFFFFF;
+        out[outPos + 27] = ((w22 >>> 25) | (w23 << 7)) & 0x7FFFFFF;
+        out[outPos + 28] = ((w23 >>> 20) | (w24 << 12)) & 0x7FFFFFF;
+        out[outPos + 29] = ((w24 >>> 15) | (w25 << 17)) & 0x7FFFFFF;
+        out[outPos + 30] = ((w25 >>> 10) | (w26 << 22)) & 0x7FFFFFF;
+        out[outPos + 31] = w26 >>> 5;
+    }
+
+    private static void unpack28(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        final int w23 = in[inPos + 23];
+        final int w24 = in[inPos + 24];
+        final int w25 = in[inPos + 25];
+        final int w26 = in[inPos + 26];
+        final int w27 = in[inPos + 27];
+        out[outPos] = w0 & 0xFFFFFFF;
+        out[outPos + 1] = ((w0 >>> 28) | (w1 << 4)) & 0xFFFFFFF;
+        out[outPos + 2] = ((w1 >>> 24) | (w2 << 8)) & 0xFFFFFFF;
+        out[outPos + 3] = ((w2 >>> 20) | (w3 << 12)) & 0xFFFFFFF;
+        out[outPos + 4] = ((w3 >>> 16) | (w4 << 16)) & 0xFFFFFFF;
+        out[outPos + 5] = ((w4 >>> 12) | (w5 << 20)) & 0xFFFFFFF;
+        out[outPos + 6] = ((w5 >>> 8) | (w6 << 24)) & 0xFFFFFFF;
+        out[outPos + 7] = w6 >>> 4;
+        out[outPos + 8] = w7 & 0xFFFFFFF;
+        out[outPos + 9] = ((w7 >>> 28) | (w8 << 4)) & 0xFFFFFFF;
+        out[outPos + 10] = ((w8 >>> 24) | (w9 << 8)) & 0xFFFFFFF;
+        out[outPos + 11] = ((w9 >>> 20) | (w10 << 12)) & 0xFFFFFFF;
+        out[outPos + 12] = ((w10 >>> 16) | (w11 << 16)) & 0xFFFFFFF;
+        out[outPos + 13] = ((w11 >>> 12) | (w12 << 20)) & 0xFFFFFFF;
+        out[outPos + 14] = ((w12 >>> 8) | (w13 << 24)) & 0xFFFFFFF;
+        out[outPos + 15] = w13 >>> 4;
+        out[outPos + 16] = w14 & 0xFFFFFFF;
+        out[outPos + 17] = ((w14 >>> 28) | (w15 << 4)) & 0xFFFFFFF;
+        out[outPos + 18] = ((w15 >>> 24) | (w16 << 8)) & 0xFFFFFFF;
+        out[outPos + 19] = ((w16 >>> 20) | (w17 << 12)) & 0xFFFFFFF;
+        out[outPos + 20] = ((w17 >>> 16) | (w18 << 16)) & 0xFFFFFFF;
+        out[outPos + 21] = ((w18 >>> 12) | (w19 << 20)) & 0xFFFFFFF;
+        out[outPos + 22] = ((w19 >>> 8) | (w20 << 24)) & 0xFFFFFFF;
+        out[outPos + 23] = w20 >>> 4;
+        out[outPos + 24] = w21 & 0xFFFFFFF;
+        out[outPos + 25] = ((w21 >>> 28) | (w22 << 4)) & 0xFFFFFFF;
+        out[outPos + 26] = ((w22 >>> 24) | (w23 << 8)) & 0xFFFFFFF;
+        out[outPos + 27] = ((w23 >>> 20) | (w24 << 12)) & 0xFFFFFFF;
+        out[outPos + 28] = ((w24 >>> 16) | (w25 << 16)) & 0xFFFFFFF;
+        out[outPos + 29] = ((w25 >>> 12) | (w26 << 20)) & 0xFFFFFFF;
+        out[outPos + 30] = ((w26 >>> 8) | (w27 << 24)) & 0xFFFFFFF;
+        out[outPos + 31] = w27 >>> 4;
+    }
+
+    private static void unpack29(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        final int w23 = in[inPos + 23];
+        final int w24 = in[inPos + 24];
+        final int w25 = in[inPos + 25];
+        final int w26 = in[inPos + 26];
+        final int w27 = in[inPos + 27];
+        final int w28 = in[inPos + 28];
+        out[outPos] = w0 & 0x1FFFFFFF;
+        out[outPos + 1] = ((w0 >>> 29) | (w1 << 3)) & 0x1FFFFFFF;
+        out[outPos + 2] = ((w1 >>> 26) | (w2 << 6)) & 0x1FFFFFFF;
+        out[outPos + 3] = ((w2 >>> 23) | (w3 << 9)) & 0x1FFFFFFF;
+        out[outPos + 4] = ((w3 >>> 20) | (w4 << 12)) & 0x1FFFFFFF;
+        out[outPos + 5] = ((w4 >>> 17) | (w5 << 15)) & 0x1FFFFFFF;
+        out[outPos + 6] = ((w5 >>> 14) | (w6 << 18)) & 0x1FFFFFFF;
+        out[outPos + 7] = ((w6 >>> 11) | (w7 << 21)) & 0x1FFFFFFF;
+        out[outPos + 8] = ((w7 >>> 8) | (w8 << 24)) & 0x1FFFFFFF;
+        out[outPos + 9] = ((w8 >>> 5) | (w9 << 27)) & 0x1FFFFFFF;
+        out[outPos + 10] = (w9 >>> 2) & 0x1FFFFFFF;
+        out[outPos + 11] = ((w9 >>> 31) | (w10 << 1)) & 0x1FFFFFFF;
+        out[outPos + 12] = ((w10 >>> 28) | (w11 << 4)) & 0x1FFFFFFF;
+        out[outPos + 13] = ((w11 >>> 25) | (w12 << 7)) & 0x1FFFFFFF;
+        out[outPos + 14] = ((w12 >>> 22) | (w13 << 10)) & 0x1FFFFFFF;
+        out[outPos + 15] = ((w13 >>> 19) | (w14 << 13)) & 0x1FFFFFFF;
+        out[outPos + 16] = ((w14 >>> 16) | (w15 << 16)) & 0x1FFFFFFF;
+        out[outPos + 17] = ((w15 >>> 13) | (w16 << 19)) & 0x1FFFFFFF;
+        out[outPos + 18] = ((w16 >>> 10) | (w17 << 22)) & 0x1FFFFFFF;
+        out[outPos + 19] = ((w17 >>> 7) | (w18 << 25)) & 0x1FFFFFFF;
+        out[outPos + 20] = ((w18 >>> 4) | (w19 << 28)) & 0x1FFFFFFF;
+        out[outPos + 21] = (w19 >>> 1) & 0x1FFFFFFF;
+        out[outPos + 22] = ((w19 >>> 30) | (w20 << 2)) & 0x1FFFFFFF;
+        out[outPos + 23] = ((w20 >>> 27) | (w21 << 5)) & 0x1FFFFFFF;
+        out[outPos + 24] = ((w21 >>> 24) | (w22 << 8)) & 0x1FFFFFFF;
+        out[outPos + 25] = ((w22 >>> 21) | (w23 << 11)) & 0x1FFFFFFF;
+        out[outPos + 26] = ((w23 >>> 18) | (w24 << 14)) & 0x1FFFFFFF;
+        out[outPos + 27] = ((w24 >>> 15) | (w25 << 17)) & 0x1FFFFFFF;
+        out[outPos + 28] = ((w25 >>> 12) | (w26 << 20)) & 0x1FFFFFFF;
+        out[outPos + 29] = ((w26 >>> 9) | (w27 << 23)) & 0x1FFFFFFF;
+        out[outPos + 30] = ((w27 >>> 6) | (w28 << 26)) & 0x1FFFFFFF;
+        out[outPos + 31] = w28 >>> 3;
+    }
+
+    private static void unpack30(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        final int w23 = in[inPos + 23];
+        final int w24 = in[inPos + 24];
+        final int w25 = in[inPos + 25];
+        final int w26 = in[inPos + 26];
+        final int w27 = in[inPos + 27];
+        final int w28 = in[inPos + 28];
+        final int w29 = in[inPos + 29];
+        out[outPos] = w0 & 0x3FFFFFFF;
+        out[outPos + 1] = ((w0 >>> 30) | (w1 << 2)) & 0x3FFFFFFF;
+        out[outPos + 2] = ((w1 >>> 28) | (w2 << 4)) & 0x3FFFFFFF;
+        out[outPos + 3] = ((w2 >>> 26) | (w3 << 6)) & 0x3FFFFFFF;
+        out[outPos + 4] = ((w3 >>> 24) | (w4 << 8)) & 0x3FFFFFFF;
+        out[outPos + 5] = ((w4 >>> 22) | (w5 << 10)) & 0x3FFFFFFF;
+        out[outPos + 6] = ((w5 >>> 20) | (w6 << 12)) & 0x3FFFFFFF;
+        out[outPos + 7] = ((w6 >>> 18) | (w7 << 14)) & 0x3FFFFFFF;
+        out[outPos + 8] = ((w7 >>> 16) | (w8 << 16)) & 0x3FFFFFFF;
+        out[outPos + 9] = ((w8 >>> 14) | (w9 << 18)) & 0x3FFFFFFF;
+        out[outPos + 10] = ((w9 >>> 12) | (w10 << 20)) & 0x3FFFFFFF;
+        out[outPos + 11] = ((w10 >>> 10) | (w11 << 22)) & 0x3FFFFFFF;
+        out[outPos + 12] = ((w11 >>> 8) | (w12 << 24)) & 0x3FFFFFFF;
+        out[outPos + 13] = ((w12 >>> 6) | (w13 << 26)) & 0x3FFFFFFF;
+        out[outPos + 14] = ((w13 >>> 4) | (w14 << 28)) & 0x3FFFFFFF;
+        out[outPos + 15] = w14 >>> 2;
+        out[outPos + 16] = w15 & 0x3FFFFFFF;
+        out[outPos + 17] = ((w15 >>> 30) | (w16 << 2)) & 0x3FFFFFFF;
+        out[outPos + 18] = ((w16 >>> 28) | (w17 << 4)) & 0x3FFFFFFF;
+        out[outPos + 19] = ((w17 >>> 26) | (w18 << 6)) & 0x3FFFFFFF;
+        out[outPos + 20] = ((w18 >>> 24) | (w19 << 8)) & 0x3FFFFFFF;
+        out[outPos + 21] = ((w19 >>> 22) | (w20 << 10)) & 0x3FFFFFFF;
+        out[outPos + 22] = ((w20 >>> 20) | (w21 << 12)) & 0x3FFFFFFF;
+        out[outPos + 23] = ((w21 >>> 18) | (w22 << 14)) & 0x3FFFFFFF;
+        out[outPos + 24] = ((w22 >>> 16) | (w23 << 16)) & 0x3FFFFFFF;
+        out[outPos + 25] = ((w23 >>> 14) | (w24 << 18)) & 0x3FFFFFFF;
+        out[outPos + 26] = ((w24 >>> 12) | (w25 << 20)) & 0x3FFFFFFF;
+        out[outPos + 27] = ((w25 >>> 10) | (w26 << 22)) & 0x3FFFFFFF;
+        out[outPos + 28] = ((w26 >>> 8) | (w27 << 24)) & 0x3FFFFFFF;
+        out[outPos + 29] = ((w27 >>> 6) | (w28 << 26)) & 0x3FFFFFFF;
+        out[outPos + 30] = ((w28 >>> 4) | (w29 << 28)) & 0x3FFFFFFF;
+        out[outPos + 31] = w29 >>> 2;
+    }
+
+    private static void unpack31(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        final int w23 = in[inPos + 23];
+        final int w24 = in[inPos + 24];
+        final int w25 = in[inPos + 25];
+        final int w26 = in[inPos + 26];
+        final int w27 = in[inPos + 27];
+        final int w28 = in[inPos + 28];
+        final int w29 = in[inPos + 29];
+        final int w30 = in[inPos + 30];
+        out[outPos] = w0 & 0x7FFFFFFF;
+        out[outPos + 1] = ((w0 >>> 31) | (w1 << 1)) & 0x7FFFFFFF;
+        out[outPos + 2] = ((w1 >>> 30) | (w2 << 2)) & 0x7FFFFFFF;
+        out[outPos + 3] = ((w2 >>> 29) | (w3 << 3)) & 0x7FFFFFFF;
+        out[outPos + 4] = ((w3 >>> 28) | (w4 << 4)) & 0x7FFFFFFF;
+        out[outPos + 5] = ((w4 >>> 27) | (w5 << 5)) & 0x7FFFFFFF;
+        out[outPos + 6] = ((w5 >>> 26) | (w6 << 6)) & 0x7FFFFFFF;
+        out[outPos + 7] = ((w6 >>> 25) | (w7 << 7)) & 0x7FFFFFFF;
+        out[outPos + 8] = ((w7 >>> 24) | (w8 << 8)) & 0x7FFFFFFF;
+        out[outPos + 9] = ((w8 >>> 23) | (w9 << 9)) & 0x7FFFFFFF;
+        out[outPos + 10] = ((w9 >>> 22) | (w10 << 10)) & 0x7FFFFFFF;
+        out[outPos + 11] = ((w10 >>> 21) | (w11 << 11)) & 0x7FFFFFFF;
+        out[outPos + 12] = ((w11 >>> 20) | (w12 << 12)) & 0x7FFFFFFF;
+        out[outPos + 13] = ((w12 >>> 19) | (w13 << 13)) & 0x7FFFFFFF;
+        out[outPos + 14] = ((w13 >>> 18) | (w14 << 14)) & 0x7FFFFFFF;
+        out[outPos + 15] = ((w14 >>> 17) | (w15 << 15)) & 0x7FFFFFFF;
+        out[outPos + 16] = ((w15 >>> 16) | (w16 << 16)) & 0x7FFFFFFF;
+        out[outPos + 17] = ((w16 >>> 15) | (w17 << 17)) & 0x7FFFFFFF;
+        out[outPos + 18] = ((w17 >>> 14) | (w18 << 18)) & 0x7FFFFFFF;
+        out[outPos + 19] = ((w18 >>> 13) | (w19 << 19)) & 0x7FFFFFFF;
+        out[outPos + 20] = ((w19 >>> 12) | (w20 << 20)) & 0x7FFFFFFF;
+        out[outPos + 21] = ((w20 >>> 11) | (w21 << 21)) & 0x7FFFFFFF;
+        out[outPos + 22] = ((w21 >>> 10) | (w22 << 22)) & 0x7FFFFFFF;
+        out[outPos + 23] = ((w22 >>> 9) | (w23 << 23)) & 0x7FFFFFFF;
+        out[outPos + 24] = ((w23 >>> 8) | (w24 << 24)) & 0x7FFFFFFF;
+        out[outPos + 25] = ((w24 >>> 7) | (w25 << 25)) & 0x7FFFFFFF;
+        out[outPos + 26] = ((w25 >>> 6) | (w26 << 26)) & 0x7FFFFFFF;
+        out[outPos + 27] = ((w26 >>> 5) | (w27 << 27)) & 0x7FFFFFFF;
+        out[outPos + 28] = ((w27 >>> 4) | (w28 << 28)) & 0x7FFFFFFF;
+        out[outPos + 29] = ((w28 >>> 3) | (w29 << 29)) & 0x7FFFFFFF;
+        out[outPos + 30] = ((w29 >>> 2) | (w30 << 30)) & 0x7FFFFFFF;
+        out[outPos + 31] = w30 >>> 1;
+    }
+
+    private static void unpack32(int[] in, int inPos, int[] out, int outPos) {
+        final int w0 = in[inPos];
+        final int w1 = in[inPos + 1];
+        final int w2 = in[inPos + 2];
+        final int w3 = in[inPos + 3];
+        final int w4 = in[inPos + 4];
+        final int w5 = in[inPos + 5];
+        final int w6 = in[inPos + 6];
+        final int w7 = in[inPos + 7];
+        final int w8 = in[inPos + 8];
+        final int w9 = in[inPos + 9];
+        final int w10 = in[inPos + 10];
+        final int w11 = in[inPos + 11];
+        final int w12 = in[inPos + 12];
+        final int w13 = in[inPos + 13];
+        final int w14 = in[inPos + 14];
+        final int w15 = in[inPos + 15];
+        final int w16 = in[inPos + 16];
+        final int w17 = in[inPos + 17];
+        final int w18 = in[inPos + 18];
+        final int w19 = in[inPos + 19];
+        final int w20 = in[inPos + 20];
+        final int w21 = in[inPos + 21];
+        final int w22 = in[inPos + 22];
+        final int w23 = in[inPos + 23];
+        final int w24 = in[inPos + 24];
+        final int w25 = in[inPos + 25];
+        final int w26 = in[inPos + 26];
+        final int w27 = in[inPos + 27];
+        final int w28 = in[inPos + 28];
+        final int w29 = in[inPos + 29];
+        final int w30 = in[inPos + 30];
+        final int w31 = in[inPos + 31];
+        out[outPos] = w0;
+        out[outPos + 1] = w1;
+        out[outPos + 2] = w2;
+        out[outPos + 3] = w3;
+        out[outPos + 4] = w4;
+        out[outPos + 5] = w5;
+        out[outPos + 6] = w6;
+        out[outPos + 7] = w7;
+        out[outPos + 8] = w8;
+        out[outPos + 9] = w9;
+        out[outPos + 10] = w10;
+        out[outPos + 11] = w11;
+        out[outPos + 12] = w12;
+        out[outPos + 13] = w13;
+        out[outPos + 14] = w14;
+        out[outPos + 15] = w15;
+        out[outPos + 16] = w16;
+        out[outPos + 17] = w17;
+        out[outPos + 18] = w18;
+        out[outPos + 19] = w19;
+        out[outPos + 20] = w20;
+        out[outPos + 21] = w21;
+        out[outPos + 22] = w22;
+        out[outPos + 23] = w23;
+        out[outPos + 24] = w24;
+        out[outPos + 25] = w25;
+        out[outPos + 26] = w26;
+        out[outPos + 27] = w27;
+        out[outPos + 28] = w28;
+        out[outPos + 29] = w29;
+        out[outPos + 30] = w30;
+        out[outPos + 31] = w31;
+    }
+}
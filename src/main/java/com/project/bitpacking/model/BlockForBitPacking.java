@@ -0,0 +1,190 @@
+package com.project.bitpacking.model;
+
+/**
+ * Frame-of-reference codec with a bit width chosen per block of {@value PackedBlocks#BLOCK_SIZE} values.
+ * <p>
+ * Each block stores its minimum as a reference and packs {@code value - reference} at the smallest width that fits
+ * the block, so an outlier only widens its own block. The packed words hold, in order: one reference per block, the
+ * block widths (one byte each) and the block payloads. A block directory of payload offsets, rebuilt from the widths,
+ * keeps {@link #get(int)} O(1). Because values are stored relative to the block minimum, negative inputs are
+ * supported.
+ */
+public final class BlockForBitPacking extends AbstractBitPacking {
+    private int blockCount;
+    private int widthsOffset;
+    private int[] blockOffsets;
+    /**
+     * Working arrays kept between compressions: the reference and width of every block.
+     */
+    private int[] references;
+    private int[] widths;
+
+    @Override
+    public void compress(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        this.elementCount = values.length;
+        this.blockCount = PackedBlocks.blockCount(values.length);
+        this.widthsOffset = blockCount;
+        this.blockOffsets = reuse(blockOffsets, blockCount);
+        this.references = reuse(references, blockCount);
+        this.widths = reuse(widths, blockCount);
+        int headerWords = blockCount + PackedBlocks.byteTableWords(blockCount);
+        int wordCount = headerWords;
+        int maxWidth = 0;
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * PackedBlocks.BLOCK_SIZE;
+            int to = Math.min(values.length, from + PackedBlocks.BLOCK_SIZE);
+            int min = values[from];
+            for (int i = from + 1; i < to; i++) {
+                min = Math.min(min, values[i]);
+            }
+            // The OR of the offsets has the same bit length as the largest one (offsets are unsigned)
+            int combined = 0;
+            for (int i = from; i < to; i++) {
+                combined |= values[i] - min;
+            }
+            int width = 32 - Integer.numberOfLeadingZeros(combined);
+            references[block] = min;
+            widths[block] = width;
+            blockOffsets[block] = wordCount;
+            wordCount += PackedBlocks.payloadWords(width);
+            maxWidth = Math.max(maxWidth, width);
+        }
+        this.bitsPerValue = maxWidth;
+
+        this.packed = allocateWords(wordCount);
+        packed.copyFrom(references, 0, 0, blockCount);
+        for (int block = 0; block < blockCount; block++) {
+            PackedBlocks.writeByte(packed, widthsOffset, block, widths[block]);
+            int from = block * PackedBlocks.BLOCK_SIZE;
+            int count = Math.min(PackedBlocks.BLOCK_SIZE, values.length - from);
+            PackedBlocks.pack(values, from, count, references[block], widths[block], packed, blockOffsets[block]);
+        }
+    }
+
+    @Override
+    public void decompress(int[] destination) {
+        ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    @Override
+    public int get(int index) {
+        requireIndex(index);
+        return readValue(index);
+    }
+
+    @Override
+    int valueAt(int index) {
+        return readValue(index);
+    }
+
+    @Override
+    public void get(int[] indices, int[] destination, boolean sortIndices) {
+        checkGather(indices, destination);
+        if (!sortIndices) {
+            for (int i = 0; i < indices.length; i++) {
+                destination[i] = readValue(indices[i]);
+            }
+            return;
+        }
+        for (long entry : sortedByIndex(indices)) {
+            destination[(int) entry] = readValue((int) (entry >>> 32));
+        }
+    }
+
+    @Override
+    int splitGrain() {
+        return PackedBlocks.BLOCK_SIZE;
+    }
+
+    @Override
+    CompressionType compressionType() {
+        return CompressionType.BLOCK_FOR;
+    }
+
+    @Override
+    void restore(int elementCount, int bitsPerValue, int[] parameters, PackedStorage words, int[] overflow) {
+        int blocks = PackedBlocks.blockCount(elementCount);
+        requireWords(words, blocks + PackedBlocks.byteTableWords(blocks));
+        this.blockOffsets = PackedBlocks.payloadDirectory(words, blocks);
+        this.elementCount = elementCount;
+        this.bitsPerValue = bitsPerValue;
+        this.blockCount = blocks;
+        this.widthsOffset = blocks;
+        this.packed = words;
+    }
+
+    private int readValue(int index) {
+        int block = PackedBlocks.blockOf(index);
+        int width = PackedBlocks.readByte(packed, widthsOffset, block);
+        return packed.get(block) + PackedBlocks.read(packed, blockOffsets[block], width, PackedBlocks.slotOf(index));
+    }
+
+    private void decodeRange(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        int[] scratch = null;
+        int index = fromIndex;
+        int out = destinationOffset;
+        while (index < toIndex) {
+            int block = PackedBlocks.blockOf(index);
+            int blockStart = block * PackedBlocks.BLOCK_SIZE;
+            int slot = index - blockStart;
+            int count = Math.min(PackedBlocks.BLOCK_SIZE - slot, toIndex - index);
+            int reference = packed.get(block);
+            int width = PackedBlocks.readByte(packed, widthsOffset, block);
+
+            if (count == PackedBlocks.BLOCK_SIZE) {
+                PackedBlocks.unpack(packed, blockOffsets[block], width, destination, out);
+                addReference(destination, out, count, reference);
+            } else {
+                // Partial blocks at either end of the range are decoded into a scratch block first
+                if (scratch == null) {
+                    scratch = new int[PackedBlocks.BLOCK_SIZE];
+                }
+                PackedBlocks.unpack(packed, blockOffsets[block], width, scratch, 0);
+                System.arraycopy(scratch, slot, destination, out, count);
+                addReference(destination, out, count, reference);
+            }
+            index += count;
+            out += count;
+        }
+    }
+
+    private static void addReference(int[] values, int from, int count, int reference) {
+        if (reference == 0) {
+            return;
+        }
+        for (int i = from; i < from + count; i++) {
+            values[i] += reference;
+        }
+    }
+
+    private void ensureReady(int[] destination) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        if (destination.length < elementCount) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    private void requireIndex(int index) {
+        if (index < 0 || index >= elementCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + elementCount);
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.bitpacking.model;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Receives the blocks encoded by a {@link BitPackingWriter} as they fill.
+ */
+@FunctionalInterface
+public interface BlockSink {
+
+    /**
+     * Accepts one encoded block. The block is a fresh instance owned by the sink.
+     *
+     * @param firstIndex position in the stream of the block's first value
+     * @param block      compressed block holding the next {@link BitPacking#size()} values of the stream
+     * @throws IOException if the block cannot be stored or transmitted
+     */
+    void accept(long firstIndex, BitPacking block) throws IOException;
+
+    /**
+     * @return a sink writing each block to {@code channel} with {@link BitPacking#writeTo(WritableByteChannel)},
+     * so the stream can be read back block by block with {@link BitPackingFactory#readFrom(java.nio.ByteBuffer)}
+     */
+    static BlockSink to(WritableByteChannel channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel must not be null");
+        }
+        return (firstIndex, block) -> block.writeTo(channel);
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.bitpacking.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Packed storage viewing the words of a byte buffer: a direct buffer in native byte order owned by an
+ * {@link OffHeapArena}, or the little-endian word region of a serialized stream read without copying.
+ */
+final class BufferPackedStorage extends PackedStorage {
+    /**
+     * {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)} bound to the unsafe instance, which frees the native memory
+     * of a direct buffer immediately; {@code null} if the runtime does not expose it, in which case freed buffers are
+     * left to the garbage collector.
+     */
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final int wordCount;
+    private ByteBuffer bytes;
+    private IntBuffer words;
+    /**
+     * Whether a buffer from {@link #view()} has been handed out; such a buffer reads the native memory directly and
+     * outlives {@link #release()}, so its memory is left to the garbage collector instead of being freed.
+     */
+    private volatile boolean viewed;
+
+    /**
+     * Views {@code bytes} from position zero to its limit as words in the buffer's byte order.
+     */
+    BufferPackedStorage(ByteBuffer bytes) {
+        this.wordCount = bytes.limit() / Integer.BYTES;
+        this.bytes = bytes;
+        this.words = bytes.asIntBuffer();
+    }
+
+    /**
+     * Allocates a zero-filled direct buffer of {@code wordCount} words in native byte order.
+     */
+    static BufferPackedStorage allocateDirect(int wordCount) {
+        return new BufferPackedStorage(
+                ByteBuffer.allocateDirect(wordCount * Integer.BYTES).order(ByteOrder.nativeOrder()));
+    }
+
+    @Override
+    public int wordCount() {
+        return wordCount;
+    }
+
+    @Override
+    public boolean isDirect() {
+        return bytes().isDirect();
+    }
+
+    @Override
+    int get(int index) {
+        return words().get(index);
+    }
+
+    @Override
+    void set(int index, int value) {
+        words().put(index, value);
+    }
+
+    @Override
+    void or(int index, int bits) {
+        IntBuffer buffer = words();
+        buffer.put(index, buffer.get(index) | bits);
+    }
+
+    @Override
+    void copyTo(int fromWord, int[] destination, int destinationOffset, int length) {
+        words().get(fromWord, destination, destinationOffset, length);
+    }
+
+    @Override
+    void copyFrom(int[] source, int sourceOffset, int toWord, int length) {
+        words().put(toWord, source, sourceOffset, length);
+    }
+
+    @Override
+    public IntBuffer view() {
+        IntBuffer buffer = words().asReadOnlyBuffer();
+        viewed = true;
+        return buffer;
+    }
+
+    @Override
+    ByteBuffer littleEndianBytes() {
+        ByteBuffer buffer = bytes();
+        if (buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+            return buffer.duplicate().position(0).limit(wordCount * Integer.BYTES);
+        }
+        return super.littleEndianBytes();
+    }
+
+    /**
+     * Drops the buffer so its native memory can be reclaimed; any later access fails.
+     */
+    void release() {
+        this.bytes = null;
+        this.words = null;
+    }
+
+    /**
+     * Releases the buffer and frees its native memory at once, unless a view of it has been handed out. Only for
+     * buffers from {@link #allocateDirect(int)}.
+     */
+    void free() {
+        ByteBuffer buffer = bytes;
+        release();
+        if (buffer == null || viewed || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not free direct buffer", e);
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field instance = unsafeClass.getDeclaredField("theUnsafe");
+            instance.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(instance.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private ByteBuffer bytes() {
+        ByteBuffer buffer = bytes;
+        if (buffer == null) {
+            throw new IllegalStateException("Storage arena has been closed");
+        }
+        return buffer;
+    }
+
+    private IntBuffer words() {
+        IntBuffer buffer = words;
+        if (buffer == null) {
+            throw new IllegalStateException("Storage arena has been closed");
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.bitpacking.model;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable compressed sequence produced by {@link BitPacking#snapshot()} or
+ * {@link BitPacking#compressSnapshot(int[])}.
+ * <p>
+ * A snapshot owns a private codec instance that is never compressed again, holding packed words and overflow values
+ * that the encoder no longer writes to (every compression allocates fresh ones). That instance is reachable only
+ * through a final field, so once the constructor returns, any thread that obtains the snapshot sees it fully
+ * initialised without synchronisation, and reads never modify it apart from the search index built by the first
+ * {@link #lowerBound(int)}, which is published safely. Snapshots can therefore be shared freely between
+ * reader threads while the encoder that produced them keeps compressing.
+ * <p>
+ * Snapshots of a codec created with an {@link OffHeapArena} share its native memory and become unusable when the
+ * arena is closed.
+ */
+public final class CompressedIntArray {
+    private final CompressionType type;
+    private final BitPacking codec;
+
+    CompressedIntArray(CompressionType type, BitPacking codec) {
+        this.type = type;
+        this.codec = codec;
+    }
+
+    /**
+     * @return the codec that produced this snapshot
+     */
+    public CompressionType compressionType() {
+        return type;
+    }
+
+    /**
+     * @return the number of elements in the compressed sequence
+     */
+    public int size() {
+        return codec.size();
+    }
+
+    /**
+     * @return the number of bits used per value in the primary compressed representation
+     */
+    public int bitsPerValue() {
+        return codec.bitsPerValue();
+    }
+
+    /**
+     * @return size of the overflow region stored alongside the packed words
+     */
+    public int overflowSize() {
+        return codec.overflowSize();
+    }
+
+    /**
+     * @see BitPacking#get(int)
+     */
+    public int get(int index) {
+        return codec.get(index);
+    }
+
+    /**
+     * @see BitPacking#lowerBound(int)
+     */
+    public int lowerBound(int key) {
+        return codec.lowerBound(key);
+    }
+
+    /**
+     * @see BitPacking#contains(int)
+     */
+    public boolean contains(int key) {
+        return codec.contains(key);
+    }
+
+    /**
+     * @see BitPacking#sum(int, int)
+     */
+    public long sum(int fromIndex, int toIndex) {
+        return codec.sum(fromIndex, toIndex);
+    }
+
+    /**
+     * @see BitPacking#min()
+     */
+    public int min() {
+        return codec.min();
+    }
+
+    /**
+     * @see BitPacking#max()
+     */
+    public int max() {
+        return codec.max();
+    }
+
+    /**
+     * @see BitPacking#countInRange(int, int)
+     */
+    public int countInRange(int low, int high) {
+        return codec.countInRange(low, high);
+    }
+
+    /**
+     * @see BitPacking#scan(Predicate, int, long[])
+     */
+    public int scan(Predicate op, int constant, long[] resultBitmap) {
+        return codec.scan(op, constant, resultBitmap);
+    }
+
+    /**
+     * @see BitPacking#get(int[], int[], boolean)
+     */
+    public void get(int[] indices, int[] destination, boolean sortIndices) {
+        codec.get(indices, destination, sortIndices);
+    }
+
+    /**
+     * @see BitPacking#decompress(int[])
+     */
+    public void decompress(int[] destination) {
+        codec.decompress(destination);
+    }
+
+    /**
+     * @see BitPacking#decompress(int, int, int[], int)
+     */
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        codec.decompress(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    /**
+     * @return a new array holding all values
+     */
+    public int[] toArray() {
+        int[] values = new int[codec.size()];
+        codec.decompress(values);
+        return values;
+    }
+
+    /**
+     * @see BitPacking#iterator()
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return codec.iterator();
+    }
+
+    /**
+     * @see BitPacking#spliterator()
+     */
+    public Spliterator.OfInt spliterator() {
+        return codec.spliterator();
+    }
+
+    /**
+     * @see BitPacking#stream()
+     */
+    public IntStream stream() {
+        return codec.stream();
+    }
+
+    /**
+     * @see BitPacking#writeTo(WritableByteChannel)
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        codec.writeTo(channel);
+    }
+}
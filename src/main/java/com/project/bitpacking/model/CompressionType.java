@@ -2,23 +2,87 @@ package com.project.bitpacking.model;
 
 /**
  * Describes the bit packing strategy to use when encoding integer arrays.
+ * <p>
+ * Each constant carries the code that {@link BitPacking#writeTo(java.nio.channels.WritableByteChannel)} records for
+ * it. New constants take the next unused code wherever they are declared.
  */
 public enum CompressionType {
     /**
      * Pack bits contiguously, allowing values to straddle two consecutive 32-bit words.
      */
-    CROSS_BOUNDARY,
+    CROSS_BOUNDARY(0),
 
     /**
      * Pack bits without crossing 32-bit word boundaries. Values are padded to stay within a single word.
      */
-    ALIGNED,
+    ALIGNED(1),
 
     /**
      * Pack values using overflow-aware encoding that prioritises tight encoding for the bulk of the data
      * while delegating outliers to an auxiliary overflow area.
      */
-    OVERFLOW
-}
+    OVERFLOW(2),
+
+    /**
+     * Pack fixed blocks of 128 values relative to each block's minimum, with a bit width chosen per block.
+     */
+    BLOCK_FOR(3),
+
+    /**
+     * Pack zigzag-encoded differences between consecutive values in blocks of 128, each block anchored by its first
+     * value. Suited to sorted sequences such as timestamps or IDs, and to signed data.
+     */
+    DELTA(4),
+
+    /**
+     * Patched frame-of-reference: pack the low bits of every value in blocks of 128 and record the few wider values
+     * as exceptions (position plus high bits) that are patched in after a branch-free bulk decode.
+     */
+    PFOR(5),
+
+    /**
+     * Split the input into fixed segments and pack each one with the cross-boundary or overflow layout, whichever is
+     * smallest for that segment, behind a segment directory.
+     */
+    HYBRID(7),
 
+    /**
+     * Estimate every other strategy's size and cost from a sample of the input and delegate to the best one for a
+     * chosen objective. Compressed results carry the chosen strategy's type, never this one.
+     */
+    ADAPTIVE(6);
+
+    private final int wireCode;
+
+    CompressionType(int wireCode) {
+        this.wireCode = wireCode;
+    }
+
+    /**
+     * @return code identifying this strategy in serialized results; fixed per constant, unlike the ordinal, so
+     * reordering or adding constants keeps existing streams readable
+     */
+    int wireCode() {
+        return wireCode;
+    }
 
+    /**
+     * @return the strategy with the given {@link #wireCode()}, or {@code null} if there is none
+     */
+    static CompressionType fromWireCode(int wireCode) {
+        for (CompressionType type : values()) {
+            if (type.wireCode == wireCode) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return whether codecs of this type accept negative values; the others reject them with an
+     * {@link IllegalArgumentException}
+     */
+    boolean acceptsNegatives() {
+        return this == BLOCK_FOR || this == DELTA || this == PFOR || this == ADAPTIVE;
+    }
+}
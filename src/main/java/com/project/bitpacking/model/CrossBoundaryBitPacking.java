@@ -3,6 +3,7 @@ package com.project.bitpacking.model;
 import com.project.bitpacking.util.BitUtils;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Packs integers contiguously, allowing values to span across successive 32-bit words.
@@ -11,23 +12,48 @@ public final class CrossBoundaryBitPacking extends AbstractBitPacking {
 
     @Override
     public void compress(int[] values) {
+        compressOn(values, null);
+    }
+
+    /**
+     * Computes the maximum with a parallel reduction, then packs chunks of whole 32-value blocks concurrently. A
+     * block of 32 values always fills exactly {@code bitsPerValue} words, so no two tasks write the same word.
+     */
+    @Override
+    public void compressParallel(int[] values, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        compressOn(values, pool);
+    }
+
+    private void compressOn(int[] values, ForkJoinPool pool) {
         if (values == null) {
             throw new IllegalArgumentException("Input array must not be null");
         }
         if (values.length == 0) {
-            this.packed = new int[0];
+            this.packed = allocateWords(0);
             this.elementCount = 0;
             this.bitsPerValue = 0;
             return;
         }
 
+        boolean parallel = ParallelSupport.worthSplitting(values.length, pool);
         int max = 0;
-        for (int value : values) {
-            if (value < 0) {
+        if (parallel) {
+            // The OR of all values has the same bit length as their maximum and is negative if any value is
+            max = ParallelSupport.orAll(values, pool);
+            if (max < 0) {
                 throw new IllegalArgumentException("Negative values are not supported by this codec");
             }
-            if (value > max) {
-                max = value;
+        } else {
+            for (int value : values) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("Negative values are not supported by this codec");
+                }
+                if (value > max) {
+                    max = value;
+                }
             }
         }
 
@@ -35,73 +61,184 @@ public final class CrossBoundaryBitPacking extends AbstractBitPacking {
         this.elementCount = values.length;
 
         if (bitsPerValue == 0) {
-            this.packed = new int[0];
+            this.packed = allocateWords(0);
             return;
         }
 
         long totalBits = (long) bitsPerValue * elementCount;
         int wordCount = (int) ((totalBits + 31) / 32);
-        this.packed = new int[wordCount];
+        this.packed = allocateWords(wordCount);
 
-        int bitIndex = 0;
-        for (int value : values) {
-            writeValue(bitIndex, value);
-            bitIndex += bitsPerValue;
+        if (parallel) {
+            ParallelSupport.forEachChunk(pool, elementCount, BitUnpackKernels.BLOCK_VALUES,
+                    (from, to) -> encodeRange(values, from, to));
+        } else {
+            encodeRange(values, 0, elementCount);
         }
     }
 
     @Override
     public void decompress(int[] destination) {
+        ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    /**
+     * Scalar reference decoder reading one value at a time through the generic boundary-aware path.
+     */
+    @Override
+    public void decompressReference(int[] destination) {
         ensureReady(destination);
         if (bitsPerValue == 0) {
             Arrays.fill(destination, 0, elementCount, 0);
             return;
         }
-        int bitIndex = 0;
+        long bitIndex = 0;
         for (int i = 0; i < elementCount; i++) {
             destination[i] = readValue(bitIndex);
             bitIndex += bitsPerValue;
         }
     }
 
+    /**
+     * Writes a value that fits the current width in place. A wider value re-packs the sequence at the width it needs;
+     * as every widening at least doubles the representable range, an array is re-packed at most 31 times however
+     * many updates it receives.
+     */
+    @Override
+    public void set(int index, int value) {
+        checkSet(index);
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative values are not supported by this codec");
+        }
+        if (BitUtils.bitsRequired(value) > bitsPerValue) {
+            super.set(index, value);
+            return;
+        }
+        if (bitsPerValue > 0) {
+            prepareWrite();
+            replaceBits((long) index * bitsPerValue, bitsPerValue, value);
+        }
+    }
+
     @Override
     public int get(int index) {
         requireIndex(index);
         if (bitsPerValue == 0) {
             return 0;
         }
-        int bitIndex = index * bitsPerValue;
+        long bitIndex = (long) index * bitsPerValue;
         return readValue(bitIndex);
     }
 
-    private void writeValue(int bitIndex, int value) {
-        int wordIndex = bitIndex >>> 5;
-        int bitOffset = bitIndex & 31;
+    @Override
+    int valueAt(int index) {
+        return bitsPerValue == 0 ? 0 : readValue((long) index * bitsPerValue);
+    }
+
+    @Override
+    public void get(int[] indices, int[] destination, boolean sortIndices) {
+        checkGather(indices, destination);
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, 0, indices.length, 0);
+            return;
+        }
+        if (!sortIndices) {
+            for (int i = 0; i < indices.length; i++) {
+                destination[i] = readValue((long) indices[i] * bitsPerValue);
+            }
+            return;
+        }
+        for (long entry : sortedByIndex(indices)) {
+            destination[(int) entry] = readValue((entry >>> 32) * bitsPerValue);
+        }
+    }
+
+    @Override
+    CompressionType compressionType() {
+        return CompressionType.CROSS_BOUNDARY;
+    }
+
+    @Override
+    void restore(int elementCount, int bitsPerValue, int[] parameters, PackedStorage words, int[] overflow) {
+        requireWords(words, ((long) elementCount * bitsPerValue + 31) >>> 5);
+        this.elementCount = elementCount;
+        this.bitsPerValue = bitsPerValue;
+        this.packed = words;
+    }
+
+    private void decodeRange(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, destinationOffset, destinationOffset + (toIndex - fromIndex), 0);
+            return;
+        }
+        int blockValues = BitUnpackKernels.BLOCK_VALUES;
+        int index = fromIndex;
+        int out = destinationOffset;
+        long bitIndex = (long) fromIndex * bitsPerValue;
+
+        // Values up to the next 32-value boundary are read individually
+        int alignedStart = Math.min(toIndex, (fromIndex + blockValues - 1) / blockValues * blockValues);
+        for (; index < alignedStart; index++) {
+            destination[out++] = readValue(bitIndex);
+            bitIndex += bitsPerValue;
+        }
+
+        // 32 values always occupy exactly bitsPerValue words, so whole blocks go through the unrolled kernel
+        int blockCount = (toIndex - index) / blockValues;
+        packed.unpackBlocks(bitsPerValue, (int) (bitIndex >>> 5), destination, out, blockCount);
+        index += blockCount * blockValues;
+        out += blockCount * blockValues;
+        bitIndex += (long) blockCount * blockValues * bitsPerValue;
+
+        for (; index < toIndex; index++) {
+            destination[out++] = readValue(bitIndex);
+            bitIndex += bitsPerValue;
+        }
+    }
+
+    private void encodeRange(int[] values, int fromIndex, int toIndex) {
+        long bitIndex = (long) fromIndex * bitsPerValue;
+        for (int i = fromIndex; i < toIndex; i++) {
+            writeValue(bitIndex, values[i]);
+            bitIndex += bitsPerValue;
+        }
+    }
+
+    private void writeValue(long bitIndex, int value) {
+        int wordIndex = (int) (bitIndex >>> 5);
+        int bitOffset = (int) bitIndex & 31;
 
         if (bitOffset + bitsPerValue <= 32) {
-            packed[wordIndex] |= value << bitOffset;
+            packed.or(wordIndex, value << bitOffset);
         } else {
             int lowerBits = 32 - bitOffset;
             int upperBits = bitsPerValue - lowerBits;
             int lowerMask = (1 << lowerBits) - 1;
-            packed[wordIndex] |= (value & lowerMask) << bitOffset;
-            packed[wordIndex + 1] |= value >>> lowerBits;
+            packed.or(wordIndex, (value & lowerMask) << bitOffset);
+            packed.or(wordIndex + 1, value >>> lowerBits);
         }
     }
 
-    private int readValue(int bitIndex) {
-        int wordIndex = bitIndex >>> 5;
-        int bitOffset = bitIndex & 31;
+    private int readValue(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 5);
+        int bitOffset = (int) bitIndex & 31;
 
         if (bitOffset + bitsPerValue <= 32) {
             int mask = bitsPerValue == 32 ? -1 : (1 << bitsPerValue) - 1;
-            return (packed[wordIndex] >>> bitOffset) & mask;
+            return (packed.get(wordIndex) >>> bitOffset) & mask;
         }
         int lowerBits = 32 - bitOffset;
         int upperBits = bitsPerValue - lowerBits;
         int lowerMask = (1 << lowerBits) - 1;
-        int lowerPart = (packed[wordIndex] >>> bitOffset) & lowerMask;
-        int upperPart = packed[wordIndex + 1] & ((1 << upperBits) - 1);
+        int lowerPart = (packed.get(wordIndex) >>> bitOffset) & lowerMask;
+        int upperPart = packed.get(wordIndex + 1) & ((1 << upperBits) - 1);
         return (upperPart << lowerBits) | lowerPart;
     }
 
@@ -0,0 +1,62 @@
+package com.project.bitpacking.model;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Iterator over a compressed sequence that decodes {@value DecodingSpliterator#CHUNK_VALUES} values at a time
+ * through the codec's range decompression.
+ */
+final class DecodingIterator implements PrimitiveIterator.OfInt {
+    private final BitPacking codec;
+    private final int[] buffer = new int[DecodingSpliterator.CHUNK_VALUES];
+    private final int end;
+    private int next;
+    private int position;
+    private int limit;
+
+    DecodingIterator(BitPacking codec) {
+        this.codec = codec;
+        this.end = codec.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next < end;
+    }
+
+    @Override
+    public int nextInt() {
+        if (next >= end) {
+            throw new NoSuchElementException();
+        }
+        if (position == limit) {
+            refill();
+        }
+        next++;
+        return buffer[position++];
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        while (next < end) {
+            if (position == limit) {
+                refill();
+            }
+            next += limit - position;
+            while (position < limit) {
+                action.accept(buffer[position++]);
+            }
+        }
+    }
+
+    private void refill() {
+        limit = Math.min(buffer.length, end - next);
+        codec.decompress(next, next + limit, buffer, 0);
+        position = 0;
+    }
+}
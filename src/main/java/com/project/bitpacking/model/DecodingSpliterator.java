@@ -0,0 +1,101 @@
+package com.project.bitpacking.model;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterator over a range of a compressed sequence that decodes {@value #CHUNK_VALUES} values at a time through the
+ * codec's range decompression, so traversal never materialises the whole sequence.
+ * <p>
+ * Splits fall on multiples of the codec's split grain, the smallest run of values that starts on a fresh packed word
+ * or block, so the halves decode independently.
+ */
+final class DecodingSpliterator implements Spliterator.OfInt {
+    /**
+     * Values decoded per refill, keeping the buffer within 1 KiB.
+     */
+    static final int CHUNK_VALUES = 256;
+
+    private final BitPacking codec;
+    private final int grain;
+    private final int[] buffer = new int[CHUNK_VALUES];
+    private int next;
+    private int end;
+    private int bufferStart;
+    private int bufferEnd;
+
+    DecodingSpliterator(BitPacking codec, int fromIndex, int toIndex, int grain) {
+        this.codec = codec;
+        this.next = fromIndex;
+        this.end = toIndex;
+        this.grain = grain;
+        this.bufferStart = fromIndex;
+        this.bufferEnd = fromIndex;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        if (next >= end) {
+            return false;
+        }
+        if (next == bufferEnd) {
+            refill();
+        }
+        action.accept(buffer[next++ - bufferStart]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException("Action must not be null");
+        }
+        while (next < end) {
+            if (next == bufferEnd) {
+                refill();
+            }
+            for (int i = next - bufferStart, last = bufferEnd - bufferStart; i < last; i++) {
+                action.accept(buffer[i]);
+            }
+            next = bufferEnd;
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        // Only offered between refills, so no decoded value changes hands
+        if (next != bufferEnd) {
+            return null;
+        }
+        int middle = (int) (((long) next + end) >>> 1);
+        middle -= middle % grain;
+        if (middle - next < CHUNK_VALUES) {
+            return null;
+        }
+        DecodingSpliterator prefix = new DecodingSpliterator(codec, next, middle, grain);
+        this.next = middle;
+        this.bufferStart = middle;
+        this.bufferEnd = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - next;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+
+    private void refill() {
+        int count = Math.min(CHUNK_VALUES, end - next);
+        codec.decompress(next, next + count, buffer, 0);
+        bufferStart = next;
+        bufferEnd = next + count;
+    }
+}
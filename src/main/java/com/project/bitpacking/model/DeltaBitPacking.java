@@ -0,0 +1,238 @@
+package com.project.bitpacking.model;
+
+/**
+ * Delta codec for sorted or slowly varying sequences, including negative values.
+ * <p>
+ * The input is split into blocks of {@value PackedBlocks#BLOCK_SIZE} values. Each block stores its first value as
+ * an anchor and packs the zigzag-encoded differences between consecutive values at the smallest width that fits the
+ * block. Zigzag encoding maps small negative and positive differences alike to small unsigned integers. The packed
+ * words hold, in order: one anchor per block, the block widths (one byte each) and the block payloads.
+ * <p>
+ * Decoding a block unpacks the differences with the unrolled kernels, then rebuilds the values in two passes: a
+ * branch-free zigzag decode that the JIT vectorises, followed by a running sum. Thanks to the anchors,
+ * {@link #get(int)} only sums the differences within one block.
+ */
+public final class DeltaBitPacking extends AbstractBitPacking {
+    private int blockCount;
+    private int widthsOffset;
+    private int[] blockOffsets;
+    /**
+     * Working arrays kept between compressions: the width of every block and the deltas of one block.
+     */
+    private int[] widths;
+    private final int[] deltas = new int[PackedBlocks.BLOCK_SIZE];
+
+    @Override
+    public void compress(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        this.elementCount = values.length;
+        this.blockCount = PackedBlocks.blockCount(values.length);
+        this.widthsOffset = blockCount;
+        this.blockOffsets = reuse(blockOffsets, blockCount);
+        this.widths = reuse(widths, blockCount);
+        int wordCount = blockCount + PackedBlocks.byteTableWords(blockCount);
+        int maxWidth = 0;
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * PackedBlocks.BLOCK_SIZE;
+            int to = Math.min(values.length, from + PackedBlocks.BLOCK_SIZE);
+            // The OR of the zigzag deltas has the same bit length as the largest one
+            int combined = 0;
+            for (int i = from + 1; i < to; i++) {
+                combined |= zigzag(values[i] - values[i - 1]);
+            }
+            int width = 32 - Integer.numberOfLeadingZeros(combined);
+            widths[block] = width;
+            blockOffsets[block] = wordCount;
+            wordCount += PackedBlocks.payloadWords(width);
+            maxWidth = Math.max(maxWidth, width);
+        }
+        this.bitsPerValue = maxWidth;
+
+        this.packed = allocateWords(wordCount);
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * PackedBlocks.BLOCK_SIZE;
+            int count = Math.min(PackedBlocks.BLOCK_SIZE, values.length - from);
+            packed.set(block, values[from]);
+            PackedBlocks.writeByte(packed, widthsOffset, block, widths[block]);
+            // The first slot holds a zero delta so that every slot decodes uniformly from the anchor
+            deltas[0] = 0;
+            for (int i = 1; i < count; i++) {
+                deltas[i] = zigzag(values[from + i] - values[from + i - 1]);
+            }
+            PackedBlocks.pack(deltas, 0, count, 0, widths[block], packed, blockOffsets[block]);
+        }
+    }
+
+    @Override
+    public void decompress(int[] destination) {
+        ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    @Override
+    public int get(int index) {
+        requireIndex(index);
+        return readValue(index);
+    }
+
+    @Override
+    int valueAt(int index) {
+        return readValue(index);
+    }
+
+    @Override
+    public void get(int[] indices, int[] destination, boolean sortIndices) {
+        checkGather(indices, destination);
+        if (!sortIndices) {
+            for (int i = 0; i < indices.length; i++) {
+                destination[i] = readValue(indices[i]);
+            }
+            return;
+        }
+        for (long entry : sortedByIndex(indices)) {
+            destination[(int) entry] = readValue((int) (entry >>> 32));
+        }
+    }
+
+    @Override
+    int splitGrain() {
+        return PackedBlocks.BLOCK_SIZE;
+    }
+
+    /**
+     * Samples the block anchors, so a search ends inside a single block.
+     */
+    @Override
+    int searchStride() {
+        return PackedBlocks.BLOCK_SIZE;
+    }
+
+    /**
+     * Scans forward from the block anchor, since a value inside a block costs the sum of the deltas before it.
+     */
+    @Override
+    int lowerBoundWithin(int key, int fromIndex, int toIndex) {
+        int block = PackedBlocks.blockOf(fromIndex);
+        int width = PackedBlocks.readByte(packed, widthsOffset, block);
+        int value = packed.get(block);
+        if (width == 0) {
+            return value < key ? toIndex : fromIndex;
+        }
+        int offset = blockOffsets[block];
+        int first = block * PackedBlocks.BLOCK_SIZE;
+        for (int index = first + 1; index < toIndex; index++) {
+            value += unzigzag(PackedBlocks.read(packed, offset, width, index - first));
+            if (index >= fromIndex && value >= key) {
+                return index;
+            }
+        }
+        return toIndex;
+    }
+
+    @Override
+    CompressionType compressionType() {
+        return CompressionType.DELTA;
+    }
+
+    @Override
+    void restore(int elementCount, int bitsPerValue, int[] parameters, PackedStorage words, int[] overflow) {
+        int blocks = PackedBlocks.blockCount(elementCount);
+        requireWords(words, blocks + PackedBlocks.byteTableWords(blocks));
+        this.blockOffsets = PackedBlocks.payloadDirectory(words, blocks);
+        this.elementCount = elementCount;
+        this.bitsPerValue = bitsPerValue;
+        this.blockCount = blocks;
+        this.widthsOffset = blocks;
+        this.packed = words;
+    }
+
+    private int readValue(int index) {
+        int block = PackedBlocks.blockOf(index);
+        int width = PackedBlocks.readByte(packed, widthsOffset, block);
+        int value = packed.get(block);
+        if (width == 0) {
+            return value;
+        }
+        int offset = blockOffsets[block];
+        for (int slot = 1, last = PackedBlocks.slotOf(index); slot <= last; slot++) {
+            value += unzigzag(PackedBlocks.read(packed, offset, width, slot));
+        }
+        return value;
+    }
+
+    private void decodeRange(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        int[] scratch = null;
+        int index = fromIndex;
+        int out = destinationOffset;
+        while (index < toIndex) {
+            int block = PackedBlocks.blockOf(index);
+            int slot = index - block * PackedBlocks.BLOCK_SIZE;
+            int count = Math.min(PackedBlocks.BLOCK_SIZE - slot, toIndex - index);
+            int width = PackedBlocks.readByte(packed, widthsOffset, block);
+
+            if (count == PackedBlocks.BLOCK_SIZE) {
+                PackedBlocks.unpack(packed, blockOffsets[block], width, destination, out);
+                prefixSum(destination, out, count, packed.get(block));
+            } else {
+                // Partial blocks need the deltas before the first requested slot, so the whole block is decoded
+                if (scratch == null) {
+                    scratch = new int[PackedBlocks.BLOCK_SIZE];
+                }
+                PackedBlocks.unpack(packed, blockOffsets[block], width, scratch, 0);
+                prefixSum(scratch, 0, slot + count, packed.get(block));
+                System.arraycopy(scratch, slot, destination, out, count);
+            }
+            index += count;
+            out += count;
+        }
+    }
+
+    private static void prefixSum(int[] values, int from, int count, int anchor) {
+        int end = from + count;
+        for (int i = from; i < end; i++) {
+            values[i] = unzigzag(values[i]);
+        }
+        int running = anchor;
+        for (int i = from; i < end; i++) {
+            running += values[i];
+            values[i] = running;
+        }
+    }
+
+    static int zigzag(int delta) {
+        return (delta << 1) ^ (delta >> 31);
+    }
+
+    private static int unzigzag(int encoded) {
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    private void ensureReady(int[] destination) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        if (destination.length < elementCount) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    private void requireIndex(int index) {
+        if (index < 0 || index >= elementCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + elementCount);
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.bitpacking.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Packed storage backed by the leading words of an on-heap {@code int[]}.
+ */
+final class HeapPackedStorage extends PackedStorage {
+    private final int[] words;
+    private int wordCount;
+
+    HeapPackedStorage(int[] words) {
+        this(words, words.length);
+    }
+
+    HeapPackedStorage(int[] words, int wordCount) {
+        this.words = words;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Re-targets this storage at the first {@code wordCount} words of its array, zero-filling them, so a
+     * caller-provided buffer can be reused without allocating a new storage.
+     */
+    void reset(int wordCount) {
+        Arrays.fill(words, 0, wordCount, 0);
+        this.wordCount = wordCount;
+    }
+
+    @Override
+    public int wordCount() {
+        return wordCount;
+    }
+
+    @Override
+    public boolean isDirect() {
+        return false;
+    }
+
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(words, wordCount);
+    }
+
+    @Override
+    int get(int index) {
+        return words[index];
+    }
+
+    @Override
+    void set(int index, int value) {
+        words[index] = value;
+    }
+
+    @Override
+    void or(int index, int bits) {
+        words[index] |= bits;
+    }
+
+    @Override
+    void copyTo(int fromWord, int[] destination, int destinationOffset, int length) {
+        System.arraycopy(words, fromWord, destination, destinationOffset, length);
+    }
+
+    @Override
+    void copyFrom(int[] source, int sourceOffset, int toWord, int length) {
+        System.arraycopy(source, sourceOffset, words, toWord, length);
+    }
+
+    @Override
+    ByteBuffer littleEndianBytes() {
+        ByteBuffer bytes = ByteBuffer.allocate(wordCount * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asIntBuffer().put(words, 0, wordCount);
+        return bytes;
+    }
+
+    @Override
+    public IntBuffer view() {
+        return IntBuffer.wrap(words, 0, wordCount).asReadOnlyBuffer();
+    }
+
+    @Override
+    int[] array() {
+        return words;
+    }
+
+    @Override
+    void unpackBlocks(int bits, int wordIndex, int[] out, int outPos, int blockCount) {
+        BitUnpackKernels.unpackBlocks(bits, words, wordIndex, out, outPos, blockCount);
+    }
+}
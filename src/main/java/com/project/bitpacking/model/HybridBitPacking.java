@@ -0,0 +1,445 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Segmented codec choosing the cross-boundary or overflow layout independently for every segment of
+ * {@link #segmentValues()} values, so that runs of small values, bursts of spikes and wide stretches each get the
+ * layout that stores them in the fewest words.
+ * <p>
+ * The packed words hold, in order: one word offset per segment, one descriptor byte per segment (layout in the top
+ * two bits, width in the low six) and the segment payloads. A cross-boundary segment packs its values contiguously at
+ * its width; an overflow segment packs flagged entries as {@link OverflowBitPacking} does, followed by its overflow
+ * values. The offsets and descriptors form a segment
+ * directory that keeps {@link #get(int)} O(1). Values are treated as unsigned, so negative inputs are rejected.
+ */
+public final class HybridBitPacking extends AbstractBitPacking {
+    /**
+     * Segment length used by the no-argument constructor.
+     */
+    public static final int DEFAULT_SEGMENT_VALUES = 1024;
+
+    static final int MODE_CROSS_BOUNDARY = 0;
+    // Layout code 1 is unused: an aligned layout never needs fewer words than cross-boundary and decodes slower
+    static final int MODE_OVERFLOW = 2;
+
+    private static final int MAX_SEGMENT_VALUES = 1 << 24;
+
+    private int segmentValues;
+    private int segmentShift;
+    private int segmentCount;
+    private int descriptorsOffset;
+    /**
+     * Working arrays kept between compressions: per-segment layout, width, overflow primary width and word count.
+     */
+    private int[] modes;
+    private int[] widths;
+    private int[] primaryWidths;
+    private int[] segmentWords;
+    private final int[] histogram = new int[33];
+
+    /**
+     * Creates a codec with segments of {@value #DEFAULT_SEGMENT_VALUES} values.
+     */
+    public HybridBitPacking() {
+        this(DEFAULT_SEGMENT_VALUES);
+    }
+
+    /**
+     * Creates a codec with segments of {@code segmentValues} values. Shorter segments follow the data more closely
+     * but add one and a quarter directory words each.
+     *
+     * @param segmentValues values per segment, a power of two between {@value PackedBlocks#BLOCK_SIZE} and 2^24
+     */
+    public HybridBitPacking(int segmentValues) {
+        if (!validSegmentValues(segmentValues)) {
+            throw new IllegalArgumentException("Segment length must be a power of two between "
+                    + PackedBlocks.BLOCK_SIZE + " and " + MAX_SEGMENT_VALUES);
+        }
+        setSegmentValues(segmentValues);
+    }
+
+    /**
+     * @return number of values per segment
+     */
+    public int segmentValues() {
+        return segmentValues;
+    }
+
+    /**
+     * @return layout chosen for segment {@code segment}: {@link CompressionType#CROSS_BOUNDARY} or
+     * {@link CompressionType#OVERFLOW}
+     */
+    public CompressionType segmentType(int segment) {
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+        if (segment < 0 || segment >= segmentCount) {
+            throw new IndexOutOfBoundsException("Segment " + segment + " out of bounds for length " + segmentCount);
+        }
+        return PackedBlocks.readByte(packed, descriptorsOffset, segment) >>> 6 == MODE_CROSS_BOUNDARY
+                ? CompressionType.CROSS_BOUNDARY
+                : CompressionType.OVERFLOW;
+    }
+
+    /**
+     * @return number of segments in the compressed sequence
+     */
+    public int segmentCount() {
+        return segmentCount;
+    }
+
+    @Override
+    public void compress(int[] values) {
+        compressOn(values, null);
+    }
+
+    /**
+     * Analyses and then encodes chunks of whole segments concurrently. Every segment starts on a word boundary of its
+     * own, so no two tasks write the same word.
+     */
+    @Override
+    public void compressParallel(int[] values, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        compressOn(values, pool);
+    }
+
+    private void compressOn(int[] values, ForkJoinPool pool) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        this.elementCount = values.length;
+        this.segmentCount = (int) (((long) values.length + segmentValues - 1) >>> segmentShift);
+        this.descriptorsOffset = segmentCount;
+        this.modes = reuse(modes, segmentCount);
+        this.widths = reuse(widths, segmentCount);
+        this.primaryWidths = reuse(primaryWidths, segmentCount);
+        this.segmentWords = reuse(segmentWords, segmentCount);
+
+        boolean parallel = ParallelSupport.worthSplitting(values.length, pool);
+        if (parallel) {
+            ParallelSupport.forEachChunk(pool, elementCount, segmentValues, (from, to) -> {
+                int[] chunkHistogram = new int[33];
+                for (int segment = from >>> segmentShift; (long) segment << segmentShift < to; segment++) {
+                    analyzeSegment(values, segment, chunkHistogram);
+                }
+            });
+        } else {
+            for (int segment = 0; segment < segmentCount; segment++) {
+                analyzeSegment(values, segment, histogram);
+            }
+        }
+
+        long wordCount = segmentCount + PackedBlocks.byteTableWords(segmentCount);
+        int maxWidth = 0;
+        for (int segment = 0; segment < segmentCount; segment++) {
+            wordCount += segmentWords[segment];
+            maxWidth = Math.max(maxWidth, widths[segment]);
+        }
+        if (wordCount > OffHeapArena.MAX_WORDS) {
+            throw new IllegalArgumentException("Compressed size of " + wordCount
+                    + " words exceeds the capacity of an array");
+        }
+        this.bitsPerValue = maxWidth;
+        this.packed = allocateWords((int) wordCount);
+
+        int offset = segmentCount + PackedBlocks.byteTableWords(segmentCount);
+        for (int segment = 0; segment < segmentCount; segment++) {
+            packed.set(segment, offset);
+            PackedBlocks.writeByte(packed, descriptorsOffset, segment, (modes[segment] << 6) | widths[segment]);
+            offset += segmentWords[segment];
+        }
+        if (parallel) {
+            ParallelSupport.forEachChunk(pool, elementCount, segmentValues, (from, to) -> {
+                for (int segment = from >>> segmentShift; (long) segment << segmentShift < to; segment++) {
+                    encodeSegment(values, segment);
+                }
+            });
+        } else {
+            for (int segment = 0; segment < segmentCount; segment++) {
+                encodeSegment(values, segment);
+            }
+        }
+    }
+
+    /**
+     * Picks the layout storing segment {@code segment} in the fewest words, computed exactly from its bit-width
+     * histogram. Ties go to cross-boundary, which decodes faster.
+     */
+    private void analyzeSegment(int[] values, int segment, int[] segmentHistogram) {
+        int from = segment << segmentShift;
+        int count = segmentLength(segment);
+        BitUtils.bitWidthHistogram(values, from, from + count, segmentHistogram);
+        if (segmentHistogram[32] > 0) {
+            throw new IllegalArgumentException("Negative values are not supported by this codec");
+        }
+        int maxBits = 31;
+        while (maxBits > 0 && segmentHistogram[maxBits] == 0) {
+            maxBits--;
+        }
+
+        int mode = MODE_CROSS_BOUNDARY;
+        int width = maxBits;
+        int primary = maxBits;
+        int bestWords = PackedBlocks.packedWords(count, maxBits);
+        if (maxBits > 0) {
+            // Walk primary widths downwards so the overflow count accumulates from the histogram
+            int overflowCount = 0;
+            for (int candidate = maxBits - 1; candidate >= 1; candidate--) {
+                overflowCount += segmentHistogram[candidate + 1];
+                int entryBits = OverflowBitPacking.entryBits(candidate, overflowCount);
+                int words = PackedBlocks.packedWords(count, entryBits) + overflowCount;
+                if (words < bestWords) {
+                    mode = MODE_OVERFLOW;
+                    width = entryBits;
+                    primary = candidate;
+                    bestWords = words;
+                }
+            }
+        }
+        modes[segment] = mode;
+        widths[segment] = width;
+        primaryWidths[segment] = primary;
+        segmentWords[segment] = bestWords;
+    }
+
+    private void encodeSegment(int[] values, int segment) {
+        int from = segment << segmentShift;
+        int count = segmentLength(segment);
+        int offset = packed.get(segment);
+        int width = widths[segment];
+        if (width == 0) {
+            return;
+        }
+        if (modes[segment] == MODE_CROSS_BOUNDARY) {
+            PackedBlocks.pack(values, from, count, 0, width, packed, offset);
+        } else {
+            int primary = primaryWidths[segment];
+            int overflowStart = offset + PackedBlocks.packedWords(count, width);
+            int overflowCursor = 0;
+            int bitIndex = 0;
+            for (int i = from; i < from + count; i++) {
+                int value = values[i];
+                int entry;
+                if ((value >>> primary) != 0) {
+                    packed.set(overflowStart + overflowCursor, value);
+                    entry = (overflowCursor++ << 1) | 1;
+                } else {
+                    entry = value << 1;
+                }
+                writeEntry(offset, bitIndex, width, entry);
+                bitIndex += width;
+            }
+        }
+    }
+
+    @Override
+    public void decompress(int[] destination) {
+        ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    @Override
+    public int get(int index) {
+        requireIndex(index);
+        return readValue(index);
+    }
+
+    @Override
+    int valueAt(int index) {
+        return readValue(index);
+    }
+
+    @Override
+    public void get(int[] indices, int[] destination, boolean sortIndices) {
+        checkGather(indices, destination);
+        if (!sortIndices) {
+            for (int i = 0; i < indices.length; i++) {
+                destination[i] = readValue(indices[i]);
+            }
+            return;
+        }
+        for (long entry : sortedByIndex(indices)) {
+            destination[(int) entry] = readValue((int) (entry >>> 32));
+        }
+    }
+
+    @Override
+    int splitGrain() {
+        return BitUnpackKernels.BLOCK_VALUES;
+    }
+
+    @Override
+    CompressionType compressionType() {
+        return CompressionType.HYBRID;
+    }
+
+    /**
+     * The only parameter is the segment length.
+     */
+    @Override
+    int[] wireParameters() {
+        return new int[]{segmentValues};
+    }
+
+    @Override
+    void restore(int elementCount, int bitsPerValue, int[] parameters, PackedStorage words, int[] overflow) {
+        if (parameters.length != 1 || !validSegmentValues(parameters[0])) {
+            throw new IllegalArgumentException("Corrupted stream: invalid segment length");
+        }
+        setSegmentValues(parameters[0]);
+        this.elementCount = elementCount;
+        this.segmentCount = (int) (((long) elementCount + segmentValues - 1) >>> segmentShift);
+        this.descriptorsOffset = segmentCount;
+        long headerWords = segmentCount + (long) PackedBlocks.byteTableWords(segmentCount);
+        requireWords(words, headerWords);
+        long previousEnd = headerWords;
+        for (int segment = 0; segment < segmentCount; segment++) {
+            int offset = words.get(segment);
+            int descriptor = PackedBlocks.readByte(words, descriptorsOffset, segment);
+            int mode = descriptor >>> 6;
+            int width = descriptor & 63;
+            if (offset < previousEnd || (mode != MODE_CROSS_BOUNDARY && mode != MODE_OVERFLOW) || width > 32
+                    || width > bitsPerValue) {
+                throw new IllegalArgumentException("Corrupted stream: invalid descriptor for segment " + segment);
+            }
+            int count = (int) Math.min(segmentValues, elementCount - ((long) segment << segmentShift));
+            previousEnd = (long) offset + PackedBlocks.packedWords(count, width);
+            requireWords(words, previousEnd);
+        }
+        this.bitsPerValue = bitsPerValue;
+        this.packed = words;
+    }
+
+    private int readValue(int index) {
+        int segment = index >>> segmentShift;
+        int slot = index & (segmentValues - 1);
+        int offset = packed.get(segment);
+        int descriptor = PackedBlocks.readByte(packed, descriptorsOffset, segment);
+        int width = descriptor & 63;
+        if (width == 0) {
+            return 0;
+        }
+        int mode = descriptor >>> 6;
+        if (mode == MODE_CROSS_BOUNDARY) {
+            return PackedBlocks.read(packed, offset, width, slot);
+        }
+        int entry = PackedBlocks.read(packed, offset, width, slot);
+        return (entry & 1) == 0 ? entry >>> 1 : overflowValue(segment, offset, width, entry >>> 1);
+    }
+
+    private void decodeRange(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        int index = fromIndex;
+        int out = destinationOffset;
+        while (index < toIndex) {
+            int segment = index >>> segmentShift;
+            int slot = index & (segmentValues - 1);
+            int count = Math.min(segmentLength(segment) - slot, toIndex - index);
+            int offset = packed.get(segment);
+            int descriptor = PackedBlocks.readByte(packed, descriptorsOffset, segment);
+            int width = descriptor & 63;
+            if (width == 0) {
+                Arrays.fill(destination, out, out + count, 0);
+            } else {
+                unpackRange(offset, width, slot, count, destination, out);
+                if (descriptor >>> 6 == MODE_OVERFLOW) {
+                    for (int i = out; i < out + count; i++) {
+                        int entry = destination[i];
+                        destination[i] = (entry & 1) == 0
+                                ? entry >>> 1
+                                : overflowValue(segment, offset, width, entry >>> 1);
+                    }
+                }
+            }
+            index += count;
+            out += count;
+        }
+    }
+
+    /**
+     * Decodes {@code count} values of a contiguous layout at {@code width} bits, starting at {@code slot}; whole
+     * 32-value blocks go through the unrolled kernels and the edges are read one value at a time.
+     */
+    private void unpackRange(int offset, int width, int slot, int count, int[] destination, int out) {
+        int blockValues = BitUnpackKernels.BLOCK_VALUES;
+        int end = slot + count;
+        int alignedStart = Math.min(end, (slot + blockValues - 1) / blockValues * blockValues);
+        for (; slot < alignedStart; slot++) {
+            destination[out++] = PackedBlocks.read(packed, offset, width, slot);
+        }
+        int blocks = (end - slot) / blockValues;
+        packed.unpackBlocks(width, offset + slot / blockValues * width, destination, out, blocks);
+        slot += blocks * blockValues;
+        out += blocks * blockValues;
+        for (; slot < end; slot++) {
+            destination[out++] = PackedBlocks.read(packed, offset, width, slot);
+        }
+    }
+
+    /**
+     * Reads entry {@code overflowIndex} of the overflow values that follow the entries of an overflow segment.
+     */
+    private int overflowValue(int segment, int offset, int width, int overflowIndex) {
+        int overflowStart = offset + PackedBlocks.packedWords(segmentLength(segment), width);
+        int segmentEnd = segment + 1 < segmentCount ? packed.get(segment + 1) : packed.wordCount();
+        if (overflowIndex >= segmentEnd - overflowStart) {
+            throw new IllegalStateException("Corrupted overflow index " + overflowIndex);
+        }
+        return packed.get(overflowStart + overflowIndex);
+    }
+
+    private void writeEntry(int offset, int bitIndex, int width, int entry) {
+        int wordIndex = offset + (bitIndex >>> 5);
+        int bitOffset = bitIndex & 31;
+        packed.or(wordIndex, entry << bitOffset);
+        if (bitOffset + width > 32) {
+            packed.or(wordIndex + 1, entry >>> (32 - bitOffset));
+        }
+    }
+
+    private int segmentLength(int segment) {
+        return Math.min(segmentValues, elementCount - (segment << segmentShift));
+    }
+
+    private static boolean validSegmentValues(int segmentValues) {
+        return segmentValues >= PackedBlocks.BLOCK_SIZE && segmentValues <= MAX_SEGMENT_VALUES
+                && Integer.bitCount(segmentValues) == 1;
+    }
+
+    private void setSegmentValues(int segmentValues) {
+        this.segmentValues = segmentValues;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentValues);
+    }
+
+    private void ensureReady(int[] destination) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        if (destination.length < elementCount) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    private void requireIndex(int index) {
+        if (index < 0 || index >= elementCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + elementCount);
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+}
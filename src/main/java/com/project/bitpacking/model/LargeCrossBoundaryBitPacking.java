@@ -0,0 +1,217 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Arrays;
+
+/**
+ * Cross-boundary bit packing for sequences too large for a single Java array.
+ * <p>
+ * The layout is the same contiguous bit stream as {@link CrossBoundaryBitPacking}, addressed with {@code long} bit
+ * and element indices and stored in fixed segments of {@value #SEGMENT_WORDS} words, so neither the element count
+ * nor the packed size is capped at {@link Integer#MAX_VALUE}. Input is supplied as a sequence of chunks whose
+ * combined length may exceed the capacity of one array.
+ * <p>
+ * A value may straddle two words that live in different segments; random reads handle this word by word, and bulk
+ * decoding copies the rare 32-value block spanning a segment boundary into a small buffer before unpacking it.
+ */
+public final class LargeCrossBoundaryBitPacking {
+    /**
+     * Number of words per storage segment (16 MiB).
+     */
+    static final int SEGMENT_WORDS = 1 << 22;
+
+    private static final int SEGMENT_SHIFT = 22;
+    private static final int SEGMENT_MASK = SEGMENT_WORDS - 1;
+
+    private int[][] segments;
+    private long elementCount;
+    private int bitsPerValue;
+
+    /**
+     * Compresses the concatenation of the given chunks.
+     *
+     * @param chunks non-null chunks of non-negative integers, in sequence order
+     */
+    public void compress(int[][] chunks) {
+        if (chunks == null) {
+            throw new IllegalArgumentException("Input chunks must not be null");
+        }
+        long count = 0;
+        int combined = 0;
+        for (int[] chunk : chunks) {
+            if (chunk == null) {
+                throw new IllegalArgumentException("Input chunks must not be null");
+            }
+            for (int value : chunk) {
+                combined |= value;
+            }
+            count += chunk.length;
+        }
+        // The OR of all values has the same bit length as their maximum and is negative if any value is
+        if (combined < 0) {
+            throw new IllegalArgumentException("Negative values are not supported by this codec");
+        }
+
+        this.elementCount = count;
+        this.bitsPerValue = BitUtils.bitsRequired(combined);
+        long wordCount = (count * bitsPerValue + 31) >>> 5;
+        this.segments = allocate(wordCount);
+
+        long bitIndex = 0;
+        if (bitsPerValue > 0) {
+            for (int[] chunk : chunks) {
+                for (int value : chunk) {
+                    writeValue(bitIndex, value);
+                    bitIndex += bitsPerValue;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of elements in the compressed sequence
+     */
+    public long size() {
+        return elementCount;
+    }
+
+    /**
+     * @return the number of bits used per value
+     */
+    public int bitsPerValue() {
+        return bitsPerValue;
+    }
+
+    /**
+     * @return the number of packed words across all segments
+     */
+    public long wordCount() {
+        return (elementCount * bitsPerValue + 31) >>> 5;
+    }
+
+    /**
+     * Provides random access to the value at the requested index.
+     *
+     * @param index zero-based index into the original sequence
+     * @return value at the index
+     */
+    public int get(long index) {
+        if (index < 0 || index >= elementCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + elementCount);
+        }
+        if (segments == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        return readValue(index * bitsPerValue);
+    }
+
+    /**
+     * Decompresses the values at indices {@code [fromIndex, toIndex)} into {@code destination}, starting at
+     * {@code destinationOffset}.
+     *
+     * @param fromIndex         first index to decode, inclusive
+     * @param toIndex           last index to decode, exclusive; at most {@link Integer#MAX_VALUE} after
+     *                          {@code fromIndex}
+     * @param destination       buffer receiving the decoded values
+     * @param destinationOffset position in {@code destination} receiving the value at {@code fromIndex}
+     */
+    public void decompress(long fromIndex, long toIndex, int[] destination, int destinationOffset) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > elementCount) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + fromIndex + ", " + toIndex + ") out of bounds for length " + elementCount);
+        }
+        if (destinationOffset < 0 || destination.length - destinationOffset < toIndex - fromIndex) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        if (segments == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+        int length = (int) (toIndex - fromIndex);
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, destinationOffset, destinationOffset + length, 0);
+            return;
+        }
+
+        int blockValues = BitUnpackKernels.BLOCK_VALUES;
+        long index = fromIndex;
+        int out = destinationOffset;
+        long bitIndex = fromIndex * bitsPerValue;
+
+        // Values up to the next 32-value boundary are read individually
+        long alignedStart = Math.min(toIndex, (fromIndex + blockValues - 1) / blockValues * blockValues);
+        for (; index < alignedStart; index++) {
+            destination[out++] = readValue(bitIndex);
+            bitIndex += bitsPerValue;
+        }
+
+        int[] spanning = null;
+        for (; toIndex - index >= blockValues; index += blockValues) {
+            long wordIndex = bitIndex >>> 5;
+            int segment = (int) (wordIndex >>> SEGMENT_SHIFT);
+            int offset = (int) wordIndex & SEGMENT_MASK;
+            if (offset + bitsPerValue <= SEGMENT_WORDS) {
+                BitUnpackKernels.unpackBlocks(bitsPerValue, segments[segment], offset, destination, out, 1);
+            } else {
+                if (spanning == null) {
+                    spanning = new int[bitsPerValue];
+                }
+                int head = SEGMENT_WORDS - offset;
+                System.arraycopy(segments[segment], offset, spanning, 0, head);
+                System.arraycopy(segments[segment + 1], 0, spanning, head, bitsPerValue - head);
+                BitUnpackKernels.unpackBlocks(bitsPerValue, spanning, 0, destination, out, 1);
+            }
+            out += blockValues;
+            bitIndex += (long) blockValues * bitsPerValue;
+        }
+
+        for (; index < toIndex; index++) {
+            destination[out++] = readValue(bitIndex);
+            bitIndex += bitsPerValue;
+        }
+    }
+
+    private static int[][] allocate(long wordCount) {
+        int segmentCount = (int) ((wordCount + SEGMENT_WORDS - 1) >>> SEGMENT_SHIFT);
+        int[][] allocated = new int[segmentCount][];
+        for (int segment = 0; segment < segmentCount; segment++) {
+            long remaining = wordCount - ((long) segment << SEGMENT_SHIFT);
+            allocated[segment] = new int[(int) Math.min(SEGMENT_WORDS, remaining)];
+        }
+        return allocated;
+    }
+
+    private int word(long wordIndex) {
+        return segments[(int) (wordIndex >>> SEGMENT_SHIFT)][(int) wordIndex & SEGMENT_MASK];
+    }
+
+    private void orWord(long wordIndex, int bits) {
+        segments[(int) (wordIndex >>> SEGMENT_SHIFT)][(int) wordIndex & SEGMENT_MASK] |= bits;
+    }
+
+    private void writeValue(long bitIndex, int value) {
+        long wordIndex = bitIndex >>> 5;
+        int bitOffset = (int) bitIndex & 31;
+        orWord(wordIndex, value << bitOffset);
+        if (bitOffset + bitsPerValue > 32) {
+            orWord(wordIndex + 1, value >>> (32 - bitOffset));
+        }
+    }
+
+    private int readValue(long bitIndex) {
+        long wordIndex = bitIndex >>> 5;
+        int bitOffset = (int) bitIndex & 31;
+        int mask = bitsPerValue == 32 ? -1 : (1 << bitsPerValue) - 1;
+        int value = word(wordIndex) >>> bitOffset;
+        if (bitOffset + bitsPerValue > 32) {
+            value |= word(wordIndex + 1) << (32 - bitOffset);
+        }
+        return value & mask;
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Arrays;
+
+/**
+ * Packs longs while enforcing that every value stays within a single 64-bit word, the 64-bit counterpart of
+ * {@link AlignedBitPacking}. Excess capacity in a word is left unused; from 33 bits on every value takes a whole word.
+ */
+public final class LongAlignedBitPacking extends AbstractLongBitPacking {
+    private int valuesPerWord;
+
+    @Override
+    public void compress(long[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        long combined = 0;
+        for (long value : values) {
+            combined |= value;
+        }
+        this.bitsPerValue = BitUtils.unsignedBitsRequired(combined);
+        this.elementCount = values.length;
+        if (bitsPerValue == 0) {
+            this.valuesPerWord = 0;
+            this.packed = new long[0];
+            return;
+        }
+        this.valuesPerWord = 64 / bitsPerValue;
+        this.packed = new long[(elementCount + valuesPerWord - 1) / valuesPerWord];
+        int index = 0;
+        for (int word = 0; word < packed.length; word++) {
+            int end = Math.min(elementCount, index + valuesPerWord);
+            long packedWord = 0;
+            for (int shift = 0; index < end; index++, shift += bitsPerValue) {
+                packedWord |= values[index] << shift;
+            }
+            packed[word] = packedWord;
+        }
+    }
+
+    @Override
+    public void decompress(long[] destination) {
+        ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, long[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    @Override
+    public long get(int index) {
+        requireIndex(index);
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        int slot = index % valuesPerWord;
+        return (packed[index / valuesPerWord] >>> (slot * bitsPerValue)) & mask(bitsPerValue);
+    }
+
+    private void decodeRange(int fromIndex, int toIndex, long[] destination, int destinationOffset) {
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, destinationOffset, destinationOffset + (toIndex - fromIndex), 0);
+            return;
+        }
+        int bits = bitsPerValue;
+        long mask = mask(bits);
+        int index = fromIndex;
+        int out = destinationOffset;
+        // Values before the first whole word, then whole words with a fixed number of slots, then the rest
+        int alignedStart = Math.min(toIndex, (fromIndex + valuesPerWord - 1) / valuesPerWord * valuesPerWord);
+        for (; index < alignedStart; index++) {
+            destination[out++] = (packed[index / valuesPerWord] >>> (index % valuesPerWord * bits)) & mask;
+        }
+        int firstWord = index / valuesPerWord;
+        int wordCount = (toIndex - index) / valuesPerWord;
+        if (valuesPerWord == 1) {
+            // Bits above a value's width are never set, so whole-word values need no mask
+            System.arraycopy(packed, firstWord, destination, out, wordCount);
+            out += wordCount;
+        } else {
+            for (int word = firstWord; word < firstWord + wordCount; word++) {
+                long packedWord = packed[word];
+                for (int slot = 0; slot < valuesPerWord; slot++) {
+                    destination[out++] = packedWord & mask;
+                    packedWord >>>= bits;
+                }
+            }
+        }
+        index += wordCount * valuesPerWord;
+        for (; index < toIndex; index++) {
+            destination[out++] = (packed[index / valuesPerWord] >>> (index % valuesPerWord * bits)) & mask;
+        }
+    }
+}
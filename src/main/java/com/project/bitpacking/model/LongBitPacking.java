@@ -0,0 +1,100 @@
+package com.project.bitpacking.model;
+
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * Core contract for bit packing codecs over {@code long} values, the 64-bit counterpart of {@link BitPacking}.
+ * <p>
+ * Values are packed into 64-bit words and read as unsigned 64-bit integers, so widths range from 1 to 64 bits and a
+ * negative value simply takes all 64 of them.
+ */
+public interface LongBitPacking {
+
+    /**
+     * Compresses the provided array. Implementations may retain references to the input until the next call to
+     * {@link #compress(long[])}.
+     *
+     * @param values longs to compress, must not be null
+     */
+    void compress(long[] values);
+
+    /**
+     * Decompresses into the provided destination buffer.
+     *
+     * @param destination buffer that will receive the decompressed longs
+     */
+    void decompress(long[] destination);
+
+    /**
+     * Decompresses the values at indices {@code [fromIndex, toIndex)} into {@code destination}, starting at
+     * {@code destinationOffset}. The default falls back to one {@link #get(int)} per value.
+     *
+     * @param fromIndex         first index to decode, inclusive
+     * @param toIndex           last index to decode, exclusive
+     * @param destination       buffer receiving the decoded values
+     * @param destinationOffset position in {@code destination} receiving the value at {@code fromIndex}
+     */
+    default void decompress(int fromIndex, int toIndex, long[] destination, int destinationOffset) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        if (destinationOffset < 0 || destination.length - destinationOffset < toIndex - fromIndex) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            destination[destinationOffset + i - fromIndex] = get(i);
+        }
+    }
+
+    /**
+     * Decompresses through the plain per-value reference path, bypassing any specialised loops. Useful to validate
+     * and benchmark the fast path of {@link #decompress(long[])}; strategies without a dedicated fast path simply
+     * delegate to it.
+     *
+     * @param destination buffer that will receive the decompressed longs
+     */
+    default void decompressReference(long[] destination) {
+        decompress(destination);
+    }
+
+    /**
+     * Provides random access to the decompressed value at the requested index without fully materialising the array.
+     *
+     * @param index zero-based index into the original sequence
+     * @return value at the index
+     */
+    long get(int index);
+
+    /**
+     * @return the number of elements in the compressed sequence
+     */
+    int size();
+
+    /**
+     * @return the number of bits used per value in the primary compressed representation
+     */
+    int bitsPerValue();
+
+    /**
+     * @return raw packed data backing the compression output
+     */
+    long[] backingArray();
+
+    /**
+     * @return read-only view of the packed words, sharing their memory rather than copying them like
+     * {@link #backingArray()}
+     */
+    default LongBuffer packedWords() {
+        return LongBuffer.wrap(backingArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return number of 64-bit overflow values that must also be transmitted (defaults to 0 for strategies that do
+     * not use an overflow area)
+     */
+    default int overflowSize() {
+        return 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.Logger;
+
+/**
+ * Factory responsible for instantiating the {@code long} counterpart of a compression strategy.
+ */
+public final class LongBitPackingFactory {
+    private LongBitPackingFactory() {
+    }
+
+    /**
+     * Creates a LongBitPacking instance based on the compression type.
+     *
+     * @param type the compression type; {@link CompressionType#CROSS_BOUNDARY}, {@link CompressionType#ALIGNED} or
+     *             {@link CompressionType#OVERFLOW}
+     * @return a new LongBitPacking instance
+     * @throws IllegalArgumentException if the strategy has no {@code long} counterpart
+     */
+    public static LongBitPacking create(CompressionType type) {
+        Logger.debug("Creating LongBitPacking instance for type: %s", type);
+        return switch (type) {
+            case CROSS_BOUNDARY -> new LongCrossBoundaryBitPacking();
+            case ALIGNED -> new LongAlignedBitPacking();
+            case OVERFLOW -> new LongOverflowBitPacking();
+            default -> throw new IllegalArgumentException("Compression type " + type + " does not support long values");
+        };
+    }
+}
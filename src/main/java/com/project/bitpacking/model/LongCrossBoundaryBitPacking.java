@@ -0,0 +1,95 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Arrays;
+
+/**
+ * Packs longs contiguously, allowing values to span across successive 64-bit words.
+ */
+public final class LongCrossBoundaryBitPacking extends AbstractLongBitPacking {
+
+    @Override
+    public void compress(long[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        // The OR of all values has the same unsigned bit length as their maximum
+        long combined = 0;
+        for (long value : values) {
+            combined |= value;
+        }
+        this.bitsPerValue = BitUtils.unsignedBitsRequired(combined);
+        this.elementCount = values.length;
+        this.packed = new long[wordsFor(elementCount, bitsPerValue)];
+        if (bitsPerValue == 0) {
+            return;
+        }
+        long bitIndex = 0;
+        for (long value : values) {
+            writeBits(packed, bitIndex, bitsPerValue, value);
+            bitIndex += bitsPerValue;
+        }
+    }
+
+    @Override
+    public void decompress(long[] destination) {
+        ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, long[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    @Override
+    public long get(int index) {
+        requireIndex(index);
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        return readBits(packed, (long) index * bitsPerValue, bitsPerValue);
+    }
+
+    /**
+     * Streams through the packed words, loading each one once: a value's low bits come from the current word and,
+     * when it crosses into the next, its high bits from the word just loaded. 64-bit values are the words themselves.
+     */
+    private void decodeRange(int fromIndex, int toIndex, long[] destination, int destinationOffset) {
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, destinationOffset, destinationOffset + (toIndex - fromIndex), 0);
+            return;
+        }
+        int bits = bitsPerValue;
+        if (bits == 64) {
+            System.arraycopy(packed, fromIndex, destination, destinationOffset, toIndex - fromIndex);
+            return;
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        long mask = mask(bits);
+        long bitIndex = (long) fromIndex * bits;
+        int wordIndex = (int) (bitIndex >>> 6);
+        int bitOffset = (int) bitIndex & 63;
+        long word = packed[wordIndex];
+        int end = destinationOffset + (toIndex - fromIndex);
+        for (int out = destinationOffset; out < end; out++) {
+            long value = word >>> bitOffset;
+            bitOffset += bits;
+            if (bitOffset >= 64) {
+                bitOffset -= 64;
+                // The last value may end exactly on the last word, which has no successor
+                if (++wordIndex < packed.length) {
+                    word = packed[wordIndex];
+                    if (bitOffset > 0) {
+                        value |= word << (bits - bitOffset);
+                    }
+                }
+            }
+            destination[out] = value & mask;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Arrays;
+
+/**
+ * Bit packing codec with overflow support over {@code long} values, the 64-bit counterpart of
+ * {@link OverflowBitPacking}. Values that require more than {@code primaryBits} are stored whole in a dedicated
+ * overflow area, while the primary stream keeps a compact representation for the bulk of the data.
+ */
+public final class LongOverflowBitPacking extends AbstractLongBitPacking {
+    private static final long[] EMPTY = new long[0];
+
+    private int primaryBits;
+    private int overflowIndexMask;
+    private boolean useOverflowFlag;
+    private long[] overflowValues = EMPTY;
+    /**
+     * Working arrays kept between compressions: the width histogram and the overflow count per candidate width.
+     */
+    private final int[] histogram = new int[65];
+    private final int[] overflowCounts = new int[65];
+
+    @Override
+    public void compress(long[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        // Single pass over the input: the width histogram yields both the maximum and every candidate's cost
+        BitUtils.bitWidthHistogram(values, 0, values.length, histogram);
+        int maxBits = 64;
+        while (maxBits > 0 && histogram[maxBits] == 0) {
+            maxBits--;
+        }
+
+        this.elementCount = values.length;
+        if (maxBits == 0) {
+            this.bitsPerValue = 0;
+            this.primaryBits = 0;
+            this.overflowIndexMask = 0;
+            this.useOverflowFlag = false;
+            this.overflowValues = EMPTY;
+            this.packed = new long[0];
+            return;
+        }
+
+        this.primaryBits = chooseBestPrimaryBits(values.length, maxBits);
+        int overflowCount = overflowCounts[primaryBits];
+        this.useOverflowFlag = overflowCount > 0;
+        int indexBits = useOverflowFlag ? BitUtils.ceilLog2(overflowCount) : 0;
+        this.overflowIndexMask = (1 << indexBits) - 1;
+        this.bitsPerValue = OverflowBitPacking.entryBits(primaryBits, overflowCount);
+        this.overflowValues = overflowCount == 0 ? EMPTY : new long[overflowCount];
+        this.packed = new long[wordsFor(elementCount, bitsPerValue)];
+
+        long bitIndex = 0;
+        int overflowCursor = 0;
+        for (long value : values) {
+            long entry;
+            // primaryBits < 64 whenever overflow is in use, so the shift never wraps
+            if (useOverflowFlag && (value >>> primaryBits) != 0) {
+                overflowValues[overflowCursor] = value;
+                entry = ((long) overflowCursor << 1) | 1; // LSB is overflow flag
+                overflowCursor++;
+            } else {
+                entry = useOverflowFlag ? value << 1 : value;
+            }
+            writeBits(packed, bitIndex, bitsPerValue, entry);
+            bitIndex += bitsPerValue;
+        }
+    }
+
+    @Override
+    public void decompress(long[] destination) {
+        ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, long[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    @Override
+    public long get(int index) {
+        requireIndex(index);
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        return entryValue(readBits(packed, (long) index * bitsPerValue, bitsPerValue));
+    }
+
+    @Override
+    public int overflowSize() {
+        return overflowValues.length;
+    }
+
+    private void decodeRange(int fromIndex, int toIndex, long[] destination, int destinationOffset) {
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, destinationOffset, destinationOffset + (toIndex - fromIndex), 0);
+            return;
+        }
+        int bits = bitsPerValue;
+        long mask = mask(bits);
+        long bitIndex = (long) fromIndex * bits;
+        int out = destinationOffset;
+        for (int i = fromIndex; i < toIndex; i++) {
+            int wordIndex = (int) (bitIndex >>> 6);
+            int bitOffset = (int) bitIndex & 63;
+            long entry = packed[wordIndex] >>> bitOffset;
+            if (bitOffset + bits > 64) {
+                entry |= packed[wordIndex + 1] << (64 - bitOffset);
+            }
+            destination[out++] = entryValue(entry & mask);
+            bitIndex += bits;
+        }
+    }
+
+    private long entryValue(long entry) {
+        if (!useOverflowFlag) {
+            return entry;
+        }
+        if ((entry & 1) == 0) {
+            return entry >>> 1;
+        }
+        int overflowIndex = (int) (entry >>> 1) & overflowIndexMask;
+        if (overflowIndex >= overflowValues.length) {
+            throw new IllegalStateException("Corrupted overflow index " + overflowIndex);
+        }
+        return overflowValues[overflowIndex];
+    }
+
+    /**
+     * Picks the primary width minimising the total size, filling {@link #overflowCounts} for every candidate.
+     */
+    private int chooseBestPrimaryBits(int valueCount, int maxBits) {
+        // Walk candidates from the widest down so the overflow count accumulates from the histogram
+        overflowCounts[maxBits] = 0;
+        for (int candidate = maxBits - 1; candidate >= 1; candidate--) {
+            overflowCounts[candidate] = overflowCounts[candidate + 1] + histogram[candidate + 1];
+        }
+        int bestBits = 0;
+        int bestEntryBits = 0;
+        long bestCost = Long.MAX_VALUE;
+        for (int candidate = 1; candidate <= maxBits; candidate++) {
+            int overflowCount = overflowCounts[candidate];
+            int bitsPerEntry = OverflowBitPacking.entryBits(candidate, overflowCount);
+            long totalCost = (long) bitsPerEntry * valueCount + (long) overflowCount * 64L;
+            if (bestBits == 0 || totalCost < bestCost || (totalCost == bestCost && bitsPerEntry < bestEntryBits)) {
+                bestBits = candidate;
+                bestEntryBits = bitsPerEntry;
+                bestCost = totalCost;
+            }
+        }
+        return bestBits;
+    }
+}
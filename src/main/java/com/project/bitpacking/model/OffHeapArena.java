@@ -0,0 +1,90 @@
+package com.project.bitpacking.model;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Owner of the native memory holding packed words of codecs created with
+ * {@link BitPackingFactory#create(CompressionType, OffHeapArena)}.
+ * <p>
+ * Every compression performed by such a codec allocates its words from the arena, keeping large packed arrays out of
+ * the garbage-collected heap. The words a compression replaces are freed at once unless a snapshot still shares them,
+ * so a codec holds a single result however often it recompresses. Closing the arena frees everything still allocated;
+ * codecs that allocated from it must not be used afterwards, and any attempt fails with an
+ * {@link IllegalStateException}.
+ * <p>
+ * Memory is freed immediately rather than when the garbage collector finds the buffers unreachable, except for words
+ * a buffer returned by {@link BitPacking#packedWords()} still views: those are left to the garbage collector, so the
+ * buffer stays readable, though it no longer counts towards {@link #allocatedBytes()}. The arena must not be closed
+ * while another thread still reads from its codecs or snapshots.
+ */
+public final class OffHeapArena implements AutoCloseable {
+    /**
+     * Largest number of words a single direct buffer can hold.
+     */
+    static final int MAX_WORDS = Integer.MAX_VALUE / Integer.BYTES;
+
+    private final Set<BufferPackedStorage> storages = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long allocatedBytes;
+    private boolean closed;
+
+    /**
+     * Allocates zero-filled storage of {@code wordCount} words.
+     */
+    synchronized PackedStorage allocate(int wordCount) {
+        if (closed) {
+            throw new IllegalStateException("Storage arena has been closed");
+        }
+        if (wordCount > MAX_WORDS) {
+            throw new IllegalArgumentException(
+                    "Packed data of " + wordCount + " words exceeds the capacity of a direct buffer");
+        }
+        BufferPackedStorage storage = BufferPackedStorage.allocateDirect(wordCount);
+        storages.add(storage);
+        allocatedBytes += (long) wordCount * Integer.BYTES;
+        return storage;
+    }
+
+    /**
+     * Frees {@code storage} if it was allocated from this arena and has not been freed yet; any later access to it
+     * fails.
+     */
+    synchronized void release(PackedStorage storage) {
+        if (storage instanceof BufferPackedStorage buffer && storages.remove(buffer)) {
+            allocatedBytes -= (long) buffer.wordCount() * Integer.BYTES;
+            buffer.free();
+        }
+    }
+
+    /**
+     * @return total number of bytes allocated from this arena and not yet released
+     */
+    public synchronized long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return whether the arena can still allocate and its storage is still accessible
+     */
+    public synchronized boolean isOpen() {
+        return !closed;
+    }
+
+    /**
+     * Frees all storage allocated from this arena and not released yet. Closing an already closed arena has no
+     * effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (BufferPackedStorage storage : storages) {
+            storage.free();
+        }
+        storages.clear();
+        allocatedBytes = 0;
+    }
+}
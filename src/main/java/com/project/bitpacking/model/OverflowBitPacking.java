@@ -9,11 +9,23 @@ import java.util.Arrays;
  * a dedicated overflow area, while the primary stream keeps a compact representation for the bulk of the data.
  */
 public final class OverflowBitPacking extends AbstractBitPacking {
+    private static final int[] EMPTY = new int[0];
+
     private int primaryBits;
     private int overflowIndexBits;
     private int overflowIndexMask;
+    private int payloadMask;
     private boolean useOverflowFlag;
     private int[] overflowValues;
+    /**
+     * Number of overflow values in use; {@link #overflowValues} may be longer when it is reused.
+     */
+    private int overflowCount;
+    /**
+     * Working arrays kept between compressions: the width histogram and the overflow count per candidate width.
+     */
+    private final int[] histogram = new int[33];
+    private final int[] overflowCounts = new int[33];
 
     @Override
     public void compress(int[] values) {
@@ -23,24 +35,26 @@ public final class OverflowBitPacking extends AbstractBitPacking {
         if (values.length == 0) {
             this.elementCount = 0;
             this.bitsPerValue = 0;
-            this.packed = new int[0];
+            this.packed = allocateWords(0);
             this.primaryBits = 0;
             this.overflowIndexBits = 0;
+            this.overflowIndexMask = 0;
+            this.payloadMask = 0;
             this.useOverflowFlag = false;
-            this.overflowValues = new int[0];
+            this.overflowValues = EMPTY;
+            this.overflowCount = 0;
             return;
         }
 
-        int max = 0;
-        for (int value : values) {
-            if (value < 0) {
-                throw new IllegalArgumentException("Negative values are not supported by this codec");
-            }
-            if (value > max) {
-                max = value;
-            }
+        // Single pass over the input: the width histogram yields both the maximum and every candidate's cost
+        BitUtils.bitWidthHistogram(values, 0, values.length, histogram);
+        if (histogram[32] > 0) {
+            throw new IllegalArgumentException("Negative values are not supported by this codec");
+        }
+        int maxBits = 31;
+        while (maxBits > 0 && histogram[maxBits] == 0) {
+            maxBits--;
         }
-        int maxBits = BitUtils.bitsRequired(max);
 
         if (maxBits == 0) {
             this.elementCount = values.length;
@@ -48,34 +62,36 @@ public final class OverflowBitPacking extends AbstractBitPacking {
             this.primaryBits = 0;
             this.overflowIndexBits = 0;
             this.overflowIndexMask = 0;
+            this.payloadMask = 0;
             this.useOverflowFlag = false;
-            this.packed = new int[0];
-            this.overflowValues = new int[0];
+            this.packed = allocateWords(0);
+            this.overflowValues = EMPTY;
+            this.overflowCount = 0;
             return;
         }
 
-        Selection selection = chooseBestConfiguration(values, maxBits);
-        this.primaryBits = selection.primaryBits;
-        this.overflowIndexBits = selection.overflowIndexBits;
+        this.primaryBits = chooseBestPrimaryBits(values.length, maxBits);
+        this.overflowCount = overflowCounts[primaryBits];
+        this.useOverflowFlag = overflowCount > 0;
+        this.overflowIndexBits = useOverflowFlag ? BitUtils.ceilLog2(overflowCount) : 0;
         this.overflowIndexMask = overflowIndexBits == 0
             ? 0
             : (overflowIndexBits >= 32 ? -1 : (1 << overflowIndexBits) - 1);
-        this.useOverflowFlag = selection.useOverflowFlag;
-        this.bitsPerValue = selection.bitsPerEntry;
+        this.payloadMask = primaryBits == 32 ? -1 : (1 << primaryBits) - 1;
+        this.bitsPerValue = entryBits(primaryBits, overflowCount);
         this.elementCount = values.length;
-        this.overflowValues = new int[selection.overflowCount];
+        this.overflowValues = reusingBuffers() ? reuse(overflowValues, overflowCount) : new int[overflowCount];
 
         long totalBits = (long) bitsPerValue * elementCount;
         int wordCount = (int) ((totalBits + 31) / 32);
-        this.packed = new int[wordCount];
+        this.packed = allocateWords(wordCount);
 
-        int bitIndex = 0;
+        long bitIndex = 0;
         int overflowCursor = 0;
-        int payloadMask = primaryBits == 32 ? -1 : (1 << primaryBits) - 1;
 
         for (int value : values) {
-            int bitsNeeded = BitUtils.bitsRequired(value);
-            if (useOverflowFlag && bitsNeeded > primaryBits) {
+            // Equivalent to bitsRequired(value) > primaryBits, as primaryBits < 32 whenever overflow is in use
+            if (useOverflowFlag && (value >>> primaryBits) != 0) {
                 overflowValues[overflowCursor] = value;
                 int entryPayload = overflowIndexBits == 0 ? 0 : (overflowCursor & overflowIndexMask);
                 int entry = (entryPayload << 1) | 1; // LSB is overflow flag
@@ -94,119 +110,460 @@ public final class OverflowBitPacking extends AbstractBitPacking {
     @Override
     public void decompress(int[] destination) {
         ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    /**
+     * Writes the value in place whenever its entry can hold it: a flagged entry keeps its overflow slot and takes the
+     * new value there, and a regular entry receiving an outlier claims a fresh slot at the end of the overflow area,
+     * which grows geometrically. The sequence is re-packed, choosing its layout anew, only when it has no overflow
+     * area yet or when the entries cannot address one more slot; both happen rarely, since the number of addressable
+     * slots doubles with every extra entry bit.
+     */
+    @Override
+    public void set(int index, int value) {
+        checkSet(index);
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative values are not supported by this codec");
+        }
+        if (!useOverflowFlag) {
+            if (BitUtils.bitsRequired(value) > primaryBits) {
+                super.set(index, value);
+            } else if (primaryBits > 0) {
+                writableOverflow();
+                replaceBits((long) index * primaryBits, primaryBits, value);
+            }
+            return;
+        }
+        long bitIndex = (long) index * bitsPerValue;
+        int entry = readBits(bitIndex, bitsPerValue);
+        if ((entry & 1) == 1) {
+            // Keeping the slot, even for a value that would now fit, leaves every overflow value with exactly one entry
+            int slot = overflowIndexBits == 0 ? 0 : (entry >>> 1) & overflowIndexMask;
+            if (slot >= overflowCount) {
+                throw new IllegalStateException("Corrupted overflow index " + slot);
+            }
+            writableOverflow()[slot] = value;
+            return;
+        }
+        if ((value >>> primaryBits) == 0) {
+            writableOverflow();
+            replaceBits(bitIndex, bitsPerValue, value << 1);
+            return;
+        }
+        int slot = overflowCount;
+        int indexBits = BitUtils.ceilLog2(slot + 1);
+        if (indexBits > bitsPerValue - 1) {
+            super.set(index, value);
+            return;
+        }
+        int[] overflow = writableOverflow();
+        if (overflow.length == slot) {
+            overflow = Arrays.copyOf(overflow, Math.max(4, slot * 2));
+            this.overflowValues = overflow;
+        }
+        overflow[slot] = value;
+        this.overflowCount = slot + 1;
+        if (indexBits > overflowIndexBits) {
+            this.overflowIndexBits = indexBits;
+            this.overflowIndexMask = (1 << indexBits) - 1;
+        }
+        replaceBits(bitIndex, bitsPerValue, (slot << 1) | 1);
+    }
+
+    @Override
+    public int get(int index) {
+        requireIndex(index);
         if (bitsPerValue == 0) {
-            Arrays.fill(destination, 0, elementCount, 0);
+            return 0;
+        }
+        return readEntryValue(index);
+    }
+
+    @Override
+    int valueAt(int index) {
+        return bitsPerValue == 0 ? 0 : readEntryValue(index);
+    }
+
+    @Override
+    public void get(int[] indices, int[] destination, boolean sortIndices) {
+        checkGather(indices, destination);
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, 0, indices.length, 0);
             return;
         }
-        int bitIndex = 0;
-        int payloadMask = primaryBits == 32 ? -1 : (1 << primaryBits) - 1;
-        for (int i = 0; i < elementCount; i++) {
-            if (useOverflowFlag) {
-                int entry = readBits(bitIndex, bitsPerValue);
-                bitIndex += bitsPerValue;
-                boolean overflow = (entry & 1) == 1;
-                int payload = entry >>> 1;
-                if (overflow) {
-                    int overflowIndex = overflowIndexBits == 0 ? 0 : (payload & overflowIndexMask);
-                    if (overflowIndex >= overflowValues.length) {
-                        throw new IllegalStateException("Corrupted overflow index " + overflowIndex);
-                    }
-                    destination[i] = overflowValues[overflowIndex];
+        if (!sortIndices) {
+            for (int i = 0; i < indices.length; i++) {
+                destination[i] = readEntryValue(indices[i]);
+            }
+            return;
+        }
+        for (long entry : sortedByIndex(indices)) {
+            destination[(int) entry] = readEntryValue((int) (entry >>> 32));
+        }
+    }
+
+    /**
+     * Streams the entries of the range, resolving the few flagged ones through their overflow index.
+     */
+    @Override
+    public long sum(int fromIndex, int toIndex) {
+        checkAggregate(fromIndex, toIndex);
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        int[] entries = new int[DecodingSpliterator.CHUNK_VALUES];
+        long sum = 0;
+        for (int from = fromIndex; from < toIndex; from += entries.length) {
+            int count = Math.min(entries.length, toIndex - from);
+            readEntries(from, count, entries);
+            for (int i = 0; i < count; i++) {
+                int entry = entries[i];
+                if (!useOverflowFlag) {
+                    sum += entry;
+                } else if ((entry & 1) == 0) {
+                    sum += (entry >>> 1) & payloadMask;
                 } else {
-                    destination[i] = payload & payloadMask;
+                    sum += overflowValue(entry >>> 1);
                 }
-            } else {
-                destination[i] = readBits(bitIndex, primaryBits);
-                bitIndex += primaryBits;
             }
         }
+        return sum;
     }
 
+    /**
+     * Streams the regular entries, then folds in the overflow area as a whole: every overflow value belongs to
+     * exactly one flagged entry, so the flagged entries themselves can be skipped. The same holds for
+     * {@link #max()} and {@link #countInRange(int, int)}.
+     */
     @Override
-    public int get(int index) {
-        requireIndex(index);
+    public int min() {
+        requireValues();
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        int[] entries = new int[DecodingSpliterator.CHUNK_VALUES];
+        int flagMask = useOverflowFlag ? 1 : 0;
+        int payloadShift = useOverflowFlag ? 1 : 0;
+        int min = Integer.MAX_VALUE;
+        for (int from = 0; from < elementCount; from += entries.length) {
+            int count = Math.min(entries.length, elementCount - from);
+            readEntries(from, count, entries);
+            for (int i = 0; i < count; i++) {
+                if ((entries[i] & flagMask) == 0) {
+                    min = Math.min(min, (entries[i] >>> payloadShift) & payloadMask);
+                }
+            }
+        }
+        for (int i = 0; i < overflowCount; i++) {
+            min = Math.min(min, overflowValues[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max() {
+        requireValues();
         if (bitsPerValue == 0) {
             return 0;
         }
-        int payloadMask = primaryBits == 32 ? -1 : (1 << primaryBits) - 1;
+        int[] entries = new int[DecodingSpliterator.CHUNK_VALUES];
+        int flagMask = useOverflowFlag ? 1 : 0;
+        int payloadShift = useOverflowFlag ? 1 : 0;
+        int max = 0;
+        for (int from = 0; from < elementCount; from += entries.length) {
+            int count = Math.min(entries.length, elementCount - from);
+            readEntries(from, count, entries);
+            for (int i = 0; i < count; i++) {
+                if ((entries[i] & flagMask) == 0) {
+                    max = Math.max(max, (entries[i] >>> payloadShift) & payloadMask);
+                }
+            }
+        }
+        for (int i = 0; i < overflowCount; i++) {
+            max = Math.max(max, overflowValues[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int countInRange(int low, int high) {
+        checkAggregate(0, elementCount);
+        if (low > high) {
+            return 0;
+        }
+        if (bitsPerValue == 0) {
+            return low <= 0 && high >= 0 ? elementCount : 0;
+        }
+        int[] entries = new int[DecodingSpliterator.CHUNK_VALUES];
+        int flagMask = useOverflowFlag ? 1 : 0;
+        int payloadShift = useOverflowFlag ? 1 : 0;
+        int count = 0;
+        for (int from = 0; from < elementCount; from += entries.length) {
+            int length = Math.min(entries.length, elementCount - from);
+            readEntries(from, length, entries);
+            for (int i = 0; i < length; i++) {
+                int value = (entries[i] >>> payloadShift) & payloadMask;
+                // Non-short-circuit and unsigned distance from low keep the test free of branches
+                count += (entries[i] & flagMask) == 0 & Integer.compareUnsigned(value - low, high - low) <= 0 ? 1 : 0;
+            }
+        }
+        for (int i = 0; i < overflowCount; i++) {
+            count += Integer.compareUnsigned(overflowValues[i] - low, high - low) <= 0 ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Streams the entries, resolving flagged ones through the overflow area before comparing them.
+     */
+    @Override
+    public int scan(Predicate op, int constant, long[] resultBitmap) {
+        checkScan(op, resultBitmap);
+        if (bitsPerValue == 0) {
+            return super.scan(op, constant, resultBitmap);
+        }
+        int low = op.rangeLow(constant);
+        int high = op.rangeHigh(constant);
+        long outside = op.rangeSelects(constant) ? 0 : 1;
+        long rangeSize = (high - low & 0xFFFFFFFFL) + 1;
+        int[] entries = new int[DecodingSpliterator.CHUNK_VALUES];
+        int selected = 0;
+        for (int from = 0; from < elementCount; from += entries.length) {
+            int count = Math.min(entries.length, elementCount - from);
+            readEntries(from, count, entries);
+            for (int base = 0; base < count; base += 64) {
+                long bits = 0;
+                for (int i = base, end = Math.min(count, base + 64); i < end; i++) {
+                    int entry = entries[i];
+                    int value;
+                    if (!useOverflowFlag) {
+                        value = entry;
+                    } else if ((entry & 1) == 0) {
+                        value = (entry >>> 1) & payloadMask;
+                    } else {
+                        value = overflowValue(entry >>> 1);
+                    }
+                    // The sign of the distance from low minus the range size, computed in 64 bits, avoids a
+                    // data-dependent branch
+                    long inside = ((value - low & 0xFFFFFFFFL) - rangeSize) >>> 63;
+                    bits |= (inside ^ outside) << i;
+                }
+                resultBitmap[(from + base) >>> 6] = bits;
+                selected += Long.bitCount(bits);
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public int overflowSize() {
+        return overflowCount;
+    }
+
+    @Override
+    CompressionType compressionType() {
+        return CompressionType.OVERFLOW;
+    }
+
+    /**
+     * Parameters are the primary width, the overflow index width and the flag mode (1 when entries carry a flag).
+     */
+    @Override
+    int[] wireParameters() {
+        return new int[]{primaryBits, overflowIndexBits, useOverflowFlag ? 1 : 0};
+    }
+
+    @Override
+    int[] overflowRegion() {
+        if (overflowValues == null) {
+            return EMPTY;
+        }
+        return overflowValues.length == overflowCount ? overflowValues : Arrays.copyOf(overflowValues, overflowCount);
+    }
+
+    @Override
+    void restore(int elementCount, int bitsPerValue, int[] parameters, PackedStorage words, int[] overflow) {
+        if (parameters.length != 3) {
+            throw new IllegalArgumentException("Corrupted stream: expected 3 overflow parameters");
+        }
+        int primary = parameters[0];
+        int indexBits = parameters[1];
+        boolean flagged = parameters[2] == 1;
+        boolean consistent = flagged
+                ? primary >= 1 && primary < 32 && indexBits >= 0 && indexBits < 32
+                  && bitsPerValue == 1 + Math.max(primary, indexBits)
+                : bitsPerValue == primary && overflow.length == 0;
+        if (!consistent) {
+            throw new IllegalArgumentException("Corrupted stream: inconsistent overflow parameters");
+        }
+        requireWords(words, ((long) elementCount * bitsPerValue + 31) >>> 5);
+        this.elementCount = elementCount;
+        this.bitsPerValue = bitsPerValue;
+        this.primaryBits = primary;
+        this.overflowIndexBits = indexBits;
+        this.overflowIndexMask = indexBits == 0 ? 0 : (1 << indexBits) - 1;
+        this.payloadMask = primary == 32 ? -1 : (1 << primary) - 1;
+        this.useOverflowFlag = flagged;
+        this.overflowValues = overflow;
+        this.overflowCount = overflow.length;
+        this.packed = words;
+    }
+
+    private void decodeRange(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        if (bitsPerValue == 0) {
+            Arrays.fill(destination, destinationOffset, destinationOffset + (toIndex - fromIndex), 0);
+            return;
+        }
+        int out = destinationOffset;
         if (!useOverflowFlag) {
-            int bitIndex = index * primaryBits;
-            return readBits(bitIndex, primaryBits);
+            long bitIndex = (long) fromIndex * primaryBits;
+            for (int i = fromIndex; i < toIndex; i++) {
+                destination[out++] = readBits(bitIndex, primaryBits);
+                bitIndex += primaryBits;
+            }
+            return;
         }
-        int bitIndex = index * bitsPerValue;
-        int entry = readBits(bitIndex, bitsPerValue);
-        if ((entry & 1) == 1) {
+        // Entries carry their own overflow index rather than relying on a running cursor, so decoding can start at
+        // any entry; this is what lets parallel chunks resolve overflow values independently
+        long bitIndex = (long) fromIndex * bitsPerValue;
+        for (int i = fromIndex; i < toIndex; i++) {
+            int entry = readBits(bitIndex, bitsPerValue);
+            bitIndex += bitsPerValue;
+            boolean overflow = (entry & 1) == 1;
             int payload = entry >>> 1;
-            int overflowIndex = overflowIndexBits == 0 ? 0 : (payload & overflowIndexMask);
-            if (overflowIndex >= overflowValues.length) {
-                throw new IllegalStateException("Corrupted overflow index " + overflowIndex);
+            if (overflow) {
+                destination[out++] = overflowValue(payload);
+            } else {
+                destination[out++] = payload & payloadMask;
             }
-            return overflowValues[overflowIndex];
+        }
+    }
+
+    private int readEntryValue(int index) {
+        if (!useOverflowFlag) {
+            return readBits((long) index * primaryBits, primaryBits);
+        }
+        int entry = readBits((long) index * bitsPerValue, bitsPerValue);
+        if ((entry & 1) == 1) {
+            return overflowValue(entry >>> 1);
         }
         return (entry >>> 1) & payloadMask;
     }
 
-    @Override
-    public int overflowSize() {
-        return overflowValues == null ? 0 : overflowValues.length;
+    /**
+     * Copies the raw entries {@code [fromIndex, fromIndex + count)} into {@code entries}, carrying the unread bits of
+     * each packed word over in a 64-bit buffer rather than locating every entry from scratch.
+     */
+    private void readEntries(int fromIndex, int count, int[] entries) {
+        int width = bitsPerValue;
+        long mask = (1L << width) - 1;
+        long bitIndex = (long) fromIndex * width;
+        int wordIndex = (int) (bitIndex >>> 5);
+        int available = 32 - ((int) bitIndex & 31);
+        long buffer = (packed.get(wordIndex++) & 0xFFFFFFFFL) >>> (32 - available);
+        for (int i = 0; i < count; i++) {
+            if (available < width) {
+                buffer |= (packed.get(wordIndex++) & 0xFFFFFFFFL) << available;
+                available += 32;
+            }
+            entries[i] = (int) (buffer & mask);
+            buffer >>>= width;
+            available -= width;
+        }
+    }
+
+    /**
+     * Readies the packed words for a write and returns the overflow values, copied first if they were shared.
+     */
+    private int[] writableOverflow() {
+        if (prepareWrite()) {
+            this.overflowValues = overflowValues.clone();
+        }
+        return overflowValues;
     }
 
-    private void writeBits(int bitIndex, int bitCount, int value) {
-        int wordIndex = bitIndex >>> 5;
-        int bitOffset = bitIndex & 31;
+    private int overflowValue(int payload) {
+        int overflowIndex = overflowIndexBits == 0 ? 0 : (payload & overflowIndexMask);
+        if (overflowIndex >= overflowCount) {
+            throw new IllegalStateException("Corrupted overflow index " + overflowIndex);
+        }
+        return overflowValues[overflowIndex];
+    }
+
+    private void writeBits(long bitIndex, int bitCount, int value) {
+        int wordIndex = (int) (bitIndex >>> 5);
+        int bitOffset = (int) bitIndex & 31;
         if (bitOffset + bitCount <= 32) {
-            packed[wordIndex] |= value << bitOffset;
+            packed.or(wordIndex, value << bitOffset);
         } else {
             int lowerBits = 32 - bitOffset;
             int lowerMask = (1 << lowerBits) - 1;
-            packed[wordIndex] |= (value & lowerMask) << bitOffset;
-            packed[wordIndex + 1] |= value >>> lowerBits;
+            packed.or(wordIndex, (value & lowerMask) << bitOffset);
+            packed.or(wordIndex + 1, value >>> lowerBits);
         }
     }
 
-    private int readBits(int bitIndex, int bitCount) {
-        int wordIndex = bitIndex >>> 5;
-        int bitOffset = bitIndex & 31;
+    private int readBits(long bitIndex, int bitCount) {
+        int wordIndex = (int) (bitIndex >>> 5);
+        int bitOffset = (int) bitIndex & 31;
         if (bitOffset + bitCount <= 32) {
             int mask = bitCount == 32 ? -1 : (1 << bitCount) - 1;
-            return (packed[wordIndex] >>> bitOffset) & mask;
+            return (packed.get(wordIndex) >>> bitOffset) & mask;
         }
         int lowerBits = 32 - bitOffset;
         int upperBits = bitCount - lowerBits;
         int lowerMask = (1 << lowerBits) - 1;
-        int lowerPart = (packed[wordIndex] >>> bitOffset) & lowerMask;
+        int lowerPart = (packed.get(wordIndex) >>> bitOffset) & lowerMask;
         int upperMask = upperBits == 32 ? -1 : (1 << upperBits) - 1;
-        int upperPart = packed[wordIndex + 1] & upperMask;
+        int upperPart = packed.get(wordIndex + 1) & upperMask;
         return (upperPart << lowerBits) | lowerPart;
     }
 
-    private Selection chooseBestConfiguration(int[] values, int maxBits) {
-        Selection best = null;
+    /**
+     * Picks the primary width minimising the total size, filling {@link #overflowCounts} for every candidate.
+     */
+    private int chooseBestPrimaryBits(int valueCount, int maxBits) {
+        // Walk candidates from the widest down so the overflow count accumulates from the histogram
+        overflowCounts[maxBits] = 0;
+        for (int candidate = maxBits - 1; candidate >= 1; candidate--) {
+            overflowCounts[candidate] = overflowCounts[candidate + 1] + histogram[candidate + 1];
+        }
+        int bestBits = 0;
+        int bestEntryBits = 0;
+        long bestCost = Long.MAX_VALUE;
         for (int candidate = 1; candidate <= maxBits; candidate++) {
-            int overflowCount = 0;
-            for (int value : values) {
-                int bits = BitUtils.bitsRequired(value);
-                if (bits > candidate) {
-                    overflowCount++;
-                }
-            }
-            boolean useOverflowFlag = overflowCount > 0;
-            int overflowBits = useOverflowFlag ? BitUtils.ceilLog2(overflowCount) : 0;
-            int bitsPerEntry = useOverflowFlag ? 1 + Math.max(candidate, overflowBits) : candidate;
-            long primaryCost = (long) bitsPerEntry * values.length;
+            int overflowCount = overflowCounts[candidate];
+            int bitsPerEntry = entryBits(candidate, overflowCount);
+            long primaryCost = (long) bitsPerEntry * valueCount;
             long overflowCost = (long) overflowCount * 32L;
             long totalCost = primaryCost + overflowCost;
 
-            if (best == null || totalCost < best.totalBits ||
-                    (totalCost == best.totalBits && bitsPerEntry < best.bitsPerEntry)) {
-                best = new Selection(candidate, overflowBits, bitsPerEntry, overflowCount, useOverflowFlag, totalCost);
+            if (bestBits == 0 || totalCost < bestCost ||
+                    (totalCost == bestCost && bitsPerEntry < bestEntryBits)) {
+                bestBits = candidate;
+                bestEntryBits = bitsPerEntry;
+                bestCost = totalCost;
             }
         }
+        return bestBits;
+    }
 
-        if (best == null) {
-            throw new IllegalStateException("Unable to derive configuration");
+    /**
+     * @return width of a primary entry when {@code overflowCount} values exceed {@code primaryBits}: one flag bit
+     * plus room for either a payload or an overflow index
+     */
+    static int entryBits(int primaryBits, int overflowCount) {
+        if (overflowCount == 0) {
+            return primaryBits;
         }
-        return best;
+        return 1 + Math.max(primaryBits, BitUtils.ceilLog2(overflowCount));
     }
 
     private void ensureReady(int[] destination) {
@@ -229,14 +586,6 @@ public final class OverflowBitPacking extends AbstractBitPacking {
             throw new IllegalStateException("Nothing has been compressed yet");
         }
     }
-
-    private record Selection(int primaryBits,
-                             int overflowIndexBits,
-                             int bitsPerEntry,
-                             int overflowCount,
-                             boolean useOverflowFlag,
-                             long totalBits) {
-    }
 }
 
 
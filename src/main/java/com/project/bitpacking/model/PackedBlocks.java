@@ -0,0 +1,155 @@
+package com.project.bitpacking.model;
+
+import java.util.Arrays;
+
+/**
+ * Primitives shared by the block-based codecs, which split the input into fixed blocks of {@link #BLOCK_SIZE}
+ * values and pack each block contiguously at its own bit width.
+ * <p>
+ * A block of 128 values at width {@code w} fills exactly {@code 4 * w} words, so every block starts on a word
+ * boundary and decodes as four calls to the unrolled {@link BitUnpackKernels}. Small per-block metadata such as
+ * widths is stored in byte tables, four bytes per word.
+ */
+final class PackedBlocks {
+    /**
+     * Number of values per block.
+     */
+    static final int BLOCK_SIZE = 128;
+
+    private static final int BLOCK_SHIFT = 7;
+    private static final int KERNELS_PER_BLOCK = BLOCK_SIZE / BitUnpackKernels.BLOCK_VALUES;
+
+    private PackedBlocks() {
+    }
+
+    /**
+     * @return number of blocks needed for {@code valueCount} values
+     */
+    static int blockCount(int valueCount) {
+        return (int) (((long) valueCount + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+    }
+
+    /**
+     * @return block holding the value at {@code index}
+     */
+    static int blockOf(int index) {
+        return index >>> BLOCK_SHIFT;
+    }
+
+    /**
+     * @return position of the value at {@code index} within its block
+     */
+    static int slotOf(int index) {
+        return index & (BLOCK_SIZE - 1);
+    }
+
+    /**
+     * @return number of words occupied by one block packed at {@code width} bits per value
+     */
+    static int payloadWords(int width) {
+        return width * KERNELS_PER_BLOCK;
+    }
+
+    /**
+     * @return number of words needed to pack {@code count} values at {@code width} bits each
+     */
+    static int packedWords(int count, int width) {
+        return (int) (((long) count * width + 31) >>> 5);
+    }
+
+    /**
+     * @return number of words needed for a byte table of {@code length} entries
+     */
+    static int byteTableWords(int length) {
+        return (length + 3) >>> 2;
+    }
+
+    /**
+     * Reads entry {@code index} of the byte table starting at word {@code tableOffset}.
+     */
+    static int readByte(PackedStorage packed, int tableOffset, int index) {
+        return (packed.get(tableOffset + (index >>> 2)) >>> ((index & 3) << 3)) & 0xFF;
+    }
+
+    /**
+     * Stores entry {@code index} of the zero-initialised byte table starting at word {@code tableOffset}.
+     */
+    static void writeByte(PackedStorage packed, int tableOffset, int index, int value) {
+        packed.or(tableOffset + (index >>> 2), value << ((index & 3) << 3));
+    }
+
+    /**
+     * Rebuilds the payload offsets of a layout holding one word per block, then one width byte per block, then the
+     * block payloads in order.
+     *
+     * @throws IllegalArgumentException if a width is out of range or the payloads overrun the storage
+     */
+    static int[] payloadDirectory(PackedStorage packed, int blockCount) {
+        int[] offsets = new int[blockCount];
+        long offset = blockCount + byteTableWords(blockCount);
+        for (int block = 0; block < blockCount; block++) {
+            int width = readByte(packed, blockCount, block);
+            if (width > 32) {
+                throw new IllegalArgumentException("Corrupted stream: block width " + width);
+            }
+            offsets[block] = (int) offset;
+            offset += payloadWords(width);
+            if (offset > packed.wordCount()) {
+                throw new IllegalArgumentException("Corrupted stream: block payloads overrun the packed words");
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Packs {@code values[from..from + count)} minus {@code reference} at {@code width} bits each, starting at word
+     * {@code outPos}. Blocks shorter than {@link #BLOCK_SIZE} are implicitly padded with zeros.
+     */
+    static void pack(int[] values, int from, int count, int reference, int width, PackedStorage out, int outPos) {
+        if (width == 0) {
+            return;
+        }
+        int bitIndex = 0;
+        for (int i = from; i < from + count; i++) {
+            int delta = values[i] - reference;
+            int wordIndex = outPos + (bitIndex >>> 5);
+            int bitOffset = bitIndex & 31;
+            out.or(wordIndex, delta << bitOffset);
+            if (bitOffset + width > 32) {
+                out.or(wordIndex + 1, delta >>> (32 - bitOffset));
+            }
+            bitIndex += width;
+        }
+    }
+
+    /**
+     * Decodes a whole block packed at {@code width} bits per value into {@code out[outPos..outPos + 128)}, without
+     * adding any reference.
+     */
+    static void unpack(PackedStorage in, int inPos, int width, int[] out, int outPos) {
+        if (width == 0) {
+            Arrays.fill(out, outPos, outPos + BLOCK_SIZE, 0);
+            return;
+        }
+        in.unpackBlocks(width, inPos, out, outPos, KERNELS_PER_BLOCK);
+    }
+
+    /**
+     * Reads the value in {@code slot} of a block packed at {@code width} bits per value starting at word
+     * {@code inPos}, without adding any reference.
+     */
+    static int read(PackedStorage in, int inPos, int width, int slot) {
+        if (width == 0) {
+            return 0;
+        }
+        int bitIndex = slot * width;
+        int wordIndex = inPos + (bitIndex >>> 5);
+        int bitOffset = bitIndex & 31;
+        int mask = width == 32 ? -1 : (1 << width) - 1;
+        int value = in.get(wordIndex) >>> bitOffset;
+        if (bitOffset + width > 32) {
+            value |= in.get(wordIndex + 1) << (32 - bitOffset);
+        }
+        return value & mask;
+    }
+}
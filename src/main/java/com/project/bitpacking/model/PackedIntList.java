@@ -0,0 +1,300 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of non-negative integers kept in packed form as they are appended.
+ * <p>
+ * Values are stored in chunks of {@value #CHUNK_VALUES}, each one a contiguous bit stream in the
+ * {@link CrossBoundaryBitPacking} layout with its own width. Only the last chunk is written to: it starts at the
+ * width of the chunk before it and is re-packed wider when a value needs more bits, which costs at most
+ * {@value #CHUNK_VALUES} values per widening and never touches the chunks already filled. A filled chunk is
+ * narrowed once to the width of its own largest value, so an outlier only widens the chunk it falls into.
+ * {@link #add(int)} therefore runs in amortized constant time whatever the order of the values.
+ * <p>
+ * {@link #toBitPacking()} turns the list into a {@link CrossBoundaryBitPacking} at the width of its largest value
+ * without materialising an {@code int[]} of all the values.
+ */
+public final class PackedIntList {
+    /**
+     * Number of values per chunk; a multiple of the 32-value block, so every chunk of {@code bits} bits per value
+     * fills exactly {@code 32 * bits} words.
+     */
+    static final int CHUNK_VALUES = 1 << 10;
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_MASK = CHUNK_VALUES - 1;
+    private static final int WORDS_PER_BIT = CHUNK_VALUES / 32;
+    private static final int INITIAL_CHUNKS = 4;
+
+    private int[][] chunks = new int[INITIAL_CHUNKS][];
+    private byte[] chunkBits = new byte[INITIAL_CHUNKS];
+    private int size;
+    /**
+     * OR of every value so far, which has the bit length of the largest one.
+     */
+    private int combined;
+    /**
+     * OR of the values in the last chunk.
+     */
+    private int chunkCombined;
+    private long wordCount;
+
+    /**
+     * Appends a value, widening the last chunk if the value needs more bits than it holds.
+     *
+     * @param value non-negative integer
+     */
+    public void add(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative values are not supported by this codec");
+        }
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("List is full");
+        }
+        int chunk = size >>> CHUNK_SHIFT;
+        int slot = size & CHUNK_MASK;
+        if (slot == 0) {
+            openChunk(chunk);
+        }
+        int bits = chunkBits[chunk];
+        if (BitUtils.bitsRequired(value) > bits) {
+            bits = BitUtils.bitsRequired(value);
+            repack(chunk, slot, bits);
+        }
+        if (bits > 0) {
+            writeValue(chunks[chunk], slot * bits, bits, value);
+        }
+        chunkCombined |= value;
+        combined |= value;
+        size++;
+    }
+
+    /**
+     * Appends all values of {@code values}. Nothing is appended if any of them is negative.
+     */
+    public void addAll(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        int all = 0;
+        for (int value : values) {
+            all |= value;
+        }
+        if (all < 0) {
+            throw new IllegalArgumentException("Negative values are not supported by this codec");
+        }
+        if (values.length > Integer.MAX_VALUE - size) {
+            throw new IllegalStateException("List is full");
+        }
+        for (int value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Provides random access to the value at the requested index.
+     *
+     * @param index zero-based index into the list
+     * @return value at the index
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        int chunk = index >>> CHUNK_SHIFT;
+        int bits = chunkBits[chunk];
+        if (bits == 0) {
+            return 0;
+        }
+        return readValue(chunks[chunk], (index & CHUNK_MASK) * bits, bits);
+    }
+
+    /**
+     * Decompresses the values at indices {@code [fromIndex, toIndex)} into {@code destination}, starting at
+     * {@code destinationOffset}.
+     */
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + fromIndex + ", " + toIndex + ") out of bounds for length " + size);
+        }
+        if (destinationOffset < 0 || destination.length - destinationOffset < toIndex - fromIndex) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        int out = destinationOffset;
+        for (int index = fromIndex; index < toIndex; ) {
+            int chunk = index >>> CHUNK_SHIFT;
+            int end = Math.min(toIndex, (chunk + 1) << CHUNK_SHIFT);
+            decodeChunk(chunk, index & CHUNK_MASK, end - index, destination, out);
+            out += end - index;
+            index = end;
+        }
+    }
+
+    /**
+     * @return a copy of all values
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        decompress(0, size, values, 0);
+        return values;
+    }
+
+    /**
+     * Packs the list into a codec holding every value at the width of the largest one. The list is left unchanged.
+     */
+    public CrossBoundaryBitPacking toBitPacking() {
+        int bits = bitsPerValue();
+        int[] words = new int[(int) (((long) size * bits + 31) >>> 5)];
+        if (bits > 0) {
+            int[] buffer = new int[CHUNK_VALUES];
+            long bitIndex = 0;
+            for (int from = 0; from < size; from += CHUNK_VALUES) {
+                int count = Math.min(CHUNK_VALUES, size - from);
+                decodeChunk(from >>> CHUNK_SHIFT, 0, count, buffer, 0);
+                for (int i = 0; i < count; i++) {
+                    writeValue(words, bitIndex, bits, buffer[i]);
+                    bitIndex += bits;
+                }
+            }
+        }
+        CrossBoundaryBitPacking codec = new CrossBoundaryBitPacking();
+        codec.restore(size, bits, new int[0], new HeapPackedStorage(words), new int[0]);
+        return codec;
+    }
+
+    /**
+     * Removes every value and releases the chunks.
+     */
+    public void clear() {
+        chunks = new int[INITIAL_CHUNKS][];
+        chunkBits = new byte[INITIAL_CHUNKS];
+        size = 0;
+        combined = 0;
+        chunkCombined = 0;
+        wordCount = 0;
+    }
+
+    /**
+     * @return the number of values in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return whether the list holds no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of bits needed by the largest value in the list
+     */
+    public int bitsPerValue() {
+        return BitUtils.bitsRequired(combined);
+    }
+
+    /**
+     * @return the number of packed words held across all chunks, including the unused part of the last one
+     */
+    public long wordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Starts chunk {@code chunk} at the width of the one before it, after narrowing that one to its values.
+     */
+    private void openChunk(int chunk) {
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunk * 2);
+            chunkBits = Arrays.copyOf(chunkBits, chunk * 2);
+        }
+        int bits = 0;
+        if (chunk > 0) {
+            int previous = chunk - 1;
+            int needed = BitUtils.bitsRequired(chunkCombined);
+            if (needed < chunkBits[previous]) {
+                repack(previous, CHUNK_VALUES, needed);
+            }
+            bits = chunkBits[previous];
+        }
+        chunkBits[chunk] = (byte) bits;
+        chunks[chunk] = new int[WORDS_PER_BIT * bits];
+        wordCount += chunks[chunk].length;
+        chunkCombined = 0;
+    }
+
+    /**
+     * Re-packs the first {@code count} values of a chunk at {@code bits} bits per value.
+     */
+    private void repack(int chunk, int count, int bits) {
+        int oldBits = chunkBits[chunk];
+        int[] oldWords = chunks[chunk];
+        int[] words = new int[WORDS_PER_BIT * bits];
+        if (oldBits > 0 && bits > 0) {
+            for (int slot = 0; slot < count; slot++) {
+                writeValue(words, slot * bits, bits, readValue(oldWords, slot * oldBits, oldBits));
+            }
+        }
+        chunks[chunk] = words;
+        chunkBits[chunk] = (byte) bits;
+        wordCount += words.length - oldWords.length;
+    }
+
+    /**
+     * Decodes {@code count} values of a chunk from slot {@code fromSlot}, unpacking whole 32-value blocks with the
+     * unrolled kernels.
+     */
+    private void decodeChunk(int chunk, int fromSlot, int count, int[] destination, int destinationOffset) {
+        int bits = chunkBits[chunk];
+        if (bits == 0) {
+            Arrays.fill(destination, destinationOffset, destinationOffset + count, 0);
+            return;
+        }
+        int[] words = chunks[chunk];
+        int blockValues = BitUnpackKernels.BLOCK_VALUES;
+        int slot = fromSlot;
+        int toSlot = fromSlot + count;
+        int out = destinationOffset;
+
+        int alignedStart = Math.min(toSlot, (fromSlot + blockValues - 1) / blockValues * blockValues);
+        for (; slot < alignedStart; slot++) {
+            destination[out++] = readValue(words, slot * bits, bits);
+        }
+        int blockCount = (toSlot - slot) / blockValues;
+        BitUnpackKernels.unpackBlocks(bits, words, slot / blockValues * bits, destination, out, blockCount);
+        slot += blockCount * blockValues;
+        out += blockCount * blockValues;
+        for (; slot < toSlot; slot++) {
+            destination[out++] = readValue(words, slot * bits, bits);
+        }
+    }
+
+    private static void writeValue(int[] words, long bitIndex, int bits, int value) {
+        int wordIndex = (int) (bitIndex >>> 5);
+        int bitOffset = (int) bitIndex & 31;
+        words[wordIndex] |= value << bitOffset;
+        if (bitOffset + bits > 32) {
+            words[wordIndex + 1] |= value >>> (32 - bitOffset);
+        }
+    }
+
+    private static int readValue(int[] words, int bitIndex, int bits) {
+        int wordIndex = bitIndex >>> 5;
+        int bitOffset = bitIndex & 31;
+        int mask = bits == 32 ? -1 : (1 << bits) - 1;
+        int value = words[wordIndex] >>> bitOffset;
+        if (bitOffset + bits > 32) {
+            value |= words[wordIndex + 1] << (32 - bitOffset);
+        }
+        return value & mask;
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.bitpacking.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Word storage holding the packed output of a codec, either in an on-heap {@code int[]} or in native memory
+ * allocated from an {@link OffHeapArena}.
+ * <p>
+ * Codecs address storage word by word. Bulk decoding goes through {@link #unpackBlocks}, which hands heap words
+ * straight to the unrolled {@link BitUnpackKernels} and stages off-heap words through a small buffer.
+ */
+public abstract class PackedStorage {
+    /**
+     * Maximum number of 32-value blocks staged per copy when unpacking from storage without a backing array.
+     */
+    private static final int STAGED_BLOCKS = 64;
+
+    PackedStorage() {
+    }
+
+    /**
+     * @return zero-filled heap storage of {@code wordCount} words
+     */
+    static PackedStorage heap(int wordCount) {
+        return new HeapPackedStorage(new int[wordCount]);
+    }
+
+    /**
+     * @return number of words held
+     */
+    public abstract int wordCount();
+
+    /**
+     * @return whether the words live in native memory rather than on the Java heap
+     */
+    public abstract boolean isDirect();
+
+    /**
+     * @return a read-only view of the words from position zero, sharing the storage's memory
+     */
+    public abstract IntBuffer view();
+
+    /**
+     * @return a copy of all words
+     */
+    public int[] toArray() {
+        int[] words = new int[wordCount()];
+        copyTo(0, words, 0, words.length);
+        return words;
+    }
+
+    abstract int get(int index);
+
+    abstract void set(int index, int value);
+
+    abstract void or(int index, int bits);
+
+    /**
+     * Copies words {@code [fromWord, fromWord + length)} into {@code destination} at {@code destinationOffset}.
+     */
+    abstract void copyTo(int fromWord, int[] destination, int destinationOffset, int length);
+
+    /**
+     * Copies {@code source[sourceOffset..sourceOffset + length)} into the words starting at {@code toWord}.
+     */
+    abstract void copyFrom(int[] source, int sourceOffset, int toWord, int length);
+
+    /**
+     * @return the words as little-endian bytes from position zero, sharing the storage's memory when it already has
+     * that layout
+     */
+    ByteBuffer littleEndianBytes() {
+        ByteBuffer bytes = ByteBuffer.allocate(wordCount() * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer view = bytes.asIntBuffer();
+        int[] staged = new int[Math.min(wordCount(), STAGED_BLOCKS * BitUnpackKernels.BLOCK_VALUES)];
+        for (int from = 0; from < wordCount(); from += staged.length) {
+            int length = Math.min(staged.length, wordCount() - from);
+            copyTo(from, staged, 0, length);
+            view.put(from, staged, 0, length);
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the array whose leading {@link #wordCount()} entries are the words, or {@code null} when the words do
+     * not live in one
+     */
+    int[] array() {
+        return null;
+    }
+
+    /**
+     * Decodes {@code blockCount} blocks of 32 values packed at {@code bits} bits each, starting at word
+     * {@code wordIndex}, into {@code out} from {@code outPos}.
+     */
+    void unpackBlocks(int bits, int wordIndex, int[] out, int outPos, int blockCount) {
+        int blockValues = BitUnpackKernels.BLOCK_VALUES;
+        int[] staged = new int[Math.min(blockCount, STAGED_BLOCKS) * bits];
+        while (blockCount > 0) {
+            int blocks = Math.min(blockCount, STAGED_BLOCKS);
+            copyTo(wordIndex, staged, 0, blocks * bits);
+            BitUnpackKernels.unpackBlocks(bits, staged, 0, out, outPos, blocks);
+            wordIndex += blocks * bits;
+            outPos += blocks * blockValues;
+            blockCount -= blocks;
+        }
+    }
+}
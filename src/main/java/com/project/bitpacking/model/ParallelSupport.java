@@ -0,0 +1,122 @@
+package com.project.bitpacking.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join helpers shared by the parallel codec operations.
+ * <p>
+ * Work is split over logical index ranges whose boundaries are multiples of a codec-specific grain, chosen so that
+ * two chunks never touch the same packed word.
+ */
+final class ParallelSupport {
+    /**
+     * Inputs shorter than this are processed sequentially; below it task overhead outweighs the extra cores.
+     */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    /**
+     * Target number of values per chunk (64 KiB of ints), small enough for a chunk to stay cache resident.
+     */
+    static final int CHUNK_VALUES = 1 << 14;
+
+    private ParallelSupport() {
+    }
+
+    /**
+     * Action applied to one chunk {@code [fromIndex, toIndex)} of the logical index range.
+     */
+    @FunctionalInterface
+    interface ChunkAction {
+        void apply(int fromIndex, int toIndex);
+    }
+
+    /**
+     * @return whether an operation over {@code count} values should be split into parallel tasks
+     */
+    static boolean worthSplitting(int count, ForkJoinPool pool) {
+        return pool != null && count >= SEQUENTIAL_THRESHOLD && pool.getParallelism() > 1;
+    }
+
+    /**
+     * Bitwise OR of all values, computed in parallel. The result has the same bit length as the maximum value and
+     * is negative if any value is.
+     */
+    static int orAll(int[] values, ForkJoinPool pool) {
+        return pool.invoke(new OrTask(values, 0, values.length));
+    }
+
+    /**
+     * Runs {@code action} over {@code [0, count)} split into chunks whose boundaries are multiples of {@code grain},
+     * and waits for all of them to complete.
+     */
+    static void forEachChunk(ForkJoinPool pool, int count, int grain, ChunkAction action) {
+        if (count == 0) {
+            return;
+        }
+        int chunkValues = Math.max(grain, CHUNK_VALUES / grain * grain);
+        int chunkCount = (int) (((long) count + chunkValues - 1) / chunkValues);
+        pool.invoke(new ChunkTask(action, count, chunkValues, 0, chunkCount));
+    }
+
+    private static final class OrTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] values;
+        private final int from;
+        private final int to;
+
+        OrTask(int[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= CHUNK_VALUES) {
+                int combined = 0;
+                for (int i = from; i < to; i++) {
+                    combined |= values[i];
+                }
+                return combined;
+            }
+            int middle = (from + to) >>> 1;
+            OrTask left = new OrTask(values, from, middle);
+            left.fork();
+            int right = new OrTask(values, middle, to).compute();
+            return left.join() | right;
+        }
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ChunkAction action;
+        private final int count;
+        private final int chunkValues;
+        private final int firstChunk;
+        private final int endChunk;
+
+        ChunkTask(ChunkAction action, int count, int chunkValues, int firstChunk, int endChunk) {
+            this.action = action;
+            this.count = count;
+            this.chunkValues = chunkValues;
+            this.firstChunk = firstChunk;
+            this.endChunk = endChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (endChunk - firstChunk == 1) {
+                int from = firstChunk * chunkValues;
+                action.apply(from, (int) Math.min(count, (long) from + chunkValues));
+                return;
+            }
+            int middle = (firstChunk + endChunk) >>> 1;
+            invokeAll(new ChunkTask(action, count, chunkValues, firstChunk, middle),
+                    new ChunkTask(action, count, chunkValues, middle, endChunk));
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.BitUtils;
+
+/**
+ * Patched frame-of-reference (PFOR) codec.
+ * <p>
+ * The input is split into blocks of {@value PackedBlocks#BLOCK_SIZE} values. Each block packs the low {@code b} bits
+ * of every value, with {@code b} chosen from the block's bit-width histogram to minimise its size. Values wider than
+ * {@code b} are exceptions: the block records their positions (one byte each) and their high bits
+ * ({@code value >>> b}, packed at the width of the widest exception). Unlike {@link OverflowBitPacking}, regular
+ * values pay no flag bit, and decoding bulk-unpacks the low bits without branches before patching the few
+ * exceptions.
+ * <p>
+ * Each block is laid out as a header word ({@code b}, exception count and high-bit width, one byte each), the low-bit
+ * payload, the exception position table and the packed high bits. A directory of block offsets keeps
+ * {@link #get(int)} O(1) apart from a scan of the block's exception positions. Values are treated as unsigned, so
+ * negative inputs are stored as 32-bit exceptions or at width 32.
+ */
+public final class PforBitPacking extends AbstractBitPacking {
+    private int[] blockOffsets;
+    /**
+     * Working arrays kept between compressions: per-block widths and exception counts, then per-block scratch.
+     */
+    private int[] widths;
+    private int[] exceptionCounts;
+    private int[] highWidths;
+    private final int[] histogram = new int[33];
+    private final int[] lows = new int[PackedBlocks.BLOCK_SIZE];
+    private final int[] highs = new int[PackedBlocks.BLOCK_SIZE];
+
+    @Override
+    public void compress(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        this.elementCount = values.length;
+        int blockCount = PackedBlocks.blockCount(values.length);
+        this.blockOffsets = reuse(blockOffsets, blockCount);
+        this.widths = reuse(widths, blockCount);
+        this.exceptionCounts = reuse(exceptionCounts, blockCount);
+        this.highWidths = reuse(highWidths, blockCount);
+        int wordCount = 0;
+        int maxWidth = 0;
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * PackedBlocks.BLOCK_SIZE;
+            int to = Math.min(values.length, from + PackedBlocks.BLOCK_SIZE);
+            BitUtils.bitWidthHistogram(values, from, to, histogram);
+            int blockMax = 32;
+            while (blockMax > 0 && histogram[blockMax] == 0) {
+                blockMax--;
+            }
+
+            int bestWidth = bestLowWidth(histogram, blockMax);
+            int bestExceptions = exceptionCount(histogram, bestWidth, blockMax);
+            int bestWords = blockWords(bestWidth, bestExceptions, blockMax - bestWidth);
+            widths[block] = bestWidth;
+            exceptionCounts[block] = bestExceptions;
+            highWidths[block] = bestExceptions == 0 ? 0 : blockMax - bestWidth;
+            blockOffsets[block] = wordCount;
+            wordCount += bestWords;
+            maxWidth = Math.max(maxWidth, bestWidth);
+        }
+        this.bitsPerValue = maxWidth;
+
+        this.packed = allocateWords(wordCount);
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * PackedBlocks.BLOCK_SIZE;
+            int count = Math.min(PackedBlocks.BLOCK_SIZE, values.length - from);
+            int width = widths[block];
+            int highWidth = highWidths[block];
+            int offset = blockOffsets[block];
+            packed.set(offset, width | (exceptionCounts[block] << 8) | (highWidth << 16));
+
+            int lowMask = width == 32 ? -1 : (1 << width) - 1;
+            int positionsOffset = offset + 1 + PackedBlocks.payloadWords(width);
+            int exception = 0;
+            for (int slot = 0; slot < count; slot++) {
+                int value = values[from + slot];
+                lows[slot] = value & lowMask;
+                if (width < 32 && (value >>> width) != 0) {
+                    PackedBlocks.writeByte(packed, positionsOffset, exception, slot);
+                    highs[exception++] = value >>> width;
+                }
+            }
+            PackedBlocks.pack(lows, 0, count, 0, width, packed, offset + 1);
+            int highsOffset = positionsOffset + PackedBlocks.byteTableWords(exception);
+            PackedBlocks.pack(highs, 0, exception, 0, highWidth, packed, highsOffset);
+        }
+    }
+
+    @Override
+    public void decompress(int[] destination) {
+        ensureReady(destination);
+        decodeRange(0, elementCount, destination, 0);
+    }
+
+    @Override
+    public void decompress(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        checkRange(fromIndex, toIndex, destination, destinationOffset);
+        decodeRange(fromIndex, toIndex, destination, destinationOffset);
+    }
+
+    @Override
+    public int get(int index) {
+        requireIndex(index);
+        return readValue(index);
+    }
+
+    @Override
+    int valueAt(int index) {
+        return readValue(index);
+    }
+
+    @Override
+    public void get(int[] indices, int[] destination, boolean sortIndices) {
+        checkGather(indices, destination);
+        if (!sortIndices) {
+            for (int i = 0; i < indices.length; i++) {
+                destination[i] = readValue(indices[i]);
+            }
+            return;
+        }
+        for (long entry : sortedByIndex(indices)) {
+            destination[(int) entry] = readValue((int) (entry >>> 32));
+        }
+    }
+
+    @Override
+    int splitGrain() {
+        return PackedBlocks.BLOCK_SIZE;
+    }
+
+    @Override
+    CompressionType compressionType() {
+        return CompressionType.PFOR;
+    }
+
+    /**
+     * Rebuilds the block directory by walking the block headers.
+     */
+    @Override
+    void restore(int elementCount, int bitsPerValue, int[] parameters, PackedStorage words, int[] overflow) {
+        int blockCount = PackedBlocks.blockCount(elementCount);
+        // Every block holds at least its header word
+        requireWords(words, blockCount);
+        int[] offsets = new int[blockCount];
+        long offset = 0;
+        for (int block = 0; block < blockCount; block++) {
+            requireWords(words, offset + 1);
+            int header = words.get((int) offset);
+            int width = header & 0xFF;
+            int exceptions = (header >>> 8) & 0xFF;
+            int highWidth = (header >>> 16) & 0xFF;
+            if (width > 32 || exceptions > PackedBlocks.BLOCK_SIZE || width + highWidth > 32) {
+                throw new IllegalArgumentException("Corrupted stream: invalid header in block " + block);
+            }
+            offsets[block] = (int) offset;
+            offset += blockWords(width, exceptions, highWidth);
+        }
+        requireWords(words, offset);
+        this.blockOffsets = offsets;
+        this.elementCount = elementCount;
+        this.bitsPerValue = bitsPerValue;
+        this.packed = words;
+    }
+
+    /**
+     * Picks the low width minimising the size of a block with the given bit-width histogram and maximum width.
+     */
+    static int bestLowWidth(int[] histogram, int blockMax) {
+        // Try every low width, counting exceptions from the top of the histogram downwards
+        int bestWidth = blockMax;
+        int bestWords = blockWords(blockMax, 0, 0);
+        int exceptions = 0;
+        for (int width = blockMax - 1; width >= 0; width--) {
+            exceptions += histogram[width + 1];
+            int words = blockWords(width, exceptions, blockMax - width);
+            if (words < bestWords) {
+                bestWidth = width;
+                bestWords = words;
+            }
+        }
+        return bestWidth;
+    }
+
+    /**
+     * @return number of values wider than {@code width} in a block with the given bit-width histogram
+     */
+    static int exceptionCount(int[] histogram, int width, int blockMax) {
+        int exceptions = 0;
+        for (int bits = width + 1; bits <= blockMax; bits++) {
+            exceptions += histogram[bits];
+        }
+        return exceptions;
+    }
+
+    /**
+     * Words used by one block: header, low-bit payload, exception positions and exception high bits.
+     */
+    static int blockWords(int width, int exceptions, int highWidth) {
+        return 1 + PackedBlocks.payloadWords(width) + PackedBlocks.byteTableWords(exceptions)
+                + PackedBlocks.packedWords(exceptions, highWidth);
+    }
+
+    private int readValue(int index) {
+        int offset = blockOffsets[PackedBlocks.blockOf(index)];
+        int header = packed.get(offset);
+        int width = header & 0xFF;
+        int slot = PackedBlocks.slotOf(index);
+        int value = PackedBlocks.read(packed, offset + 1, width, slot);
+
+        int exceptions = (header >>> 8) & 0xFF;
+        int positionsOffset = offset + 1 + PackedBlocks.payloadWords(width);
+        // Positions are stored in ascending order, so the scan stops at the first one past the slot
+        for (int exception = 0; exception < exceptions; exception++) {
+            int position = PackedBlocks.readByte(packed, positionsOffset, exception);
+            if (position >= slot) {
+                if (position == slot) {
+                    int highWidth = header >>> 16;
+                    int highsOffset = positionsOffset + PackedBlocks.byteTableWords(exceptions);
+                    value |= PackedBlocks.read(packed, highsOffset, highWidth, exception) << width;
+                }
+                break;
+            }
+        }
+        return value;
+    }
+
+    private void decodeRange(int fromIndex, int toIndex, int[] destination, int destinationOffset) {
+        int[] scratch = null;
+        int index = fromIndex;
+        int out = destinationOffset;
+        while (index < toIndex) {
+            int block = PackedBlocks.blockOf(index);
+            int slot = index - block * PackedBlocks.BLOCK_SIZE;
+            int count = Math.min(PackedBlocks.BLOCK_SIZE - slot, toIndex - index);
+
+            if (count == PackedBlocks.BLOCK_SIZE) {
+                decodeBlock(block, destination, out);
+            } else {
+                // Partial blocks at either end of the range are decoded into a scratch block first
+                if (scratch == null) {
+                    scratch = new int[PackedBlocks.BLOCK_SIZE];
+                }
+                decodeBlock(block, scratch, 0);
+                System.arraycopy(scratch, slot, destination, out, count);
+            }
+            index += count;
+            out += count;
+        }
+    }
+
+    /**
+     * Bulk-unpacks the low bits of a whole block, then patches its exceptions.
+     */
+    private void decodeBlock(int block, int[] out, int outPos) {
+        int offset = blockOffsets[block];
+        int header = packed.get(offset);
+        int width = header & 0xFF;
+        int exceptions = (header >>> 8) & 0xFF;
+        int highWidth = header >>> 16;
+        PackedBlocks.unpack(packed, offset + 1, width, out, outPos);
+
+        int positionsOffset = offset + 1 + PackedBlocks.payloadWords(width);
+        int highsOffset = positionsOffset + PackedBlocks.byteTableWords(exceptions);
+        for (int exception = 0; exception < exceptions; exception++) {
+            int position = PackedBlocks.readByte(packed, positionsOffset, exception);
+            out[outPos + position] |= PackedBlocks.read(packed, highsOffset, highWidth, exception) << width;
+        }
+    }
+
+    private void ensureReady(int[] destination) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Destination array must not be null");
+        }
+        if (destination.length < elementCount) {
+            throw new IllegalArgumentException("Destination array is too small");
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+
+    private void requireIndex(int index) {
+        if (index < 0 || index >= elementCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + elementCount);
+        }
+        if (packed == null) {
+            throw new IllegalStateException("Nothing has been compressed yet");
+        }
+    }
+}
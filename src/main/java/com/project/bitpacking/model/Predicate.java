@@ -0,0 +1,88 @@
+package com.project.bitpacking.model;
+
+/**
+ * Comparison of every value against a constant, evaluated by {@link BitPacking#scan(Predicate, int, long[])}.
+ * <p>
+ * Each predicate selects either the values inside one interval of {@code int} or the values outside it, which lets
+ * codecs evaluate all of them with a single range test.
+ */
+public enum Predicate {
+    /**
+     * {@code value == constant}
+     */
+    EQUAL,
+
+    /**
+     * {@code value != constant}
+     */
+    NOT_EQUAL,
+
+    /**
+     * {@code value < constant}
+     */
+    LESS_THAN,
+
+    /**
+     * {@code value <= constant}
+     */
+    LESS_THAN_OR_EQUAL,
+
+    /**
+     * {@code value > constant}
+     */
+    GREATER_THAN,
+
+    /**
+     * {@code value >= constant}
+     */
+    GREATER_THAN_OR_EQUAL;
+
+    /**
+     * @return whether {@code value} satisfies this predicate against {@code constant}
+     */
+    public boolean test(int value, int constant) {
+        return switch (this) {
+            case EQUAL -> value == constant;
+            case NOT_EQUAL -> value != constant;
+            case LESS_THAN -> value < constant;
+            case LESS_THAN_OR_EQUAL -> value <= constant;
+            case GREATER_THAN -> value > constant;
+            case GREATER_THAN_OR_EQUAL -> value >= constant;
+        };
+    }
+
+    /**
+     * @return lower bound, inclusive, of the interval that {@link #rangeSelects(int)} relates the selection to
+     */
+    int rangeLow(int constant) {
+        return switch (this) {
+            case EQUAL, NOT_EQUAL, GREATER_THAN_OR_EQUAL -> constant;
+            case LESS_THAN, LESS_THAN_OR_EQUAL -> Integer.MIN_VALUE;
+            case GREATER_THAN -> constant == Integer.MAX_VALUE ? Integer.MIN_VALUE : constant + 1;
+        };
+    }
+
+    /**
+     * @return upper bound, inclusive, of the interval that {@link #rangeSelects(int)} relates the selection to
+     */
+    int rangeHigh(int constant) {
+        return switch (this) {
+            case EQUAL, NOT_EQUAL, LESS_THAN_OR_EQUAL -> constant;
+            case LESS_THAN -> constant == Integer.MIN_VALUE ? Integer.MAX_VALUE : constant - 1;
+            case GREATER_THAN, GREATER_THAN_OR_EQUAL -> Integer.MAX_VALUE;
+        };
+    }
+
+    /**
+     * @return whether the predicate selects the values inside {@code [rangeLow, rangeHigh]} rather than those outside;
+     * the unsatisfiable comparisons select nothing outside the whole {@code int} range
+     */
+    boolean rangeSelects(int constant) {
+        return switch (this) {
+            case NOT_EQUAL -> false;
+            case LESS_THAN -> constant != Integer.MIN_VALUE;
+            case GREATER_THAN -> constant != Integer.MAX_VALUE;
+            default -> true;
+        };
+    }
+}
@@ -0,0 +1,207 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Arrays;
+
+/**
+ * Bit-width statistics gathered from a sample of an input, from which the size of every concrete codec is
+ * estimated without compressing the input.
+ * <p>
+ * The sample is a set of whole blocks of {@value PackedBlocks#BLOCK_SIZE} consecutive values, evenly spaced over the
+ * input. Small inputs are read in full; larger ones read about the square root of their block count, so sampling
+ * stays sublinear. Whole blocks let the block codecs be estimated with their own width rules, while the value
+ * histogram covers the codecs with a single width. Widths that appear outside the sample are missed, so the estimate
+ * for a single-width codec can be low on inputs with rare outliers.
+ * <p>
+ * A profile keeps its arrays between calls to {@link #sample(int[])}, so resampling allocates nothing.
+ */
+final class SampleProfile {
+    /**
+     * Inputs with at most this many blocks are read in full.
+     */
+    static final int MIN_SAMPLED_BLOCKS = 32;
+
+    /**
+     * Bit-width histogram of the sampled values; index 32 counts negative values.
+     */
+    private final int[] histogram = new int[33];
+    private final int[] blockHistogram = new int[33];
+
+    private int valueCount;
+    private int blockCount;
+    private int sampledBlocks;
+    private int sampledValues;
+    private int maxBits;
+    private long blockForPayloadWords;
+    private long deltaPayloadWords;
+    private long pforWords;
+    private long pforExceptions;
+
+    /**
+     * Gathers the statistics of {@code values}, replacing those of any earlier sample.
+     */
+    void sample(int[] values) {
+        valueCount = values.length;
+        blockCount = PackedBlocks.blockCount(values.length);
+        sampledBlocks = blockCount <= MIN_SAMPLED_BLOCKS
+                ? blockCount
+                : Math.max(MIN_SAMPLED_BLOCKS, (int) Math.ceil(Math.sqrt(blockCount)));
+        sampledValues = 0;
+        blockForPayloadWords = 0;
+        deltaPayloadWords = 0;
+        pforWords = 0;
+        pforExceptions = 0;
+        Arrays.fill(histogram, 0);
+
+        for (int i = 0; i < sampledBlocks; i++) {
+            int block = (int) ((long) i * blockCount / sampledBlocks);
+            int from = block * PackedBlocks.BLOCK_SIZE;
+            int to = Math.min(values.length, from + PackedBlocks.BLOCK_SIZE);
+            sampleBlock(values, from, to);
+        }
+        maxBits = 32;
+        while (maxBits > 0 && histogram[maxBits] == 0) {
+            maxBits--;
+        }
+    }
+
+    private void sampleBlock(int[] values, int from, int to) {
+        BitUtils.bitWidthHistogram(values, from, to, blockHistogram);
+        int blockMax = 32;
+        while (blockMax > 0 && blockHistogram[blockMax] == 0) {
+            blockMax--;
+        }
+        for (int bits = 0; bits <= blockMax; bits++) {
+            histogram[bits] += blockHistogram[bits];
+        }
+        sampledValues += to - from;
+
+        // Block widths follow the rules of BlockForBitPacking, DeltaBitPacking and PforBitPacking
+        int min = values[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, values[i]);
+        }
+        int offsets = 0;
+        int deltas = 0;
+        for (int i = from; i < to; i++) {
+            offsets |= values[i] - min;
+            if (i > from) {
+                deltas |= DeltaBitPacking.zigzag(values[i] - values[i - 1]);
+            }
+        }
+        blockForPayloadWords += PackedBlocks.payloadWords(32 - Integer.numberOfLeadingZeros(offsets));
+        deltaPayloadWords += PackedBlocks.payloadWords(32 - Integer.numberOfLeadingZeros(deltas));
+
+        int lowWidth = PforBitPacking.bestLowWidth(blockHistogram, blockMax);
+        int exceptions = PforBitPacking.exceptionCount(blockHistogram, lowWidth, blockMax);
+        pforWords += PforBitPacking.blockWords(lowWidth, exceptions, exceptions == 0 ? 0 : blockMax - lowWidth);
+        pforExceptions += exceptions;
+    }
+
+    /**
+     * @return number of values in the sampled input
+     */
+    int valueCount() {
+        return valueCount;
+    }
+
+    /**
+     * @return number of values read to build the profile
+     */
+    int sampledValues() {
+        return sampledValues;
+    }
+
+    /**
+     * @return whether the sample holds negative values
+     */
+    boolean hasNegatives() {
+        return histogram[32] > 0;
+    }
+
+    /**
+     * @return largest bit width in the sample, 32 if it holds negative values
+     */
+    int maxBits() {
+        return maxBits;
+    }
+
+    /**
+     * Estimates the number of ints {@code type} transmits for the whole input: packed words plus overflow area.
+     *
+     * @param type a concrete codec type
+     */
+    long estimatedInts(CompressionType type) {
+        return switch (type) {
+            case CROSS_BOUNDARY -> ((long) valueCount * maxBits + 31) >>> 5;
+            case ALIGNED -> maxBits == 0 ? 0 : ((long) valueCount + 32 / maxBits - 1) / (32 / maxBits);
+            case OVERFLOW -> (overflowBits() + 31) >>> 5;
+            case BLOCK_FOR -> blockCount + PackedBlocks.byteTableWords(blockCount) + scaleBlocks(blockForPayloadWords);
+            case DELTA -> blockCount + PackedBlocks.byteTableWords(blockCount) + scaleBlocks(deltaPayloadWords);
+            case PFOR -> scaleBlocks(pforWords);
+            case HYBRID, ADAPTIVE -> throw new IllegalArgumentException("Not an adaptive candidate: " + type);
+        };
+    }
+
+    /**
+     * Estimates how many values {@code type} stores outside its regular packed stream: the overflow area of
+     * {@link OverflowBitPacking} or the exceptions of {@link PforBitPacking}, which both cost extra work to decode.
+     */
+    long estimatedExceptions(CompressionType type) {
+        return switch (type) {
+            case OVERFLOW -> scaleValues(overflowCount(overflowPrimaryBits()));
+            case PFOR -> scaleBlocks(pforExceptions);
+            default -> 0;
+        };
+    }
+
+    /**
+     * Mirrors the width selection of {@link OverflowBitPacking} on the histogram scaled to the whole input.
+     */
+    private long overflowBits() {
+        if (maxBits == 0) {
+            return 0;
+        }
+        int primaryBits = overflowPrimaryBits();
+        long overflowCount = scaleValues(overflowCount(primaryBits));
+        return overflowEntryBits(primaryBits, overflowCount) * valueCount + overflowCount * 32L;
+    }
+
+    private int overflowPrimaryBits() {
+        int bestBits = 0;
+        long bestCost = Long.MAX_VALUE;
+        for (int candidate = 1; candidate <= Math.min(maxBits, 31); candidate++) {
+            long overflowCount = scaleValues(overflowCount(candidate));
+            long cost = overflowEntryBits(candidate, overflowCount) * valueCount + overflowCount * 32L;
+            if (cost < bestCost) {
+                bestBits = candidate;
+                bestCost = cost;
+            }
+        }
+        return bestBits;
+    }
+
+    private static long overflowEntryBits(int primaryBits, long overflowCount) {
+        return OverflowBitPacking.entryBits(primaryBits, (int) Math.min(overflowCount, Integer.MAX_VALUE));
+    }
+
+    /**
+     * @return number of sampled values wider than {@code primaryBits}
+     */
+    private int overflowCount(int primaryBits) {
+        int count = 0;
+        for (int bits = primaryBits + 1; bits <= 32; bits++) {
+            count += histogram[bits];
+        }
+        return count;
+    }
+
+    private long scaleValues(long sampled) {
+        return sampledValues == 0 ? 0 : Math.round((double) sampled * valueCount / sampledValues);
+    }
+
+    private long scaleBlocks(long sampled) {
+        return sampledBlocks == 0 ? 0 : Math.round((double) sampled * blockCount / sampledBlocks);
+    }
+}
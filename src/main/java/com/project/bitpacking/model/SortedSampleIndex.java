@@ -0,0 +1,55 @@
+package com.project.bitpacking.model;
+
+/**
+ * Sparse index over a sorted compressed sequence holding every {@code stride}-th value in a plain array.
+ * <p>
+ * A search first binary-searches the samples, which touches no packed words, and is left with the at most
+ * {@code stride - 1} values between two samples. Codecs pick the stride so that this stretch spans about one cache
+ * line of packed words, then finish the search there with {@link AbstractBitPacking#lowerBoundWithin}.
+ */
+final class SortedSampleIndex {
+    private final int shift;
+    private final int[] samples;
+
+    private SortedSampleIndex(int shift, int[] samples) {
+        this.shift = shift;
+        this.samples = samples;
+    }
+
+    /**
+     * Samples every {@code stride}-th value of the codec's current result.
+     *
+     * @param stride distance between samples, a power of two
+     */
+    static SortedSampleIndex build(AbstractBitPacking codec, int size, int stride) {
+        int shift = Integer.numberOfTrailingZeros(stride);
+        int[] samples = new int[(int) (((long) size + stride - 1) >>> shift)];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = codec.valueAt(i << shift);
+        }
+        return new SortedSampleIndex(shift, samples);
+    }
+
+    /**
+     * @return index of the first value not less than {@code key}, or {@code size} if there is none
+     */
+    int lowerBound(AbstractBitPacking codec, int size, int key) {
+        int low = 0;
+        int high = samples.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (samples[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == 0) {
+            return 0;
+        }
+        // The previous sample is below the key and this one, if any, is not: the answer lies in between
+        int fromIndex = ((low - 1) << shift) + 1;
+        int toIndex = low == samples.length ? size : low << shift;
+        return codec.lowerBoundWithin(key, fromIndex, toIndex);
+    }
+}
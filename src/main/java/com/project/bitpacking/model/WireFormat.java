@@ -0,0 +1,171 @@
+package com.project.bitpacking.model;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Versioned binary format for compressed results. All fields are little-endian:
+ * <pre>
+ * offset  size  field
+ *      0     4  magic "BPAK"
+ *      4     2  format version
+ *      6     1  codec type ({@link CompressionType#wireCode()})
+ *      7     1  bits per value
+ *      8     4  element count
+ *     12     4  parameter count p
+ *     16     4  packed word count w
+ *     20     4  overflow value count o
+ *     24    4p  codec parameters
+ * 24 + 4p   4w  packed words
+ *    ...    4o  overflow values
+ * </pre>
+ * The packed words start on a four-byte boundary, so a reader can view them in place as an {@code IntBuffer}.
+ */
+final class WireFormat {
+    static final int MAGIC = 0x4B415042;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+
+    /**
+     * Upper bound on codec parameters, rejecting corrupt headers before anything is allocated.
+     */
+    private static final int MAX_PARAMETERS = 16;
+
+    private WireFormat() {
+    }
+
+    static void write(AbstractBitPacking codec, WritableByteChannel channel) throws IOException {
+        int[] parameters = codec.wireParameters();
+        int[] overflow = codec.overflowRegion();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + parameters.length * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putShort((short) VERSION)
+                .put((byte) codec.compressionType().wireCode())
+                .put((byte) codec.bitsPerValue)
+                .putInt(codec.elementCount)
+                .putInt(parameters.length)
+                .putInt(codec.packed.wordCount())
+                .putInt(overflow.length);
+        for (int parameter : parameters) {
+            header.putInt(parameter);
+        }
+        header.flip();
+        ByteBuffer overflowBytes = ByteBuffer.allocate(overflow.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        overflowBytes.asIntBuffer().put(overflow);
+
+        ByteBuffer[] buffers = {header, codec.packed.littleEndianBytes(), overflowBytes};
+        if (channel instanceof GatheringByteChannel) {
+            GatheringByteChannel gathering = (GatheringByteChannel) channel;
+            while (buffers[0].hasRemaining() || buffers[1].hasRemaining() || buffers[2].hasRemaining()) {
+                gathering.write(buffers);
+            }
+            return;
+        }
+        for (ByteBuffer buffer : buffers) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Reads one compressed result starting at the buffer's position and advances the position past it. The packed
+     * words are viewed in place rather than copied, so the buffer must not be modified while the codec is in use.
+     */
+    static BitPacking read(ByteBuffer source) {
+        ByteBuffer in = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        long totalBytes = totalBytes(in);
+        if (in.remaining() < totalBytes) {
+            throw new IllegalArgumentException("Truncated stream: " + totalBytes + " bytes expected, "
+                    + in.remaining() + " available");
+        }
+        int start = in.position();
+        CompressionType type = CompressionType.fromWireCode(in.get(start + 6) & 0xFF);
+        int bitsPerValue = in.get(start + 7) & 0xFF;
+        int elementCount = in.getInt(start + 8);
+        int parameterCount = in.getInt(start + 12);
+        int wordCount = in.getInt(start + 16);
+        int overflowCount = in.getInt(start + 20);
+
+        in.position(start + HEADER_BYTES);
+        int[] parameters = new int[parameterCount];
+        in.asIntBuffer().get(parameters);
+        in.position(in.position() + parameterCount * Integer.BYTES);
+        ByteBuffer words = in.slice(in.position(), wordCount * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        in.position(in.position() + wordCount * Integer.BYTES);
+        int[] overflow = new int[overflowCount];
+        in.asIntBuffer().get(overflow);
+        in.position(in.position() + overflowCount * Integer.BYTES);
+
+        AbstractBitPacking codec = (AbstractBitPacking) BitPackingFactory.create(type);
+        codec.restore(elementCount, bitsPerValue, parameters, new BufferPackedStorage(words), overflow);
+        // The words stay in the caller's buffer, which in-place writes must not touch
+        codec.markShared();
+        source.position(in.position());
+        return codec;
+    }
+
+    /**
+     * Reads exactly one compressed result from the channel into a single buffer and views its words in place.
+     */
+    static BitPacking read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        header.flip();
+        long totalBytes = totalBytes(header);
+        if (totalBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Stream of " + totalBytes + " bytes exceeds the capacity of a buffer");
+        }
+        ByteBuffer message = ByteBuffer.allocate((int) totalBytes).order(ByteOrder.LITTLE_ENDIAN);
+        message.put(header);
+        readFully(channel, message);
+        message.flip();
+        return read(message);
+    }
+
+    /**
+     * Validates the header at the buffer's position and returns the size of the whole message in bytes.
+     */
+    private static long totalBytes(ByteBuffer in) {
+        int start = in.position();
+        if (in.remaining() < HEADER_BYTES) {
+            throw new IllegalArgumentException("Truncated stream: header requires " + HEADER_BYTES + " bytes");
+        }
+        if (in.getInt(start) != MAGIC) {
+            throw new IllegalArgumentException("Not a bit packing stream");
+        }
+        int version = in.getShort(start + 4) & 0xFFFF;
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported format version " + version);
+        }
+        int typeCode = in.get(start + 6) & 0xFF;
+        // Adaptive results are written under the type of the strategy they delegate to
+        if (CompressionType.fromWireCode(typeCode) == null || typeCode == CompressionType.ADAPTIVE.wireCode()) {
+            throw new IllegalArgumentException("Unknown codec type " + typeCode);
+        }
+        int bitsPerValue = in.get(start + 7) & 0xFF;
+        int elementCount = in.getInt(start + 8);
+        int parameterCount = in.getInt(start + 12);
+        int wordCount = in.getInt(start + 16);
+        int overflowCount = in.getInt(start + 20);
+        if (bitsPerValue > 32 || elementCount < 0 || parameterCount < 0 || parameterCount > MAX_PARAMETERS
+                || wordCount < 0 || wordCount > OffHeapArena.MAX_WORDS || overflowCount < 0) {
+            throw new IllegalArgumentException("Corrupted stream header");
+        }
+        return HEADER_BYTES + ((long) parameterCount + wordCount + overflowCount) * Integer.BYTES;
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of bit packing stream");
+            }
+        }
+    }
+}
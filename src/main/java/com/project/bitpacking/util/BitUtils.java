@@ -1,5 +1,7 @@
 package com.project.bitpacking.util;
 
+import java.util.Arrays;
+
 /**
  * Utility class for bit manipulation operations.
  */
@@ -23,6 +25,63 @@ public final class BitUtils {
         return 32 - Integer.numberOfLeadingZeros(value);
     }
 
+    /**
+     * Calculates the minimum number of bits required to represent a long read as an unsigned 64-bit integer, so
+     * negative values need all 64 bits.
+     *
+     * @param value the value to analyze
+     * @return number of bits needed (0 for value 0, up to 64)
+     */
+    public static int unsignedBitsRequired(long value) {
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Counts how many values need each bit width, in a single pass over {@code values[from..to)}.
+     * <p>
+     * Entry {@code b} of the result holds the number of values for which {@link #bitsRequired(int)} returns
+     * {@code b}. Negative values, which have no non-negative width, are counted in entry 32; since no non-negative
+     * int needs 32 bits, a non-zero entry 32 means the range contains negative values.
+     *
+     * @param values the values to analyze
+     * @param from   first index, inclusive
+     * @param to     last index, exclusive
+     * @return histogram with 33 entries (widths 0 to 32)
+     */
+    public static int[] bitWidthHistogram(int[] values, int from, int to) {
+        return bitWidthHistogram(values, from, to, new int[33]);
+    }
+
+    /**
+     * Same as {@link #bitWidthHistogram(int[], int, int)}, filling a caller-provided array so repeated calls
+     * allocate nothing.
+     *
+     * @param histogram array of at least 33 entries, overwritten with the result
+     * @return {@code histogram}
+     */
+    public static int[] bitWidthHistogram(int[] values, int from, int to, int[] histogram) {
+        Arrays.fill(histogram, 0, 33, 0);
+        for (int i = from; i < to; i++) {
+            histogram[32 - Integer.numberOfLeadingZeros(values[i])]++;
+        }
+        return histogram;
+    }
+
+    /**
+     * Counts how many values of {@code values[from..to)} need each unsigned bit width, as returned by
+     * {@link #unsignedBitsRequired(long)}.
+     *
+     * @param histogram array of at least 65 entries (widths 0 to 64), overwritten with the result
+     * @return {@code histogram}
+     */
+    public static int[] bitWidthHistogram(long[] values, int from, int to, int[] histogram) {
+        Arrays.fill(histogram, 0, 65, 0);
+        for (int i = from; i < to; i++) {
+            histogram[64 - Long.numberOfLeadingZeros(values[i])]++;
+        }
+        return histogram;
+    }
+
     /**
      * Computes the ceiling of log2 for a positive integer.
      *
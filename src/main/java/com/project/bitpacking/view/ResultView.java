@@ -3,6 +3,7 @@ package com.project.bitpacking.view;
 import com.project.bitpacking.model.BitPacking;
 import com.project.bitpacking.benchmark.BenchmarkEvaluationResult;
 
+import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -24,14 +25,25 @@ public class ResultView {
      * Displays compression result with timing.
      */
     public void displayCompression(BitPacking codec, double timeMs) {
-        int[] backing = codec.backingArray();
+        IntBuffer words = codec.packedWords();
         System.out.printf(LOCALE, "Packed words (%d ints) %s | Compression time : %.3f ms%n",
-                backing.length, Arrays.toString(backing), timeMs);
+                words.remaining(), format(words), timeMs);
         if (codec.overflowSize() > 0) {
             System.out.printf(LOCALE, "Overflow area length: %d%n", codec.overflowSize());
         }
     }
 
+    private static String format(IntBuffer words) {
+        StringBuilder text = new StringBuilder("[");
+        for (int i = words.position(); i < words.limit(); i++) {
+            if (i > words.position()) {
+                text.append(", ");
+            }
+            text.append(words.get(i));
+        }
+        return text.append(']').toString();
+    }
+
     /**
      * Displays decompression result with timing.
      */
@@ -0,0 +1,79 @@
+package com.project.bitpacking;
+
+import java.util.Arrays;
+
+/**
+ * Assertion helpers for the tests, named after their JUnit counterparts. Each one throws an {@link AssertionError}
+ * describing the mismatch.
+ */
+public final class Assertions {
+    private Assertions() {
+    }
+
+    /**
+     * Code that is expected to throw.
+     */
+    @FunctionalInterface
+    public interface Executable {
+        void execute() throws Exception;
+    }
+
+    public static void assertTrue(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    public static void assertEquals(long expected, long actual, String message) {
+        if (expected != actual) {
+            throw new AssertionError(message + ": expected " + expected + " but was " + actual);
+        }
+    }
+
+    public static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + " but was " + actual);
+        }
+    }
+
+    public static void assertArrayEquals(int[] expected, int[] actual, String message) {
+        int mismatch = Arrays.mismatch(expected, actual);
+        if (mismatch >= 0) {
+            throw new AssertionError(message + ": arrays differ at index " + mismatch + mismatchDetail(
+                    mismatch < expected.length ? String.valueOf(expected[mismatch]) : "<end>",
+                    mismatch < actual.length ? String.valueOf(actual[mismatch]) : "<end>"));
+        }
+    }
+
+    public static void assertArrayEquals(long[] expected, long[] actual, String message) {
+        int mismatch = Arrays.mismatch(expected, actual);
+        if (mismatch >= 0) {
+            throw new AssertionError(message + ": arrays differ at index " + mismatch + mismatchDetail(
+                    mismatch < expected.length ? String.valueOf(expected[mismatch]) : "<end>",
+                    mismatch < actual.length ? String.valueOf(actual[mismatch]) : "<end>"));
+        }
+    }
+
+    /**
+     * @return the exception thrown by {@code executable}, which must be an instance of {@code expected}
+     */
+    public static <T extends Throwable> T assertThrows(Class<T> expected, Executable executable, String message) {
+        try {
+            executable.execute();
+        } catch (Throwable thrown) {
+            if (expected.isInstance(thrown)) {
+                return expected.cast(thrown);
+            }
+            throw new AssertionError(message + ": expected " + expected.getSimpleName() + " but got " + thrown, thrown);
+        }
+        throw new AssertionError(message + ": expected " + expected.getSimpleName() + " but nothing was thrown");
+    }
+
+    private static String mismatchDetail(String expected, String actual) {
+        return " (expected " + expected + " but was " + actual + ")";
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.bitpacking;
+
+import com.project.bitpacking.model.BitPacking;
+
+import java.nio.IntBuffer;
+import java.util.Random;
+
+/**
+ * Deterministic input generators shared by the tests.
+ */
+public final class TestData {
+    private TestData() {
+    }
+
+    /**
+     * @return {@code size} uniform values of at most {@code bits} bits, with the widest one present when
+     * {@code size > 0} so the width is exactly {@code bits}
+     */
+    public static int[] uniform(Random random, int size, int bits) {
+        int[] values = new int[size];
+        int mask = bits == 32 ? -1 : (1 << bits) - 1;
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt() & mask;
+        }
+        if (size > 0) {
+            values[random.nextInt(size)] = mask;
+        }
+        return values;
+    }
+
+    /**
+     * @return mostly values of at most {@code smallBits} bits, with roughly one in {@code outlierEvery} of up to 31 bits
+     */
+    public static int[] skewed(Random random, int size, int smallBits, int outlierEvery) {
+        int[] values = uniform(random, size, smallBits);
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(outlierEvery) == 0) {
+                values[i] = random.nextInt(Integer.MAX_VALUE);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @return a non-decreasing sequence whose steps are below {@code maxStep}
+     */
+    public static int[] sorted(Random random, int size, int maxStep) {
+        int[] values = new int[size];
+        for (int i = 1; i < size; i++) {
+            values[i] = values[i - 1] + random.nextInt(maxStep);
+        }
+        return values;
+    }
+
+    /**
+     * @return values across the whole {@code int} range, negatives included
+     */
+    public static int[] signed(Random random, int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+
+    /**
+     * @return sizes around the 32-value block and word boundaries the kernels special-case, plus a larger one
+     */
+    public static int[] edgeSizes() {
+        return new int[]{0, 1, 2, 31, 32, 33, 63, 64, 65, 127, 128, 129, 255, 256, 257, 1000, 4099};
+    }
+
+    /**
+     * @return a copy of the packed words of {@code codec}
+     */
+    public static int[] packedWords(BitPacking codec) {
+        IntBuffer buffer = codec.packedWords();
+        int[] words = new int[buffer.remaining()];
+        buffer.get(words);
+        return words;
+    }
+}
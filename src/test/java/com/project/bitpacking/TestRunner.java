@@ -0,0 +1,71 @@
+package com.project.bitpacking;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Dependency-free test runner: discovers every compiled class whose name ends in {@code Test} next to this one and
+ * runs each of its public no-argument methods whose name starts with {@code test} on a fresh instance.
+ * <p>
+ * Arguments, if any, restrict the run to test classes whose simple name contains one of them. The exit status is
+ * non-zero when a test fails.
+ */
+public final class TestRunner {
+    private TestRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, URISyntaxException, ReflectiveOperationException {
+        Path root = Path.of(TestRunner.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> classNames = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            files.map(root::relativize)
+                    .map(Path::toString)
+                    .filter(name -> name.endsWith("Test.class") && !name.contains("$"))
+                    .sorted()
+                    .map(name -> name.substring(0, name.length() - ".class".length()))
+                    .forEach(name -> classNames.add(name.replace(root.getFileSystem().getSeparator(), ".")));
+        }
+
+        int passed = 0;
+        List<String> failures = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> testClass = Class.forName(className);
+            if (args.length > 0 && Arrays.stream(args).noneMatch(testClass.getSimpleName()::contains)) {
+                continue;
+            }
+            Method[] methods = testClass.getMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method method : methods) {
+                if (!method.getName().startsWith("test") || method.getParameterCount() != 0
+                        || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                String name = testClass.getSimpleName() + "." + method.getName();
+                try {
+                    method.invoke(testClass.getDeclaredConstructor().newInstance());
+                    passed++;
+                } catch (InvocationTargetException e) {
+                    Throwable cause = e.getCause();
+                    failures.add(name);
+                    System.out.println("FAIL " + name + ": " + cause);
+                    cause.printStackTrace(System.out);
+                }
+            }
+        }
+
+        System.out.printf("%d passed, %d failed%n", passed, failures.size());
+        if (!failures.isEmpty()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+import static com.project.bitpacking.Assertions.assertTrue;
+
+public class AdaptiveBitPackingTest {
+
+    private static final CompressionType[] CANDIDATES = {
+            CompressionType.CROSS_BOUNDARY, CompressionType.ALIGNED, CompressionType.OVERFLOW,
+            CompressionType.BLOCK_FOR, CompressionType.DELTA, CompressionType.PFOR
+    };
+
+    public void testRoundTripForEveryObjective() {
+        Random random = new Random(41);
+        for (AdaptiveBitPacking.Objective objective : AdaptiveBitPacking.Objective.values()) {
+            AdaptiveBitPacking codec = new AdaptiveBitPacking(objective);
+            for (int size : TestData.edgeSizes()) {
+                int[][] inputs = {
+                        TestData.uniform(random, size, 9),
+                        TestData.skewed(random, size, 3, 50),
+                        TestData.sorted(random, size, 5),
+                        TestData.signed(random, size)
+                };
+                for (int[] values : inputs) {
+                    codec.compress(values);
+                    String label = objective + ", size " + size + ", " + codec.selectedType();
+                    int[] decoded = new int[size];
+                    codec.decompress(decoded);
+                    assertArrayEquals(values, decoded, label);
+                    for (int i = 0; i < size; i += 7) {
+                        assertEquals(values[i], codec.get(i), label + ", index " + i);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testFullySampledInputGetsTheSmallestCandidate() {
+        Random random = new Random(42);
+        AdaptiveBitPacking codec = new AdaptiveBitPacking(AdaptiveBitPacking.Objective.SMALLEST_SIZE);
+        int size = SampleProfile.MIN_SAMPLED_BLOCKS * PackedBlocks.BLOCK_SIZE;
+        int[][] inputs = {
+                TestData.uniform(random, size, 12),
+                TestData.skewed(random, size, 4, 30),
+                TestData.sorted(random, size, 3),
+                TestData.uniform(random, size, 8)
+        };
+        for (int[] values : inputs) {
+            codec.compress(values);
+            long chosen = transmittedInts(codec);
+            for (CompressionType type : CANDIDATES) {
+                BitPacking other = BitPackingFactory.create(type);
+                other.compress(values);
+                assertTrue(chosen <= transmittedInts(other),
+                        codec.selectedType() + " (" + chosen + " ints) beaten by " + type + " ("
+                                + transmittedInts(other) + " ints)");
+            }
+        }
+    }
+
+    public void testObjectivesPickTheExpectedStrategy() {
+        int[] sorted = TestData.sorted(new Random(43), 20_000, 4);
+        AdaptiveBitPacking small = new AdaptiveBitPacking(AdaptiveBitPacking.Objective.SMALLEST_SIZE);
+        small.compress(sorted);
+        assertEquals(CompressionType.DELTA, small.selectedType(), "smallest size on sorted data");
+
+        AdaptiveBitPacking fast = new AdaptiveBitPacking(AdaptiveBitPacking.Objective.FASTEST_GET);
+        fast.compress(sorted);
+        assertEquals(CompressionType.CROSS_BOUNDARY, fast.selectedType(), "fastest get on sorted data");
+    }
+
+    public void testNegativeValuesOnlyGoToSignedStrategies() {
+        AdaptiveBitPacking codec = new AdaptiveBitPacking();
+        int[] values = TestData.signed(new Random(44), 3000);
+        codec.compress(values);
+        assertTrue(acceptsNegatives(codec.selectedType()), "selected " + codec.selectedType());
+        assertTrue(codec.decision().contains("CROSS_BOUNDARY=n/a"), codec.decision());
+    }
+
+    public void testFallsBackWhenTheSampleMissesANegativeValue() {
+        int blocks = 100;
+        int[] values = TestData.uniform(new Random(45), blocks * PackedBlocks.BLOCK_SIZE, 4);
+        // Block 1 lies between the sampled blocks 0 and 3 of a 100-block input
+        values[PackedBlocks.BLOCK_SIZE + 5] = -17;
+        AdaptiveBitPacking codec = new AdaptiveBitPacking();
+        codec.compress(values);
+
+        assertTrue(acceptsNegatives(codec.selectedType()), "selected " + codec.selectedType());
+        assertTrue(codec.decision().contains("negative values outside the sample"), codec.decision());
+        int[] decoded = new int[values.length];
+        codec.decompress(decoded);
+        assertArrayEquals(values, decoded, "fallback round trip");
+
+        codec.compress(TestData.uniform(new Random(46), 1000, 4));
+        assertTrue(!codec.decision().contains("outside the sample"), "fallback flag cleared: " + codec.decision());
+    }
+
+    public void testRejectsInvalidArgumentsAndUse() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBitPacking(null), "null objective");
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveBitPacking(AdaptiveBitPacking.Objective.LOWEST_TOTAL_TIME, -1.0), "negative cost");
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveBitPacking(AdaptiveBitPacking.Objective.LOWEST_TOTAL_TIME, Double.NaN), "NaN cost");
+        AdaptiveBitPacking codec = new AdaptiveBitPacking();
+        assertEquals(null, codec.selectedType(), "nothing selected yet");
+        assertThrows(IllegalStateException.class, codec::decision, "decision before compress");
+        assertThrows(IllegalStateException.class, () -> codec.get(0), "get before compress");
+        assertThrows(IllegalArgumentException.class, () -> codec.compress(null), "null input");
+    }
+
+    private static long transmittedInts(BitPacking codec) {
+        return codec.packedWords().remaining() + (long) codec.overflowSize();
+    }
+
+    private static boolean acceptsNegatives(CompressionType type) {
+        return type == CompressionType.BLOCK_FOR || type == CompressionType.DELTA || type == CompressionType.PFOR;
+    }
+}
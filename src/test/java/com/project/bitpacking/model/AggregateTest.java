@@ -0,0 +1,133 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class AggregateTest {
+
+    private static final int[][] RANGES = {
+            {0, 0}, {0, 5}, {3, 3}, {5, 3}, {1, 100}, {100, 1 << 20}, {Integer.MIN_VALUE, Integer.MAX_VALUE},
+            {Integer.MIN_VALUE, -1}, {-1000, 1000}, {Integer.MAX_VALUE, Integer.MAX_VALUE}
+    };
+
+    public void testEveryStrategyMatchesReference() {
+        Random random = new Random(71);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            for (int size : TestData.edgeSizes()) {
+                for (int bits : new int[]{1, 3, 8, 13, 31}) {
+                    int[] values = TestData.uniform(random, size, bits);
+                    codec.compress(values);
+                    checkAggregates(codec, values, type + ", size " + size + ", width " + bits);
+                }
+                int[] skewed = TestData.skewed(random, size, 4, 37);
+                codec.compress(skewed);
+                checkAggregates(codec, skewed, type + ", size " + size + ", skewed");
+            }
+        }
+    }
+
+    public void testSignedStrategiesMatchReference() {
+        Random random = new Random(72);
+        for (CompressionType type : new CompressionType[]{CompressionType.BLOCK_FOR, CompressionType.DELTA,
+                CompressionType.PFOR, CompressionType.ADAPTIVE}) {
+            BitPacking codec = BitPackingFactory.create(type);
+            for (int size : TestData.edgeSizes()) {
+                int[] values = TestData.signed(random, size);
+                codec.compress(values);
+                checkAggregates(codec, values, type + " signed, size " + size);
+            }
+        }
+    }
+
+    public void testAlignedSwarAcrossWidths() {
+        Random random = new Random(73);
+        for (int bits = 1; bits <= 31; bits++) {
+            int perWord = 32 / bits;
+            int wordCount = 97;
+            int[] values = TestData.uniform(random, wordCount * perWord, bits);
+            int[] words = new int[wordCount];
+            for (int i = 0; i < values.length; i++) {
+                words[i / perWord] |= values[i] << ((i % perWord) * bits);
+            }
+            PackedStorage storage = new HeapPackedStorage(words);
+            AlignedSwar swar = AlignedSwar.forWidth(bits);
+            int largest = (1 << bits) - 1;
+            for (int fromWord : new int[]{0, 1, 13}) {
+                int toWord = wordCount - fromWord / 2;
+                long sum = 0;
+                int min = largest;
+                int max = 0;
+                for (int i = fromWord * perWord; i < toWord * perWord; i++) {
+                    sum += values[i];
+                    min = Math.min(min, values[i]);
+                    max = Math.max(max, values[i]);
+                }
+                String label = "width " + bits + ", words " + fromWord + ".." + toWord;
+                assertEquals(sum, swar.sum(storage, fromWord, toWord), label + " sum");
+                assertEquals(min, swar.min(storage, fromWord, toWord), label + " min");
+                assertEquals(max, swar.max(storage, fromWord, toWord), label + " max");
+            }
+            int[][] ranges = {{0, largest}, {0, 0}, {largest, largest}, {largest / 3, largest / 2}, {1, largest - 1}};
+            for (int[] range : ranges) {
+                int expected = 0;
+                for (int value : values) {
+                    expected += value >= range[0] && value <= range[1] ? 1 : 0;
+                }
+                assertEquals(expected, swar.count(storage, 0, wordCount, range[0], range[1]),
+                        "width " + bits + ", count " + range[0] + ".." + range[1]);
+            }
+            assertEquals(0L, swar.sum(storage, 5, 5), "width " + bits + ", empty sum");
+        }
+    }
+
+    public void testEmptyAndInvalidArguments() {
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            codec.compress(new int[0]);
+            assertThrows(NoSuchElementException.class, codec::min, type + " min of empty");
+            assertThrows(NoSuchElementException.class, codec::max, type + " max of empty");
+            assertEquals(0L, codec.sum(0, 0), type + " sum of empty");
+            assertEquals(0, codec.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE), type + " count of empty");
+            codec.compress(new int[]{1, 2, 3});
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.sum(2, 4), type + " sum past the end");
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.sum(2, 1), type + " reversed sum range");
+        }
+    }
+
+    private static void checkAggregates(BitPacking codec, int[] values, String label) {
+        int n = values.length;
+        int inner = Math.min(1, n);
+        int[][] sumRanges = {{0, n}, {0, n / 2}, {n / 3, n}, {n / 2, n / 2}, {inner, Math.max(inner, n - 1)}};
+        for (int[] range : sumRanges) {
+            long expected = 0;
+            for (int i = range[0]; i < range[1]; i++) {
+                expected += values[i];
+            }
+            assertEquals(expected, codec.sum(range[0], range[1]), label + ", sum " + range[0] + ".." + range[1]);
+        }
+        if (n > 0) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int value : values) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            assertEquals(min, codec.min(), label + ", min");
+            assertEquals(max, codec.max(), label + ", max");
+        }
+        for (int[] range : RANGES) {
+            int expected = 0;
+            for (int value : values) {
+                expected += value >= range[0] && value <= range[1] ? 1 : 0;
+            }
+            assertEquals(expected, codec.countInRange(range[0], range[1]),
+                    label + ", count " + range[0] + ".." + range[1]);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class AlignedBitPackingTest {
+
+    public void testRoundTripMatchesReferenceLayout() {
+        Random random = new Random(3);
+        AlignedBitPacking codec = new AlignedBitPacking();
+        for (int bits = 1; bits <= 31; bits++) {
+            for (int size : TestData.edgeSizes()) {
+                if (size == 0) {
+                    continue;
+                }
+                int[] values = TestData.uniform(random, size, bits);
+                codec.compress(values);
+                String label = "width " + bits + ", size " + size;
+                assertArrayEquals(referenceWords(values, bits), TestData.packedWords(codec), label);
+
+                int[] decoded = new int[size];
+                codec.decompress(decoded);
+                assertArrayEquals(values, decoded, label);
+                int[] reference = new int[size];
+                codec.decompressReference(reference);
+                assertArrayEquals(values, reference, label);
+            }
+        }
+    }
+
+    public void testVectorKernelsMatchReferenceLayout() {
+        if (!AlignedBitPacking.VECTOR_PATH) {
+            return;
+        }
+        Random random = new Random(4);
+        for (int bits = 1; bits <= 32; bits++) {
+            int valuesPerWord = 32 / bits;
+            int wordCount = 67;
+            int[] values = TestData.uniform(random, wordCount * valuesPerWord, bits);
+            int[] expected = referenceWords(values, bits);
+
+            // Start one word in so the kernels' offsets are exercised
+            int[] words = new int[wordCount];
+            int encoded = AlignedVectorKernels.encode(values, 1, wordCount - 1, bits, words);
+            for (int w = 1; w < 1 + encoded; w++) {
+                assertEquals(expected[w], words[w], "encoded word " + w + " at width " + bits);
+            }
+
+            int[] decoded = new int[values.length];
+            int decodedWords = AlignedVectorKernels.decode(expected, 1, wordCount - 1, bits, decoded, 3);
+            for (int i = 0; i < decodedWords * valuesPerWord; i++) {
+                assertEquals(values[valuesPerWord + i], decoded[3 + i], "decoded value " + i + " at width " + bits);
+            }
+        }
+    }
+
+    public void testAllZerosAndEmptyInput() {
+        AlignedBitPacking codec = new AlignedBitPacking();
+        codec.compress(new int[100]);
+        assertEquals(0, codec.bitsPerValue(), "zero width");
+        int[] decoded = new int[100];
+        decoded[7] = 5;
+        codec.decompress(decoded);
+        assertArrayEquals(new int[100], decoded, "zeros");
+
+        codec.compress(new int[0]);
+        assertEquals(0, codec.size(), "empty size");
+    }
+
+    public void testRejectsNegativeValues() {
+        AlignedBitPacking codec = new AlignedBitPacking();
+        assertThrows(IllegalArgumentException.class, () -> codec.compress(new int[]{3, Integer.MIN_VALUE}),
+                "negative value");
+    }
+
+    static int[] referenceWords(int[] values, int bits) {
+        int valuesPerWord = 32 / bits;
+        int[] words = new int[(values.length + valuesPerWord - 1) / valuesPerWord];
+        for (int i = 0; i < values.length; i++) {
+            words[i / valuesPerWord] |= values[i] << (i % valuesPerWord * bits);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,144 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class BitPackingWriterTest {
+
+    public void testBlocksConcatenateToTheInput() throws IOException {
+        Random random = new Random(25);
+        int[] values = TestData.skewed(random, 1037, 5, 40);
+        for (CompressionType type : CompressionType.values()) {
+            List<BitPacking> blocks = new ArrayList<>();
+            List<Long> firstIndices = new ArrayList<>();
+            BitPackingWriter writer = new BitPackingWriter(type, 100, (firstIndex, block) -> {
+                firstIndices.add(firstIndex);
+                blocks.add(block);
+            });
+            // Mix single values, slices spanning several blocks and empty slices
+            int position = 0;
+            while (position < values.length) {
+                if (random.nextBoolean()) {
+                    writer.write(values[position++]);
+                } else {
+                    int length = Math.min(values.length - position, random.nextInt(250));
+                    writer.write(values, position, length);
+                    position += length;
+                }
+            }
+            assertEquals(values.length, writer.count(), type + " count");
+            writer.close();
+
+            // Blocks retained by the sink must still hold their own values after later blocks were buffered
+            assertEquals(11, blocks.size(), type + " blocks");
+            int[] decoded = new int[values.length];
+            for (int i = 0; i < blocks.size(); i++) {
+                assertEquals(100L * i, (long) firstIndices.get(i), type + " first index");
+                BitPacking block = blocks.get(i);
+                block.decompress(0, block.size(), decoded, 100 * i);
+            }
+            assertArrayEquals(values, decoded, type.toString());
+        }
+    }
+
+    public void testStreamReadsBackThroughTheChannelSink() throws IOException {
+        int[] values = TestData.sorted(new Random(26), 2500, 9);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BitPackingWriter writer = new BitPackingWriter(CompressionType.DELTA, 1000,
+                BlockSink.to(Channels.newChannel(out)))) {
+            writer.write(values);
+        }
+        ByteBuffer stream = ByteBuffer.wrap(out.toByteArray());
+        int[] decoded = new int[values.length];
+        int position = 0;
+        while (stream.hasRemaining()) {
+            BitPacking block = BitPackingFactory.readFrom(stream);
+            block.decompress(0, block.size(), decoded, position);
+            position += block.size();
+        }
+        assertArrayEquals(values, decoded, "stream");
+    }
+
+    public void testNegativeValueIsRejectedBeforeBuffering() throws IOException {
+        for (CompressionType type : new CompressionType[]{CompressionType.CROSS_BOUNDARY, CompressionType.ALIGNED,
+                CompressionType.OVERFLOW, CompressionType.HYBRID}) {
+            List<BitPacking> blocks = new ArrayList<>();
+            BitPackingWriter writer = new BitPackingWriter(type, 4, (firstIndex, block) -> blocks.add(block));
+            writer.write(new int[]{1, 2, 3});
+            assertThrows(IllegalArgumentException.class, () -> writer.write(-1), type + " negative value");
+            assertThrows(IllegalArgumentException.class, () -> writer.write(new int[]{4, -5, 6}),
+                    type + " negative value in a slice");
+            assertEquals(3L, writer.count(), type + " count after rejected writes");
+
+            // The writer carries on with the values it accepted
+            writer.write(4);
+            writer.write(new int[]{5, 6, 7, 8, 9});
+            writer.close();
+            assertEquals(3, blocks.size(), type + " blocks emitted");
+            int[] decoded = new int[9];
+            int position = 0;
+            for (BitPacking block : blocks) {
+                block.decompress(0, block.size(), decoded, position);
+                position += block.size();
+            }
+            assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, decoded, type + " values");
+        }
+    }
+
+    public void testSignedStrategiesBufferNegativeValues() throws IOException {
+        List<BitPacking> blocks = new ArrayList<>();
+        BitPackingWriter writer = new BitPackingWriter(CompressionType.DELTA, 4,
+                (firstIndex, block) -> blocks.add(block));
+        writer.write(new int[]{-1, Integer.MIN_VALUE, 3});
+        writer.close();
+        int[] decoded = new int[3];
+        blocks.get(0).decompress(decoded);
+        assertArrayEquals(new int[]{-1, Integer.MIN_VALUE, 3}, decoded, "negative values");
+    }
+
+    public void testFailedSinkReceivesTheSameBlockAgain() throws IOException {
+        List<BitPacking> blocks = new ArrayList<>();
+        List<Long> firstIndices = new ArrayList<>();
+        boolean[] failNext = {true};
+        BitPackingWriter writer = new BitPackingWriter(CompressionType.CROSS_BOUNDARY, 3, (firstIndex, block) -> {
+            if (failNext[0]) {
+                failNext[0] = false;
+                throw new IOException("sink unavailable");
+            }
+            firstIndices.add(firstIndex);
+            blocks.add(block);
+        });
+        assertThrows(IOException.class, () -> writer.write(new int[]{7, 8, 9}), "sink failure");
+        writer.write(new int[]{10, 11});
+        writer.close();
+
+        assertEquals(2, blocks.size(), "blocks");
+        assertEquals(0L, (long) firstIndices.get(0), "first block index");
+        assertEquals(3L, (long) firstIndices.get(1), "second block index");
+        int[] decoded = new int[5];
+        blocks.get(0).decompress(0, 3, decoded, 0);
+        blocks.get(1).decompress(0, 2, decoded, 3);
+        assertArrayEquals(new int[]{7, 8, 9, 10, 11}, decoded, "values");
+    }
+
+    public void testRejectsInvalidArguments() {
+        BlockSink sink = (firstIndex, block) -> { };
+        assertThrows(IllegalArgumentException.class, () -> new BitPackingWriter(null, sink), "null type");
+        assertThrows(IllegalArgumentException.class, () -> new BitPackingWriter(CompressionType.PFOR, 0, sink),
+                "block size");
+        BitPackingWriter writer = new BitPackingWriter(CompressionType.PFOR, 8, sink);
+        assertThrows(IndexOutOfBoundsException.class, () -> writer.write(new int[3], 2, 2), "slice");
+        assertThrows(IllegalArgumentException.class, () -> writer.write(null), "null values");
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+
+public class BitUnpackKernelsTest {
+    private static final int BLOCKS = 5;
+
+    public void testEveryWidthMatchesReferencePacking() {
+        Random random = new Random(1);
+        for (int bits = 1; bits <= 32; bits++) {
+            int[] values = TestData.uniform(random, BLOCKS * BitUnpackKernels.BLOCK_VALUES, bits);
+            // One leading word and one leading output slot check that the offsets are honoured
+            int[] words = new int[1 + BLOCKS * bits];
+            long bitIndex = 32;
+            for (int value : values) {
+                writeBits(words, bitIndex, bits, value);
+                bitIndex += bits;
+            }
+            int[] decoded = new int[1 + values.length];
+            BitUnpackKernels.unpackBlocks(bits, words, 1, decoded, 1, BLOCKS);
+
+            int[] expected = new int[1 + values.length];
+            System.arraycopy(values, 0, expected, 1, values.length);
+            assertArrayEquals(expected, decoded, "width " + bits);
+        }
+    }
+
+    public void testZeroBlocksWritesNothing() {
+        for (int bits = 1; bits <= 32; bits++) {
+            int[] decoded = {7};
+            BitUnpackKernels.unpackBlocks(bits, new int[0], 0, decoded, 0, 0);
+            assertArrayEquals(new int[]{7}, decoded, "width " + bits);
+        }
+    }
+
+    private static void writeBits(int[] words, long bitIndex, int bits, int value) {
+        for (int bit = 0; bit < bits; bit++) {
+            if ((value >>> bit & 1) != 0) {
+                long position = bitIndex + bit;
+                words[(int) (position >>> 5)] |= 1 << (position & 31);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+
+public class BlockForBitPackingTest {
+
+    public void testRoundTripOfUnsignedAndSignedData() {
+        Random random = new Random(13);
+        BlockForBitPacking codec = new BlockForBitPacking();
+        for (int size : TestData.edgeSizes()) {
+            int[][] inputs = {
+                    TestData.uniform(random, size, 9),
+                    TestData.skewed(random, size, 3, 60),
+                    TestData.sorted(random, size, 1000),
+                    TestData.signed(random, size),
+            };
+            for (int[] values : inputs) {
+                codec.compress(values);
+                int[] decoded = new int[size];
+                codec.decompress(decoded);
+                assertArrayEquals(values, decoded, "size " + size);
+                for (int i = 0; i < size; i++) {
+                    assertEquals(values[i], codec.get(i), "size " + size + ", index " + i);
+                }
+            }
+        }
+    }
+
+    public void testExtremeValuesInOneBlock() {
+        int[] values = {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, 1};
+        BlockForBitPacking codec = new BlockForBitPacking();
+        codec.compress(values);
+        assertEquals(32, codec.bitsPerValue(), "width");
+        int[] decoded = new int[values.length];
+        codec.decompress(decoded);
+        assertArrayEquals(values, decoded, "extremes");
+    }
+
+    public void testOutlierWidensOnlyItsOwnBlock() {
+        int blocks = 8;
+        int[] values = new int[blocks * PackedBlocks.BLOCK_SIZE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1000 + (i & 3);
+        }
+        values[3 * PackedBlocks.BLOCK_SIZE + 5] = 1 << 20;
+        BlockForBitPacking codec = new BlockForBitPacking();
+        codec.compress(values);
+
+        int outlierWidth = 32 - Integer.numberOfLeadingZeros((1 << 20) - 1000);
+        int expectedWords = blocks + PackedBlocks.byteTableWords(blocks)
+                + (blocks - 1) * PackedBlocks.payloadWords(2) + PackedBlocks.payloadWords(outlierWidth);
+        assertEquals(outlierWidth, codec.bitsPerValue(), "widest block");
+        assertEquals(expectedWords, codec.packedWords().remaining(), "packed words");
+    }
+}
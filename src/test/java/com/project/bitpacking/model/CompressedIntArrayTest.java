@@ -0,0 +1,85 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class CompressedIntArrayTest {
+
+    public void testSnapshotIsUnaffectedByLaterCompressionsAndWrites() {
+        Random random = new Random(29);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            int[] values = TestData.skewed(random, 3000, 5, 50);
+            CompressedIntArray snapshot = codec.compressSnapshot(values);
+            assertEquals(values.length, snapshot.size(), type + " size");
+
+            // In-place writes, a widening write and a recompression must all leave the snapshot intact
+            codec.set(0, 1);
+            codec.set(1, Integer.MAX_VALUE);
+            codec.compress(TestData.uniform(random, 100, 3));
+            assertArrayEquals(values, snapshot.toArray(), type.toString());
+        }
+    }
+
+    public void testSnapshotMirrorsTheCodec() {
+        int[] values = TestData.sorted(new Random(31), 2000, 6);
+        BitPacking codec = BitPackingFactory.create(CompressionType.DELTA);
+        CompressedIntArray snapshot = codec.compressSnapshot(values);
+        assertEquals(CompressionType.DELTA, snapshot.compressionType(), "type");
+        assertEquals(codec.bitsPerValue(), snapshot.bitsPerValue(), "width");
+        assertEquals(codec.lowerBound(values[700]), snapshot.lowerBound(values[700]), "lower bound");
+        assertEquals(codec.sum(10, 1500), snapshot.sum(10, 1500), "sum");
+        assertEquals(codec.max(), snapshot.max(), "max");
+        assertArrayEquals(values, snapshot.stream().toArray(), "stream");
+        assertThrows(IllegalStateException.class, () -> BitPackingFactory.create(CompressionType.PFOR).snapshot(),
+                "nothing compressed");
+    }
+
+    public void testConcurrentReadersWhileTheEncoderKeepsCompressing() throws Exception {
+        Random random = new Random(32);
+        BitPacking codec = BitPackingFactory.create(CompressionType.CROSS_BOUNDARY);
+        int[] values = TestData.uniform(random, 50_000, 17);
+        CompressedIntArray snapshot = codec.compressSnapshot(values);
+        long expectedSum = snapshot.sum(0, values.length);
+
+        ExecutorService readers = Executors.newFixedThreadPool(3);
+        AtomicBoolean stop = new AtomicBoolean();
+        try {
+            Future<?>[] results = new Future<?>[3];
+            for (int r = 0; r < results.length; r++) {
+                int seed = r;
+                results[r] = readers.submit(() -> {
+                    Random local = new Random(seed);
+                    while (!stop.get()) {
+                        int index = local.nextInt(values.length);
+                        assertEquals(values[index], snapshot.get(index), "concurrent get");
+                        assertEquals(expectedSum, snapshot.sum(0, values.length), "concurrent sum");
+                    }
+                    return null;
+                });
+            }
+            for (int round = 0; round < 30; round++) {
+                codec.compress(TestData.uniform(random, 50_000, 1 + round % 31));
+                codec.set(round, 0);
+            }
+            stop.set(true);
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            stop.set(true);
+            readers.shutdown();
+            readers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class CrossBoundaryBitPackingTest {
+
+    public void testRoundTripAtEveryWidthAndSize() {
+        Random random = new Random(2);
+        CrossBoundaryBitPacking codec = new CrossBoundaryBitPacking();
+        for (int bits = 0; bits <= 31; bits++) {
+            for (int size : TestData.edgeSizes()) {
+                int[] values = TestData.uniform(random, size, bits);
+                codec.compress(values);
+                String label = "width " + bits + ", size " + size;
+                assertEquals(size == 0 ? 0 : bits, codec.bitsPerValue(), label);
+                assertEquals(((long) size * codec.bitsPerValue() + 31) / 32, codec.packedWords().remaining(), label);
+
+                int[] decoded = new int[size];
+                codec.decompress(decoded);
+                assertArrayEquals(values, decoded, label);
+                int[] reference = new int[size];
+                codec.decompressReference(reference);
+                assertArrayEquals(values, reference, label);
+                for (int i = 0; i < size; i++) {
+                    assertEquals(values[i], codec.get(i), label + ", index " + i);
+                }
+            }
+        }
+    }
+
+    public void testRejectsNegativeValues() {
+        CrossBoundaryBitPacking codec = new CrossBoundaryBitPacking();
+        assertThrows(IllegalArgumentException.class, () -> codec.compress(new int[]{1, -1}), "negative value");
+        assertThrows(IllegalArgumentException.class, () -> codec.compress(null), "null input");
+    }
+
+    public void testRequiresCompressionAndValidIndex() {
+        CrossBoundaryBitPacking codec = new CrossBoundaryBitPacking();
+        assertThrows(IllegalStateException.class, () -> codec.decompress(new int[0]), "nothing compressed");
+        codec.compress(new int[]{1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.get(3), "index past the end");
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.get(-1), "negative index");
+        assertThrows(IllegalArgumentException.class, () -> codec.decompress(new int[2]), "short destination");
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+
+public class DeltaBitPackingTest {
+
+    public void testRoundTripOfSortedAndSignedData() {
+        Random random = new Random(14);
+        DeltaBitPacking codec = new DeltaBitPacking();
+        for (int size : TestData.edgeSizes()) {
+            int[] descending = TestData.sorted(random, size, 50);
+            for (int i = 0; i < size; i++) {
+                descending[i] = -descending[i];
+            }
+            int[][] inputs = {TestData.sorted(random, size, 20), descending, TestData.signed(random, size)};
+            for (int[] values : inputs) {
+                codec.compress(values);
+                int[] decoded = new int[size];
+                codec.decompress(decoded);
+                assertArrayEquals(values, decoded, "size " + size);
+                for (int i = 0; i < size; i++) {
+                    assertEquals(values[i], codec.get(i), "size " + size + ", index " + i);
+                }
+            }
+        }
+    }
+
+    public void testDifferencesThatOverflow() {
+        int[] values = {Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, Integer.MIN_VALUE};
+        DeltaBitPacking codec = new DeltaBitPacking();
+        codec.compress(values);
+        int[] decoded = new int[values.length];
+        codec.decompress(decoded);
+        assertArrayEquals(values, decoded, "wrapping differences");
+    }
+
+    public void testSortedDataPacksByStepWidth() {
+        int[] values = new int[4 * PackedBlocks.BLOCK_SIZE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000_000 + 3 * i;
+        }
+        DeltaBitPacking codec = new DeltaBitPacking();
+        codec.compress(values);
+        // A step of 3 zigzag-encodes to 6, which needs 3 bits
+        assertEquals(3, codec.bitsPerValue(), "width");
+    }
+
+    public void testZigzagMapsSmallMagnitudesToSmallCodes() {
+        int[] deltas = {0, -1, 1, -2, 2, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        int[] codes = {0, 1, 2, 3, 4, -2, -1};
+        for (int i = 0; i < deltas.length; i++) {
+            assertEquals(codes[i], DeltaBitPacking.zigzag(deltas[i]), "zigzag of " + deltas[i]);
+        }
+    }
+}
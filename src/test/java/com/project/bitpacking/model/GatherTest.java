@@ -0,0 +1,51 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class GatherTest {
+
+    public void testGatherMatchesGetInBothOrders() {
+        Random random = new Random(6);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            for (int bits : new int[]{0, 1, 7, 13, 31}) {
+                int[] values = TestData.skewed(random, 3000, bits, bits == 0 ? Integer.MAX_VALUE : 50);
+                codec.compress(values);
+                // Duplicates and an unordered mix of near and far indices
+                int[] indices = new int[700];
+                for (int i = 0; i < indices.length; i++) {
+                    indices[i] = i % 5 == 0 ? indices[Math.max(0, i - 3)] : random.nextInt(values.length);
+                }
+                int[] expected = new int[indices.length];
+                for (int i = 0; i < indices.length; i++) {
+                    expected[i] = values[indices[i]];
+                }
+                for (boolean sortIndices : new boolean[]{false, true}) {
+                    int[] destination = new int[indices.length + 1];
+                    codec.get(indices, destination, sortIndices);
+                    int[] gathered = new int[indices.length];
+                    System.arraycopy(destination, 0, gathered, 0, indices.length);
+                    assertArrayEquals(expected, gathered, type + " width " + bits + " sorted " + sortIndices);
+                }
+            }
+        }
+    }
+
+    public void testRejectsInvalidIndicesAndDestinations() {
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            codec.compress(new int[]{1, 2, 3});
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.get(new int[]{0, 3}, new int[2], true),
+                    type + " index past the end");
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.get(new int[]{-1}, new int[1], false),
+                    type + " negative index");
+            assertThrows(IllegalArgumentException.class, () -> codec.get(new int[]{0, 1}, new int[1]),
+                    type + " short destination");
+        }
+    }
+}
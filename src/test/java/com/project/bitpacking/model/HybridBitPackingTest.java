@@ -0,0 +1,115 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class HybridBitPackingTest {
+
+    private static final int SEGMENT = 256;
+
+    public void testEachSegmentGetsItsOwnLayout() {
+        int[] values = mixedColumn(new Random(51));
+        HybridBitPacking codec = new HybridBitPacking(SEGMENT);
+        codec.compress(values);
+        assertEquals(4, codec.segmentCount(), "segment count");
+        assertEquals(CompressionType.CROSS_BOUNDARY, codec.segmentType(0), "small values");
+        assertEquals(CompressionType.OVERFLOW, codec.segmentType(1), "spikes");
+        assertEquals(CompressionType.CROSS_BOUNDARY, codec.segmentType(2), "wide values");
+        assertEquals(CompressionType.CROSS_BOUNDARY, codec.segmentType(3), "zeros");
+        assertEquals(20, codec.bitsPerValue(), "widest segment");
+    }
+
+    public void testSegmentsUseTheSmallerLayout() {
+        Random random = new Random(52);
+        HybridBitPacking codec = new HybridBitPacking(SEGMENT);
+        for (int smallBits = 1; smallBits <= 16; smallBits++) {
+            for (int outlierEvery : new int[]{2, 8, 64}) {
+                int[] values = TestData.skewed(random, SEGMENT, smallBits, outlierEvery);
+                codec.compress(values);
+                OverflowBitPacking overflow = new OverflowBitPacking();
+                overflow.compress(values);
+                long overflowWords = PackedBlocks.packedWords(SEGMENT, overflow.bitsPerValue())
+                        + (long) overflow.overflowSize();
+                CrossBoundaryBitPacking cross = new CrossBoundaryBitPacking();
+                cross.compress(values);
+                long crossWords = PackedBlocks.packedWords(SEGMENT, cross.bitsPerValue());
+                long directoryWords = 1 + PackedBlocks.byteTableWords(1);
+                assertEquals(Math.min(overflowWords, crossWords) + directoryWords,
+                        (long) codec.packedWords().remaining(), "width " + smallBits + ", outliers 1/" + outlierEvery);
+            }
+        }
+    }
+
+    public void testRoundTripAcrossSegments() {
+        Random random = new Random(53);
+        HybridBitPacking codec = new HybridBitPacking(SEGMENT);
+        int[][] inputs = {mixedColumn(random), TestData.skewed(random, 5 * SEGMENT + 77, 3, 40),
+                TestData.uniform(random, 3 * SEGMENT - 1, 31)};
+        for (int[] values : inputs) {
+            codec.compress(values);
+            int[] decoded = new int[values.length];
+            codec.decompress(decoded);
+            assertArrayEquals(values, decoded, "full decode of " + values.length);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i], codec.get(i), "index " + i);
+            }
+            int from = SEGMENT - 13;
+            int to = Math.min(values.length, 2 * SEGMENT + 45);
+            int[] range = new int[to - from + 2];
+            codec.decompress(from, to, range, 2);
+            for (int i = from; i < to; i++) {
+                assertEquals(values[i], range[i - from + 2], "range index " + i);
+            }
+        }
+        for (int size : TestData.edgeSizes()) {
+            int[] values = TestData.skewed(random, size, 5, 30);
+            codec.compress(values);
+            int[] decoded = new int[size];
+            codec.decompress(decoded);
+            assertArrayEquals(values, decoded, "size " + size);
+        }
+    }
+
+    public void testParallelMatchesSequential() {
+        int[] values = TestData.skewed(new Random(54), 3 * ParallelSupport.SEQUENTIAL_THRESHOLD + 17, 6, 25);
+        HybridBitPacking sequential = new HybridBitPacking();
+        sequential.compress(values);
+        HybridBitPacking parallel = new HybridBitPacking();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.compressParallel(values, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(TestData.packedWords(sequential), TestData.packedWords(parallel), "packed words");
+    }
+
+    public void testRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new HybridBitPacking(100), "not a power of two");
+        assertThrows(IllegalArgumentException.class, () -> new HybridBitPacking(64), "shorter than a block");
+        HybridBitPacking codec = new HybridBitPacking(SEGMENT);
+        assertThrows(IllegalStateException.class, () -> codec.segmentType(0), "nothing compressed");
+        assertThrows(IllegalArgumentException.class, () -> codec.compress(new int[]{1, -1}), "negative value");
+        codec.compress(new int[]{1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.segmentType(1), "segment out of range");
+    }
+
+    /**
+     * Four segments: small values, small values with spikes, wide values and zeros.
+     */
+    private static int[] mixedColumn(Random random) {
+        int[] values = new int[4 * SEGMENT];
+        for (int i = 0; i < SEGMENT; i++) {
+            values[i] = random.nextInt(8);
+            values[SEGMENT + i] = i % 32 == 0 ? 1 << 20 | random.nextInt(1 << 20) : random.nextInt(16);
+            values[2 * SEGMENT + i] = random.nextInt(1 << 20);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class LargeCrossBoundaryBitPackingTest {
+
+    public void testChunksDecodeAsOneSequence() {
+        Random random = new Random(17);
+        int[][] chunks = {TestData.uniform(random, 1000, 13), new int[0], TestData.uniform(random, 77, 9),
+                TestData.uniform(random, 4099, 13)};
+        int[] values = concatenate(chunks);
+        LargeCrossBoundaryBitPacking codec = new LargeCrossBoundaryBitPacking();
+        codec.compress(chunks);
+        assertEquals(values.length, codec.size(), "size");
+        assertEquals(13, codec.bitsPerValue(), "width");
+        assertEquals(((long) values.length * 13 + 31) / 32, codec.wordCount(), "word count");
+
+        for (int trial = 0; trial < 200; trial++) {
+            int from = random.nextInt(values.length + 1);
+            int to = from + random.nextInt(values.length - from + 1);
+            int[] decoded = new int[to - from + 1];
+            codec.decompress(from, to, decoded, 1);
+            for (int i = from; i < to; i++) {
+                assertEquals(values[i], decoded[1 + i - from], "range [" + from + ", " + to + "), index " + i);
+            }
+        }
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], codec.get(i), "index " + i);
+        }
+    }
+
+    public void testValuesAndBlocksSpanningSegments() {
+        // At 31 bits a 32-value block is 31 words, which does not divide the segment size, so a block straddles
+        // the boundary between the first two segments
+        int bits = 31;
+        int count = (int) ((long) LargeCrossBoundaryBitPacking.SEGMENT_WORDS * 32 / bits) + 5000;
+        int[] values = TestData.uniform(new Random(18), count, bits);
+        int split = count / 3;
+        int[][] chunks = {Arrays.copyOf(values, split), Arrays.copyOfRange(values, split, count)};
+        LargeCrossBoundaryBitPacking codec = new LargeCrossBoundaryBitPacking();
+        codec.compress(chunks);
+        assertEquals(2, (codec.wordCount() + LargeCrossBoundaryBitPacking.SEGMENT_WORDS - 1)
+                / LargeCrossBoundaryBitPacking.SEGMENT_WORDS, "segments");
+
+        long boundaryIndex = (long) LargeCrossBoundaryBitPacking.SEGMENT_WORDS * 32 / bits;
+        int from = (int) boundaryIndex - 3000;
+        int to = (int) boundaryIndex + 3000;
+        int[] decoded = new int[to - from];
+        codec.decompress(from, to, decoded, 0);
+        int[] expected = Arrays.copyOfRange(values, from, to);
+        assertArrayEquals(expected, decoded, "range across the segment boundary");
+        for (int i = from; i < to; i++) {
+            assertEquals(values[i], codec.get(i), "index " + i);
+        }
+
+        int[] all = new int[count];
+        codec.decompress(0, count, all, 0);
+        assertArrayEquals(values, all, "whole sequence");
+    }
+
+    public void testRejectsInvalidInput() {
+        LargeCrossBoundaryBitPacking codec = new LargeCrossBoundaryBitPacking();
+        assertThrows(IllegalStateException.class, () -> codec.decompress(0, 0, new int[0], 0), "nothing compressed");
+        assertThrows(IllegalArgumentException.class, () -> codec.compress(new int[][]{{1}, null}), "null chunk");
+        assertThrows(IllegalArgumentException.class, () -> codec.compress(new int[][]{{1}, {-1}}), "negative value");
+        codec.compress(new int[][]{{1, 2, 3}});
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.get(3L), "index past the end");
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.decompress(1, 4, new int[3], 0), "range");
+    }
+
+    private static int[] concatenate(int[][] chunks) {
+        int length = 0;
+        for (int[] chunk : chunks) {
+            length += chunk.length;
+        }
+        int[] values = new int[length];
+        int position = 0;
+        for (int[] chunk : chunks) {
+            System.arraycopy(chunk, 0, values, position, chunk.length);
+            position += chunk.length;
+        }
+        return values;
+    }
+}
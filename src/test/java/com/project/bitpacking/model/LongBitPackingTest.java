@@ -0,0 +1,161 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class LongBitPackingTest {
+
+    private static final CompressionType[] LONG_TYPES = {
+            CompressionType.CROSS_BOUNDARY, CompressionType.ALIGNED, CompressionType.OVERFLOW
+    };
+
+    public void testRoundTripAtEveryWidth() {
+        Random random = new Random(111);
+        for (CompressionType type : LONG_TYPES) {
+            LongBitPacking codec = LongBitPackingFactory.create(type);
+            for (int bits = 0; bits <= 64; bits++) {
+                for (int size : TestData.edgeSizes()) {
+                    long[] values = uniform(random, size, bits);
+                    codec.compress(values);
+                    checkRoundTrip(codec, values, type + ", width " + bits + ", size " + size);
+                }
+            }
+        }
+    }
+
+    public void testCrossBoundaryLayout() {
+        Random random = new Random(112);
+        LongCrossBoundaryBitPacking codec = new LongCrossBoundaryBitPacking();
+        for (int bits = 1; bits <= 64; bits++) {
+            long[] values = uniform(random, 150, bits);
+            values[0] = bits == 64 ? -1L : (1L << bits) - 1;
+            codec.compress(values);
+            assertEquals(bits, codec.bitsPerValue(), "width " + bits);
+            long[] expected = new long[(int) ((150L * bits + 63) / 64)];
+            long bitIndex = 0;
+            for (long value : values) {
+                for (int bit = 0; bit < bits; bit++, bitIndex++) {
+                    if ((value >>> bit & 1) != 0) {
+                        expected[(int) (bitIndex >>> 6)] |= 1L << bitIndex;
+                    }
+                }
+            }
+            assertArrayEquals(expected, codec.backingArray(), "layout at width " + bits);
+        }
+    }
+
+    public void testAlignedLayoutKeepsValuesInOneWord() {
+        Random random = new Random(113);
+        LongAlignedBitPacking codec = new LongAlignedBitPacking();
+        for (int bits = 1; bits <= 64; bits++) {
+            long[] values = uniform(random, 300, bits);
+            values[1] = bits == 64 ? -1L : (1L << bits) - 1;
+            codec.compress(values);
+            int perWord = 64 / bits;
+            long[] expected = new long[(values.length + perWord - 1) / perWord];
+            for (int i = 0; i < values.length; i++) {
+                expected[i / perWord] |= values[i] << ((i % perWord) * bits);
+            }
+            assertArrayEquals(expected, codec.backingArray(), "layout at width " + bits);
+        }
+    }
+
+    public void testOverflowChoosesTheSmallestLayout() {
+        Random random = new Random(114);
+        LongOverflowBitPacking codec = new LongOverflowBitPacking();
+        for (int smallBits = 1; smallBits <= 40; smallBits += 3) {
+            for (int outlierEvery : new int[]{3, 20, 500}) {
+                long[] values = uniform(random, 2000, smallBits);
+                for (int i = 0; i < values.length; i += outlierEvery) {
+                    values[i] = random.nextLong() | Long.MIN_VALUE >>> random.nextInt(8);
+                }
+                codec.compress(values);
+                String label = "width " + smallBits + ", outliers 1/" + outlierEvery;
+                long actualCost = (long) codec.bitsPerValue() * values.length + 64L * codec.overflowSize();
+                assertEquals(bruteForceCost(values), actualCost, label);
+                checkRoundTrip(codec, values, label);
+            }
+        }
+    }
+
+    public void testFactoryRejectsStrategiesWithoutALongCounterpart() {
+        for (CompressionType type : CompressionType.values()) {
+            if (type == CompressionType.CROSS_BOUNDARY || type == CompressionType.ALIGNED
+                    || type == CompressionType.OVERFLOW) {
+                continue;
+            }
+            assertThrows(IllegalArgumentException.class, () -> LongBitPackingFactory.create(type), type.name());
+        }
+    }
+
+    public void testRejectsInvalidUse() {
+        for (CompressionType type : LONG_TYPES) {
+            LongBitPacking codec = LongBitPackingFactory.create(type);
+            assertThrows(IllegalArgumentException.class, () -> codec.compress(null), type + " null input");
+            codec.compress(new long[]{1, 2, 3});
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.get(3), type + " past the end");
+            assertThrows(IllegalArgumentException.class, () -> codec.decompress(new long[2]), type + " small buffer");
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.decompress(2, 4, new long[4], 0),
+                    type + " range past the end");
+        }
+    }
+
+    private static void checkRoundTrip(LongBitPacking codec, long[] values, String label) {
+        long[] decoded = new long[values.length];
+        codec.decompress(decoded);
+        assertArrayEquals(values, decoded, label);
+        long[] reference = new long[values.length];
+        codec.decompressReference(reference);
+        assertArrayEquals(values, reference, label + " reference path");
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], codec.get(i), label + ", index " + i);
+        }
+        if (values.length > 2) {
+            long[] range = new long[values.length];
+            codec.decompress(1, values.length - 1, range, 1);
+            for (int i = 1; i < values.length - 1; i++) {
+                assertEquals(values[i], range[i], label + ", range index " + i);
+            }
+        }
+    }
+
+    /**
+     * @return values of at most {@code bits} bits; at 64 bits, negative values included
+     */
+    private static long[] uniform(Random random, int size, int bits) {
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = bits == 0 ? 0 : random.nextLong() >>> (64 - bits);
+        }
+        return values;
+    }
+
+    /**
+     * Size in bits of the best layout, trying every primary width.
+     */
+    private static long bruteForceCost(long[] values) {
+        int maxBits = 0;
+        for (long value : values) {
+            maxBits = Math.max(maxBits, BitUtils.unsignedBitsRequired(value));
+        }
+        long best = Long.MAX_VALUE;
+        for (int candidate = 1; candidate <= maxBits; candidate++) {
+            int overflowCount = 0;
+            for (long value : values) {
+                if (BitUtils.unsignedBitsRequired(value) > candidate) {
+                    overflowCount++;
+                }
+            }
+            long cost = (long) OverflowBitPacking.entryBits(candidate, overflowCount) * values.length
+                    + 64L * overflowCount;
+            best = Math.min(best, cost);
+        }
+        return best;
+    }
+}
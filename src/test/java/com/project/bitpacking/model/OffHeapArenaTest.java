@@ -0,0 +1,126 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.nio.IntBuffer;
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertFalse;
+import static com.project.bitpacking.Assertions.assertThrows;
+import static com.project.bitpacking.Assertions.assertTrue;
+
+public class OffHeapArenaTest {
+
+    public void testRoundTripThroughNativeMemory() {
+        Random random = new Random(19);
+        try (OffHeapArena arena = new OffHeapArena()) {
+            for (CompressionType type : CompressionType.values()) {
+                BitPacking codec = BitPackingFactory.create(type, arena);
+                int[] values = TestData.skewed(random, 5000, 7, 90);
+                codec.compress(values);
+                assertTrue(codec.packedWords().isDirect(), type + " words are off-heap");
+                int[] decoded = new int[values.length];
+                codec.decompress(decoded);
+                assertArrayEquals(values, decoded, type.toString());
+            }
+        }
+    }
+
+    public void testRecompressionFreesReplacedWords() {
+        Random random = new Random(20);
+        try (OffHeapArena arena = new OffHeapArena()) {
+            for (CompressionType type : CompressionType.values()) {
+                BitPacking codec = BitPackingFactory.create(type, arena);
+                for (int round = 0; round < 50; round++) {
+                    codec.compress(TestData.uniform(random, 100_000, 1 + round % 20));
+                    assertEquals(liveBytes(codec), arena.allocatedBytes(), type + " round " + round);
+                }
+                codec.compress(new int[0]);
+            }
+        }
+    }
+
+    public void testWideningSetFreesReplacedWords() {
+        try (OffHeapArena arena = new OffHeapArena()) {
+            for (CompressionType type : CompressionType.values()) {
+                BitPacking codec = BitPackingFactory.create(type, arena);
+                int[] values = new int[10_000];
+                codec.compress(values);
+                for (int bits = 1; bits <= 20; bits++) {
+                    codec.set(bits * 7, (1 << bits) - 1);
+                    values[bits * 7] = (1 << bits) - 1;
+                    assertEquals(liveBytes(codec), arena.allocatedBytes(), type + " widening to " + bits);
+                }
+                int[] decoded = new int[values.length];
+                codec.decompress(decoded);
+                assertArrayEquals(values, decoded, type.toString());
+                codec.compress(new int[0]);
+            }
+        }
+    }
+
+    public void testSnapshotKeepsItsWordsUntilClose() {
+        int[] first = TestData.uniform(new Random(21), 20_000, 11);
+        OffHeapArena arena = new OffHeapArena();
+        BitPacking codec = BitPackingFactory.create(CompressionType.CROSS_BOUNDARY, arena);
+        CompressedIntArray snapshot = codec.compressSnapshot(first);
+        long snapshotBytes = liveBytes(codec);
+        codec.compress(new int[]{1, 2, 3});
+        assertEquals(snapshotBytes + liveBytes(codec), arena.allocatedBytes(), "snapshot words kept");
+        int[] decoded = new int[first.length];
+        snapshot.decompress(decoded);
+        assertArrayEquals(first, decoded, "snapshot after recompression");
+
+        arena.close();
+        assertFalse(arena.isOpen(), "closed");
+        assertEquals(0, arena.allocatedBytes(), "allocated after close");
+        assertThrows(IllegalStateException.class, () -> codec.get(0), "codec after close");
+        assertThrows(IllegalStateException.class, () -> snapshot.get(0), "snapshot after close");
+        assertThrows(IllegalStateException.class, () -> codec.compress(new int[]{1}), "compress after close");
+        arena.close();
+    }
+
+    public void testViewsOutliveFreedWords() {
+        int[] first = TestData.uniform(new Random(23), 4000, 9);
+        OffHeapArena arena = new OffHeapArena();
+        BitPacking codec = BitPackingFactory.create(CompressionType.CROSS_BOUNDARY, arena);
+        codec.compress(first);
+        IntBuffer view = codec.packedWords();
+        int[] expected = new int[view.remaining()];
+        view.get(0, expected);
+        codec.compress(new int[]{1, 2, 3});
+        assertEquals(liveBytes(codec), arena.allocatedBytes(), "viewed words released");
+        int[] words = new int[view.remaining()];
+        view.get(0, words);
+        assertArrayEquals(expected, words, "view after recompression");
+
+        IntBuffer last = codec.packedWords();
+        arena.close();
+        assertEquals(1, last.get(0) & 3, "view after close");
+        assertThrows(IllegalStateException.class, () -> codec.get(0), "codec after close");
+        assertThrows(IllegalStateException.class, codec::packedWords, "new view after close");
+    }
+
+    public void testAdaptiveKeepsOnlyTheSelectedResult() {
+        Random random = new Random(22);
+        try (OffHeapArena arena = new OffHeapArena()) {
+            BitPacking codec = BitPackingFactory.create(CompressionType.ADAPTIVE, arena);
+            for (int round = 0; round < 12; round++) {
+                // Alternate between inputs that favour different strategies
+                int[] values = switch (round % 3) {
+                    case 0 -> TestData.uniform(random, 50_000, 8);
+                    case 1 -> TestData.sorted(random, 50_000, 4);
+                    default -> TestData.signed(random, 50_000);
+                };
+                codec.compress(values);
+                assertEquals(liveBytes(codec), arena.allocatedBytes(), "round " + round);
+            }
+        }
+    }
+
+    private static long liveBytes(BitPacking codec) {
+        return (long) codec.packedWords().remaining() * Integer.BYTES;
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class OverflowBitPackingTest {
+
+    public void testChosenLayoutIsTheSmallest() {
+        Random random = new Random(7);
+        OverflowBitPacking codec = new OverflowBitPacking();
+        for (int smallBits = 1; smallBits <= 20; smallBits++) {
+            for (int outlierEvery : new int[]{3, 20, 500}) {
+                int[] values = TestData.skewed(random, 2000, smallBits, outlierEvery);
+                codec.compress(values);
+                long actualCost = (long) codec.bitsPerValue() * values.length + 32L * codec.overflowSize();
+                assertEquals(bruteForceCost(values), actualCost, "width " + smallBits + ", outliers 1/" + outlierEvery);
+            }
+        }
+    }
+
+    public void testRoundTripWithOutliers() {
+        Random random = new Random(8);
+        OverflowBitPacking codec = new OverflowBitPacking();
+        for (int size : TestData.edgeSizes()) {
+            for (int outlierEvery : new int[]{2, 10, 100}) {
+                int[] values = TestData.skewed(random, size, 4, outlierEvery);
+                codec.compress(values);
+                String label = "size " + size + ", outliers 1/" + outlierEvery;
+                int[] decoded = new int[size];
+                codec.decompress(decoded);
+                assertArrayEquals(values, decoded, label);
+                for (int i = 0; i < size; i++) {
+                    assertEquals(values[i], codec.get(i), label + ", index " + i);
+                }
+            }
+        }
+    }
+
+    public void testUniformDataNeedsNoOverflow() {
+        OverflowBitPacking codec = new OverflowBitPacking();
+        codec.compress(TestData.uniform(new Random(9), 1000, 12));
+        assertEquals(0, codec.overflowSize(), "overflow size");
+        assertEquals(12, codec.bitsPerValue(), "width");
+    }
+
+    public void testRejectsNegativeValues() {
+        OverflowBitPacking codec = new OverflowBitPacking();
+        assertThrows(IllegalArgumentException.class, () -> codec.compress(new int[]{0, -5}), "negative value");
+    }
+
+    /**
+     * Size in bits of the best layout, trying every primary width.
+     */
+    private static long bruteForceCost(int[] values) {
+        int maxBits = 0;
+        for (int value : values) {
+            maxBits = Math.max(maxBits, BitUtils.bitsRequired(value));
+        }
+        long best = Long.MAX_VALUE;
+        for (int candidate = 1; candidate <= maxBits; candidate++) {
+            int overflowCount = 0;
+            for (int value : values) {
+                if (BitUtils.bitsRequired(value) > candidate) {
+                    overflowCount++;
+                }
+            }
+            long cost = (long) OverflowBitPacking.entryBits(candidate, overflowCount) * values.length
+                    + 32L * overflowCount;
+            best = Math.min(best, cost);
+        }
+        return best;
+    }
+}
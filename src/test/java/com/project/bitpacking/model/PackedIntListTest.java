@@ -0,0 +1,92 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+import static com.project.bitpacking.Assertions.assertTrue;
+
+public class PackedIntListTest {
+
+    private static final int CHUNK = PackedIntList.CHUNK_VALUES;
+
+    public void testAppendsMatchAPlainArray() {
+        Random random = new Random(101);
+        int[] values = new int[5 * CHUNK + 123];
+        PackedIntList list = new PackedIntList();
+        for (int i = 0; i < values.length; i++) {
+            // Widths grow along the list, with occasional outliers and a run of zeros
+            int bits = Math.min(31, i / 200);
+            values[i] = i >= 2 * CHUNK && i < 3 * CHUNK ? 0
+                    : i % 97 == 0 ? random.nextInt(Integer.MAX_VALUE) : random.nextInt(1 << bits);
+            list.add(values[i]);
+            assertEquals(values[i], list.get(i), "value " + i + " just appended");
+        }
+        assertEquals(values.length, list.size(), "size");
+        assertArrayEquals(values, list.toArray(), "all values");
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], list.get(i), "index " + i);
+        }
+        int from = CHUNK - 17;
+        int to = 3 * CHUNK + 45;
+        int[] range = new int[to - from + 3];
+        list.decompress(from, to, range, 3);
+        for (int i = from; i < to; i++) {
+            assertEquals(values[i], range[i - from + 3], "range index " + i);
+        }
+    }
+
+    public void testAnOutlierOnlyWidensItsChunk() {
+        PackedIntList list = new PackedIntList();
+        int[] values = TestData.uniform(new Random(102), 3 * CHUNK + 1, 3);
+        values[CHUNK + 5] = 1 << 29;
+        list.addAll(values);
+        // Chunks 0 and 2 narrow back to 3 bits once filled; chunk 3 starts at the width of chunk 2
+        long expected = 3 * (CHUNK / 32) + 30 * (CHUNK / 32) + 3 * (CHUNK / 32) + 3 * (CHUNK / 32);
+        assertEquals(expected, list.wordCount(), "word count");
+        assertEquals(30, list.bitsPerValue(), "width of the largest value");
+        assertArrayEquals(values, list.toArray(), "values");
+    }
+
+    public void testToBitPackingMatchesCompress() {
+        Random random = new Random(103);
+        for (int size : TestData.edgeSizes()) {
+            int[] values = TestData.skewed(random, size, 6, 300);
+            PackedIntList list = new PackedIntList();
+            list.addAll(values);
+            CrossBoundaryBitPacking fromList = list.toBitPacking();
+            CrossBoundaryBitPacking compressed = new CrossBoundaryBitPacking();
+            compressed.compress(values);
+            assertEquals(compressed.bitsPerValue(), fromList.bitsPerValue(), "size " + size + " width");
+            assertArrayEquals(TestData.packedWords(compressed), TestData.packedWords(fromList),
+                    "size " + size + " words");
+            assertEquals(size, list.size(), "list unchanged");
+        }
+    }
+
+    public void testClearStartsOver() {
+        PackedIntList list = new PackedIntList();
+        list.addAll(TestData.uniform(new Random(104), 2 * CHUNK, 20));
+        list.clear();
+        assertTrue(list.isEmpty(), "empty after clear");
+        assertEquals(0L, list.wordCount(), "no words after clear");
+        list.add(5);
+        assertEquals(3, list.bitsPerValue(), "width after clear");
+        assertEquals(5, list.get(0), "value after clear");
+    }
+
+    public void testRejectsInvalidInput() {
+        PackedIntList list = new PackedIntList();
+        list.add(7);
+        assertThrows(IllegalArgumentException.class, () -> list.add(-1), "negative value");
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(new int[]{1, 2, -3}), "negative in addAll");
+        assertEquals(1, list.size(), "addAll appended nothing");
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(null), "null array");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1), "past the end");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.decompress(0, 2, new int[2], 0), "range too long");
+        assertThrows(IllegalArgumentException.class, () -> list.decompress(0, 1, new int[1], 1), "small destination");
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class ParallelCompressTest {
+    /**
+     * Large enough to be split, and not a multiple of any chunk size.
+     */
+    private static final int SIZE = 3 * ParallelSupport.SEQUENTIAL_THRESHOLD + 17;
+
+    public void testParallelCompressionMatchesSequential() {
+        Random random = new Random(10);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (CompressionType type : CompressionType.values()) {
+                for (int bits : new int[]{0, 3, 10, 17, 31}) {
+                    int[] values = TestData.uniform(random, SIZE, bits);
+                    BitPacking sequential = BitPackingFactory.create(type);
+                    sequential.compress(values);
+                    BitPacking parallel = BitPackingFactory.create(type);
+                    parallel.compressParallel(values, pool);
+
+                    String label = type + " width " + bits;
+                    assertEquals(sequential.bitsPerValue(), parallel.bitsPerValue(), label);
+                    assertArrayEquals(TestData.packedWords(sequential), TestData.packedWords(parallel), label);
+                    int[] decoded = new int[SIZE];
+                    parallel.decompress(decoded);
+                    assertArrayEquals(values, decoded, label);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testParallelCompressionRejectsNegativeValues() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int[] values = new int[SIZE];
+            values[SIZE - 1] = -1;
+            for (CompressionType type : new CompressionType[]{CompressionType.CROSS_BOUNDARY, CompressionType.ALIGNED}) {
+                BitPacking codec = BitPackingFactory.create(type);
+                assertThrows(IllegalArgumentException.class, () -> codec.compressParallel(values, pool),
+                        type + " negative value");
+                assertThrows(IllegalArgumentException.class, () -> codec.compressParallel(values, null),
+                        type + " null pool");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
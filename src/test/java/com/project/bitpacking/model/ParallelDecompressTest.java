@@ -0,0 +1,57 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class ParallelDecompressTest {
+    private static final int SIZE = 3 * ParallelSupport.SEQUENTIAL_THRESHOLD + 29;
+
+    public void testParallelDecompressionMatchesInput() {
+        Random random = new Random(11);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (CompressionType type : CompressionType.values()) {
+                BitPacking codec = BitPackingFactory.create(type);
+                for (int bits : new int[]{0, 5, 19, 31}) {
+                    int[] values = TestData.skewed(random, SIZE, bits, bits == 0 ? Integer.MAX_VALUE : 300);
+                    codec.compress(values);
+                    int[] decoded = new int[SIZE + 3];
+                    codec.decompressParallel(decoded, pool);
+                    int[] expected = new int[SIZE + 3];
+                    System.arraycopy(values, 0, expected, 0, SIZE);
+                    assertArrayEquals(expected, decoded, type + " width " + bits);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testSmallInputsDecodeSequentially() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int[] values = TestData.uniform(new Random(12), 100, 9);
+            for (CompressionType type : CompressionType.values()) {
+                BitPacking codec = BitPackingFactory.create(type);
+                codec.compress(values);
+                int[] decoded = new int[values.length];
+                codec.decompressParallel(decoded, pool);
+                assertArrayEquals(values, decoded, type.toString());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testRejectsInvalidArguments() {
+        BitPacking codec = BitPackingFactory.create(CompressionType.CROSS_BOUNDARY);
+        codec.compress(new int[]{1, 2});
+        assertThrows(IllegalArgumentException.class, () -> codec.decompressParallel(new int[2], null), "null pool");
+        assertThrows(IllegalArgumentException.class, () -> codec.decompressParallel(new int[1]), "short destination");
+    }
+}
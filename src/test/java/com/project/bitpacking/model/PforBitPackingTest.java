@@ -0,0 +1,83 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+import com.project.bitpacking.util.BitUtils;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+
+public class PforBitPackingTest {
+
+    public void testRoundTripWithExceptions() {
+        Random random = new Random(15);
+        PforBitPacking codec = new PforBitPacking();
+        for (int size : TestData.edgeSizes()) {
+            int[][] inputs = {
+                    TestData.uniform(random, size, 6),
+                    TestData.skewed(random, size, 4, 30),
+                    TestData.skewed(random, size, 2, 2),
+                    TestData.signed(random, size),
+            };
+            for (int[] values : inputs) {
+                codec.compress(values);
+                int[] decoded = new int[size];
+                codec.decompress(decoded);
+                assertArrayEquals(values, decoded, "size " + size);
+                for (int i = 0; i < size; i++) {
+                    assertEquals(values[i], codec.get(i), "size " + size + ", index " + i);
+                }
+            }
+        }
+    }
+
+    public void testEveryExceptionInABlock() {
+        // Negative values are 32-bit exceptions whatever the low width, so a block may consist of exceptions only
+        int[] values = new int[PackedBlocks.BLOCK_SIZE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 2 == 0 ? -i - 1 : i;
+        }
+        PforBitPacking codec = new PforBitPacking();
+        codec.compress(values);
+        int[] decoded = new int[values.length];
+        codec.decompress(decoded);
+        assertArrayEquals(values, decoded, "alternating exceptions");
+    }
+
+    public void testLowWidthMinimisesBlockSize() {
+        Random random = new Random(16);
+        int[] histogram = new int[33];
+        for (int trial = 0; trial < 300; trial++) {
+            int[] values = TestData.skewed(random, PackedBlocks.BLOCK_SIZE, 1 + random.nextInt(12), 2 + trial % 40);
+            BitUtils.bitWidthHistogram(values, 0, values.length, histogram);
+            int blockMax = 32;
+            while (blockMax > 0 && histogram[blockMax] == 0) {
+                blockMax--;
+            }
+            int bestWords = Integer.MAX_VALUE;
+            for (int width = 0; width <= blockMax; width++) {
+                int exceptions = PforBitPacking.exceptionCount(histogram, width, blockMax);
+                bestWords = Math.min(bestWords, PforBitPacking.blockWords(width, exceptions, blockMax - width));
+            }
+            int chosen = PforBitPacking.bestLowWidth(histogram, blockMax);
+            int chosenWords = PforBitPacking.blockWords(chosen,
+                    PforBitPacking.exceptionCount(histogram, chosen, blockMax), blockMax - chosen);
+            assertEquals(bestWords, chosenWords, "trial " + trial);
+        }
+    }
+
+    public void testRareOutliersStayOutOfThePayload() {
+        int[] values = new int[4 * PackedBlocks.BLOCK_SIZE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i & 7;
+        }
+        values[200] = 1 << 30;
+        PforBitPacking codec = new PforBitPacking();
+        codec.compress(values);
+        assertEquals(3, codec.bitsPerValue(), "low width");
+        int[] decoded = new int[values.length];
+        codec.decompress(decoded);
+        assertArrayEquals(values, decoded, "outlier");
+    }
+}
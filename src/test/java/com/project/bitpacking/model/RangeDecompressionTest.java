@@ -0,0 +1,63 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class RangeDecompressionTest {
+    private static final int[][] DATA_SHAPES = {{3, 0}, {11, 0}, {5, 40}, {31, 0}};
+
+    public void testRangesMatchFullDecompression() {
+        Random random = new Random(5);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            for (int[] shape : DATA_SHAPES) {
+                int[] values = shape[1] == 0
+                        ? TestData.uniform(random, 1500, shape[0])
+                        : TestData.skewed(random, 1500, shape[0], shape[1]);
+                codec.compress(values);
+                for (int trial = 0; trial < 200; trial++) {
+                    int from = random.nextInt(values.length + 1);
+                    int to = from + random.nextInt(values.length - from + 1);
+                    int offset = random.nextInt(5);
+                    int[] destination = new int[offset + to - from + 2];
+                    Arrays.fill(destination, -7);
+                    codec.decompress(from, to, destination, offset);
+
+                    int[] expected = new int[destination.length];
+                    Arrays.fill(expected, -7);
+                    System.arraycopy(values, from, expected, offset, to - from);
+                    assertArrayEquals(expected, destination, type + " range [" + from + ", " + to + ")");
+                }
+            }
+        }
+    }
+
+    public void testEmptyRangeAtEnd() {
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            codec.compress(new int[]{4, 5, 6});
+            int[] destination = {9};
+            codec.decompress(3, 3, destination, 1);
+            assertEquals(9, destination[0], type + " wrote outside an empty range");
+        }
+    }
+
+    public void testRejectsInvalidRanges() {
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            codec.compress(new int[]{1, 2, 3, 4});
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.decompress(2, 5, new int[8], 0),
+                    type + " range past the end");
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.decompress(3, 2, new int[8], 0),
+                    type + " reversed range");
+            assertThrows(IllegalArgumentException.class, () -> codec.decompress(0, 4, new int[5], 2),
+                    type + " short destination");
+        }
+    }
+}
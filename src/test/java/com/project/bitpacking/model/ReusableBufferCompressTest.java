@@ -0,0 +1,91 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+import static com.project.bitpacking.Assertions.assertTrue;
+
+public class ReusableBufferCompressTest {
+    /**
+     * Rounds of warm-up allowed before a strategy must stop allocating; the Vector API kernels allocate until the JIT
+     * has compiled them.
+     */
+    private static final int MAX_ROUNDS = 200;
+    private static final int CALLS_PER_ROUND = 100;
+
+    public void testPackedWordsLandInTheBuffer() {
+        Random random = new Random(33);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            int[] wordBuffer = new int[10_000];
+            for (int round = 0; round < 5; round++) {
+                int[] values = TestData.skewed(random, 3000 + round * 500, 4 + round, 60);
+                codec.compress(values, wordBuffer);
+                int[] words = TestData.packedWords(codec);
+                String label = type + " round " + round;
+                assertArrayEquals(Arrays.copyOf(wordBuffer, words.length), words, label + " words");
+                int[] decoded = new int[values.length];
+                codec.decompress(decoded);
+                assertArrayEquals(values, decoded, label);
+            }
+        }
+    }
+
+    public void testSmallBufferFallsBackToAllocation() {
+        int[] values = TestData.uniform(new Random(34), 5000, 20);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            int[] wordBuffer = new int[8];
+            codec.compress(values, wordBuffer);
+            int[] decoded = new int[values.length];
+            codec.decompress(decoded);
+            assertArrayEquals(values, decoded, type.toString());
+            assertArrayEquals(new int[8], wordBuffer, type + " untouched buffer");
+            assertThrows(IllegalArgumentException.class, () -> codec.compress(values, null), type + " null buffer");
+        }
+    }
+
+    public void testSnapshotOfReusedBuffersIsCopied() {
+        Random random = new Random(35);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            int[] wordBuffer = new int[20_000];
+            int[] values = TestData.uniform(random, 4000, 9);
+            codec.compress(values, wordBuffer);
+            CompressedIntArray snapshot = codec.snapshot();
+            codec.compress(TestData.uniform(random, 4000, 12), wordBuffer);
+            assertArrayEquals(values, snapshot.toArray(), type.toString());
+        }
+    }
+
+    public void testSteadyStateAllocatesNothing() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean allocations)
+                || !allocations.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        allocations.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+        int[] values = TestData.skewed(new Random(36), 10_000, 10, 97);
+        int[] wordBuffer = new int[20_000];
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            long allocated = -1;
+            for (int round = 0; round < MAX_ROUNDS && allocated != 0; round++) {
+                long before = allocations.getThreadAllocatedBytes(thread);
+                for (int call = 0; call < CALLS_PER_ROUND; call++) {
+                    codec.compress(values, wordBuffer);
+                }
+                allocated = allocations.getThreadAllocatedBytes(thread) - before;
+            }
+            assertTrue(allocated == 0, type + " still allocates " + allocated + " bytes per " + CALLS_PER_ROUND
+                    + " calls");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class ScanTest {
+
+    public void testEveryStrategyAndPredicateMatchesReference() {
+        Random random = new Random(81);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            for (int size : TestData.edgeSizes()) {
+                for (int bits : new int[]{1, 4, 7, 16, 31}) {
+                    int[] values = TestData.uniform(random, size, bits);
+                    codec.compress(values);
+                    checkScans(codec, values, type + ", size " + size + ", width " + bits);
+                }
+                int[] skewed = TestData.skewed(random, size, 3, 29);
+                codec.compress(skewed);
+                checkScans(codec, skewed, type + ", size " + size + ", skewed");
+            }
+        }
+    }
+
+    public void testAlignedScanAcrossWidths() {
+        Random random = new Random(82);
+        BitPacking codec = BitPackingFactory.create(CompressionType.ALIGNED);
+        for (int bits = 1; bits <= 31; bits++) {
+            int[] values = TestData.uniform(random, 1000, bits);
+            codec.compress(values);
+            checkScans(codec, values, "aligned width " + bits);
+        }
+    }
+
+    public void testSignedStrategiesMatchReference() {
+        Random random = new Random(83);
+        for (CompressionType type : new CompressionType[]{CompressionType.BLOCK_FOR, CompressionType.DELTA,
+                CompressionType.PFOR, CompressionType.ADAPTIVE}) {
+            BitPacking codec = BitPackingFactory.create(type);
+            int[] values = TestData.signed(random, 3000);
+            codec.compress(values);
+            checkScans(codec, values, type + " signed");
+        }
+    }
+
+    public void testOnlyTheBitmapPrefixIsWritten() {
+        BitPacking codec = BitPackingFactory.create(CompressionType.CROSS_BOUNDARY);
+        codec.compress(new int[]{1, 2, 3});
+        long[] bitmap = {-1L, 42L};
+        assertEquals(2, codec.scan(Predicate.GREATER_THAN, 1, bitmap), "selected");
+        assertArrayEquals(new long[]{0b110L, 42L}, bitmap, "bitmap");
+    }
+
+    public void testRejectsInvalidArguments() {
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            codec.compress(new int[65]);
+            assertThrows(IllegalArgumentException.class, () -> codec.scan(null, 0, new long[2]), type + " null op");
+            assertThrows(IllegalArgumentException.class, () -> codec.scan(Predicate.EQUAL, 0, null),
+                    type + " null bitmap");
+            assertThrows(IllegalArgumentException.class, () -> codec.scan(Predicate.EQUAL, 0, new long[1]),
+                    type + " small bitmap");
+        }
+    }
+
+    private static void checkScans(BitPacking codec, int[] values, String label) {
+        int[] constants = constantsFor(values);
+        long[] bitmap = new long[(values.length + 63) / 64 + 1];
+        for (Predicate op : Predicate.values()) {
+            for (int constant : constants) {
+                Arrays.fill(bitmap, -1L);
+                long[] expected = new long[bitmap.length];
+                expected[expected.length - 1] = -1L;
+                int expectedCount = 0;
+                for (int i = 0; i < values.length; i++) {
+                    if (op.test(values[i], constant)) {
+                        expected[i >>> 6] |= 1L << i;
+                        expectedCount++;
+                    }
+                }
+                String where = label + ", " + op + " " + constant;
+                assertEquals(expectedCount, codec.scan(op, constant, bitmap), where + " count");
+                assertArrayEquals(expected, bitmap, where + " bitmap");
+            }
+        }
+    }
+
+    /**
+     * Constants at the extremes of {@code int}, around the data's bounds and at a few of its values.
+     */
+    private static int[] constantsFor(int[] values) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        int sample = values.length == 0 ? 0 : values[values.length / 2];
+        return new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 0, 1, min, max, min - 1, max + 1, sample,
+                sample + 1};
+    }
+}
@@ -0,0 +1,133 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+import static com.project.bitpacking.Assertions.assertTrue;
+
+public class SetTest {
+
+    public void testRandomUpdatesMatchAPlainArray() {
+        Random random = new Random(91);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            int[] values = TestData.skewed(random, 1500, 5, 60);
+            codec.compress(values);
+            for (int update = 0; update < 400; update++) {
+                int index = random.nextInt(values.length);
+                // Mostly values that fit, with the occasional wider one
+                int value = update % 25 == 0 ? random.nextInt() >>> (1 + random.nextInt(31)) : random.nextInt(32);
+                values[index] = value;
+                codec.set(index, value);
+                assertEquals(value, codec.get(index), type + ", update " + update);
+            }
+            int[] decoded = new int[values.length];
+            codec.decompress(decoded);
+            assertArrayEquals(values, decoded, type + " after updates");
+            long sum = 0;
+            for (int value : values) {
+                sum += value;
+            }
+            assertEquals(sum, codec.sum(0, values.length), type + " sum after updates");
+        }
+    }
+
+    public void testSignedStrategiesAcceptNegativeUpdates() {
+        Random random = new Random(92);
+        for (CompressionType type : new CompressionType[]{CompressionType.BLOCK_FOR, CompressionType.DELTA,
+                CompressionType.PFOR}) {
+            BitPacking codec = BitPackingFactory.create(type);
+            int[] values = TestData.uniform(random, 700, 6);
+            codec.compress(values);
+            for (int index = 0; index < values.length; index += 37) {
+                values[index] = -random.nextInt(1 << 20) - 1;
+                codec.set(index, values[index]);
+            }
+            int[] decoded = new int[values.length];
+            codec.decompress(decoded);
+            assertArrayEquals(values, decoded, type + " after negative updates");
+        }
+    }
+
+    public void testFittingValuesUpdateInPlace() {
+        CrossBoundaryBitPacking codec = new CrossBoundaryBitPacking();
+        codec.compress(TestData.uniform(new Random(93), 1000, 9));
+        int width = codec.bitsPerValue();
+        int words = codec.packedWords().remaining();
+        codec.set(10, (1 << width) - 1);
+        codec.set(999, 0);
+        assertEquals(width, codec.bitsPerValue(), "width after fitting updates");
+        assertEquals(words, codec.packedWords().remaining(), "word count after fitting updates");
+        assertEquals((1 << width) - 1, codec.get(10), "updated value");
+    }
+
+    public void testWiderValuesWidenToTheNeededWidth() {
+        for (CompressionType type : new CompressionType[]{CompressionType.CROSS_BOUNDARY, CompressionType.ALIGNED}) {
+            BitPacking codec = BitPackingFactory.create(type);
+            int[] values = TestData.uniform(new Random(94), 500, 4);
+            codec.compress(values);
+            for (int bits = 5; bits <= 31; bits += 3) {
+                int value = (1 << (bits - 1)) | 1;
+                values[bits] = value;
+                codec.set(bits, value);
+                assertEquals(bits, codec.bitsPerValue(), type + " width after a " + bits + "-bit value");
+            }
+            int[] decoded = new int[values.length];
+            codec.decompress(decoded);
+            assertArrayEquals(values, decoded, type + " after widening");
+        }
+    }
+
+    public void testOverflowUpdatesUseTheOverflowArea() {
+        int[] values = TestData.skewed(new Random(95), 2000, 4, 50);
+        OverflowBitPacking codec = new OverflowBitPacking();
+        codec.compress(values);
+        int width = codec.bitsPerValue();
+        int overflow = codec.overflowSize();
+        assertTrue(overflow > 0, "input has outliers");
+
+        int plain = 0;
+        while (values[plain] >= 16) {
+            plain++;
+        }
+        values[plain] = 1 << 29;
+        codec.set(plain, values[plain]);
+        assertEquals(overflow + 1, codec.overflowSize(), "new outlier takes an overflow slot");
+        assertEquals(width, codec.bitsPerValue(), "width unchanged");
+
+        int outlier = 0;
+        while (values[outlier] < 16 || outlier == plain) {
+            outlier++;
+        }
+        values[outlier] = 3;
+        codec.set(outlier, 3);
+        assertEquals(overflow + 1, codec.overflowSize(), "outlier keeps its slot");
+        values[outlier] = Integer.MAX_VALUE;
+        codec.set(outlier, Integer.MAX_VALUE);
+        assertEquals(overflow + 1, codec.overflowSize(), "slot reused");
+
+        int[] decoded = new int[values.length];
+        codec.decompress(decoded);
+        assertArrayEquals(values, decoded, "after overflow updates");
+    }
+
+    public void testRejectsInvalidUpdates() {
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            codec.compress(new int[]{1, 2, 3});
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.set(3, 1), type + " past the end");
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.set(-1, 1), type + " negative index");
+        }
+        for (CompressionType type : new CompressionType[]{CompressionType.CROSS_BOUNDARY, CompressionType.ALIGNED,
+                CompressionType.OVERFLOW, CompressionType.HYBRID}) {
+            BitPacking codec = BitPackingFactory.create(type);
+            codec.compress(new int[]{1, 2, 3});
+            assertThrows(IllegalArgumentException.class, () -> codec.set(0, -1), type + " negative value");
+            assertEquals(1, codec.get(0), type + " value kept after a rejected update");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class SortedSearchTest {
+
+    public void testMatchesReferenceForEveryStrategy() {
+        Random random = new Random(61);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            for (int size : TestData.edgeSizes()) {
+                for (int maxStep : new int[]{1, 2, 4, 1000}) {
+                    int[] values = TestData.sorted(random, size, maxStep);
+                    codec.compress(values);
+                    checkSearches(codec, values, type + ", size " + size + ", step " + maxStep);
+                }
+            }
+        }
+    }
+
+    public void testNegativeValuesInSignedStrategies() {
+        int[] values = TestData.signed(new Random(62), 5000);
+        Arrays.sort(values);
+        for (CompressionType type : new CompressionType[]{
+                CompressionType.BLOCK_FOR, CompressionType.DELTA, CompressionType.PFOR}) {
+            BitPacking codec = BitPackingFactory.create(type);
+            codec.compress(values);
+            checkSearches(codec, values, type + " signed");
+        }
+    }
+
+    public void testIndexFollowsRecompressionAndUpdates() {
+        BitPacking codec = BitPackingFactory.create(CompressionType.CROSS_BOUNDARY);
+        int[] first = TestData.sorted(new Random(63), 4000, 5);
+        codec.compress(first);
+        checkSearches(codec, first, "first result");
+
+        int[] second = TestData.sorted(new Random(64), 6000, 50);
+        codec.compress(second);
+        checkSearches(codec, second, "second result");
+
+        // Raise the last value above every sample, so a stale index would miss it
+        second[second.length - 1] += 1_000_000;
+        codec.set(second.length - 1, second[second.length - 1]);
+        checkSearches(codec, second, "after set");
+    }
+
+    public void testRequiresACompressedResult() {
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            assertThrows(IllegalStateException.class, () -> codec.lowerBound(0), type + " lowerBound");
+            assertThrows(IllegalStateException.class, () -> codec.contains(0), type + " contains");
+        }
+    }
+
+    private static void checkSearches(BitPacking codec, int[] values, String label) {
+        int[] keys = new int[3 * values.length + 4];
+        int count = 0;
+        for (int value : values) {
+            keys[count++] = value;
+            keys[count++] = value - 1;
+            keys[count++] = value + 1;
+        }
+        keys[count++] = Integer.MIN_VALUE;
+        keys[count++] = Integer.MAX_VALUE;
+        keys[count++] = 0;
+        keys[count++] = -1;
+        for (int key : keys) {
+            int expected = referenceLowerBound(values, key);
+            assertEquals(expected, codec.lowerBound(key), label + ", lowerBound " + key);
+            boolean present = expected < values.length && values[expected] == key;
+            assertEquals(present, codec.contains(key), label + ", contains " + key);
+        }
+    }
+
+    private static int referenceLowerBound(int[] values, int key) {
+        int index = 0;
+        while (index < values.length && values[index] < key) {
+            index++;
+        }
+        return index;
+    }
+}
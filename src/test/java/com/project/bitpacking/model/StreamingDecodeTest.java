@@ -0,0 +1,89 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertFalse;
+import static com.project.bitpacking.Assertions.assertThrows;
+import static com.project.bitpacking.Assertions.assertTrue;
+
+public class StreamingDecodeTest {
+
+    public void testIteratorAndStreamYieldEveryValue() {
+        Random random = new Random(27);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            for (int size : TestData.edgeSizes()) {
+                int[] values = TestData.skewed(random, size, 6, 35);
+                codec.compress(values);
+                String label = type + " size " + size;
+
+                int[] iterated = new int[size];
+                PrimitiveIterator.OfInt iterator = codec.iterator();
+                for (int i = 0; i < size; i++) {
+                    assertTrue(iterator.hasNext(), label + " has next at " + i);
+                    iterated[i] = iterator.nextInt();
+                }
+                assertFalse(iterator.hasNext(), label + " exhausted");
+                assertArrayEquals(values, iterated, label + " iterator");
+                assertThrows(NoSuchElementException.class, iterator::nextInt, label + " past the end");
+
+                assertArrayEquals(values, codec.stream().toArray(), label + " stream");
+                assertArrayEquals(values, codec.stream().parallel().toArray(), label + " parallel stream");
+                assertEquals(sum(values), codec.stream().asLongStream().sum(), label + " sum");
+            }
+        }
+    }
+
+    public void testSplitsFallOnGrainBoundariesAndCoverTheSequence() {
+        Random random = new Random(28);
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking codec = BitPackingFactory.create(type);
+            int[] values = TestData.uniform(random, 10_007, 13);
+            codec.compress(values);
+            List<Spliterator.OfInt> parts = new ArrayList<>();
+            split(codec.spliterator(), parts, 6);
+            assertTrue(parts.size() > 1, type + " splits");
+
+            int[] collected = new int[values.length];
+            int[] position = {0};
+            long reportedSize = 0;
+            int grain = codec instanceof AbstractBitPacking abstractCodec ? abstractCodec.splitGrain() : 1;
+            for (Spliterator.OfInt part : parts) {
+                assertEquals(0, reportedSize % grain, type + " split at " + reportedSize);
+                reportedSize += part.estimateSize();
+                // Advance one value individually before draining the rest, mixing both traversal paths
+                part.tryAdvance((int value) -> collected[position[0]++] = value);
+                part.forEachRemaining((int value) -> collected[position[0]++] = value);
+            }
+            assertEquals(values.length, reportedSize, type + " sizes of the parts");
+            assertArrayEquals(values, collected, type.toString());
+        }
+    }
+
+    private static void split(Spliterator.OfInt spliterator, List<Spliterator.OfInt> parts, int depth) {
+        Spliterator.OfInt prefix = depth == 0 ? null : spliterator.trySplit();
+        if (prefix == null) {
+            parts.add(spliterator);
+            return;
+        }
+        split(prefix, parts, depth - 1);
+        split(spliterator, parts, depth - 1);
+    }
+
+    private static long sum(int[] values) {
+        long sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,139 @@
+package com.project.bitpacking.model;
+
+import com.project.bitpacking.TestData;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class WireFormatTest {
+
+    public void testWireCodesNeverChange() {
+        // Codes are persisted: changing one makes existing streams unreadable
+        Map<CompressionType, Integer> codes = new EnumMap<>(CompressionType.class);
+        codes.put(CompressionType.CROSS_BOUNDARY, 0);
+        codes.put(CompressionType.ALIGNED, 1);
+        codes.put(CompressionType.OVERFLOW, 2);
+        codes.put(CompressionType.BLOCK_FOR, 3);
+        codes.put(CompressionType.DELTA, 4);
+        codes.put(CompressionType.PFOR, 5);
+        codes.put(CompressionType.ADAPTIVE, 6);
+        codes.put(CompressionType.HYBRID, 7);
+        assertEquals(CompressionType.values().length, codes.size(), "every type has a pinned code");
+        for (CompressionType type : CompressionType.values()) {
+            assertEquals((long) codes.get(type), type.wireCode(), type.toString());
+            assertEquals(type, CompressionType.fromWireCode(type.wireCode()), "lookup of " + type);
+        }
+        assertEquals(null, CompressionType.fromWireCode(200), "unknown code");
+    }
+
+    public void testRoundTripOfEveryStrategy() throws IOException {
+        Random random = new Random(23);
+        for (CompressionType type : CompressionType.values()) {
+            if (type == CompressionType.ADAPTIVE) {
+                continue;
+            }
+            for (int size : new int[]{0, 1, 129, 5000}) {
+                int[] values = type == CompressionType.DELTA || type == CompressionType.BLOCK_FOR
+                        ? TestData.signed(random, size)
+                        : TestData.skewed(random, size, 6, 25);
+                BitPacking codec = BitPackingFactory.create(type);
+                codec.compress(values);
+                byte[] bytes = write(codec);
+                String label = type + " size " + size;
+                assertEquals(type.wireCode(), bytes[6], label + " type byte");
+
+                BitPacking fromBuffer = BitPackingFactory.readFrom(ByteBuffer.wrap(bytes));
+                BitPacking fromChannel = BitPackingFactory.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)));
+                for (BitPacking read : new BitPacking[]{fromBuffer, fromChannel}) {
+                    assertEquals(type, ((AbstractBitPacking) read).compressionType(), label);
+                    assertEquals(codec.bitsPerValue(), read.bitsPerValue(), label);
+                    assertEquals(codec.overflowSize(), read.overflowSize(), label);
+                    int[] decoded = new int[size];
+                    read.decompress(decoded);
+                    assertArrayEquals(values, decoded, label);
+                }
+            }
+        }
+    }
+
+    public void testAdaptiveIsWrittenAsItsDelegate() throws IOException {
+        BitPacking codec = BitPackingFactory.create(CompressionType.ADAPTIVE);
+        int[] values = TestData.sorted(new Random(24), 10_000, 3);
+        codec.compress(values);
+        byte[] bytes = write(codec);
+        BitPacking read = BitPackingFactory.readFrom(ByteBuffer.wrap(bytes));
+        assertEquals(((AdaptiveBitPacking) codec).selectedType(), ((AbstractBitPacking) read).compressionType(),
+                "written type");
+
+        bytes[6] = (byte) CompressionType.ADAPTIVE.wireCode();
+        assertThrows(IllegalArgumentException.class, () -> BitPackingFactory.readFrom(ByteBuffer.wrap(bytes)),
+                "adaptive type code");
+    }
+
+    public void testConsecutiveResultsInOneBuffer() throws IOException {
+        BitPacking first = BitPackingFactory.create(CompressionType.PFOR);
+        first.compress(new int[]{1, 2, 300_000});
+        BitPacking second = BitPackingFactory.create(CompressionType.HYBRID);
+        second.compress(new int[]{7, 8});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        first.writeTo(Channels.newChannel(out));
+        second.writeTo(Channels.newChannel(out));
+
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        assertEquals(300_000, BitPackingFactory.readFrom(buffer).get(2), "first result");
+        assertEquals(8, BitPackingFactory.readFrom(buffer).get(1), "second result");
+        assertEquals(0, buffer.remaining(), "buffer consumed");
+    }
+
+    public void testWritesLeaveTheSourceBufferUntouched() throws IOException {
+        BitPacking codec = BitPackingFactory.create(CompressionType.CROSS_BOUNDARY);
+        codec.compress(new int[]{1, 2, 3, 4});
+        byte[] bytes = write(codec);
+        byte[] original = bytes.clone();
+        BitPacking read = BitPackingFactory.readFrom(ByteBuffer.wrap(bytes));
+        read.set(0, 6);
+        assertEquals(6, read.get(0), "written value");
+        assertEquals(Arrays.toString(original), Arrays.toString(bytes), "source buffer");
+    }
+
+    public void testRejectsCorruptStreams() throws IOException {
+        BitPacking codec = BitPackingFactory.create(CompressionType.ALIGNED);
+        codec.compress(new int[]{5, 6, 7});
+        byte[] valid = write(codec);
+
+        byte[] badMagic = valid.clone();
+        badMagic[0] ^= 1;
+        byte[] badVersion = valid.clone();
+        badVersion[4] = 9;
+        byte[] unknownType = valid.clone();
+        unknownType[6] = (byte) 200;
+        byte[] badWidth = valid.clone();
+        badWidth[7] = 33;
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 1);
+        for (byte[] bytes : new byte[][]{badMagic, badVersion, unknownType, badWidth, truncated}) {
+            assertThrows(IllegalArgumentException.class, () -> BitPackingFactory.readFrom(ByteBuffer.wrap(bytes)),
+                    "corrupt stream");
+        }
+        assertThrows(EOFException.class,
+                () -> BitPackingFactory.readFrom(Channels.newChannel(new ByteArrayInputStream(truncated))),
+                "truncated channel");
+    }
+
+    private static byte[] write(BitPacking codec) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.writeTo(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.bitpacking.util;
+
+import java.util.Random;
+
+import static com.project.bitpacking.Assertions.assertArrayEquals;
+import static com.project.bitpacking.Assertions.assertEquals;
+import static com.project.bitpacking.Assertions.assertThrows;
+
+public class BitUtilsTest {
+
+    public void testUnsignedBitsRequired() {
+        assertEquals(0, BitUtils.unsignedBitsRequired(0L), "zero");
+        assertEquals(1, BitUtils.unsignedBitsRequired(1L), "one");
+        assertEquals(64, BitUtils.unsignedBitsRequired(-1L), "negative");
+        assertEquals(64, BitUtils.unsignedBitsRequired(Long.MIN_VALUE), "sign bit only");
+        for (int bits = 1; bits < 64; bits++) {
+            assertEquals(bits, BitUtils.unsignedBitsRequired(1L << (bits - 1)), "lowest " + bits + "-bit value");
+            assertEquals(bits, BitUtils.unsignedBitsRequired((1L << bits) - 1), "highest " + bits + "-bit value");
+        }
+    }
+
+    public void testBitsRequired() {
+        assertEquals(0, BitUtils.bitsRequired(0), "zero");
+        assertEquals(31, BitUtils.bitsRequired(Integer.MAX_VALUE), "largest int");
+        for (int bits = 1; bits < 32; bits++) {
+            assertEquals(bits, BitUtils.bitsRequired(1 << (bits - 1)), "lowest " + bits + "-bit value");
+        }
+        assertThrows(IllegalArgumentException.class, () -> BitUtils.bitsRequired(-1), "negative");
+    }
+
+    public void testLongHistogramMatchesPerValueWidths() {
+        Random random = new Random(121);
+        long[] values = new long[3000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong() >>> random.nextInt(64);
+        }
+        values[7] = 0;
+        values[8] = -5;
+        int[] expected = new int[65];
+        for (int i = 10; i < 2900; i++) {
+            expected[BitUtils.unsignedBitsRequired(values[i])]++;
+        }
+        int[] histogram = new int[70];
+        histogram[3] = 99;
+        histogram[66] = 12;
+        assertEquals(histogram, BitUtils.bitWidthHistogram(values, 10, 2900, histogram), "returns its argument");
+        int[] head = new int[65];
+        System.arraycopy(histogram, 0, head, 0, 65);
+        assertArrayEquals(expected, head, "histogram of [10, 2900)");
+        assertEquals(12, histogram[66], "entries past 64 untouched");
+    }
+
+    public void testIntHistogramCountsNegativesAtWidth32() {
+        int[] values = {0, 1, 2, 3, -1, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int[] histogram = BitUtils.bitWidthHistogram(values, 0, values.length);
+        int[] expected = new int[33];
+        expected[0] = 1;
+        expected[1] = 1;
+        expected[2] = 2;
+        expected[31] = 1;
+        expected[32] = 2;
+        assertArrayEquals(expected, histogram, "histogram");
+    }
+
+    public void testCeilLog2() {
+        assertEquals(0, BitUtils.ceilLog2(1), "one");
+        assertEquals(1, BitUtils.ceilLog2(2), "two");
+        assertEquals(2, BitUtils.ceilLog2(3), "three");
+        assertEquals(31, BitUtils.ceilLog2(Integer.MAX_VALUE), "largest int");
+        assertThrows(IllegalArgumentException.class, () -> BitUtils.ceilLog2(0), "zero");
+    }
+}
@@ -0,0 +1,24 @@
+@echo off
+REM Test script for Bit Packing Compression Application (Windows)
+
+echo Building and running tests...
+
+if not exist out mkdir out
+if not exist out-test mkdir out-test
+
+dir /s /b src\main\java\*.java > sources.txt
+dir /s /b src\test\java\*.java > test-sources.txt
+javac -encoding UTF-8 --add-modules jdk.incubator.vector -d out -sourcepath src\main\java @sources.txt
+if %errorlevel% neq 0 goto failed
+javac -encoding UTF-8 --add-modules jdk.incubator.vector -d out-test -cp out @test-sources.txt
+if %errorlevel% neq 0 goto failed
+del sources.txt test-sources.txt
+
+REM Arguments select the test classes whose name contains one of them
+java --add-modules jdk.incubator.vector -cp out;out-test com.project.bitpacking.TestRunner %*
+exit /b %errorlevel%
+
+:failed
+echo Build failed!
+del sources.txt test-sources.txt
+exit /b 1
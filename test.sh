@@ -0,0 +1,21 @@
+#!/bin/bash
+
+# Test script for Bit Packing Compression Application
+
+echo "Building and running tests..."
+
+mkdir -p out out-test
+
+find src/main/java -name "*.java" > sources.txt
+find src/test/java -name "*.java" > test-sources.txt
+javac -encoding UTF-8 --add-modules jdk.incubator.vector -d out -sourcepath src/main/java @sources.txt \
+    && javac -encoding UTF-8 --add-modules jdk.incubator.vector -d out-test -cp out @test-sources.txt
+status=$?
+rm sources.txt test-sources.txt
+if [ $status -ne 0 ]; then
+    echo "Build failed!"
+    exit 1
+fi
+
+# Arguments select the test classes whose name contains one of them
+java --add-modules jdk.incubator.vector -cp out:out-test com.project.bitpacking.TestRunner "$@"